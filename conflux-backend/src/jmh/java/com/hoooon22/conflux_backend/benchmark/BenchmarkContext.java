@@ -0,0 +1,45 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.hoooon22.conflux_backend.ConfluxBackendApplication;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (웹 서버 없이 인메모리 H2로 기동)
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * application.yml보다 우선하도록 커맨드라인 인자(--key=value)로 설정을 넘깁니다.
+     * extraProperties에 spring.datasource.url이 있으면 인메모리 H2 대신 그 DB를 씁니다.
+     */
+    public static ConfigurableApplicationContext start(String databaseName, String... extraProperties) {
+        List<String> args = new ArrayList<>();
+        if (Arrays.stream(extraProperties).noneMatch(property -> property.startsWith("spring.datasource.url="))) {
+            args.add("--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+        }
+        args.addAll(List.of(
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                // 시딩 데이터(NotificationSeeder.BASE_TIME)가 측정 중에 삭제되거나 콜드 티어로 옮겨지지 않도록
+                "--conflux.retention.max-age-days=0",
+                "--conflux.tiering.hot-days=0"));
+        for (String property : extraProperties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(ConfluxBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,98 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.hoooon22.conflux_backend.service.HashedWheelScheduler;
+
+/**
+ * Health Check 등록/취소 비용 비교: 타이밍 휠 vs ThreadPoolTaskScheduler.scheduleAtFixedRate
+ * checks개의 체크(간격 60초)를 등록한 뒤 모두 취소하는 한 사이클의 시간을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HealthCheckSchedulerBenchmark {
+
+    private static final long INTERVAL_MILLIS = 60_000;
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    @Param({"1000", "10000"})
+    public int checks;
+
+    private ExecutorService dispatchExecutor;
+    private HashedWheelScheduler wheelScheduler;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private HashedWheelScheduler.Timeout[] timeouts;
+    private ScheduledFuture<?>[] futures;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dispatchExecutor = Executors.newSingleThreadExecutor();
+        wheelScheduler = new HashedWheelScheduler(dispatchExecutor, 100, 512, 0);
+        wheelScheduler.start();
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(10);
+        // 취소된 작업이 힙에 남아 다음 반복에 영향을 주지 않도록 즉시 제거
+        taskScheduler.setRemoveOnCancelPolicy(true);
+        taskScheduler.initialize();
+
+        timeouts = new HashedWheelScheduler.Timeout[checks];
+        futures = new ScheduledFuture<?>[checks];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        wheelScheduler.stop();
+        dispatchExecutor.shutdownNow();
+        taskScheduler.shutdown();
+    }
+
+    @Benchmark
+    public int wheelScheduleAndCancel() {
+        for (int i = 0; i < checks; i++) {
+            timeouts[i] = wheelScheduler.schedule(i, INTERVAL_MILLIS, () -> DONE);
+        }
+        for (int i = 0; i < checks; i++) {
+            timeouts[i].cancel();
+        }
+        return checks;
+    }
+
+    @Benchmark
+    public int taskSchedulerScheduleAndCancel() {
+        Instant start = Instant.now().plusMillis(INTERVAL_MILLIS);
+        Duration interval = Duration.ofMillis(INTERVAL_MILLIS);
+        for (int i = 0; i < checks; i++) {
+            futures[i] = taskScheduler.scheduleAtFixedRate(() -> { }, start, interval);
+        }
+        for (int i = 0; i < checks; i++) {
+            futures[i].cancel(false);
+        }
+        return checks;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.service.IngestMetrics;
+import com.hoooon22.conflux_backend.service.ProbeMetrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * 수집/프로브 경로의 메트릭 기록 비용 (-prof gc 로 B/op 확인)
+ *
+ * - webhook / dedup / probe: 캐시된 미터에 기록 (요청마다 할당 없음)
+ * - webhookRegisterPerCall: 비교용, 요청마다 Timer.builder(...).register(...)로 미터를 찾는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MetricsOverheadBenchmark {
+
+    private PrometheusMeterRegistry registry;
+    private IngestMetrics ingestMetrics;
+    private ProbeMetrics probeMetrics;
+    private ProbeResult probeResult;
+
+    @Setup
+    public void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        ingestMetrics = new IngestMetrics(registry);
+        probeMetrics = new ProbeMetrics(registry);
+        probeResult = new ProbeResult(1_000L, LocalDateTime.now(), 200, 42, null, null);
+    }
+
+    @Benchmark
+    public void webhook() {
+        ingestMetrics.recordWebhook("github", "GitHub", true, System.nanoTime());
+    }
+
+    @Benchmark
+    public void dedup() {
+        ingestMetrics.recordDedup(true, 1);
+    }
+
+    @Benchmark
+    public void probe() {
+        probeMetrics.record(probeResult);
+    }
+
+    @Benchmark
+    public void webhookRegisterPerCall() {
+        Timer.builder("conflux.webhook.requests")
+                .tag("endpoint", "github")
+                .tag("source", "GitHub")
+                .tag("result", "accepted")
+                .register(registry)
+                .record(System.nanoTime() - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,105 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import com.hoooon22.conflux_backend.domain.ExportFormat;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.service.NotificationExportService;
+
+/**
+ * 대량 내보내기 메모리 확인 (JMH가 아닌 단독 실행, ./gradlew exportSoak -PexportSoak.rows=5000000)
+ *
+ * 작은 힙(-Xmx128m)에서 파일 H2에 rows 건을 시딩한 뒤 형식별로 전부 내보내고, 행 수/바이트/시간과
+ * GC 직후 힙 사용량(살아 있는 객체)의 최댓값을 출력합니다. (GC 전 최대 사용량은 힙을 채울 때까지 늘어나므로 보지 않음)
+ * 행을 메모리에 모으면 OutOfMemoryError로 끝납니다.
+ * 기동 시 전체 테이블을 읽는 작업(검색 색인, 지문 채우기)은 작은 힙에 들어가지 않으므로 매번 빈 DB로 기동한 뒤 시딩합니다.
+ */
+public final class NotificationExportSoak {
+
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    private NotificationExportSoak() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        Path directory = Path.of("build", "export-soak").toAbsolutePath();
+        FileSystemUtils.deleteRecursively(directory);
+
+        try (ConfigurableApplicationContext context = BenchmarkContext.start("export-soak",
+                "spring.datasource.url=jdbc:h2:file:" + directory.resolve("notifications") + ";DB_CLOSE_DELAY=-1")) {
+            long seedStart = System.nanoTime();
+            NotificationSeeder.seed(context.getBean(JdbcTemplate.class), rows);
+            System.out.printf("seeded %d rows in %ds%n", rows, (System.nanoTime() - seedStart) / 1_000_000_000);
+
+            NotificationExportService exportService = context.getBean(NotificationExportService.class);
+            NotificationFilter all = NotificationFilter.builder().build();
+            for (ExportFormat format : ExportFormat.values()) {
+                for (boolean gzip : new boolean[]{false, true}) {
+                    System.gc();
+                    AtomicLong liveHeap = new AtomicLong();
+                    ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+                    sampler.scheduleAtFixedRate(() -> liveHeap.accumulateAndGet(heapAfterGc(), Math::max),
+                            0, 100, TimeUnit.MILLISECONDS);
+                    CountingOutputStream counter = new CountingOutputStream();
+                    long start = System.nanoTime();
+                    long exported = exportService.exportNotifications(all, format,
+                            gzip ? new GZIPOutputStream(counter, 64 * 1024) : counter);
+                    long millis = (System.nanoTime() - start) / 1_000_000;
+                    sampler.shutdownNow();
+                    System.out.printf("%-6s gzip=%-5s rows=%d bytes=%d time=%dms (%.0f rows/s) liveHeap=%dMB maxHeap=%dMB%n",
+                            format, gzip, exported, counter.bytes, millis, exported * 1000.0 / Math.max(millis, 1),
+                            liveHeap.get() >> 20, Runtime.getRuntime().maxMemory() >> 20);
+                    if (exported != rows) {
+                        throw new IllegalStateException("exported " + exported + " of " + rows + " rows");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 마지막 GC 직후의 힙 사용량 합계
+     */
+    private static long heapAfterGc() {
+        return HEAP_POOLS.stream()
+                .filter(MemoryPoolMXBean::isCollectionUsageThresholdSupported)
+                .mapToLong(pool -> pool.getCollectionUsage().getUsed())
+                .sum();
+    }
+
+    /**
+     * 쓴 바이트 수만 세고 버림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.dto.NotificationCursor;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.service.NotificationService;
+
+/**
+ * 알림 피드 keyset 페이지네이션 벤치마크
+ * 테이블 크기(rows)가 커져도 첫 페이지, 중간 깊이 페이지, 필터 조회의 지연 시간이 일정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NotificationFeedBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private NotificationService notificationService;
+    private NotificationCursor middleCursor;
+    private NotificationFilter sourceFilter;
+    private NotificationFilter timeRangeFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("feed-" + rows);
+        notificationService = context.getBean(NotificationService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        NotificationSeeder.seed(jdbcTemplate, rows);
+
+        Map<String, Object> middle = jdbcTemplate.queryForMap(
+                "SELECT timestamp, id FROM notifications ORDER BY timestamp DESC, id DESC OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY",
+                rows / 2);
+        middleCursor = new NotificationCursor(
+                ((Timestamp) middle.get("TIMESTAMP")).toLocalDateTime(),
+                ((Number) middle.get("ID")).longValue());
+
+        sourceFilter = NotificationFilter.builder().sources(List.of("HealthCheck")).build();
+        LocalDateTime center = NotificationSeeder.BASE_TIME.plusSeconds(rows / 2);
+        timeRangeFilter = NotificationFilter.builder().from(center.minusHours(1)).to(center).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public NotificationPageDto firstPage() {
+        return notificationService.getNotifications(NotificationFilter.none(), null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NotificationPageDto middlePage() {
+        return notificationService.getNotifications(NotificationFilter.none(), middleCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NotificationPageDto firstPageBySource() {
+        return notificationService.getNotifications(sourceFilter, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NotificationPageDto middlePageBySource() {
+        return notificationService.getNotifications(sourceFilter, middleCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NotificationPageDto timeRange() {
+        return notificationService.getNotifications(timeRangeFilter, null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.service.NotificationService;
+
+/**
+ * NotificationService.addNotification 벤치마크 (새 알림 vs 중복 알림)
+ * - newNotification: 매번 다른 내용 → 지문 조회 미스 + INSERT
+ * - duplicateNotification: 같은 내용 반복 → 지문 캐시 적중 + PK 기준 UPDATE
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NotificationIngestBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private NotificationService notificationService;
+    private NotificationDto duplicate;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("ingest-" + rows);
+        notificationService = context.getBean(NotificationService.class);
+        NotificationSeeder.seed(context.getBean(JdbcTemplate.class), rows);
+
+        duplicate = notification("Repeated failure on repo-7");
+        notificationService.addNotification(duplicate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void newNotification() {
+        notificationService.addNotification(notification("Unique event #" + sequence++));
+    }
+
+    @Benchmark
+    public void duplicateNotification() {
+        notificationService.addNotification(duplicate);
+    }
+
+    private static NotificationDto notification(String message) {
+        return NotificationDto.builder()
+                .source("GitHub")
+                .title("Build failed")
+                .message(message)
+                .repository("org/repo-7")
+                .sender("user-1")
+                .timestamp(LocalDateTime.now())
+                .status("failed")
+                .build();
+    }
+}
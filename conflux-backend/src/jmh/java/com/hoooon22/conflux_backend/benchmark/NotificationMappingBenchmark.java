@@ -0,0 +1,80 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hoooon22.conflux_backend.domain.Notification;
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.service.NotificationMapper;
+
+/**
+ * 알림 Entity ↔ DTO 변환 비용 (단건, 1000건 목록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NotificationMappingBenchmark {
+
+    private static final int LIST_SIZE = 1000;
+
+    private Notification entity;
+    private NotificationDto dto;
+    private List<Notification> entities;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        entities = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            entities.add(Notification.builder()
+                    .id((long) i)
+                    .source(NotificationSeeder.SOURCES[i % NotificationSeeder.SOURCES.length])
+                    .title("Event " + i)
+                    .message("Generated notification message #" + i)
+                    .repository("org/repo-" + (i % 50))
+                    .sender("user-" + (i % 200))
+                    .timestamp(now.plusSeconds(i))
+                    .status(NotificationStatus.UNREAD)
+                    .count(1)
+                    .build());
+        }
+        entity = entities.get(0);
+        dto = NotificationMapper.toDto(entity);
+    }
+
+    @Benchmark
+    public NotificationDto entityToDto() {
+        return NotificationMapper.toDto(entity);
+    }
+
+    @Benchmark
+    public Notification dtoToEntity() {
+        return NotificationMapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public List<NotificationDto> entitiesToDtos() {
+        List<NotificationDto> dtos = new ArrayList<>(entities.size());
+        for (Notification notification : entities) {
+            dtos.add(NotificationMapper.toDto(notification));
+        }
+        return dtos;
+    }
+}
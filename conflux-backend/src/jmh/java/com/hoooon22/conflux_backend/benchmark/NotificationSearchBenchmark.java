@@ -0,0 +1,83 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.dto.NotificationSearchResultDto;
+import com.hoooon22.conflux_backend.service.NotificationSearchIndex;
+import com.hoooon22.conflux_backend.service.NotificationSearchService;
+
+/**
+ * 알림 검색 벤치마크 (색인 조회 + 결과 20건 DB 조회)
+ * 모든 알림에 나오는 단어(common), 접두사(prefix)처럼 후보가 rows 건 전부인 검색도 50ms 이내여야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NotificationSearchBenchmark {
+
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private NotificationSearchService searchService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = BenchmarkContext.start("search-" + rows);
+        searchService = context.getBean(NotificationSearchService.class);
+        NotificationSeeder.seed(context.getBean(JdbcTemplate.class), rows);
+
+        // 시딩은 이벤트 없이 DB에 바로 넣으므로 다시 색인
+        NotificationSearchIndex index = context.getBean(NotificationSearchIndex.class);
+        index.requestRebuild();
+        while (index.size() < rows) {
+            Thread.sleep(100);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public NotificationSearchResultDto rareTerm() {
+        return searchService.search("event " + (rows / 2 + 7), LIMIT);
+    }
+
+    @Benchmark
+    public NotificationSearchResultDto commonTerm() {
+        return searchService.search("notification", LIMIT);
+    }
+
+    @Benchmark
+    public NotificationSearchResultDto prefix() {
+        return searchService.search("notif", LIMIT);
+    }
+
+    @Benchmark
+    public NotificationSearchResultDto twoTerms() {
+        return searchService.search("org/repo-7 user-42", LIMIT);
+    }
+}
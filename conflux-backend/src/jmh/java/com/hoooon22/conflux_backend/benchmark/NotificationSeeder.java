@@ -0,0 +1,60 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 결정적(seed 고정) 알림 데이터 생성기
+ * 같은 행 수로 실행하면 항상 같은 데이터가 만들어지므로 커밋 간 결과를 비교할 수 있습니다.
+ */
+public final class NotificationSeeder {
+
+    public static final String[] SOURCES = {"GitHub", "HealthCheck", "Custom", "Jira", "Sentry"};
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final long SEED = 42L;
+
+    private NotificationSeeder() {
+    }
+
+    /**
+     * rows 건의 알림을 1초 간격(BASE_TIME부터)으로 삽입합니다.
+     */
+    public static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        Random random = new Random(SEED);
+        String sql = "INSERT INTO notifications (source, title, message, repository, sender, timestamp, status, count) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        for (int start = 0; start < rows; start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, rows);
+            int offset = start;
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int n = offset + i;
+                    int repo = random.nextInt(50);
+                    ps.setString(1, SOURCES[random.nextInt(SOURCES.length)]);
+                    ps.setString(2, "Event " + n);
+                    ps.setString(3, "Generated notification message #" + n + " for repo-" + repo);
+                    ps.setString(4, "org/repo-" + repo);
+                    ps.setString(5, "user-" + random.nextInt(200));
+                    ps.setTimestamp(6, Timestamp.valueOf(BASE_TIME.plusSeconds(n)));
+                    ps.setString(7, random.nextInt(4) == 0 ? "READ" : "UNREAD");
+                    ps.setInt(8, 1);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return end - offset;
+                }
+            });
+        }
+    }
+}
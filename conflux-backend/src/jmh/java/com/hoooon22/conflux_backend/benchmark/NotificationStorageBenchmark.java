@@ -0,0 +1,146 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.hoooon22.conflux_backend.domain.NotificationFingerprint;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.service.NotificationService;
+
+/**
+ * 저장소별 알림 수집 처리량 (알림/초)
+ * - batchInsert: 수집 큐가 쓰는 배치 경로 (BATCH_SIZE건을 한 트랜잭션에서 JDBC 배치로)
+ * - concurrentInsert: 웹훅 요청 스레드 8개가 건별로 저장 (커넥션 풀 경합 포함)
+ *
+ * backend:
+ * - h2-mem / h2-file: 기본 프로필 (db/migration/h2)
+ * - h2-postgres: postgres 프로필을 H2 PostgreSQL 호환 모드로 (스키마/SQL 경로 확인용, PostgreSQL 성능은 아님)
+ * - postgres: 실제 PostgreSQL, 접속 정보는 시스템 프로퍼티로 넘김
+ *   예: -Pjmh.args="-p backend=postgres -jvmArgsAppend -Dconflux.benchmark.postgres-url=jdbc:postgresql://localhost/conflux
+ *       -jvmArgsAppend -Dconflux.benchmark.postgres-username=conflux -jvmArgsAppend -Dconflux.benchmark.postgres-password=..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+public class NotificationStorageBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"h2-mem", "h2-file", "h2-postgres"})
+    public String backend;
+
+    private ConfigurableApplicationContext context;
+    private NotificationService notificationService;
+    private Path databaseDirectory;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<String> properties = new ArrayList<>();
+        switch (backend) {
+            case "h2-mem" -> {
+            }
+            case "h2-file" -> {
+                databaseDirectory = Files.createTempDirectory("conflux-benchmark-db");
+                properties.add("spring.datasource.url=jdbc:h2:file:" + databaseDirectory.resolve("confluxdb"));
+            }
+            case "h2-postgres" -> {
+                properties.add("spring.profiles.active=postgres");
+                properties.add("spring.datasource.url=jdbc:h2:mem:storage-postgres;MODE=PostgreSQL;"
+                        + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+            }
+            case "postgres" -> {
+                properties.add("spring.profiles.active=postgres");
+                properties.add("spring.datasource.url=" + requiredProperty("conflux.benchmark.postgres-url"));
+                properties.add("spring.datasource.username="
+                        + System.getProperty("conflux.benchmark.postgres-username", "conflux"));
+                properties.add("spring.datasource.password="
+                        + System.getProperty("conflux.benchmark.postgres-password", ""));
+            }
+            default -> throw new IllegalArgumentException("Unknown backend: " + backend);
+        }
+        context = BenchmarkContext.start("storage-" + backend, properties.toArray(new String[0]));
+        notificationService = context.getBean(NotificationService.class);
+        notificationService.clearNotifications();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        notificationService.clearNotifications();
+        context.close();
+        if (databaseDirectory != null) {
+            try (Stream<Path> files = Files.walk(databaseDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batchInsert() {
+        List<IngestEntry> entries = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            NotificationDto dto = notification("Batch event #" + sequence.incrementAndGet());
+            entries.add(new IngestEntry(dto,
+                    NotificationFingerprint.of(dto.getSource(), dto.getTitle(), dto.getMessage()), 1));
+        }
+        notificationService.addNotificationBatch(entries);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void concurrentInsert() {
+        notificationService.addNotification(notification("Request event #" + sequence.incrementAndGet()));
+    }
+
+    private static String requiredProperty(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("-D" + name + " is required for backend=postgres");
+        }
+        return value;
+    }
+
+    private static NotificationDto notification(String message) {
+        return NotificationDto.builder()
+                .source("GitHub")
+                .title("Build failed")
+                .message(message)
+                .repository("org/repo-" + message.length() % 7)
+                .sender("user-1")
+                .timestamp(LocalDateTime.now())
+                .status("failed")
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.dto.NotificationCursor;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.service.NotificationColdStorage;
+import com.hoooon22.conflux_backend.service.NotificationService;
+import com.hoooon22.conflux_backend.service.NotificationTieringService;
+
+/**
+ * 계층 저장 피드 벤치마크
+ * 시딩한 알림(1초 간격) 중 hotDays 이후만 테이블에 남기고 나머지는 세그먼트로 옮긴 뒤,
+ * 테이블만 읽는 첫 페이지와 세그먼트를 읽는 깊은 페이지/시간 범위/필터 조회를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NotificationTieringBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000000"})
+    public int rows;
+
+    /**
+     * 테이블에 남길 최근 일수 (BASE_TIME부터 하루 86400건)
+     */
+    @Param({"2"})
+    public int hotDays;
+
+    private ConfigurableApplicationContext context;
+    private NotificationService notificationService;
+    private NotificationColdStorage coldStorage;
+    private NotificationCursor coldCursor;
+    private NotificationFilter coldTimeRange;
+    private NotificationFilter coldSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start("tiering-" + rows,
+                "conflux.tiering.directory=" + Files.createTempDirectory("conflux-segments"));
+        notificationService = context.getBean(NotificationService.class);
+        coldStorage = context.getBean(NotificationColdStorage.class);
+        NotificationSeeder.seed(context.getBean(JdbcTemplate.class), rows);
+
+        LocalDateTime newest = NotificationSeeder.BASE_TIME.plusSeconds(rows - 1);
+        LocalDateTime cutoff = newest.toLocalDate().minusDays(hotDays - 1).atStartOfDay();
+        long startNanos = System.nanoTime();
+        int moved = context.getBean(NotificationTieringService.class).rollOlderThan(cutoff);
+        System.out.printf("%n[tiering] moved %d rows to %d segments in %d ms%n",
+                moved, coldStorage.segmentCount(), (System.nanoTime() - startNanos) / 1_000_000);
+
+        LocalDateTime coldMiddle = NotificationSeeder.BASE_TIME.plusSeconds(moved / 2);
+        coldCursor = new NotificationCursor(coldMiddle, Long.MAX_VALUE);
+        coldTimeRange = NotificationFilter.builder().from(coldMiddle.minusHours(1)).to(coldMiddle).build();
+        coldSource = NotificationFilter.builder().sources(List.of("HealthCheck")).to(coldMiddle).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coldStorage.clear();
+        context.close();
+    }
+
+    @Benchmark
+    public NotificationPageDto hotFirstPage() {
+        return notificationService.getNotifications(NotificationFilter.none(), null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NotificationPageDto coldMiddlePage() {
+        return notificationService.getNotifications(NotificationFilter.none(), coldCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NotificationPageDto coldTimeRange() {
+        return notificationService.getNotifications(coldTimeRange, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NotificationPageDto coldBySource() {
+        return notificationService.getNotifications(coldSource, null, PAGE_SIZE);
+    }
+}
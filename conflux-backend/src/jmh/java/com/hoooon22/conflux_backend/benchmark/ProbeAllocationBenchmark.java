@@ -0,0 +1,156 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hoooon22.conflux_backend.domain.HealthCheck;
+import com.hoooon22.conflux_backend.domain.ProbeAssertionType;
+import com.hoooon22.conflux_backend.domain.ProbeMode;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.service.HttpProbeExecutor;
+
+/**
+ * 프로브 1회당 할당량 비교 (1MB 본문을 주는 로컬 서버 대상, 서버는 별도 JVM)
+ * -prof gc 로 실행해 gc.alloc.rate.norm(B/op)을 비교합니다.
+ *
+ * - STRING_BODY: 이전 방식 (응답 본문 전체를 String으로 읽음)
+ * - HEAD / STATUS_ONLY / BODY_CAPPED / BODY_ASSERTION: 프로브 모드별
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProbeAllocationBenchmark {
+
+    private static final int BODY_BYTES = 1024 * 1024;
+
+    @Param({"STRING_BODY", "HEAD", "STATUS_ONLY", "BODY_CAPPED", "BODY_ASSERTION"})
+    public String mode;
+
+    private Process server;
+    private HttpClient baselineClient;
+    private HttpRequest baselineRequest;
+    private HttpProbeExecutor executor;
+    private HealthCheck healthCheck;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // 서버 할당이 측정에 섞이지 않도록 별도 JVM에서 실행
+        String java = ProcessHandle.current().info().command().orElse("java");
+        server = new ProcessBuilder(java, "-Xmx256m", "-cp", System.getProperty("java.class.path"),
+                BodyServer.class.getName())
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        String port = new BufferedReader(new InputStreamReader(server.getInputStream())).readLine();
+        String url = "http://127.0.0.1:" + port + "/health";
+
+        baselineClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(3)).build();
+        baselineRequest = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).GET().build();
+
+        executor = new HttpProbeExecutor(64, 100, 4);
+        HealthCheck.HealthCheckBuilder builder = HealthCheck.builder().id(1L).name("bench").url(url);
+        healthCheck = switch (mode) {
+            case "HEAD" -> builder.probeMode(ProbeMode.HEAD).build();
+            case "STATUS_ONLY" -> builder.probeMode(ProbeMode.STATUS_ONLY).build();
+            case "BODY_ASSERTION" -> builder.probeMode(ProbeMode.BODY)
+                    .assertionType(ProbeAssertionType.CONTAINS).assertionExpression("\"UP\"").build();
+            default -> builder.probeMode(ProbeMode.BODY).build();
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+        server.destroyForcibly();
+    }
+
+    @Benchmark
+    public Object probe() throws Exception {
+        if (mode.equals("STRING_BODY")) {
+            return baselineClient.send(baselineRequest, HttpResponse.BodyHandlers.ofString()).body().length();
+        }
+        ProbeResult result = executor.probe(healthCheck).join();
+        if (!result.isSuccess()) {
+            throw new IllegalStateException(mode + " failed: " + result.errorClass() + " " + result.errorMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 1MB 본문을 주는 keep-alive HTTP/1.1 스텁 서버 (별도 프로세스로 실행, 포트를 표준 출력으로 알림)
+     * com.sun.net.httpserver는 응답 도중 끊긴 연결이 쌓여 느려지므로 소켓으로 직접 응답합니다.
+     */
+    public static final class BodyServer {
+
+        public static void main(String[] args) throws IOException {
+            byte[] body = new byte[BODY_BYTES];
+            Arrays.fill(body, (byte) 'x');
+            byte[] marker = "{\"status\":\"UP\"}".getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(marker, 0, body, 0, marker.length);
+            byte[] headers = ("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + BODY_BYTES
+                    + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+
+            ServerSocket serverSocket = new ServerSocket(0, 64, InetAddress.getLoopbackAddress());
+            System.out.println(serverSocket.getLocalPort());
+            System.out.flush();
+            ExecutorService connections = Executors.newCachedThreadPool();
+            while (true) {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> serve(socket, headers, body));
+            }
+        }
+
+        private static void serve(Socket socket, byte[] headers, byte[] body) {
+            try (socket) {
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                        StandardCharsets.US_ASCII));
+                OutputStream out = socket.getOutputStream();
+                String requestLine;
+                while ((requestLine = in.readLine()) != null) {
+                    String line;
+                    while ((line = in.readLine()) != null && !line.isEmpty()) {
+                        // 요청 헤더는 사용하지 않음
+                    }
+                    out.write(headers);
+                    if (!requestLine.startsWith("HEAD")) {
+                        out.write(body);
+                    }
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // 프로브가 상한에 도달해 연결을 끊은 경우
+            }
+        }
+    }
+}
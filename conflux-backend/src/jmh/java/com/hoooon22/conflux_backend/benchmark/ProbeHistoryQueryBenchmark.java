@@ -0,0 +1,95 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.hoooon22.conflux_backend.domain.ProbeSample;
+import com.hoooon22.conflux_backend.dto.HealthCheckStatsDto;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.service.ProbeHistoryService;
+
+/**
+ * 프로브 이력 조회 벤치마크
+ * 체크 하나에 30일치 10초 간격 샘플(259,200건)을 쌓은 뒤 구간 통계/그래프/원본 샘플 조회 지연 시간을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProbeHistoryQueryBenchmark {
+
+    private static final long CHECK_ID = 1L;
+    private static final int DAYS = 30;
+    private static final int INTERVAL_SECONDS = 10;
+
+    private ConfigurableApplicationContext context;
+    private ProbeHistoryService probeHistoryService;
+    private LocalDateTime end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("probe-history",
+                "conflux.history.max-pending-samples=1000000",
+                "conflux.history.minute-retention-days=" + (DAYS + 1));
+        probeHistoryService = context.getBean(ProbeHistoryService.class);
+
+        end = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime start = end.minusDays(DAYS);
+        Random random = new Random(42);
+        int total = DAYS * 86_400 / INTERVAL_SECONDS;
+        for (int i = 0; i < total; i++) {
+            boolean failed = random.nextInt(1000) == 0;
+            probeHistoryService.record(new ProbeResult(CHECK_ID, start.plusSeconds((long) i * INTERVAL_SECONDS),
+                    failed ? 0 : 200, 20 + (long) Math.abs(random.nextGaussian() * 40),
+                    failed ? "HttpTimeoutException" : null, null));
+        }
+        probeHistoryService.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public HealthCheckStatsDto stats30Days() {
+        return probeHistoryService.getStats(CHECK_ID, end.minusDays(DAYS), end);
+    }
+
+    /**
+     * 시/분 경계가 맞지 않는 구간 (1일 + 1시간 + 1분 롤업 조합)
+     */
+    @Benchmark
+    public HealthCheckStatsDto statsUnalignedWeek() {
+        return probeHistoryService.getStats(CHECK_ID, end.minusDays(7).minusMinutes(97), end.minusMinutes(13));
+    }
+
+    @Benchmark
+    public List<HealthCheckStatsDto> hourlySeries30Days() {
+        return probeHistoryService.getSeries(CHECK_ID, end.minusDays(DAYS), end, null);
+    }
+
+    @Benchmark
+    public List<ProbeSample> rawSamplesOneHour() {
+        return probeHistoryService.getSamples(CHECK_ID, end.minusDays(3).minusHours(1), end.minusDays(3), 10_000);
+    }
+}
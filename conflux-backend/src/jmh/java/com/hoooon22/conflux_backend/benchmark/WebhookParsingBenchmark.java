@@ -0,0 +1,168 @@
+package com.hoooon22.conflux_backend.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.controller.WebhookController;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.service.IngestMetrics;
+import com.hoooon22.conflux_backend.service.NotificationCorrelator;
+import com.hoooon22.conflux_backend.service.NotificationIngestQueue;
+import com.hoooon22.conflux_backend.service.NotificationService;
+import com.hoooon22.conflux_backend.service.WebhookAdapterRegistry;
+import com.hoooon22.conflux_backend.service.WebhookDeliveryGuard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 웹훅 페이로드 파싱 벤치마크 (JSON 본문 → NotificationDto → 수집 큐)
+ * - github / githubActions / custom: WebhookController 처리 (매핑 어댑터, 스트리밍 필드 추출)
+ * - mapBinding: 비교용, 이전 방식 (@RequestBody Map 바인딩 + "Payload: " + payload 문자열)
+ *
+ * pushCommits로 push 페이로드 크기를 바꿉니다. (10 ≈ 7KB, 3000 ≈ 1MB)
+ * 수집 큐는 DB 대신 아무것도 하지 않는 NotificationService로 비웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WebhookParsingBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"10", "3000"})
+    public int pushCommits;
+
+    private byte[] githubPayload;
+    private byte[] githubActionsPayload;
+    private byte[] customPayload;
+    private NotificationIngestQueue ingestQueue;
+    private WebhookController controller;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        githubPayload = objectMapper.writeValueAsBytes(githubPushPayload(pushCommits));
+        githubActionsPayload = objectMapper.writeValueAsBytes(Map.of(
+                "workflow", "CI", "status", "completed", "conclusion", "failure",
+                "repository", "org/repo-7", "branch", "main", "actor", "user-1"));
+        customPayload = objectMapper.writeValueAsBytes(Map.of(
+                "title", "Nightly backup", "message", "Backup finished in 42s", "status", "success"));
+
+        NotificationService discarding = new NotificationService(null, null, null, null, null, null, null, null, null) {
+            @Override
+            public void addNotificationBatch(List<IngestEntry> entries) {
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationCorrelator correlator = new NotificationCorrelator(null, meterRegistry, false, 0, 1, 0);
+        ingestQueue = new NotificationIngestQueue(discarding, correlator, null, meterRegistry, 100_000, 500, 10, 1000,
+                false, "", 0, false, 0, 0, 0);
+        ingestQueue.start();
+        WebhookAdapterRegistry adapters = new WebhookAdapterRegistry(List.of(), objectMapper, "");
+        adapters.load();
+        WebhookDeliveryGuard deliveryGuard = new WebhookDeliveryGuard(null, meterRegistry, false, 0, 1, 0.01, 1, 0);
+        controller = new WebhookController(ingestQueue, new IngestMetrics(meterRegistry), adapters, deliveryGuard, 0, 2048);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        ingestQueue.shutdown();
+    }
+
+    @Benchmark
+    public ResponseEntity<String> github() {
+        return controller.receiveWebhook("github", null, null, new ByteArrayInputStream(githubPayload));
+    }
+
+    @Benchmark
+    public ResponseEntity<String> githubActions() {
+        return controller.receiveWebhook("github-actions", null, null, new ByteArrayInputStream(githubActionsPayload));
+    }
+
+    @Benchmark
+    public ResponseEntity<String> custom() {
+        return controller.receiveWebhook("custom", null, null, new ByteArrayInputStream(customPayload));
+    }
+
+    @Benchmark
+    public int mapBinding() throws IOException {
+        Map<String, Object> payload = objectMapper.readValue(githubPayload, MAP_TYPE);
+        String logLine = "Payload: " + payload;
+        Map<?, ?> repository = (Map<?, ?>) payload.get("repository");
+        return logLine.length() + String.valueOf(repository.get("full_name")).length();
+    }
+
+    /**
+     * GitHub push 이벤트와 비슷한 구조의 고정 페이로드 (커밋 commitCount개, push 이벤트에는 action이 없어 본문 끝까지 읽음)
+     */
+    static Map<String, Object> githubPushPayload(int commitCount) {
+        Map<String, Object> owner = new LinkedHashMap<>();
+        owner.put("login", "org");
+        owner.put("id", 1_000_001);
+        owner.put("avatar_url", "https://avatars.githubusercontent.com/u/1000001?v=4");
+        owner.put("url", "https://api.github.com/users/org");
+        owner.put("type", "Organization");
+
+        Map<String, Object> repository = new LinkedHashMap<>();
+        repository.put("id", 123_456_789);
+        repository.put("name", "repo-7");
+        repository.put("full_name", "org/repo-7");
+        repository.put("private", false);
+        repository.put("owner", owner);
+        repository.put("html_url", "https://github.com/org/repo-7");
+        repository.put("description", "Deterministic benchmark repository");
+        repository.put("default_branch", "main");
+        repository.put("stargazers_count", 512);
+        repository.put("topics", List.of("monitoring", "webhooks", "notifications"));
+
+        List<Map<String, Object>> commits = new ArrayList<>();
+        for (int i = 0; i < commitCount; i++) {
+            Map<String, Object> commit = new LinkedHashMap<>();
+            commit.put("id", String.format("%040x", i * 0x9E3779B97F4A7C15L & Long.MAX_VALUE));
+            commit.put("message", "Fix flaky test #" + i + "\n\nLonger description of the change for commit " + i);
+            commit.put("timestamp", "2025-01-01T00:0" + i + ":00Z");
+            commit.put("author", Map.of("name", "User " + i, "email", "user" + i + "@example.com"));
+            commit.put("added", List.of("src/main/File" + i + ".java"));
+            commit.put("modified", List.of("src/test/FileTest" + i + ".java", "README.md"));
+            commit.put("removed", List.of());
+            commits.add(commit);
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("ref", "refs/heads/main");
+        payload.put("before", "0000000000000000000000000000000000000000");
+        payload.put("after", "1111111111111111111111111111111111111111");
+        payload.put("repository", repository);
+        payload.put("sender", Map.of("login", "user-1", "id", 42, "type", "User"));
+        payload.put("commits", commits);
+        payload.put("head_commit", commits.get(commits.size() - 1));
+        return payload;
+    }
+}
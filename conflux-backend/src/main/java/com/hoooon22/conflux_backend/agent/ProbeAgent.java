@@ -0,0 +1,304 @@
+package com.hoooon22.conflux_backend.agent;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hoooon22.conflux_backend.domain.HealthCheck;
+import com.hoooon22.conflux_backend.dto.HealthCheckDto;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.service.HashedWheelScheduler;
+import com.hoooon22.conflux_backend.service.HttpProbeExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로브 에이전트 (다른 지역/네트워크에서 실행하는 가벼운 프로브 전용 프로세스, Spring 컨텍스트 없음)
+ *
+ * 백엔드에서 배정 목록(/api/agents/{id}/assignments)을 주기적으로 가져와 백엔드와 같은 휠 스케줄러와
+ * 프로브 실행기로 체크를 돌리고, 결과는 메모리에 모았다가 flush-ms마다 바이너리 배치(ProbeBatchCodec)로 보냅니다.
+ * 전송에 실패한 배치는 다음 flush에 다시 보내며, 모아 둔 결과가 max-buffered를 넘으면 새 결과를 버립니다.
+ *
+ * 실행: java -cp conflux-backend.jar -Dloader.main=com.hoooon22.conflux_backend.agent.ProbeAgent \
+ *       org.springframework.boot.loader.launch.PropertiesLauncher --server=http://backend:8080 --agent-id=eu-west
+ */
+@Slf4j
+public class ProbeAgent implements AutoCloseable {
+
+    public static final String TOKEN_HEADER = "X-Conflux-Agent-Token";
+
+    private final URI server;
+    private final String agentId;
+    private final String token;
+    private final long syncMillis;
+    private final long flushMillis;
+    private final int batchSize;
+    private final int maxBuffered;
+
+    private final HttpClient controlClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    /**
+     * 배정 동기화/결과 전송 스레드 (데몬이 아니라서 close() 전까지 프로세스가 살아 있음)
+     */
+    private final ScheduledExecutorService control = Executors.newSingleThreadScheduledExecutor(r ->
+            new Thread(r, "probe-agent-control"));
+    private final ExecutorService dispatch;
+    private final HttpProbeExecutor probeExecutor;
+    private final HashedWheelScheduler wheel;
+
+    private final Map<Long, Assignment> assignments = new ConcurrentHashMap<>();
+    private final Queue<ProbeResult> results = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 마지막 배정 목록의 ETag (control 스레드 전용)
+     */
+    private String assignmentsEtag;
+
+    /**
+     * 보내지 못해 다음 flush에 다시 보낼 배치 (control 스레드 전용)
+     */
+    private List<ProbeResult> unsent;
+
+    public ProbeAgent(URI server, String agentId, String token, long syncMillis, long flushMillis,
+                      int batchSize, int maxBuffered, long jitterMillis) {
+        if (agentId == null || agentId.isBlank()) {
+            throw new IllegalArgumentException("agent-id is required");
+        }
+        this.server = server;
+        this.agentId = agentId;
+        this.token = token;
+        this.syncMillis = syncMillis;
+        this.flushMillis = flushMillis;
+        this.batchSize = Math.min(batchSize, ProbeBatchCodec.MAX_RESULTS);
+        this.maxBuffered = maxBuffered;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatch = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "probe-agent-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.probeExecutor = new HttpProbeExecutor(8, 1000, 4, agentId);
+        this.wheel = new HashedWheelScheduler(dispatch, 100, 512, jitterMillis);
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        String server = options.get("server");
+        if (server == null) {
+            System.err.println("usage: ProbeAgent --server=http://host:port --agent-id=name [--token=] [--sync-ms=10000]"
+                    + " [--flush-ms=1000] [--batch-size=1000] [--max-buffered=100000] [--jitter-ms=500]");
+            System.exit(2);
+        }
+        ProbeAgent agent = new ProbeAgent(URI.create(server), options.get("agent-id"), options.getOrDefault("token", ""),
+                Long.parseLong(options.getOrDefault("sync-ms", "10000")),
+                Long.parseLong(options.getOrDefault("flush-ms", "1000")),
+                Integer.parseInt(options.getOrDefault("batch-size", "1000")),
+                Integer.parseInt(options.getOrDefault("max-buffered", "100000")),
+                Long.parseLong(options.getOrDefault("jitter-ms", "500")));
+        Runtime.getRuntime().addShutdownHook(new Thread(agent::close, "probe-agent-shutdown"));
+        agent.start();
+    }
+
+    public void start() {
+        wheel.start();
+        control.scheduleWithFixedDelay(this::syncSafely, 0, syncMillis, TimeUnit.MILLISECONDS);
+        control.scheduleWithFixedDelay(this::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        log.info("🛰️ Probe agent {} started (server {})", agentId, server);
+    }
+
+    /**
+     * 스케줄을 멈추고 모아 둔 결과를 한 번 더 보낸 뒤 종료합니다.
+     */
+    @Override
+    public void close() {
+        control.shutdownNow();
+        try {
+            control.awaitTermination(5, TimeUnit.SECONDS);
+            wheel.stop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assignments.values().forEach(assignment -> assignment.timeout().cancel());
+        flushSafely();
+        probeExecutor.shutdown();
+        dispatch.shutdownNow();
+        log.info("🛑 Probe agent {} stopped ({} results dropped)", agentId, dropped.get());
+    }
+
+    private void syncSafely() {
+        try {
+            sync();
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to fetch assignments from {}: {}", server, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Failed to apply assignments: {}", e.getMessage());
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to send probe results to {}: {}", server, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sync() throws IOException, InterruptedException {
+        HttpRequest.Builder builder = request("/assignments").GET();
+        if (assignmentsEtag != null) {
+            builder.header("If-None-Match", assignmentsEtag);
+        }
+        HttpResponse<byte[]> response = controlClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 304) {
+            return;
+        }
+        if (response.statusCode() != 200) {
+            log.warn("⚠️ Assignments request rejected: HTTP {}", response.statusCode());
+            return;
+        }
+        List<HealthCheckDto> checks = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+        apply(checks);
+        assignmentsEtag = response.headers().firstValue("ETag").orElse(null);
+    }
+
+    /**
+     * 배정 목록과 비교해 빠진 체크/바뀐 체크는 취소하고 새 체크를 스케줄합니다.
+     */
+    private void apply(List<HealthCheckDto> checks) {
+        Map<Long, HealthCheckDto> next = new HashMap<>();
+        checks.forEach(check -> next.put(check.getId(), check));
+        assignments.forEach((id, assignment) -> {
+            if (!Objects.equals(next.get(id), assignment.check())) {
+                assignment.timeout().cancel();
+                assignments.remove(id);
+                probeExecutor.forget(id);
+            }
+        });
+        next.values().stream()
+                .filter(check -> !assignments.containsKey(check.getId()))
+                .forEach(check -> {
+                    HealthCheck healthCheck = toEntity(check);
+                    HashedWheelScheduler.Timeout timeout = wheel.schedule(check.getId(),
+                            check.getIntervalSeconds() * 1000L, () -> probe(healthCheck));
+                    assignments.put(check.getId(), new Assignment(check, timeout));
+                });
+        log.info("📋 Probe agent {} assigned {} checks", agentId, assignments.size());
+    }
+
+    private CompletableFuture<Void> probe(HealthCheck healthCheck) {
+        return probeExecutor.probe(healthCheck).thenAccept(result -> {
+            if (buffered.incrementAndGet() > maxBuffered) {
+                buffered.decrementAndGet();
+                dropped.incrementAndGet();
+                return;
+            }
+            results.add(result);
+        });
+    }
+
+    private void flush() throws IOException, InterruptedException {
+        while (true) {
+            List<ProbeResult> batch = unsent != null ? unsent : drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            unsent = batch;
+            HttpRequest request = request("/results")
+                    .header("Content-Type", ProbeBatchCodec.CONTENT_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(ProbeBatchCodec.encode(batch)))
+                    .build();
+            HttpResponse<Void> response = controlClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 400) {
+                // 서버가 읽지 못하는 배치는 다시 보내도 같음
+                log.warn("⚠️ Probe batch of {} results rejected by server", batch.size());
+            } else if (response.statusCode() / 100 != 2) {
+                log.warn("⚠️ Probe batch not accepted: HTTP {}", response.statusCode());
+                return;
+            }
+            unsent = null;
+        }
+    }
+
+    private List<ProbeResult> drain() {
+        List<ProbeResult> batch = new ArrayList<>();
+        ProbeResult result;
+        while (batch.size() < batchSize && (result = results.poll()) != null) {
+            batch.add(result);
+        }
+        buffered.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(server.resolve(
+                        "/api/agents/" + URLEncoder.encode(agentId, StandardCharsets.UTF_8) + path))
+                .timeout(Duration.ofSeconds(10));
+        if (token != null && !token.isEmpty()) {
+            builder.header(TOKEN_HEADER, token);
+        }
+        return builder;
+    }
+
+    private static HealthCheck toEntity(HealthCheckDto check) {
+        return HealthCheck.builder()
+                .id(check.getId())
+                .name(check.getName())
+                .url(check.getUrl())
+                .method(check.getMethod() != null ? check.getMethod() : "GET")
+                .intervalSeconds(check.getIntervalSeconds())
+                .connectTimeoutMs(check.getConnectTimeoutMs())
+                .readTimeoutMs(check.getReadTimeoutMs())
+                .probeMode(check.getProbeMode())
+                .maxBodyBytes(check.getMaxBodyBytes())
+                .assertionType(check.getAssertionType())
+                .assertionExpression(check.getAssertionExpression())
+                .assertionExpected(check.getAssertionExpected())
+                .conditional(check.getConditional())
+                .enabled(true)
+                .build();
+    }
+
+    private record Assignment(HealthCheckDto check, HashedWheelScheduler.Timeout timeout) {
+    }
+}
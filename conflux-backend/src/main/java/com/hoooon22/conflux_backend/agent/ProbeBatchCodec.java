@@ -0,0 +1,141 @@
+package com.hoooon22.conflux_backend.agent;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hoooon22.conflux_backend.domain.Varint;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+
+/**
+ * 프로브 에이전트 → 백엔드 결과 배치 인코더/디코더 (application/x-conflux-probe-batch)
+ *
+ * JSON 대신 결과 N개를 하나의 byte[]로 보냅니다. (결과당 보통 5~8바이트)
+ * - 체크 ID, 시각(epoch ms), 상태 코드: 직전 결과와의 차이 (zigzag varint)
+ * - 응답 시간: varint
+ * - 오류 이름/메시지: 배치 헤더의 문자열 표 인덱스 (0 = 없음)
+ */
+public final class ProbeBatchCodec {
+
+    public static final String CONTENT_TYPE = "application/x-conflux-probe-batch";
+
+    /**
+     * 한 배치의 최대 결과 수 (넘으면 에이전트가 나눠서 보냄)
+     */
+    public static final int MAX_RESULTS = 10_000;
+
+    private static final byte VERSION = 1;
+    private static final int MAX_MESSAGE_LENGTH = 200;
+
+    private ProbeBatchCodec() {
+    }
+
+    public static byte[] encode(List<ProbeResult> results) {
+        if (results.size() > MAX_RESULTS) {
+            throw new IllegalArgumentException("Too many results in one batch: " + results.size());
+        }
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        int stringBytes = 0;
+        for (ProbeResult result : results) {
+            for (String value : new String[] {result.errorClass(), truncate(result.errorMessage())}) {
+                if (value != null && !strings.containsKey(value)) {
+                    strings.put(value, strings.size() + 1);
+                    stringBytes += value.getBytes(StandardCharsets.UTF_8).length + 5;
+                }
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(16 + stringBytes + results.size() * 50);
+        buffer.put(VERSION);
+        Varint.writeUnsigned(buffer, results.size());
+        Varint.writeUnsigned(buffer, strings.size());
+        for (String value : strings.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            Varint.writeUnsigned(buffer, bytes.length);
+            buffer.put(bytes);
+        }
+
+        long previousId = 0;
+        long previousTimestamp = 0;
+        int previousStatus = 0;
+        for (ProbeResult result : results) {
+            long timestamp = toEpochMillis(result.timestamp());
+            Varint.writeSigned(buffer, result.healthCheckId() - previousId);
+            Varint.writeSigned(buffer, timestamp - previousTimestamp);
+            Varint.writeSigned(buffer, result.statusCode() - previousStatus);
+            Varint.writeUnsigned(buffer, Math.max(0, result.latencyMillis()));
+            Varint.writeUnsigned(buffer, indexOf(strings, result.errorClass()));
+            Varint.writeUnsigned(buffer, indexOf(strings, truncate(result.errorMessage())));
+            previousId = result.healthCheckId();
+            previousTimestamp = timestamp;
+            previousStatus = result.statusCode();
+        }
+
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 배치
+     */
+    public static List<ProbeResult> decode(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported probe batch version: " + version);
+            }
+            int count = (int) Varint.readUnsigned(buffer);
+            int stringCount = (int) Varint.readUnsigned(buffer);
+            if (count < 0 || count > MAX_RESULTS || stringCount < 0 || stringCount > count * 2) {
+                throw new IllegalArgumentException("Invalid probe batch header: " + count + " results");
+            }
+            String[] strings = new String[stringCount + 1];
+            for (int i = 1; i <= stringCount; i++) {
+                byte[] value = new byte[(int) Varint.readUnsigned(buffer)];
+                buffer.get(value);
+                strings[i] = new String(value, StandardCharsets.UTF_8);
+            }
+
+            List<ProbeResult> results = new ArrayList<>(count);
+            long id = 0;
+            long timestamp = 0;
+            int status = 0;
+            for (int i = 0; i < count; i++) {
+                id += Varint.readSigned(buffer);
+                timestamp += Varint.readSigned(buffer);
+                status += (int) Varint.readSigned(buffer);
+                long latency = Varint.readUnsigned(buffer);
+                String errorClass = strings[(int) Varint.readUnsigned(buffer)];
+                String errorMessage = strings[(int) Varint.readUnsigned(buffer)];
+                results.add(new ProbeResult(id, LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp),
+                        ZoneId.systemDefault()), status, latency, errorClass, errorMessage));
+            }
+            return results;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Truncated or malformed probe batch", e);
+        }
+    }
+
+    private static int indexOf(Map<String, Integer> strings, String value) {
+        return value == null ? 0 : strings.get(value);
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_MESSAGE_LENGTH
+                ? message.substring(0, MAX_MESSAGE_LENGTH)
+                : message;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -9,6 +9,10 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 @EnableScheduling
 public class SchedulerConfig {
 
+    /**
+     * Health Check 실행 풀 (health-check-*)
+     * 풀 포화도는 Actuator가 executor.* 메트릭(name=taskScheduler)으로 자동 노출합니다.
+     */
     @Bean
     public ThreadPoolTaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
@@ -0,0 +1,35 @@
+package com.hoooon22.conflux_backend.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import com.hoooon22.conflux_backend.domain.ExportFormat;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 내보내기 응답 (첨부 파일 헤더, gzip이면 Content-Encoding: gzip으로 압축해서 씀)
+ */
+final class ExportResponses {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private ExportResponses() {
+    }
+
+    static OutputStream open(HttpServletResponse response, ExportFormat format, String name, boolean gzip)
+            throws IOException {
+        response.setContentType(format.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name + "." + format.extension()).build().toString());
+        if (!gzip) {
+            return response.getOutputStream();
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE);
+    }
+}
@@ -1,7 +1,10 @@
 package com.hoooon22.conflux_backend.controller;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,11 +14,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.hoooon22.conflux_backend.domain.ExportFormat;
+import com.hoooon22.conflux_backend.domain.ProbeSample;
+import com.hoooon22.conflux_backend.domain.RollupResolution;
 import com.hoooon22.conflux_backend.dto.HealthCheckDto;
+import com.hoooon22.conflux_backend.dto.HealthCheckStatsDto;
 import com.hoooon22.conflux_backend.service.HealthCheckService;
+import com.hoooon22.conflux_backend.service.NotificationExportService;
+import com.hoooon22.conflux_backend.service.ProbeHistoryService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,7 +37,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class HealthCheckController {
 
+    private static final int DEFAULT_SAMPLE_LIMIT = 1000;
+
     private final HealthCheckService healthCheckService;
+    private final ProbeHistoryService probeHistoryService;
+    private final NotificationExportService exportService;
 
     /**
      * Health Check 등록 및 스케줄링 시작
@@ -68,4 +83,72 @@ public class HealthCheckController {
         log.info("📋 Fetching all Health Checks");
         return ResponseEntity.ok(healthCheckService.getAllHealthChecks());
     }
+
+    /**
+     * 구간 가용률(%)과 응답 시간 p50/p95/p99 조회
+     * from/to는 ISO-8601 형식이며, 생략하면 최근 24시간입니다.
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<HealthCheckStatsDto> getStats(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+        return ResponseEntity.ok(probeHistoryService.getStats(id, start, end));
+    }
+
+    /**
+     * 구간 통계를 롤업 단위(MINUTE, HOUR, DAY)별로 나눈 목록 조회
+     * resolution을 생략하면 구간 길이에 맞춰 자동으로 고릅니다.
+     */
+    @GetMapping("/{id}/series")
+    public ResponseEntity<List<HealthCheckStatsDto>> getSeries(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) RollupResolution resolution) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+        return ResponseEntity.ok(probeHistoryService.getSeries(id, start, end, resolution));
+    }
+
+    /**
+     * 구간의 원본 프로브 샘플 조회 (시간순, 최대 limit개)
+     */
+    @GetMapping("/{id}/samples")
+    public ResponseEntity<List<ProbeSample>> getSamples(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "" + DEFAULT_SAMPLE_LIMIT) int limit) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(1);
+        return ResponseEntity.ok(probeHistoryService.getSamples(id, start, end, limit));
+    }
+
+    /**
+     * 구간의 원본 프로브 샘플 내보내기 (format: ndjson 또는 csv, 체크별 시간순, id를 생략하면 모든 체크)
+     * 개수 제한 없이 DB 커서에서 읽는 대로 응답에 씁니다. gzip=true면 Content-Encoding: gzip
+     */
+    @GetMapping("/export")
+    public void exportSamples(
+            @RequestParam(required = false) Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+        exportService.exportProbeSamples(id, start, end, exportFormat,
+                ExportResponses.open(response, exportFormat, "probe-samples", gzip));
+    }
 }
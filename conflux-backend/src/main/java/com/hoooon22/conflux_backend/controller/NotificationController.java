@@ -1,33 +1,172 @@
 package com.hoooon22.conflux_backend.controller;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.domain.ExportFormat;
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationBulkResultDto;
+import com.hoooon22.conflux_backend.dto.NotificationCursor;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.dto.NotificationSearchResultDto;
+import com.hoooon22.conflux_backend.dto.NotificationSummaryDto;
+import com.hoooon22.conflux_backend.dto.NotificationTimelineEntry;
+import com.hoooon22.conflux_backend.service.NotificationExportService;
+import com.hoooon22.conflux_backend.service.NotificationSearchService;
 import com.hoooon22.conflux_backend.service.NotificationService;
+import com.hoooon22.conflux_backend.service.NotificationStreamService;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "http://localhost:3000")
 public class NotificationController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationSearchService notificationSearchService;
+    private final NotificationExportService notificationExportService;
 
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService,
+                                  NotificationStreamService notificationStreamService,
+                                  NotificationSearchService notificationSearchService,
+                                  NotificationExportService notificationExportService) {
         this.notificationService = notificationService;
+        this.notificationStreamService = notificationStreamService;
+        this.notificationSearchService = notificationSearchService;
+        this.notificationExportService = notificationExportService;
     }
 
+    /**
+     * 알림 피드 조회 (최신순, keyset 커서 페이지네이션)
+     * 응답의 nextCursor를 cursor 파라미터로 넘기면 다음 페이지를 조회합니다.
+     * source는 여러 번 지정할 수 있고, from/to는 ISO-8601 (예: 2025-01-01T00:00:00) 형식입니다.
+     */
     @GetMapping("/notifications")
-    public List<NotificationDto> getNotifications() {
-        return notificationService.getAllNotifications();
+    public ResponseEntity<NotificationPageDto> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) List<String> source,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String repository,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        try {
+            NotificationFilter filter = filter(null, source, status, repository, from, to);
+            NotificationCursor decoded = cursor != null ? NotificationCursor.decode(cursor) : null;
+            return ResponseEntity.ok(notificationService.getNotifications(filter, decoded, pageSize));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 알림 내보내기 (format: ndjson 또는 csv, 오래된 것부터)
+     * 조건은 피드 조회와 같고, 목록을 메모리에 모으지 않고 DB 커서에서 읽는 대로 응답에 씁니다.
+     * gzip=true면 압축해서 Content-Encoding: gzip으로 보냅니다.
+     */
+    @GetMapping("/notifications/export")
+    public void exportNotifications(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) List<String> source,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String repository,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat;
+        NotificationFilter filter;
+        try {
+            exportFormat = ExportFormat.parse(format);
+            filter = filter(null, source, status, repository, from, to);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        notificationExportService.exportNotifications(filter, exportFormat,
+                ExportResponses.open(response, exportFormat, "notifications", gzip));
+    }
+
+    /**
+     * 전체/소스별/리포지토리별 알림 수 (배지용, 카운터 테이블만 읽음)
+     */
+    @GetMapping("/notifications/summary")
+    public ResponseEntity<NotificationSummaryDto> getSummary() {
+        return ResponseEntity.ok(notificationService.getSummary());
+    }
+
+    /**
+     * 알림 검색 (title, message, repository, sender 전문 검색, 관련도 순)
+     * 검색어의 단어는 모두 포함되어야 하고(AND), 각 단어는 앞부분만 입력해도 매칭됩니다. (예: "depl fail")
+     * 기동 직후 색인이 준비되기 전에는 503을 반환합니다.
+     */
+    @GetMapping("/notifications/search")
+    public ResponseEntity<NotificationSearchResultDto> searchNotifications(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_SIZE) int limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_SIZE));
+
+        try {
+            return ResponseEntity.ok(notificationSearchService.search(q, size));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 알림 실시간 스트림 (SSE)
+     * 처음에 snapshot 이벤트로 최신 한 페이지(items, nextCursor)를 보내고, 이후 created/updated/read/deleted/cleared delta만 전송합니다.
+     * 일괄 처리는 알림별 이벤트 대신 조건을 담은 bulk_read/bulk_deleted 이벤트 하나로 전송합니다.
+     * 재접속 시 브라우저가 보내는 Last-Event-ID 이후의 이벤트부터 이어서 받습니다.
+     * source를 지정하면 해당 소스의 알림만 스냅샷과 delta로 받습니다.
+     */
+    @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) List<String> source) {
+        return notificationStreamService.subscribe(lastEventId, source);
+    }
+
+    /**
+     * 묶음 알림의 전체 단계 이력 (오래된 것부터, 묶지 않은 알림은 빈 목록)
+     */
+    @GetMapping("/notifications/{id}/timeline")
+    public ResponseEntity<List<NotificationTimelineEntry>> getTimeline(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(notificationService.getTimeline(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
     /**
@@ -55,4 +194,63 @@ public class NotificationController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * 조건에 맞는 알림을 모두 읽음 상태로 변경 (UPDATE 한 번, 조건이 없으면 전체)
+     * 조건 파라미터는 피드 조회와 같고, id로 특정 알림 목록을 지정할 수 있습니다.
+     */
+    @PatchMapping("/notifications/read")
+    public ResponseEntity<NotificationBulkResultDto> markAllAsRead(
+            @RequestParam(required = false) List<Long> id,
+            @RequestParam(required = false) List<String> source,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String repository,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            int updated = notificationService.markAsRead(filter(id, source, status, repository, from, to));
+            return ResponseEntity.ok(new NotificationBulkResultDto(updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 조건에 맞는 알림을 삭제 (DELETE 한 번)
+     * 예: id=1&id=2 (선택 삭제), status=READ (읽은 알림 비우기), to=2025-01-01T00:00:00 (그 이전 알림)
+     * 조건이 하나도 없으면 400을 반환합니다.
+     */
+    @DeleteMapping("/notifications")
+    public ResponseEntity<NotificationBulkResultDto> deleteNotifications(
+            @RequestParam(required = false) List<Long> id,
+            @RequestParam(required = false) List<String> source,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String repository,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            int deleted = notificationService.deleteNotifications(filter(id, source, status, repository, from, to));
+            return ResponseEntity.ok(new NotificationBulkResultDto(deleted));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException status가 UNREAD/READ가 아닐 때
+     */
+    private static NotificationFilter filter(List<Long> ids, List<String> sources, String status, String repository,
+                                             LocalDateTime from, LocalDateTime to) {
+        if (status != null) {
+            NotificationStatus.valueOf(status.toUpperCase());
+        }
+        return NotificationFilter.builder()
+                .ids(ids)
+                .sources(sources)
+                .status(status)
+                .repository(repository)
+                .from(from)
+                .to(to)
+                .build();
+    }
 }
@@ -0,0 +1,112 @@
+package com.hoooon22.conflux_backend.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.hoooon22.conflux_backend.agent.ProbeAgent;
+import com.hoooon22.conflux_backend.agent.ProbeBatchCodec;
+import com.hoooon22.conflux_backend.dto.HealthCheckDto;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.dto.ProbeVantageDto;
+import com.hoooon22.conflux_backend.service.HealthCheckService;
+import com.hoooon22.conflux_backend.service.ProbeQuorumTracker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로브 에이전트용 API (conflux.quorum.enabled=true일 때만 사용)
+ *
+ * 에이전트는 배정 목록을 주기적으로 가져가고(ETag로 바뀌지 않았으면 304), 결과는 모아서 바이너리 배치로 보냅니다.
+ * agent-token이 설정되어 있으면 X-Conflux-Agent-Token 헤더가 같아야 합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/agents")
+public class ProbeAgentController {
+
+    private final HealthCheckService healthCheckService;
+    private final ProbeQuorumTracker probeQuorum;
+    private final byte[] agentToken;
+
+    public ProbeAgentController(HealthCheckService healthCheckService,
+                                ProbeQuorumTracker probeQuorum,
+                                @Value("${conflux.quorum.agent-token:}") String agentToken) {
+        this.healthCheckService = healthCheckService;
+        this.probeQuorum = probeQuorum;
+        this.agentToken = agentToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 출처(에이전트)별 현황 조회
+     */
+    @GetMapping
+    public ResponseEntity<List<ProbeVantageDto>> getVantages() {
+        return ResponseEntity.ok(probeQuorum.getVantages());
+    }
+
+    /**
+     * 에이전트가 프로브할 체크 목록
+     */
+    @GetMapping("/{agentId}/assignments")
+    public ResponseEntity<List<HealthCheckDto>> getAssignments(
+            @PathVariable String agentId,
+            @RequestHeader(value = ProbeAgent.TOKEN_HEADER, required = false) String token,
+            WebRequest request) {
+        if (!probeQuorum.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!authorized(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        List<HealthCheckDto> assignments = healthCheckService.getAgentAssignments(agentId);
+        String etag = "\"" + Integer.toHexString(assignments.hashCode()) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(assignments);
+    }
+
+    /**
+     * 에이전트 결과 배치 수신 (application/x-conflux-probe-batch)
+     */
+    @PostMapping(value = "/{agentId}/results", consumes = ProbeBatchCodec.CONTENT_TYPE)
+    public ResponseEntity<Void> postResults(
+            @PathVariable String agentId,
+            @RequestHeader(value = ProbeAgent.TOKEN_HEADER, required = false) String token,
+            @RequestBody byte[] body) {
+        if (!probeQuorum.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!authorized(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        List<ProbeResult> results;
+        try {
+            results = ProbeBatchCodec.decode(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Rejected probe batch from agent {}: {}", agentId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        healthCheckService.recordAgentResults(agentId, results);
+        log.debug("📥 {} probe results from agent {} ({} bytes)", results.size(), agentId, body.length);
+        return ResponseEntity.accepted().build();
+    }
+
+    private boolean authorized(String token) {
+        return agentToken.length == 0
+                || token != null && MessageDigest.isEqual(agentToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
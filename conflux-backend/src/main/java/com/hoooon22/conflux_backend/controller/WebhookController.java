@@ -1,112 +1,150 @@
 package com.hoooon22.conflux_backend.controller;
 
-import java.time.LocalDateTime;
-import java.util.Map;
-
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hoooon22.conflux_backend.dto.NotificationDto;
-import com.hoooon22.conflux_backend.service.NotificationService;
-
+import com.hoooon22.conflux_backend.service.IngestMetrics;
+import com.hoooon22.conflux_backend.service.NotificationIngestQueue;
+import com.hoooon22.conflux_backend.service.WebhookAdapter;
+import com.hoooon22.conflux_backend.service.WebhookAdapterRegistry;
+import com.hoooon22.conflux_backend.service.WebhookDeliveryGuard;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 웹훅 수신 컨트롤러
+ * 알림은 수집 큐에 넣고 바로 202 Accepted로 응답하며, DB 반영은 NotificationIngestQueue가 배치로 처리합니다.
+ * 큐가 가득 차면 429 Too Many Requests (Retry-After)로 응답합니다.
+ *
+ * 소스별 변환은 WebhookAdapterRegistry의 어댑터(POST /api/webhook/{id})가 맡습니다. (없는 ID면 404)
+ * 매핑 어댑터는 본문을 Map으로 바인딩하지 않고 필요한 필드만 스트리밍으로 꺼냅니다.
+ * (수백 개 커밋이 담긴 push 이벤트도 나머지 필드는 건너뛰기만 함)
+ * 원본 페이로드 로그는 DEBUG 레벨에서 payload-log-every 건마다 한 번, 앞부분만 남깁니다.
+ *
+ * X-GitHub-Delivery / Idempotency-Key 헤더가 있으면 본문을 읽기 전에 WebhookDeliveryGuard로 재전송을 거르고
+ * 200 OK로 응답합니다. (받지 못한 요청(400, 429)은 기록을 지워 재전송을 다시 받음)
+ */
+@Slf4j
 @RestController
 @RequestMapping("/api/webhook")
 @CrossOrigin(origins = "http://localhost:3000")
 public class WebhookController {
 
-    private final NotificationService notificationService;
-
-    public WebhookController(NotificationService notificationService) {
-        this.notificationService = notificationService;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String GITHUB_DELIVERY_HEADER = "X-GitHub-Delivery";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final NotificationIngestQueue ingestQueue;
+    private final IngestMetrics ingestMetrics;
+    private final WebhookAdapterRegistry adapters;
+    private final WebhookDeliveryGuard deliveryGuard;
+    private final int payloadLogEvery;
+    private final int payloadLogMaxBytes;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    public WebhookController(NotificationIngestQueue ingestQueue, IngestMetrics ingestMetrics,
+                             WebhookAdapterRegistry adapters, WebhookDeliveryGuard deliveryGuard,
+                             @Value("${conflux.webhook.payload-log-every:0}") int payloadLogEvery,
+                             @Value("${conflux.webhook.payload-log-max-bytes:2048}") int payloadLogMaxBytes) {
+        this.ingestQueue = ingestQueue;
+        this.ingestMetrics = ingestMetrics;
+        this.adapters = adapters;
+        this.deliveryGuard = deliveryGuard;
+        this.payloadLogEvery = payloadLogEvery;
+        this.payloadLogMaxBytes = payloadLogMaxBytes;
     }
 
-    @PostMapping("/github")
-    public String receiveGitHubWebhook(@RequestBody Map<String, Object> payload) {
-        System.out.println("🔥 GitHub Webhook Received!");
-        System.out.println("Payload: " + payload);
-
-        // GitHub webhook payload 파싱
-        String action = (String) payload.get("action");
-        Map<String, Object> repository = (Map<String, Object>) payload.get("repository");
-        Map<String, Object> sender = (Map<String, Object>) payload.get("sender");
-
-        // DTO 생성 및 저장
-        NotificationDto notification = NotificationDto.builder()
-                .source("GitHub")
-                .title("GitHub Event: " + action)
-                .message("Action: " + action + " occurred")
-                .repository(repository != null ? (String) repository.get("full_name") : "Unknown")
-                .sender(sender != null ? (String) sender.get("login") : "Unknown")
-                .timestamp(LocalDateTime.now())
-                .status("success")
-                .build();
-
-        notificationService.addNotification(notification);
-
-        return "Webhook received successfully";
+    @PostMapping("/{id}")
+    public ResponseEntity<String> receiveWebhook(@PathVariable String id,
+                                                 @RequestHeader(value = GITHUB_DELIVERY_HEADER, required = false) String githubDelivery,
+                                                 @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                 InputStream body) {
+        long startNanos = System.nanoTime();
+        WebhookAdapter adapter = adapters.find(id);
+        if (adapter == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Unknown webhook source: " + id);
+        }
+        String deliveryId = githubDelivery != null ? githubDelivery : idempotencyKey;
+        if (!deliveryGuard.register(id, deliveryId)) {
+            ingestMetrics.recordDuplicateDelivery(id, adapter.source(), startNanos);
+            log.debug("🔁 [{}] Duplicate delivery ignored: {}", id, deliveryId);
+            return ResponseEntity.ok("Duplicate delivery ignored");
+        }
+        // 202로 끝나지 않으면(잘못된 본문, 큐 가득 참, 예외) 재전송을 다시 받도록 전송 ID를 놓아 줌
+        boolean accepted = false;
+        try {
+            NotificationDto notification = toNotification(adapter, body);
+            if (notification == null) {
+                return invalidPayload();
+            }
+            log.debug("📨 [{}] Webhook Received: title={}, repository={}", id, notification.getTitle(),
+                    notification.getRepository());
+
+            ResponseEntity<String> response = accept(adapter, notification, startNanos);
+            accepted = response.getStatusCode() == HttpStatus.ACCEPTED;
+            return response;
+        } finally {
+            if (accepted) {
+                deliveryGuard.confirm(id, deliveryId);
+            } else {
+                deliveryGuard.release(id, deliveryId);
+            }
+        }
     }
 
-    @PostMapping("/custom")
-    public String receiveCustomWebhook(@RequestBody Map<String, Object> payload) {
-        System.out.println("🎨 Custom Webhook Received!");
-        System.out.println("Payload: " + payload);
-
-        // Custom webhook payload 파싱
-        String title = (String) payload.getOrDefault("title", "Custom Notification");
-        String message = (String) payload.getOrDefault("message", "No message provided");
-        String status = (String) payload.getOrDefault("status", "success");
-
-        // DTO 생성 및 저장
-        NotificationDto notification = NotificationDto.builder()
-                .source("Custom")
-                .title(title)
-                .message(message)
-                .repository(null)
-                .sender("Custom")
-                .timestamp(LocalDateTime.now())
-                .status(status)
-                .build();
-
-        notificationService.addNotification(notification);
-
-        return "Custom webhook received successfully";
+    /**
+     * 본문을 알림으로 변환합니다. 샘플링 대상이면 본문을 메모리에 읽어 앞부분을 DEBUG 로그로 남깁니다.
+     *
+     * @return JSON이 아니거나 읽기에 실패하면 null (400 응답)
+     */
+    private NotificationDto toNotification(WebhookAdapter adapter, InputStream body) {
+        try {
+            if (shouldLogPayload()) {
+                byte[] bytes = body.readAllBytes();
+                log.debug("📦 [{}] Payload ({} bytes): {}", adapter.id(), bytes.length,
+                        new String(bytes, 0, Math.min(bytes.length, payloadLogMaxBytes), StandardCharsets.UTF_8));
+                return adapter.toNotification(bytes);
+            }
+            return adapter.toNotification(body);
+        } catch (IOException e) {
+            log.warn("⚠️ Invalid {} webhook payload: {}", adapter.id(), e.getMessage());
+            return null;
+        }
     }
 
-    @PostMapping("/github-actions")
-    public String receiveGitHubActionsWebhook(@RequestBody Map<String, Object> payload) {
-        System.out.println("🚀 GitHub Actions Webhook Received!");
-        System.out.println("Payload: " + payload);
-
-        // GitHub Actions webhook payload 파싱
-        String workflowName = (String) payload.getOrDefault("workflow", "Unknown Workflow");
-        String status = (String) payload.getOrDefault("status", "unknown");
-        String conclusion = (String) payload.getOrDefault("conclusion", "");
-        String repository = (String) payload.getOrDefault("repository", "Unknown Repository");
-        String branch = (String) payload.getOrDefault("branch", "main");
-        String actor = (String) payload.getOrDefault("actor", "Unknown");
-
-        // 상태에 따라 메시지 생성
-        String message = String.format("Workflow '%s' %s on branch '%s'",
-            workflowName,
-            conclusion.isEmpty() ? status : conclusion,
-            branch);
-
-        // DTO 생성 및 저장
-        NotificationDto notification = NotificationDto.builder()
-                .source("GitHub")  // GitHub Actions도 GitHub 카테고리로 통합
-                .title("🚀 " + workflowName + " - " + status)
-                .message(message)
-                .repository(repository)
-                .sender(actor)
-                .timestamp(LocalDateTime.now())
-                .status(conclusion.equals("success") ? "success" : "failed")
-                .build();
+    private boolean shouldLogPayload() {
+        return payloadLogEvery > 0 && log.isDebugEnabled() && requestCount.getAndIncrement() % payloadLogEvery == 0;
+    }
 
-        notificationService.addNotification(notification);
+    private static ResponseEntity<String> invalidPayload() {
+        return ResponseEntity.badRequest().body("Invalid JSON payload");
+    }
 
-        return "GitHub Actions webhook received successfully";
+    /**
+     * 수집 큐에 넣고 202로 응답 (큐가 가득 차면 429)
+     */
+    private ResponseEntity<String> accept(WebhookAdapter adapter, NotificationDto notification, long startNanos) {
+        boolean accepted = ingestQueue.submit(notification);
+        ingestMetrics.recordWebhook(adapter.id(), adapter.source(), accepted, startNanos);
+        if (!accepted) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body("Ingest queue is full, retry later");
+        }
+        return ResponseEntity.accepted().body("Webhook received successfully");
     }
 }
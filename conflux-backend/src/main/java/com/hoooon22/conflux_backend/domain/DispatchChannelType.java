@@ -0,0 +1,16 @@
+package com.hoooon22.conflux_backend.domain;
+
+/**
+ * 외부 발송 채널 종류
+ */
+public enum DispatchChannelType {
+    /**
+     * JSON POST ({"channel": 이름, "notifications": [알림...]})
+     */
+    WEBHOOK,
+
+    /**
+     * Slack Incoming Webhook ({"text": 알림 목록 요약})
+     */
+    SLACK
+}
@@ -0,0 +1,39 @@
+package com.hoooon22.conflux_backend.domain;
+
+/**
+ * 내보내기 형식
+ */
+public enum ExportFormat {
+    /**
+     * 한 줄에 JSON 객체 하나 (application/x-ndjson)
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * 첫 줄이 헤더인 CSV (RFC 4180, UTF-8)
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * @throws IllegalArgumentException ndjson/csv가 아닐 때
+     */
+    public static ExportFormat parse(String value) {
+        return valueOf(value.toUpperCase());
+    }
+}
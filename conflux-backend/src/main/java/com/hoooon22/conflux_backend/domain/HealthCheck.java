@@ -2,10 +2,13 @@ package com.hoooon22.conflux_backend.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -57,10 +60,62 @@ public class HealthCheck {
     @Builder.Default
     private Integer intervalSeconds = 60;
 
+    /**
+     * 연결 타임아웃 (ms, null이면 기본값 사용)
+     */
+    private Integer connectTimeoutMs;
+
+    /**
+     * 응답 타임아웃 (ms, 요청 전송 후 응답 헤더까지, null이면 기본값 사용)
+     */
+    private Integer readTimeoutMs;
+
+    /**
+     * 프로브 방식 (HEAD, STATUS_ONLY, BODY, null이면 BODY)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ProbeMode probeMode;
+
+    /**
+     * 본문을 읽는 최대 크기 (byte, 넘으면 연결을 끊음, null이면 기본값 사용)
+     */
+    private Integer maxBodyBytes;
+
+    /**
+     * 본문 검사 방식 (null이면 검사하지 않음)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ProbeAssertionType assertionType;
+
+    /**
+     * 검사식 (CONTAINS: 문자열, REGEX: 정규식, JSON_PATH: $.a.b[0] 형식 경로)
+     */
+    @Column(length = 1000)
+    private String assertionExpression;
+
+    /**
+     * JSON_PATH 기대값 (null이면 경로 존재 여부만 확인)
+     */
+    @Column(length = 1000)
+    private String assertionExpected;
+
+    /**
+     * 조건부 요청 사용 여부 (이전 응답의 ETag/Last-Modified로 If-None-Match/If-Modified-Since 전송)
+     */
+    private Boolean conditional;
+
     /**
      * 활성화 여부
      */
     @Column(nullable = false)
     @Builder.Default
     private Boolean enabled = true;
+
+    /**
+     * 설정 버전 (수정할 때마다 증가, 클러스터의 다른 노드가 변경을 알아채는 데 사용)
+     */
+    @Version
+    private Long version;
 }
@@ -0,0 +1,26 @@
+package com.hoooon22.conflux_backend.domain;
+
+/**
+ * Health Check 대상 서비스 상태
+ */
+public enum HealthState {
+    /**
+     * 아직 판정 전 (등록/재시작 직후)
+     */
+    UNKNOWN,
+
+    /**
+     * 정상
+     */
+    UP,
+
+    /**
+     * 일부 실패 (연속 실패가 DOWN 기준에 못 미침)
+     */
+    DEGRADED,
+
+    /**
+     * 장애 (연속 실패가 DOWN 기준 이상)
+     */
+    DOWN
+}
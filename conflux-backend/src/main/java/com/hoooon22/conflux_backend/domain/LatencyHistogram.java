@@ -0,0 +1,118 @@
+package com.hoooon22.conflux_backend.domain;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 응답 시간(ms) 로그-선형 히스토그램
+ *
+ * 0~7ms는 1ms 단위, 그 이상은 2의 거듭제곱 구간마다 8개 하위 버킷으로 나눕니다. (상대 오차 12.5% 이내)
+ * 롤업 행에 그대로 저장되고 구간끼리 더할 수 있어, 여러 롤업을 합쳐 p50/p95/p99를 계산합니다.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 8;
+    private static final int MAX_MSB = 20;
+    private static final long MAX_VALUE = (1L << (MAX_MSB + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_MSB - 2) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long total;
+
+    public void record(long latencyMillis) {
+        counts[indexOf(latencyMillis)]++;
+        total++;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * 분위수 근사값 (버킷 중앙값, ms). 기록이 없으면 0
+     *
+     * @param quantile 0.0 ~ 1.0 (예: 0.95)
+     */
+    public long percentile(double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return midpointOf(i);
+            }
+        }
+        return midpointOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 0이 아닌 버킷만 (인덱스 차이, 개수) varint 쌍으로 저장합니다.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(BUCKET_COUNT * 12 + 5);
+        int nonZero = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                nonZero++;
+            }
+        }
+        Varint.writeUnsigned(buffer, nonZero);
+        int previous = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                Varint.writeUnsigned(buffer, i - previous);
+                Varint.writeUnsigned(buffer, counts[i]);
+                previous = i;
+            }
+        }
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    public static LatencyHistogram fromBytes(byte[] bytes) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        if (bytes == null || bytes.length == 0) {
+            return histogram;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int nonZero = (int) Varint.readUnsigned(buffer);
+        int index = 0;
+        for (int i = 0; i < nonZero; i++) {
+            index += (int) Varint.readUnsigned(buffer);
+            long count = Varint.readUnsigned(buffer);
+            histogram.counts[index] += count;
+            histogram.total += count;
+        }
+        return histogram;
+    }
+
+    static int indexOf(long value) {
+        long v = Math.min(Math.max(value, 0), MAX_VALUE);
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        return (msb - 2) * SUB_BUCKETS + (int) ((v >>> (msb - 3)) & (SUB_BUCKETS - 1));
+    }
+
+    static long midpointOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int msb = index / SUB_BUCKETS + 2;
+        int sub = index % SUB_BUCKETS;
+        long width = 1L << (msb - 3);
+        long lower = (SUB_BUCKETS + sub) * width;
+        return lower + width / 2;
+    }
+}
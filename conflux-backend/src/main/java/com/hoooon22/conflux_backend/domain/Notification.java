@@ -9,7 +9,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,9 +20,17 @@ import lombok.Setter;
 
 /**
  * 알림 엔티티
+ * 피드는 (timestamp, id) 내림차순 keyset으로 조회하므로 필터 컬럼마다 (컬럼, timestamp, id) 복합 인덱스를 둡니다.
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_timestamp_id", columnList = "timestamp, id"),
+        @Index(name = "idx_notifications_source_timestamp_id", columnList = "source, timestamp, id"),
+        @Index(name = "idx_notifications_status_timestamp_id", columnList = "status, timestamp, id"),
+        @Index(name = "idx_notifications_repository_timestamp_id", columnList = "repository, timestamp, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notifications_fingerprint", columnNames = "fingerprint")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -63,6 +73,20 @@ public class Notification {
      */
     private String sender;
 
+    /**
+     * 중복 판별용 내용 지문 (source, title, message의 SHA-256, NotificationFingerprint 참고)
+     * 같은 내용의 알림은 한 행으로만 저장되고 count가 증가합니다.
+     * 묶음 알림은 내용 대신 묶음 지문을 씁니다. (NotificationFingerprint.ofGroup)
+     */
+    @Column(length = NotificationFingerprint.LENGTH)
+    private String fingerprint;
+
+    /**
+     * 이벤트 묶음 키 (웹훅 매핑의 groupKey, 묶지 않는 알림은 null, NotificationCorrelator 참고)
+     */
+    @Column(name = "group_key")
+    private String groupKey;
+
     /**
      * 알림 발생 시간
      */
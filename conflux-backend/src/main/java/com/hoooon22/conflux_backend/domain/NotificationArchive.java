@@ -0,0 +1,61 @@
+package com.hoooon22.conflux_backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지나 notifications 테이블에서 옮겨진 알림 (conflux.retention.mode=archive)
+ * NotificationRetentionService가 INSERT ... SELECT로만 채우며, ID는 원래 알림 ID를 그대로 사용합니다.
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = {
+        @Index(name = "idx_notifications_archive_timestamp", columnList = "timestamp")
+})
+@Getter
+@NoArgsConstructor
+public class NotificationArchive {
+
+    /**
+     * 원래 알림 ID
+     */
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String source;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    private String repository;
+
+    private String sender;
+
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationStatus status;
+
+    @Column(nullable = false)
+    private Integer count;
+
+    /**
+     * 보관 처리 시간
+     */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
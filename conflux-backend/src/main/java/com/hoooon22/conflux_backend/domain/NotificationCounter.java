@@ -0,0 +1,46 @@
+package com.hoooon22.conflux_backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (source, repository)별 알림 카운터 (NotificationCounters가 JDBC로 증감)
+ * 리포지토리가 없는 알림은 repository를 빈 문자열로 저장합니다. (NULL은 유니크 제약에서 서로 다른 값으로 취급되므로)
+ */
+@Entity
+@Table(name = "notification_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_counters_key", columnNames = {"source", "repository"})
+})
+@Getter
+@NoArgsConstructor
+public class NotificationCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String source;
+
+    @Column(nullable = false)
+    private String repository;
+
+    /**
+     * 알림 수 (중복 알림은 한 건)
+     */
+    @Column(nullable = false)
+    private long total;
+
+    /**
+     * 읽지 않은 알림 수
+     */
+    @Column(nullable = false)
+    private long unread;
+}
@@ -0,0 +1,57 @@
+package com.hoooon22.conflux_backend.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 알림 중복 판별용 내용 지문 (source, title, message의 SHA-256)
+ * TEXT 컬럼(message) 동등 비교 대신 고정 길이의 인덱스 컬럼으로 중복을 찾기 위해 사용합니다.
+ */
+public final class NotificationFingerprint {
+
+    /**
+     * 지문 문자열 길이 (SHA-256 hex)
+     */
+    public static final int LENGTH = 64;
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char GROUP_MARKER = '\u0002';
+
+    private NotificationFingerprint() {
+    }
+
+    public static String of(String source, String title, String message) {
+        StringBuilder content = new StringBuilder()
+                .append(nullToEmpty(source)).append(SEPARATOR)
+                .append(nullToEmpty(title)).append(SEPARATOR)
+                .append(message == null ? "\u0001" : message);
+        return HexFormat.of().formatHex(sha256().digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 묶음 지문: (소스, 묶음 키, 묶음이 열린 시각)의 SHA-256
+     * 내용 지문과 겹치지 않도록 구분 문자를 앞에 붙입니다. 같은 키라도 윈도우가 새로 열리면 다른 지문이 됩니다.
+     */
+    public static String ofGroup(String source, String groupKey, long openedAtMillis) {
+        StringBuilder content = new StringBuilder()
+                .append(GROUP_MARKER)
+                .append(nullToEmpty(source)).append(SEPARATOR)
+                .append(groupKey).append(SEPARATOR)
+                .append(openedAtMillis);
+        return HexFormat.of().formatHex(sha256().digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hoooon22.conflux_backend.domain;
+
+/**
+ * 응답 본문 검사 방식 (본문 앞부분 maxBodyBytes 이내에서 검사)
+ */
+public enum ProbeAssertionType {
+    /**
+     * 문자열 포함 여부
+     */
+    CONTAINS,
+
+    /**
+     * 정규식 일치 여부 (부분 일치)
+     */
+    REGEX,
+
+    /**
+     * JSON 경로 값 비교 (예: $.status == UP, 기대값이 없으면 존재 여부만 확인)
+     */
+    JSON_PATH
+}
@@ -0,0 +1,21 @@
+package com.hoooon22.conflux_backend.domain;
+
+/**
+ * Health Check 프로브 방식
+ */
+public enum ProbeMode {
+    /**
+     * HEAD 요청으로 상태 코드만 확인 (본문 없음)
+     */
+    HEAD,
+
+    /**
+     * 설정된 메서드로 요청하고 응답 헤더까지만 읽은 뒤 본문은 받지 않음 (연결은 재사용되지 않음)
+     */
+    STATUS_ONLY,
+
+    /**
+     * 본문을 스트리밍으로 읽되 최대 maxBodyBytes까지만 읽고 버림 (기본값, 내용 검사 시 앞부분만 보관)
+     */
+    BODY
+}
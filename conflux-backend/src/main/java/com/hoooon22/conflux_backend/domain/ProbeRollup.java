@@ -0,0 +1,90 @@
+package com.hoooon22.conflux_backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 프로브 이력 롤업 엔티티 (1분/1시간/1일 단위 집계)
+ * 샘플 수, 성공 수, 응답 시간 합계/최댓값과 응답 시간 히스토그램을 보관합니다.
+ */
+@Entity
+@Table(name = "probe_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_probe_rollups_bucket",
+                columnNames = {"healthCheckId", "resolution", "bucketStart"}),
+        indexes = @Index(name = "idx_probe_rollups_resolution_bucket", columnList = "resolution, bucketStart"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProbeRollup {
+
+    /**
+     * 고유 ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Health Check ID
+     */
+    @Column(nullable = false)
+    private Long healthCheckId;
+
+    /**
+     * 롤업 단위 (MINUTE, HOUR, DAY)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private RollupResolution resolution;
+
+    /**
+     * 구간 시작 시각 (epoch ms)
+     */
+    @Column(nullable = false)
+    private Long bucketStart;
+
+    /**
+     * 샘플 수
+     */
+    @Column(nullable = false)
+    private Long sampleCount;
+
+    /**
+     * 성공(2xx) 샘플 수
+     */
+    @Column(nullable = false)
+    private Long successCount;
+
+    /**
+     * 응답 시간 합계 (ms)
+     */
+    @Column(nullable = false)
+    private Long latencySum;
+
+    /**
+     * 최대 응답 시간 (ms)
+     */
+    @Column(nullable = false)
+    private Long latencyMax;
+
+    /**
+     * 응답 시간 히스토그램 (LatencyHistogram 인코딩)
+     */
+    @Column(nullable = false, length = 2048)
+    private byte[] histogram;
+}
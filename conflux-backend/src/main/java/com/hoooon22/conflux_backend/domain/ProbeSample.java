@@ -0,0 +1,19 @@
+package com.hoooon22.conflux_backend.domain;
+
+/**
+ * 프로브 이력 샘플 1건 (시계열 저장 단위)
+ *
+ * @param timestamp     프로브 시작 시각 (epoch ms)
+ * @param statusCode    HTTP 상태 코드 (응답을 받지 못했으면 0)
+ * @param latencyMillis 응답 시간 (ms)
+ * @param errorClass    실패 원인 예외 이름 (성공이면 null)
+ */
+public record ProbeSample(long timestamp,
+                          int statusCode,
+                          long latencyMillis,
+                          String errorClass) {
+
+    public boolean isSuccess() {
+        return errorClass == null && (statusCode >= 200 && statusCode < 300 || statusCode == 304);
+    }
+}
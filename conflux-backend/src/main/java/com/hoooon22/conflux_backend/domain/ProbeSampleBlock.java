@@ -0,0 +1,73 @@
+package com.hoooon22.conflux_backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 프로브 원본 샘플 블록 엔티티
+ * 한 Health Check의 연속된 샘플들을 ProbeSampleCodec으로 압축해 한 행에 저장합니다.
+ */
+@Entity
+@Table(name = "probe_sample_blocks", indexes = {
+        @Index(name = "idx_probe_blocks_check_end", columnList = "healthCheckId, endTime"),
+        @Index(name = "idx_probe_blocks_end", columnList = "endTime")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProbeSampleBlock {
+
+    /**
+     * 블록 최대 크기 (byte)
+     */
+    public static final int MAX_DATA_LENGTH = 65_536;
+
+    /**
+     * 고유 ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Health Check ID
+     */
+    @Column(nullable = false)
+    private Long healthCheckId;
+
+    /**
+     * 첫 샘플 시각 (epoch ms)
+     */
+    @Column(nullable = false)
+    private Long startTime;
+
+    /**
+     * 마지막 샘플 시각 (epoch ms)
+     */
+    @Column(nullable = false)
+    private Long endTime;
+
+    /**
+     * 샘플 수
+     */
+    @Column(nullable = false)
+    private Integer sampleCount;
+
+    /**
+     * 인코딩된 샘플 (VARBINARY)
+     */
+    @Column(nullable = false, length = MAX_DATA_LENGTH)
+    private byte[] data;
+}
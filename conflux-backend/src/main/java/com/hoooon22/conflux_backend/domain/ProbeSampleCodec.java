@@ -0,0 +1,94 @@
+package com.hoooon22.conflux_backend.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로브 샘플 블록 인코더/디코더
+ *
+ * 샘플 N개를 하나의 byte[]로 묶어 저장합니다. (행 하나에 샘플 하나 대신)
+ * - 시각: delta-of-delta (일정 간격이면 샘플당 1바이트)
+ * - 상태 코드: 직전 샘플과의 차이 (대부분 0)
+ * - 응답 시간: varint
+ * - 오류 이름: 블록 헤더의 사전 인덱스 (0 = 오류 없음)
+ */
+public final class ProbeSampleCodec {
+
+    private static final byte VERSION = 1;
+
+    private ProbeSampleCodec() {
+    }
+
+    public static byte[] encode(List<ProbeSample> samples) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int dictionaryBytes = 0;
+        for (ProbeSample sample : samples) {
+            if (sample.errorClass() != null && !dictionary.containsKey(sample.errorClass())) {
+                dictionary.put(sample.errorClass(), dictionary.size() + 1);
+                dictionaryBytes += sample.errorClass().getBytes(StandardCharsets.UTF_8).length + 5;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(16 + dictionaryBytes + samples.size() * 40);
+        buffer.put(VERSION);
+        Varint.writeUnsigned(buffer, samples.size());
+        Varint.writeUnsigned(buffer, dictionary.size());
+        for (String errorClass : dictionary.keySet()) {
+            byte[] name = errorClass.getBytes(StandardCharsets.UTF_8);
+            Varint.writeUnsigned(buffer, name.length);
+            buffer.put(name);
+        }
+
+        long previousTimestamp = 0;
+        long previousDelta = 0;
+        int previousStatus = 0;
+        for (ProbeSample sample : samples) {
+            long delta = sample.timestamp() - previousTimestamp;
+            Varint.writeSigned(buffer, delta - previousDelta);
+            Varint.writeSigned(buffer, sample.statusCode() - previousStatus);
+            Varint.writeUnsigned(buffer, Math.max(0, sample.latencyMillis()));
+            Varint.writeUnsigned(buffer, sample.errorClass() == null ? 0 : dictionary.get(sample.errorClass()));
+            previousTimestamp = sample.timestamp();
+            previousDelta = delta;
+            previousStatus = sample.statusCode();
+        }
+
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    public static List<ProbeSample> decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported probe block version: " + version);
+        }
+        int count = (int) Varint.readUnsigned(buffer);
+        int dictionarySize = (int) Varint.readUnsigned(buffer);
+        String[] dictionary = new String[dictionarySize + 1];
+        for (int i = 1; i <= dictionarySize; i++) {
+            byte[] name = new byte[(int) Varint.readUnsigned(buffer)];
+            buffer.get(name);
+            dictionary[i] = new String(name, StandardCharsets.UTF_8);
+        }
+
+        List<ProbeSample> samples = new ArrayList<>(count);
+        long timestamp = 0;
+        long delta = 0;
+        int status = 0;
+        for (int i = 0; i < count; i++) {
+            delta += Varint.readSigned(buffer);
+            timestamp += delta;
+            status += (int) Varint.readSigned(buffer);
+            long latency = Varint.readUnsigned(buffer);
+            int errorIndex = (int) Varint.readUnsigned(buffer);
+            samples.add(new ProbeSample(timestamp, status, latency, dictionary[errorIndex]));
+        }
+        return samples;
+    }
+}
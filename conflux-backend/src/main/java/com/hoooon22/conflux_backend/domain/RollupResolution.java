@@ -0,0 +1,27 @@
+package com.hoooon22.conflux_backend.domain;
+
+/**
+ * 프로브 이력 롤업 단위
+ */
+public enum RollupResolution {
+    MINUTE(60_000L),
+    HOUR(3_600_000L),
+    DAY(86_400_000L);
+
+    private final long millis;
+
+    RollupResolution(long millis) {
+        this.millis = millis;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * 시각이 속한 구간의 시작 시각 (epoch ms, UTC 기준 정렬)
+     */
+    public long bucketStart(long epochMillis) {
+        return Math.floorDiv(epochMillis, millis) * millis;
+    }
+}
@@ -0,0 +1,48 @@
+package com.hoooon22.conflux_backend.domain;
+
+import java.nio.ByteBuffer;
+
+/**
+ * LEB128 가변 길이 정수 인코딩 (작은 값일수록 적은 바이트)
+ */
+public final class Varint {
+
+    private Varint() {
+    }
+
+    public static void writeUnsigned(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static long readUnsigned(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+        }
+    }
+
+    /**
+     * 부호 있는 값은 zigzag 변환으로 절댓값이 작은 음수도 짧게 저장합니다.
+     */
+    public static void writeSigned(ByteBuffer buffer, long value) {
+        writeUnsigned(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    public static long readSigned(ByteBuffer buffer) {
+        long raw = readUnsigned(buffer);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.hoooon22.conflux_backend.domain.DispatchChannelType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 발송 설정 (conflux.dispatch.routes-file)
+ *
+ * 새 알림마다 rules를 위에서부터 모두 확인해, 맞는 규칙의 채널을 합친 곳으로 보냅니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchRoutes {
+
+    @Builder.Default
+    private List<Channel> channels = new ArrayList<>();
+
+    @Builder.Default
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 발송 채널
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Channel {
+
+        /**
+         * 채널 이름 (규칙과 아웃박스에서 참조, 최대 100자)
+         */
+        private String name;
+
+        /**
+         * 채널 종류 (WEBHOOK, SLACK)
+         */
+        private DispatchChannelType type;
+
+        /**
+         * 보낼 URL (Slack이면 Incoming Webhook URL)
+         */
+        private String url;
+
+        /**
+         * 초당 요청 수 (토큰 버킷 충전 속도)
+         */
+        @Builder.Default
+        private double ratePerSecond = 1;
+
+        /**
+         * 한 번에 몰아서 보낼 수 있는 요청 수 (토큰 버킷 크기)
+         */
+        @Builder.Default
+        private int burst = 5;
+
+        /**
+         * 요청 하나에 담는 최대 알림 수
+         */
+        @Builder.Default
+        private int batchSize = 50;
+
+        /**
+         * 가장 오래된 대기 알림이 이만큼 기다렸거나 batchSize만큼 모이면 보냄 (ms, 다이제스트)
+         */
+        @Builder.Default
+        private long lingerMs = 1000;
+    }
+
+    /**
+     * 라우팅 규칙 (조건이 비어 있으면 모든 알림에 해당)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+
+        /**
+         * 알림 소스 (예: "GitHub", "HealthCheck")
+         */
+        @Builder.Default
+        private List<String> sources = new ArrayList<>();
+
+        /**
+         * 제목에 단어로 들어 있어야 하는 상태 (대소문자 무시, 예: "DOWN", "failure")
+         */
+        @Builder.Default
+        private List<String> statuses = new ArrayList<>();
+
+        /**
+         * 보낼 채널 이름
+         */
+        @Builder.Default
+        private List<String> channels = new ArrayList<>();
+    }
+}
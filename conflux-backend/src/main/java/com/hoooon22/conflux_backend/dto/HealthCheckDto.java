@@ -1,5 +1,8 @@
 package com.hoooon22.conflux_backend.dto;
 
+import com.hoooon22.conflux_backend.domain.ProbeAssertionType;
+import com.hoooon22.conflux_backend.domain.ProbeMode;
+
 import lombok.Builder;
 import lombok.Data;
 
@@ -32,8 +35,53 @@ public class HealthCheckDto {
      */
     private Integer intervalSeconds;
 
+    /**
+     * 연결 타임아웃 (ms)
+     */
+    private Integer connectTimeoutMs;
+
+    /**
+     * 응답 타임아웃 (ms)
+     */
+    private Integer readTimeoutMs;
+
+    /**
+     * 프로브 방식 (HEAD, STATUS_ONLY, BODY)
+     */
+    private ProbeMode probeMode;
+
+    /**
+     * 본문을 읽는 최대 크기 (byte)
+     */
+    private Integer maxBodyBytes;
+
+    /**
+     * 본문 검사 방식 (CONTAINS, REGEX, JSON_PATH)
+     */
+    private ProbeAssertionType assertionType;
+
+    /**
+     * 검사식
+     */
+    private String assertionExpression;
+
+    /**
+     * JSON_PATH 기대값
+     */
+    private String assertionExpected;
+
+    /**
+     * 조건부 요청 사용 여부 (ETag/Last-Modified)
+     */
+    private Boolean conditional;
+
     /**
      * 활성화 여부
      */
     private Boolean enabled;
+
+    /**
+     * 현재 상태 (UNKNOWN, UP, DEGRADED, DOWN, 조회 전용)
+     */
+    private String state;
 }
@@ -0,0 +1,61 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Health Check 구간 통계 (가용률, 응답 시간 분위수)
+ */
+@Data
+@Builder
+public class HealthCheckStatsDto {
+
+    /**
+     * Health Check ID
+     */
+    private Long healthCheckId;
+
+    /**
+     * 구간 시작 (포함)
+     */
+    private LocalDateTime from;
+
+    /**
+     * 구간 끝 (미포함)
+     */
+    private LocalDateTime to;
+
+    /**
+     * 샘플 수
+     */
+    private long sampleCount;
+
+    /**
+     * 성공(2xx) 샘플 수
+     */
+    private long successCount;
+
+    /**
+     * 가용률 (%, 샘플이 없으면 null)
+     */
+    private Double uptimePercent;
+
+    /**
+     * 평균 응답 시간 (ms)
+     */
+    private long avgLatencyMillis;
+
+    /**
+     * 응답 시간 분위수 (ms, 히스토그램 근사값)
+     */
+    private long p50LatencyMillis;
+    private long p95LatencyMillis;
+    private long p99LatencyMillis;
+
+    /**
+     * 최대 응답 시간 (ms)
+     */
+    private long maxLatencyMillis;
+}
@@ -0,0 +1,36 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 반영 단위: 같은 지문으로 합쳐진 알림
+ *
+ * @param notification 가장 마지막에 들어온 알림 (timestamp 등은 이 값을 사용)
+ * @param fingerprint  중복 판별용 지문 (내용 지문, 묶음 알림이면 묶음 지문)
+ * @param occurrences  윈도우 안에서 들어온 횟수 (count 증가량)
+ * @param groupEvents  묶음 알림이면 합쳐진 이벤트 전부 (들어온 순서, 단계 이력에 남김), 아니면 빈 목록
+ */
+public record IngestEntry(NotificationDto notification, String fingerprint, int occurrences,
+                          List<NotificationDto> groupEvents) {
+
+    public IngestEntry(NotificationDto notification, String fingerprint, int occurrences) {
+        this(notification, fingerprint, occurrences, List.of());
+    }
+
+    public boolean grouped() {
+        return !groupEvents.isEmpty();
+    }
+
+    /**
+     * 같은 지문으로 나중에 들어온 항목을 합칩니다.
+     */
+    public IngestEntry merge(IngestEntry later) {
+        List<NotificationDto> events = groupEvents;
+        if (later.grouped()) {
+            events = new ArrayList<>(groupEvents);
+            events.addAll(later.groupEvents());
+        }
+        return new IngestEntry(later.notification(), fingerprint, occurrences + later.occurrences(), events);
+    }
+}
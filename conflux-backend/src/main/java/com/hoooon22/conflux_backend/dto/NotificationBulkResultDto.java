@@ -0,0 +1,21 @@
+package com.hoooon22.conflux_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 읽음/삭제 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBulkResultDto {
+
+    /**
+     * 변경(삭제)된 알림 수
+     */
+    private int affected;
+}
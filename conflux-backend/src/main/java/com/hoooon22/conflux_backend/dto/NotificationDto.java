@@ -1,6 +1,7 @@
 package com.hoooon22.conflux_backend.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import lombok.Builder;
 import lombok.Data;
@@ -50,7 +51,17 @@ public class NotificationDto {
     private String status;
 
     /**
-     * 중복 알림 카운트 (같은 알림이 여러 번 온 횟수)
+     * 중복 알림 카운트 (같은 알림이 여러 번 온 횟수, 묶음 알림이면 합쳐진 이벤트 수)
      */
     private Integer count;
+
+    /**
+     * 이벤트 묶음 키 (웹훅 매핑의 groupKey, 예: "org/repo/Deploy@main", 묶지 않는 알림은 null)
+     */
+    private String groupKey;
+
+    /**
+     * 묶음 알림의 최근 단계 이력 (오래된 것부터, 피드 조회에서만 채움)
+     */
+    private List<NotificationTimelineEntry> timeline;
 }
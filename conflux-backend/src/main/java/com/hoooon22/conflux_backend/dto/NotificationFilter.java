@@ -0,0 +1,57 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 알림 피드 조회 조건 (null인 조건은 적용하지 않음)
+ */
+@Data
+@Builder
+public class NotificationFilter {
+
+    /**
+     * 알림 ID 목록
+     */
+    private List<Long> ids;
+
+    /**
+     * 알림 소스 목록 (예: ["GitHub", "HealthCheck"])
+     */
+    private List<String> sources;
+
+    /**
+     * 알림 읽음 상태 (UNREAD, READ)
+     */
+    private String status;
+
+    /**
+     * 관련 리포지토리
+     */
+    private String repository;
+
+    /**
+     * 조회 시작 시간 (포함)
+     */
+    private LocalDateTime from;
+
+    /**
+     * 조회 종료 시간 (미포함)
+     */
+    private LocalDateTime to;
+
+    public static NotificationFilter none() {
+        return NotificationFilter.builder().build();
+    }
+
+    /**
+     * 조건이 하나라도 있는지 (전체 삭제 방지용)
+     */
+    public boolean hasCriteria() {
+        return (ids != null && !ids.isEmpty()) || (sources != null && !sources.isEmpty())
+                || status != null || repository != null || from != null || to != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.hoooon22.conflux_backend.dto;
+
+/**
+ * (source, repository)별 알림 수
+ *
+ * @param source     알림 소스
+ * @param repository 관련 리포지토리 (없으면 null)
+ * @param total      알림 수
+ * @param unread     읽지 않은 알림 수
+ */
+public record NotificationGroupCount(String source, String repository, long total, long unread) {
+}
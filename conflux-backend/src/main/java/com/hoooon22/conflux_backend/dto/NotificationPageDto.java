@@ -0,0 +1,21 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NotificationPageDto {
+
+    /**
+     * 최신순으로 정렬된 알림 목록
+     */
+    private List<NotificationDto> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NotificationSearchResultDto {
+
+    /**
+     * 관련도 순으로 정렬된 알림 목록 (점수가 같으면 최신순)
+     */
+    private List<NotificationDto> items;
+
+    /**
+     * 검색어와 매칭된 전체 알림 수
+     */
+    private int total;
+}
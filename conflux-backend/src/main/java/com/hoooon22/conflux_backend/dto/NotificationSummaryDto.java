@@ -0,0 +1,41 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 알림 요약 (배지/카테고리 카운트용, 카운터 테이블에서 조회)
+ */
+@Data
+@Builder
+public class NotificationSummaryDto {
+
+    /**
+     * 전체 알림 수
+     */
+    private long total;
+
+    /**
+     * 읽지 않은 알림 수
+     */
+    private long unread;
+
+    /**
+     * 소스별 알림 수 (예: "GitHub" → {total, unread})
+     */
+    private Map<String, Counts> sources;
+
+    /**
+     * 리포지토리별 알림 수 (리포지토리가 없는 알림은 제외)
+     */
+    private Map<String, Counts> repositories;
+
+    public record Counts(long total, long unread) {
+
+        public Counts plus(Counts other) {
+            return new Counts(total + other.total, unread + other.unread);
+        }
+    }
+}
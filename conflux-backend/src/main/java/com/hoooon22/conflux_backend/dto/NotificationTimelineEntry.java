@@ -0,0 +1,14 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 묶음 알림에 합쳐진 이벤트 하나 (단계 이력)
+ *
+ * @param timestamp 이벤트 시간
+ * @param title     이벤트 제목 (예: "🚀 Deploy - in_progress")
+ * @param message   이벤트 메시지
+ * @param sender    발신자
+ */
+public record NotificationTimelineEntry(LocalDateTime timestamp, String title, String message, String sender) {
+}
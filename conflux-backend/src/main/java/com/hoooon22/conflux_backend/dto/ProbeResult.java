@@ -0,0 +1,32 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Health Check 프로브 1회 결과
+ *
+ * @param healthCheckId Health Check ID
+ * @param timestamp     프로브 시작 시간
+ * @param statusCode    HTTP 상태 코드 (응답을 받지 못했으면 0)
+ * @param latencyMillis 응답 헤더까지 걸린 시간 (ms)
+ * @param errorClass    실패 원인 이름 (예: "HttpTimeoutException", 본문 검사 실패면 "AssertionFailed", 성공이면 null)
+ * @param errorMessage  실패 메시지 (성공이면 null)
+ */
+public record ProbeResult(Long healthCheckId,
+                          LocalDateTime timestamp,
+                          int statusCode,
+                          long latencyMillis,
+                          String errorClass,
+                          String errorMessage) {
+
+    public boolean hasResponse() {
+        return statusCode > 0;
+    }
+
+    /**
+     * 2xx 또는 조건부 요청의 304(변경 없음)이고 본문 검사도 통과한 경우
+     */
+    public boolean isSuccess() {
+        return errorClass == null && (statusCode >= 200 && statusCode < 300 || statusCode == 304);
+    }
+}
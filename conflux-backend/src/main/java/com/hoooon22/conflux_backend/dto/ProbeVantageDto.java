@@ -0,0 +1,17 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로브 출처(에이전트) 현황
+ *
+ * @param name     출처 이름 (에이전트 ID)
+ * @param lastSeen 마지막으로 배정 목록을 가져가거나 결과를 보낸 시각
+ * @param results  받은 결과 수
+ * @param live     quorum window 안에 결과를 보냈는지 (투표에 참여 중)
+ */
+public record ProbeVantageDto(String name,
+                              LocalDateTime lastSeen,
+                              long results,
+                              boolean live) {
+}
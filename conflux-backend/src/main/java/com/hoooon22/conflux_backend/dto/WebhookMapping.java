@@ -0,0 +1,63 @@
+package com.hoooon22.conflux_backend.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 선언형 웹훅 매핑 설정 (webhook-mappings.json의 항목 하나)
+ *
+ * 각 필드는 템플릿입니다. ${/json/pointer}는 페이로드 값으로 바뀌고,
+ * ${/a|/b:기본값}은 /a, /b 중 처음으로 비어 있지 않은 값을, 둘 다 없으면 기본값을 씁니다.
+ * 템플릿이 없는 필드는 null로 저장됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookMapping {
+
+    /**
+     * 알림 소스 (예: "GitHub", "Jira", "Sentry")
+     */
+    private String source;
+
+    /**
+     * 알림 제목 템플릿
+     */
+    private String title;
+
+    /**
+     * 알림 메시지 템플릿
+     */
+    private String message;
+
+    /**
+     * 리포지토리 템플릿
+     */
+    private String repository;
+
+    /**
+     * 발신자 템플릿
+     */
+    private String sender;
+
+    /**
+     * 상태 템플릿 (예: "success", "${/conclusion}")
+     */
+    private String status;
+
+    /**
+     * 이벤트 묶음 키 템플릿 (예: "${/repository}/${/workflow}@${/branch}")
+     * 있으면 같은 키의 이벤트를 알림 한 행으로 묶습니다. (NotificationCorrelator)
+     */
+    private String groupKey;
+
+    /**
+     * 상태 값 변환표 (렌더링된 status → 저장할 값, "*"는 그 밖의 모든 값)
+     */
+    private Map<String, String> statusMap;
+}
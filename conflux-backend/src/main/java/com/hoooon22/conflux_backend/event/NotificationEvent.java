@@ -0,0 +1,32 @@
+package com.hoooon22.conflux_backend.event;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+
+/**
+ * NotificationService가 커밋하는 알림 변경 이벤트
+ *
+ * @param type         변경 종류
+ * @param id           대상 알림 ID (CLEARED, BULK_*의 경우 null)
+ * @param notification 변경 후 알림 (DELETED, CLEARED, BULK_*의 경우 null)
+ * @param criteria     일괄 변경 조건 (BULK_*의 경우에만)
+ */
+public record NotificationEvent(NotificationEventType type, Long id, NotificationDto notification,
+                                NotificationFilter criteria) {
+
+    public static NotificationEvent of(NotificationEventType type, NotificationDto notification) {
+        return new NotificationEvent(type, notification.getId(), notification, null);
+    }
+
+    public static NotificationEvent deleted(Long id) {
+        return new NotificationEvent(NotificationEventType.DELETED, id, null, null);
+    }
+
+    public static NotificationEvent cleared() {
+        return new NotificationEvent(NotificationEventType.CLEARED, null, null, null);
+    }
+
+    public static NotificationEvent bulk(NotificationEventType type, NotificationFilter criteria) {
+        return new NotificationEvent(type, null, null, criteria);
+    }
+}
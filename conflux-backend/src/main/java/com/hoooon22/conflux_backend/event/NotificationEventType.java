@@ -0,0 +1,48 @@
+package com.hoooon22.conflux_backend.event;
+
+/**
+ * 알림 변경 이벤트 종류 (SSE 이벤트 이름으로도 사용)
+ */
+public enum NotificationEventType {
+    /**
+     * 새 알림 저장
+     */
+    CREATED,
+
+    /**
+     * 중복 알림으로 카운트/시간 갱신
+     */
+    UPDATED,
+
+    /**
+     * 읽음 처리
+     */
+    READ,
+
+    /**
+     * 단건 삭제
+     */
+    DELETED,
+
+    /**
+     * 전체 삭제
+     */
+    CLEARED,
+
+    /**
+     * 조건에 맞는 알림 일괄 읽음 처리 (페이로드: 조건)
+     */
+    BULK_READ,
+
+    /**
+     * 조건에 맞는 알림 일괄 삭제 (페이로드: 조건)
+     */
+    BULK_DELETED;
+
+    /**
+     * SSE event 필드에 쓰는 이름 (예: "created")
+     */
+    public String eventName() {
+        return name().toLowerCase();
+    }
+}
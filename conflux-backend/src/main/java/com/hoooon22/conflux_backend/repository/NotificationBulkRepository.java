@@ -0,0 +1,38 @@
+package com.hoooon22.conflux_backend.repository;
+
+import java.util.List;
+
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+
+/**
+ * 조건에 맞는 알림을 한 번의 UPDATE/DELETE 문으로 처리하는 일괄 작업 (엔티티를 읽어오지 않음)
+ */
+public interface NotificationBulkRepository {
+
+    /**
+     * 조건에 맞는 알림 중 한 (source, repository) 묶음의 상태를 변경합니다. (이미 같은 상태인 행은 건드리지 않음)
+     * 변경된 행 수가 곧 그 묶음의 카운터 증감분입니다. (집계와 UPDATE 사이에 바뀐 행으로 카운터가 어긋나지 않음)
+     *
+     * @param repository null이면 리포지토리가 없는 알림
+     * @return 변경된 행 수
+     */
+    int updateStatus(NotificationFilter filter, String source, String repository, NotificationStatus status);
+
+    /**
+     * 조건에 맞는 알림 중 한 (source, repository) 묶음에서 status인 알림을 삭제합니다.
+     * 삭제된 행 수가 곧 그 묶음의 카운터 증감분입니다. (집계와 DELETE 사이에 바뀐 행으로 카운터가 어긋나지 않음)
+     *
+     * @param repository null이면 리포지토리가 없는 알림
+     * @return 삭제된 행 수
+     */
+    int delete(NotificationFilter filter, String source, String repository, NotificationStatus status);
+
+    /**
+     * 조건에 맞는 알림 수를 (source, repository)별로 집계합니다. (일괄 변경 전 카운터 증감분 계산용)
+     *
+     * @param status null이 아니면 이 상태인 알림만 집계
+     */
+    List<NotificationGroupCount> countGroups(NotificationFilter filter, NotificationStatus status);
+}
@@ -0,0 +1,92 @@
+package com.hoooon22.conflux_backend.repository;
+
+import java.util.List;
+
+import com.hoooon22.conflux_backend.domain.Notification;
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * NotificationBulkRepository 구현 (Criteria UPDATE/DELETE/집계)
+ * 영속성 컨텍스트에 남은 엔티티가 DB와 어긋나지 않도록 실행 전에 flush, 실행 후에 clear 합니다.
+ */
+class NotificationBulkRepositoryImpl implements NotificationBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateStatus(NotificationFilter filter, String source, String repository, NotificationStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Notification> update = cb.createCriteriaUpdate(Notification.class);
+        Root<Notification> root = update.from(Notification.class);
+
+        List<Predicate> predicates = NotificationSpecifications.filter(filter, root, cb);
+        predicates.add(cb.equal(root.get("source"), source));
+        predicates.add(repository(root, cb, repository));
+        predicates.add(cb.notEqual(root.get("status"), status));
+        update.set(root.get("status"), status).where(predicates.toArray(new Predicate[0]));
+
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public int delete(NotificationFilter filter, String source, String repository, NotificationStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Notification> delete = cb.createCriteriaDelete(Notification.class);
+        Root<Notification> root = delete.from(Notification.class);
+
+        List<Predicate> predicates = NotificationSpecifications.filter(filter, root, cb);
+        predicates.add(cb.equal(root.get("source"), source));
+        predicates.add(repository(root, cb, repository));
+        predicates.add(cb.equal(root.get("status"), status));
+        delete.where(predicates.toArray(new Predicate[0]));
+
+        entityManager.flush();
+        int deleted = entityManager.createQuery(delete).executeUpdate();
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    public List<NotificationGroupCount> countGroups(NotificationFilter filter, NotificationStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Notification> root = query.from(Notification.class);
+
+        List<Predicate> predicates = NotificationSpecifications.filter(filter, root, cb);
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), status));
+        }
+        Expression<Long> unread = cb.sum(cb.<Long>selectCase()
+                .when(cb.equal(root.get("status"), NotificationStatus.UNREAD), 1L)
+                .otherwise(0L));
+        query.multiselect(root.get("source"), root.get("repository"), cb.count(root), unread)
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(root.get("source"), root.get("repository"));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> new NotificationGroupCount(row.get(0, String.class), row.get(1, String.class),
+                        row.get(2, Long.class), row.get(3, Long.class)))
+                .toList();
+    }
+
+    private static Predicate repository(Root<Notification> root, CriteriaBuilder cb, String repository) {
+        return repository != null ? cb.equal(root.get("repository"), repository) : cb.isNull(root.get("repository"));
+    }
+}
@@ -1,18 +1,32 @@
 package com.hoooon22.conflux_backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.hoooon22.conflux_backend.domain.Notification;
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+
+import jakarta.persistence.LockModeType;
 
 /**
  * 알림 Repository
+ * 피드 조회(필터 + keyset 페이지네이션)는 NotificationSpecifications와 함께 사용합니다.
+ * 조건 기반 일괄 읽음/삭제는 NotificationBulkRepository를 사용합니다.
  */
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>,
+        JpaSpecificationExecutor<Notification>, NotificationBulkRepository {
 
     /**
      * 모든 알림을 최신순으로 조회
@@ -20,8 +34,41 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findAllByOrderByTimestampDesc();
 
     /**
-     * 같은 source, title, message를 가진 최신 알림 찾기 (중복 체크용)
+     * 지문으로 알림 ID 찾기 (중복 체크용, fingerprint 유니크 인덱스 사용)
+     */
+    @Query("select n.id from Notification n where n.fingerprint = :fingerprint")
+    Optional<Long> findIdByFingerprint(@Param("fingerprint") String fingerprint);
+
+    /**
+     * 중복 알림 반영: 카운트 증가 + 시간 갱신 + 읽지 않음 상태로 (PK 기준 단일 UPDATE)
+     * 제목/메시지/발신자는 null이 아닐 때만 바꿉니다. (묶음 알림의 최신 이벤트)
+     * 행이 previous 상태일 때만 갱신하므로, 갱신 여부로 이전 상태(카운터 증감분)를 알 수 있습니다.
+     *
+     * @return 갱신된 행 수 (행이 삭제되었거나 previous 상태가 아니면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.count = n.count + :delta, n.timestamp = :timestamp, n.status = :status, "
+            + "n.title = coalesce(:title, n.title), n.message = coalesce(:message, n.message), "
+            + "n.sender = coalesce(:sender, n.sender) where n.id = :id and n.status = :previous")
+    int incrementCount(@Param("id") Long id,
+                       @Param("previous") NotificationStatus previous,
+                       @Param("delta") int delta,
+                       @Param("timestamp") LocalDateTime timestamp,
+                       @Param("status") NotificationStatus status,
+                       @Param("title") String title,
+                       @Param("message") String message,
+                       @Param("sender") String sender);
+
+    /**
+     * 알림을 행 잠금(SELECT ... FOR UPDATE)과 함께 조회 (이전 상태에 따라 카운터를 갱신할 때)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select n from Notification n where n.id = :id")
+    Optional<Notification> findForUpdate(@Param("id") Long id);
+
+    /**
+     * 기준 시각 이전의 알림 ID를 오래된 순으로 조회 (보관 기간 정리용, (timestamp, id) 인덱스 사용)
      */
-    Optional<Notification> findFirstBySourceAndTitleAndMessageOrderByTimestampDesc(
-            String source, String title, String message);
+    @Query("select n.id from Notification n where n.timestamp < :cutoff order by n.timestamp, n.id")
+    List<Long> findIdsOlderThan(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
@@ -0,0 +1,70 @@
+package com.hoooon22.conflux_backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.hoooon22.conflux_backend.domain.Notification;
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationCursor;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 알림 피드 조회 조건 (notifications 테이블의 (조건 컬럼, timestamp, id) 복합 인덱스를 타도록 구성)
+ */
+public final class NotificationSpecifications {
+
+    private NotificationSpecifications() {
+    }
+
+    /**
+     * 필터 조건과 keyset 커서 조건을 합친 Specification
+     * 커서가 있으면 (timestamp, id)가 커서보다 작은 행만 조회합니다.
+     */
+    public static Specification<Notification> feed(NotificationFilter filter, NotificationCursor cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = filter(filter, root, cb);
+            if (cursor != null) {
+                predicates.add(cb.or(
+                        cb.lessThan(root.get("timestamp"), cursor.timestamp()),
+                        cb.and(
+                                cb.equal(root.get("timestamp"), cursor.timestamp()),
+                                cb.lessThan(root.get("id"), cursor.id()))));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 필터 조건 (피드 조회와 일괄 UPDATE/DELETE가 같은 조건을 사용)
+     */
+    static List<Predicate> filter(NotificationFilter filter, Root<Notification> root, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getIds() != null && !filter.getIds().isEmpty()) {
+            predicates.add(root.get("id").in(filter.getIds()));
+        }
+        if (filter.getSources() != null && !filter.getSources().isEmpty()) {
+            predicates.add(root.get("source").in(filter.getSources()));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(root.get("status"), NotificationStatus.valueOf(filter.getStatus().toUpperCase())));
+        }
+        if (filter.getRepository() != null) {
+            predicates.add(cb.equal(root.get("repository"), filter.getRepository()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("timestamp"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(root.get("timestamp"), filter.getTo()));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,40 @@
+package com.hoooon22.conflux_backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hoooon22.conflux_backend.domain.ProbeRollup;
+import com.hoooon22.conflux_backend.domain.RollupResolution;
+
+/**
+ * 프로브 이력 롤업 Repository
+ */
+@Repository
+public interface ProbeRollupRepository extends JpaRepository<ProbeRollup, Long> {
+
+    /**
+     * [from, to) 구간의 롤업 조회 (구간 시작 시각순)
+     */
+    @Query("SELECT r FROM ProbeRollup r WHERE r.healthCheckId = :healthCheckId AND r.resolution = :resolution "
+            + "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<ProbeRollup> findRange(@Param("healthCheckId") Long healthCheckId,
+                                @Param("resolution") RollupResolution resolution,
+                                @Param("from") long from,
+                                @Param("to") long to);
+
+    /**
+     * 보관 기간이 지난 롤업 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProbeRollup r WHERE r.resolution = :resolution AND r.bucketStart < :cutoff")
+    int deleteOlderThan(@Param("resolution") RollupResolution resolution, @Param("cutoff") long cutoff);
+
+    @Modifying
+    @Query("DELETE FROM ProbeRollup r WHERE r.healthCheckId = :healthCheckId")
+    int deleteByHealthCheckId(@Param("healthCheckId") Long healthCheckId);
+}
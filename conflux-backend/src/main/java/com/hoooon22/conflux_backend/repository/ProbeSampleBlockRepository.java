@@ -0,0 +1,38 @@
+package com.hoooon22.conflux_backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hoooon22.conflux_backend.domain.ProbeSampleBlock;
+
+/**
+ * 프로브 샘플 블록 Repository
+ */
+@Repository
+public interface ProbeSampleBlockRepository extends JpaRepository<ProbeSampleBlock, Long> {
+
+    /**
+     * 시간 범위와 겹치는 블록 조회 (시간순)
+     */
+    @Query("SELECT b FROM ProbeSampleBlock b WHERE b.healthCheckId = :healthCheckId "
+            + "AND b.endTime >= :from AND b.startTime < :to ORDER BY b.startTime")
+    List<ProbeSampleBlock> findOverlapping(@Param("healthCheckId") Long healthCheckId,
+                                           @Param("from") long from,
+                                           @Param("to") long to);
+
+    /**
+     * 보관 기간이 지난 블록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProbeSampleBlock b WHERE b.endTime < :cutoff")
+    int deleteEndedBefore(@Param("cutoff") long cutoff);
+
+    @Modifying
+    @Query("DELETE FROM ProbeSampleBlock b WHERE b.healthCheckId = :healthCheckId")
+    int deleteByHealthCheckId(@Param("healthCheckId") Long healthCheckId);
+}
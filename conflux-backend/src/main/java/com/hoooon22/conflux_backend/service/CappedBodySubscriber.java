@@ -0,0 +1,122 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * 응답 본문을 최대 cap 바이트까지만 읽는 BodySubscriber
+ *
+ * capture가 false면 읽은 바이트를 보관하지 않고 버리므로 본문 크기와 상관없이 버퍼를 할당하지 않습니다.
+ * capture가 true면 앞부분 cap 바이트만 보관합니다. (내용 검사용)
+ * cap에 도달하면 구독을 취소해 나머지 본문을 받지 않습니다. (HTTP/1.1 연결은 닫힘)
+ * cap이 0이면 헤더만 받고 바로 취소합니다.
+ * 프로브가 시간 초과되면 abort()로 다른 스레드에서도 구독을 취소할 수 있습니다.
+ */
+final class CappedBodySubscriber implements HttpResponse.BodySubscriber<CappedBodySubscriber.BodyPrefix> {
+
+    private final int cap;
+    private final boolean capture;
+    private final CompletableFuture<BodyPrefix> result = new CompletableFuture<>();
+
+    private volatile Flow.Subscription subscription;
+    private byte[] buffer;
+    private int length;
+    private long bytesRead;
+
+    CappedBodySubscriber(int cap, boolean capture) {
+        this.cap = cap;
+        this.capture = capture;
+    }
+
+    @Override
+    public CompletionStage<BodyPrefix> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (result.isDone()) {
+            // abort()가 구독 전에 호출됨
+            subscription.cancel();
+            return;
+        }
+        if (cap <= 0) {
+            subscription.cancel();
+            result.complete(new BodyPrefix(null, 0, 0, true));
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        if (result.isDone()) {
+            return;
+        }
+        for (ByteBuffer item : items) {
+            int remaining = item.remaining();
+            if (capture && length < cap) {
+                if (buffer == null) {
+                    buffer = new byte[Math.min(cap, Math.max(remaining, 1024))];
+                }
+                int copy = Math.min(remaining, cap - length);
+                ensureCapacity(length + copy);
+                item.get(buffer, length, copy);
+                length += copy;
+            }
+            bytesRead += remaining;
+        }
+        if (bytesRead >= cap) {
+            subscription.cancel();
+            result.complete(new BodyPrefix(buffer, length, bytesRead, true));
+            return;
+        }
+        subscription.request(1);
+    }
+
+    /**
+     * 구독을 취소하고 본문 읽기를 실패로 끝냅니다. (나머지 본문을 받지 않고 연결을 닫음)
+     */
+    void abort() {
+        result.completeExceptionally(new CancellationException("Probe body aborted"));
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        result.complete(new BodyPrefix(buffer, length, bytesRead, false));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            byte[] grown = new byte[Math.min(cap, Math.max(required, buffer.length * 2))];
+            System.arraycopy(buffer, 0, grown, 0, length);
+            buffer = grown;
+        }
+    }
+
+    /**
+     * 읽은 본문 앞부분
+     *
+     * @param bytes     보관한 앞부분 (capture가 false면 null)
+     * @param length    bytes 중 유효한 길이
+     * @param bytesRead 실제로 읽은 바이트 수
+     * @param truncated cap에 도달해 나머지를 읽지 않았는지 여부
+     */
+    record BodyPrefix(byte[] bytes, int length, long bytesRead, boolean truncated) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 노드 목록에 대한 일관된 해시 링 (불변)
+ *
+ * 노드마다 가상 노드 virtualNodes개를 링(64비트 해시 공간)에 올리고, 키는 시계 방향으로 처음 만나는 가상 노드의 주인에게 갑니다.
+ * 노드가 하나 들어오거나 빠지면 그 노드와 맞닿은 구간의 키만 옮겨지므로 전체의 약 1/N만 이동합니다.
+ * 같은 노드 목록이면 어느 인스턴스에서 만들어도 같은 배치가 나옵니다. (노드 ID의 SHA-256으로 위치 결정)
+ */
+public final class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("ring needs at least one node");
+        }
+        this.nodes = nodes.stream().distinct().sorted().toList();
+        int replicas = Math.max(1, virtualNodes);
+        long[][] entries = new long[this.nodes.size() * replicas][];
+        int n = 0;
+        for (int node = 0; node < this.nodes.size(); node++) {
+            for (int replica = 0; replica < replicas; replica++) {
+                entries[n++] = new long[] {position(this.nodes.get(node) + "#" + replica), node};
+            }
+        }
+        // 위치가 겹치면 노드 순서로 (모든 인스턴스에서 같은 결과)
+        Arrays.sort(entries, (a, b) -> a[0] != b[0] ? Long.compareUnsigned(a[0], b[0]) : Long.compare(a[1], b[1]));
+        this.points = new long[entries.length];
+        this.owners = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * 키의 주인 노드
+     */
+    public String ownerOf(long key) {
+        long hash = mix(key);
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(points[mid], hash) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return nodes.get(owners[low == points.length ? 0 : low]);
+    }
+
+    /**
+     * 정수 키를 링 위에 고르게 흩뿌림 (splitmix64)
+     */
+    static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long position(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            long position = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                position = (position << 8) | (digest[i] & 0xFF);
+            }
+            return position;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
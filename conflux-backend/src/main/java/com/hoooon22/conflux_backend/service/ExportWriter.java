@@ -0,0 +1,112 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hoooon22.conflux_backend.domain.ExportFormat;
+
+/**
+ * 내보내기 행 쓰기 (한 행씩 바로 출력, 버퍼 외에는 행을 모아 두지 않음)
+ *
+ * 값은 String, Number, Boolean, null만 씁니다. NDJSON은 컬럼 이름을 필드 이름으로 쓰고,
+ * CSV는 첫 줄에 컬럼 이름을 쓰며 쉼표/따옴표/줄바꿈이 든 값만 따옴표로 감쌉니다.
+ */
+final class ExportWriter implements Closeable {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String[] columns;
+    private final Writer writer;
+    private final JsonGenerator json;
+    private long rows;
+
+    ExportWriter(ExportFormat format, OutputStream out, String... columns) throws IOException {
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == ExportFormat.NDJSON) {
+            this.json = JSON.createGenerator(writer);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } else {
+            this.json = null;
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsv(columns[i]);
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    void row(Object... values) throws IOException {
+        if (json != null) {
+            json.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                json.writeFieldName(columns[i]);
+                writeJson(values[i]);
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } else {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writeCsv(values[i].toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.close();
+        }
+        writer.close();
+    }
+
+    private void writeJson(Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Long number) {
+            json.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            json.writeNumber(number);
+        } else if (value instanceof Boolean flag) {
+            json.writeBoolean(flag);
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    private void writeCsv(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
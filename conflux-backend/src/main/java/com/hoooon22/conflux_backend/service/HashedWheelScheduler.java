@@ -0,0 +1,362 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Health Check 주기 실행용 해시 타이밍 휠 스케줄러
+ *
+ * 체크마다 ScheduledFuture를 힙 큐에 넣는 대신, 고정 크기 휠의 버킷(이중 연결 리스트)에 넣어
+ * 등록/취소를 O(1)로 처리합니다. (등록은 lock-free 큐를 거쳐 다음 tick에 반영, 취소는 표시 후 버킷 순회 시 제거)
+ * 휠은 전용 tick 스레드 하나가 돌리며, 만료된 작업은 dispatch executor로 넘깁니다.
+ *
+ * - 위상 분산: 체크 ID로부터 결정적인 위상(phase)을 계산해 실행 시각을 벽시계 기준 격자(phase + k * interval)에 맞춥니다.
+ *   같은 간격의 체크라도 ID별로 실행 시각이 흩어지고, 재시작해도 같은 위상을 유지합니다.
+ * - 지터: 격자 시각에 0 ~ jitter-ms 사이의 임의 지연을 더합니다. (격자 자체는 밀리지 않음)
+ * - 밀린 tick 처리: GC 멈춤 등으로 tick이 늦어지면 밀린 버킷을 차례로 처리하되 체크마다 한 번만 실행하고,
+ *   다음 실행은 현재 이후의 격자 시각으로 잡아 몰아서 여러 번 실행하지 않습니다.
+ * - 중복 실행 방지: 이전 실행(future)이 끝나지 않았으면 이번 차례는 건너뜁니다.
+ * - 지연 측정: 예정 시각부터 dispatch executor에서 실제로 실행되기까지의 지연을 conflux.scheduler.lag로 기록합니다.
+ */
+@Slf4j
+@Component
+public class HashedWheelScheduler {
+
+    private final long tickNanos;
+    private final int mask;
+    private final long jitterNanos;
+    private final Executor dispatchExecutor;
+    private final Bucket[] wheel;
+
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong skippedOverlaps = new AtomicLong();
+
+    /**
+     * 휠 기준 시각 (nanoTime / 같은 순간의 epoch millis)
+     */
+    private final long startNanos;
+    private final long startEpochMillis;
+
+    /**
+     * 다음에 처리할 tick 번호 (tick 스레드 전용)
+     */
+    private long tick;
+    private volatile boolean running = true;
+    private Thread worker;
+
+    /**
+     * 예정 시각 대비 실제 실행 시각 지연 (null이면 측정 안 함)
+     */
+    private final Timer lagTimer;
+
+    @Autowired
+    public HashedWheelScheduler(ThreadPoolTaskScheduler taskScheduler,
+                                MeterRegistry meterRegistry,
+                                @Value("${conflux.scheduler.tick-ms:100}") long tickMillis,
+                                @Value("${conflux.scheduler.wheel-size:512}") int wheelSize,
+                                @Value("${conflux.scheduler.jitter-ms:0}") long jitterMillis) {
+        this(taskScheduler, tickMillis, wheelSize, jitterMillis, meterRegistry);
+    }
+
+    public HashedWheelScheduler(Executor dispatchExecutor, long tickMillis, int wheelSize, long jitterMillis) {
+        this(dispatchExecutor, tickMillis, wheelSize, jitterMillis, null);
+    }
+
+    public HashedWheelScheduler(Executor dispatchExecutor, long tickMillis, int wheelSize, long jitterMillis,
+                                MeterRegistry meterRegistry) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheel-size must be a power of two: " + wheelSize);
+        }
+        this.dispatchExecutor = dispatchExecutor;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = wheelSize - 1;
+        this.jitterNanos = TimeUnit.MILLISECONDS.toNanos(jitterMillis);
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.startNanos = System.nanoTime();
+        this.startEpochMillis = System.currentTimeMillis();
+        if (meterRegistry != null) {
+            this.lagTimer = Timer.builder("conflux.scheduler.lag")
+                    .description("Delay between a health check's scheduled time and the start of its run")
+                    .serviceLevelObjectives(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100),
+                            Duration.ofMillis(250), Duration.ofSeconds(1), Duration.ofSeconds(5))
+                    .register(meterRegistry);
+            FunctionCounter.builder("conflux.scheduler.skipped", skippedOverlaps, AtomicLong::get)
+                    .description("Runs skipped because the previous run was still in progress")
+                    .register(meterRegistry);
+            meterRegistry.gauge("conflux.scheduler.pending.adds", pendingAdds, Queue::size);
+        } else {
+            this.lagTimer = null;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "health-check-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) * 10);
+        }
+    }
+
+    /**
+     * 작업을 주기 실행하도록 등록합니다. (tick 스레드가 다음 tick에 휠에 넣음)
+     *
+     * @param id             위상 계산에 쓰는 ID (Health Check ID)
+     * @param intervalMillis 실행 간격
+     * @param task           실행할 작업. 반환된 future가 끝나기 전에는 다음 차례를 건너뜁니다.
+     */
+    public Timeout schedule(long id, long intervalMillis, Supplier<CompletableFuture<?>> task) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("interval must be positive: " + intervalMillis);
+        }
+        Timeout timeout = new Timeout(id, intervalMillis, task);
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    public long getSkippedOverlaps() {
+        return skippedOverlaps.get();
+    }
+
+    /**
+     * 체크 ID로부터 결정적인 위상(0 ~ interval-1 ms)을 계산합니다. (splitmix64)
+     */
+    static long phaseMillis(long id, long intervalMillis) {
+        long z = id + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return Math.floorMod(z, intervalMillis);
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startNanos + tick * tickNanos + tickNanos;
+            long sleepNanos = deadline - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+            }
+            processAdds();
+
+            // 끝난 tick만 처리하고, 늦게 깨어났으면 밀린 tick의 버킷을 모두 처리
+            long currentTick = (System.nanoTime() - startNanos) / tickNanos;
+            while (tick < currentTick) {
+                expire(wheel[(int) (tick & mask)]);
+                tick++;
+            }
+        }
+    }
+
+    private void processAdds() {
+        Timeout timeout;
+        while ((timeout = pendingAdds.poll()) != null) {
+            if (!timeout.cancelled) {
+                timeout.deadlineNanos = nextGridDeadline(timeout, System.nanoTime());
+                place(timeout, tick);
+            }
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        List<Timeout> fired = null;
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.cancelled) {
+                bucket.remove(timeout);
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                bucket.remove(timeout);
+                dispatch(timeout);
+                if (fired == null) {
+                    fired = new ArrayList<>();
+                }
+                fired.add(timeout);
+            }
+            timeout = next;
+        }
+        if (fired != null) {
+            long now = System.nanoTime();
+            for (Timeout t : fired) {
+                t.deadlineNanos = nextGridDeadline(t, now);
+                // 지금 tick의 버킷은 이미 지났으므로 다음 tick부터 셈 (같은 버킷이면 한 바퀴 뒤)
+                place(t, tick + 1);
+            }
+        }
+    }
+
+    private void dispatch(Timeout timeout) {
+        if (!timeout.running.compareAndSet(false, true)) {
+            skippedOverlaps.incrementAndGet();
+            log.debug("⏭️ Previous run still in progress, skipping: {}", timeout.id);
+            return;
+        }
+        timeout.lastScheduledNanos = timeout.deadlineNanos;
+        try {
+            dispatchExecutor.execute(() -> runTask(timeout));
+        } catch (RuntimeException e) {
+            timeout.running.set(false);
+            log.error("❌ Failed to dispatch scheduled task {}: {}", timeout.id, e.getMessage());
+        }
+    }
+
+    private void runTask(Timeout timeout) {
+        if (lagTimer != null) {
+            lagTimer.record(System.nanoTime() - timeout.lastScheduledNanos, TimeUnit.NANOSECONDS);
+        }
+        try {
+            CompletableFuture<?> future = timeout.task.get();
+            if (future == null) {
+                timeout.running.set(false);
+            } else {
+                future.whenComplete((result, error) -> timeout.running.set(false));
+            }
+        } catch (RuntimeException e) {
+            timeout.running.set(false);
+            log.error("❌ Scheduled task {} failed: {}", timeout.id, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * now 이후의 첫 격자 시각(epoch 기준 phase + k * interval)에 지터를 더한 nanoTime 값
+     */
+    private long nextGridDeadline(Timeout timeout, long nowNanos) {
+        long nowEpochMillis = startEpochMillis + TimeUnit.NANOSECONDS.toMillis(nowNanos - startNanos);
+        long phase = phaseMillis(timeout.id, timeout.intervalMillis);
+        long k = Math.floorDiv(nowEpochMillis - phase, timeout.intervalMillis) + 1;
+        long gridEpochMillis = phase + k * timeout.intervalMillis;
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(gridEpochMillis - startEpochMillis);
+        if (jitterNanos > 0) {
+            deadline += ThreadLocalRandom.current().nextLong(jitterNanos);
+        }
+        return deadline;
+    }
+
+    /**
+     * @param nextTick 아직 처리하지 않은 첫 tick (이 tick의 버킷을 지날 때부터 남은 바퀴 수를 셈)
+     */
+    private void place(Timeout timeout, long nextTick) {
+        long targetTick = Math.max((timeout.deadlineNanos - startNanos) / tickNanos, nextTick);
+        timeout.remainingRounds = (targetTick - nextTick) / wheel.length;
+        wheel[(int) (targetTick & mask)].add(timeout);
+    }
+
+    /**
+     * 등록된 주기 작업 핸들
+     */
+    public final class Timeout {
+        private final long id;
+        private final long intervalMillis;
+        private final Supplier<CompletableFuture<?>> task;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile long lastScheduledNanos;
+
+        // tick 스레드 전용 필드
+        private long deadlineNanos;
+        private long remainingRounds;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(long id, long intervalMillis, Supplier<CompletableFuture<?>> task) {
+            this.id = id;
+            this.intervalMillis = intervalMillis;
+            this.task = task;
+        }
+
+        /**
+         * 취소 표시만 하고, 버킷에서는 tick 스레드가 해당 버킷을 지날 때 제거합니다.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * 마지막으로 실행된 차례의 예정 시각 (System.nanoTime 기준, 지연 측정용)
+         */
+        public long getLastScheduledNanos() {
+            return lastScheduledNanos;
+        }
+    }
+
+    /**
+     * 휠 버킷 (이중 연결 리스트, tick 스레드에서만 접근)
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
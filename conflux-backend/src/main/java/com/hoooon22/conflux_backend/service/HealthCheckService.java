@@ -1,22 +1,27 @@
 package com.hoooon22.conflux_backend.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import com.hoooon22.conflux_backend.domain.HealthCheck;
 import com.hoooon22.conflux_backend.dto.HealthCheckDto;
 import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
 import com.hoooon22.conflux_backend.repository.HealthCheckRepository;
 
 import jakarta.annotation.PostConstruct;
@@ -32,12 +37,28 @@ public class HealthCheckService {
     private final HealthCheckRepository healthCheckRepository;
     private final NotificationService notificationService;
     private final ThreadPoolTaskScheduler taskScheduler;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final HttpProbeExecutor probeExecutor;
+    private final HashedWheelScheduler wheelScheduler;
+    private final ProbeHistoryService probeHistoryService;
+    private final HealthStateTracker healthStateTracker;
+    private final ProbeMetrics probeMetrics;
+    private final HealthCheckShardCoordinator shardCoordinator;
+    private final ProbeQuorumTracker probeQuorum;
 
-    private final Map<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private final Map<Long, ScheduledCheck> scheduledTasks = new ConcurrentHashMap<>();
+
+    /**
+     * 프로브 시작부터 결과 처리(알림 저장)까지 진행 중인 체크 ID (샤드 반납 시 확인)
+     */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
 
     @PostConstruct
     public void initializeScheduledTasks() {
+        if (shardCoordinator.isEnabled()) {
+            // 클러스터 모드: 샤드 임대를 얻은 뒤 rebalanceShards에서 맡은 체크만 등록
+            log.info("🔄 Health Check Scheduler waiting for shard leases (node {})", shardCoordinator.getNodeId());
+            return;
+        }
         log.info("🔄 Initializing Health Check Scheduler...");
         List<HealthCheck> activeChecks = healthCheckRepository.findByEnabled(true);
         activeChecks.forEach(this::scheduleHealthCheck);
@@ -47,8 +68,63 @@ public class HealthCheckService {
     @PreDestroy
     public void shutdownScheduledTasks() {
         log.info("🛑 Shutting down Health Check Scheduler...");
-        scheduledTasks.values().forEach(task -> task.cancel(false));
+        scheduledTasks.values().forEach(scheduled -> scheduled.timeout().cancel());
         scheduledTasks.clear();
+        if (shardCoordinator.isEnabled()) {
+            // 진행 중인 프로브가 끝난 샤드부터 임대를 반납 (남은 샤드는 임대 만료 후 다른 노드가 가져감)
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!inFlight.isEmpty() && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            shardCoordinator.leave(this::isShardBusy);
+        }
+    }
+
+    /**
+     * 클러스터 모드: 샤드 임대를 갱신하고, 맡은 샤드의 체크만 스케줄에 남깁니다.
+     * 다른 노드에서 등록/수정/삭제한 체크도 여기서 반영됩니다. (heartbeat-ms 이내)
+     */
+    @Scheduled(fixedDelayString = "${conflux.cluster.heartbeat-ms:3000}")
+    public void rebalanceShards() {
+        if (!shardCoordinator.isEnabled()) {
+            return;
+        }
+        try {
+            shardCoordinator.heartbeat(this::isShardBusy);
+        } catch (RuntimeException e) {
+            // 갱신하지 못한 임대는 유효 기간이 지나면 owns()가 false가 되어 프로브가 멈춤
+            log.warn("⚠️ Health check shard heartbeat failed: {}", e.getMessage());
+        }
+        Map<Long, HealthCheck> owned = healthCheckRepository.findByEnabled(true).stream()
+                .filter(healthCheck -> shardCoordinator.owns(healthCheck.getId()))
+                .collect(Collectors.toMap(HealthCheck::getId, Function.identity()));
+        scheduledTasks.forEach((id, scheduled) -> {
+            HealthCheck healthCheck = owned.get(id);
+            if (healthCheck == null || !Objects.equals(healthCheck.getVersion(), scheduled.version())) {
+                cancelScheduledTask(id);
+            }
+            if (healthCheck == null) {
+                // 다른 노드로 넘어갔거나 삭제됨: 이 노드의 상태/메트릭은 새 주인이 다시 만듦
+                probeExecutor.forget(id);
+                healthStateTracker.remove(id);
+                probeMetrics.remove(id);
+            }
+        });
+        owned.values().stream()
+                .filter(healthCheck -> !scheduledTasks.containsKey(healthCheck.getId()))
+                .forEach(this::scheduleHealthCheck);
+    }
+
+    /**
+     * 이 노드에서 스케줄된 체크 ID
+     */
+    public Set<Long> getScheduledCheckIds() {
+        return Set.copyOf(scheduledTasks.keySet());
     }
 
     @Transactional
@@ -58,6 +134,14 @@ public class HealthCheckService {
                 .url(dto.getUrl())
                 .method(dto.getMethod())
                 .intervalSeconds(dto.getIntervalSeconds())
+                .connectTimeoutMs(dto.getConnectTimeoutMs())
+                .readTimeoutMs(dto.getReadTimeoutMs())
+                .probeMode(dto.getProbeMode())
+                .maxBodyBytes(dto.getMaxBodyBytes())
+                .assertionType(dto.getAssertionType())
+                .assertionExpression(dto.getAssertionExpression())
+                .assertionExpected(dto.getAssertionExpected())
+                .conditional(dto.getConditional())
                 .enabled(true)
                 .build();
 
@@ -76,14 +160,23 @@ public class HealthCheckService {
 
         // 기존 스케줄 취소
         cancelScheduledTask(id);
+        probeExecutor.forget(id);
 
         // 정보 업데이트
         existing.setName(dto.getName());
         existing.setUrl(dto.getUrl());
         existing.setMethod(dto.getMethod());
         existing.setIntervalSeconds(dto.getIntervalSeconds());
-
-        HealthCheck updated = healthCheckRepository.save(existing);
+        existing.setConnectTimeoutMs(dto.getConnectTimeoutMs());
+        existing.setReadTimeoutMs(dto.getReadTimeoutMs());
+        existing.setProbeMode(dto.getProbeMode());
+        existing.setMaxBodyBytes(dto.getMaxBodyBytes());
+        existing.setAssertionType(dto.getAssertionType());
+        existing.setAssertionExpression(dto.getAssertionExpression());
+        existing.setAssertionExpected(dto.getAssertionExpected());
+        existing.setConditional(dto.getConditional());
+
+        HealthCheck updated = healthCheckRepository.saveAndFlush(existing);
         log.info("✏️ Health Check updated: {}", updated.getName());
 
         // 새로운 스케줄 등록
@@ -102,6 +195,11 @@ public class HealthCheckService {
 
         cancelScheduledTask(id);
         healthCheckRepository.deleteById(id);
+        probeHistoryService.deleteHistory(id);
+        probeExecutor.forget(id);
+        healthStateTracker.remove(id);
+        probeQuorum.remove(id);
+        probeMetrics.remove(id);
         log.info("🗑️ Health Check deleted: {}", id);
     }
 
@@ -112,7 +210,36 @@ public class HealthCheckService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 프로브 에이전트가 맡을 체크 목록 (모든 출처가 모든 활성 체크를 프로브, 상태 필드는 비움)
+     */
+    @Transactional(readOnly = true)
+    public List<HealthCheckDto> getAgentAssignments(String agentId) {
+        probeQuorum.touch(agentId);
+        return healthCheckRepository.findByEnabled(true).stream()
+                .sorted(Comparator.comparing(HealthCheck::getId))
+                .map(this::entityToDto)
+                .peek(dto -> dto.setState(null))
+                .toList();
+    }
+
+    /**
+     * 프로브 에이전트가 보낸 결과 배치를 quorum에 반영합니다.
+     * 결과는 메모리에서만 집계하고, DB에는 quorum 상태가 바뀐 체크의 알림만 저장합니다.
+     */
+    public void recordAgentResults(String agentId, List<ProbeResult> results) {
+        for (ProbeResult result : results) {
+            probeQuorum.record(agentId, result).ifPresent(alert -> healthCheckRepository
+                    .findById(result.healthCheckId())
+                    .ifPresent(healthCheck -> notifyStateChange(healthCheck, result, alert)));
+        }
+    }
+
     private void scheduleHealthCheck(HealthCheck healthCheck) {
+        if (!shardCoordinator.owns(healthCheck.getId())) {
+            log.debug("⏭️ Health Check {} belongs to another node's shard", healthCheck.getName());
+            return;
+        }
         if (scheduledTasks.containsKey(healthCheck.getId())) {
             log.warn("⚠️ Health Check already scheduled: {}", healthCheck.getName());
             return;
@@ -120,37 +247,99 @@ public class HealthCheckService {
 
         long intervalMillis = healthCheck.getIntervalSeconds() * 1000L;
 
-        ScheduledFuture<?> task = taskScheduler.scheduleAtFixedRate(
-                () -> performHealthCheck(healthCheck),
-                intervalMillis
+        // 체크 ID별 위상으로 분산 실행, 이전 프로브가 끝나지 않았으면 그 차례는 건너뜀
+        HashedWheelScheduler.Timeout task = wheelScheduler.schedule(
+                healthCheck.getId(),
+                intervalMillis,
+                () -> performHealthCheck(healthCheck)
         );
 
-        scheduledTasks.put(healthCheck.getId(), task);
+        scheduledTasks.put(healthCheck.getId(), new ScheduledCheck(task, healthCheck.getVersion()));
         log.info("⏰ Health Check scheduled: {} (every {}s)", healthCheck.getName(), healthCheck.getIntervalSeconds());
     }
 
-    private void performHealthCheck(HealthCheck healthCheck) {
+    /**
+     * 프로브를 비동기로 시작만 하고 바로 반환합니다. (스케줄러 스레드가 네트워크 대기로 묶이지 않음)
+     * 결과 처리(알림 저장)는 스케줄러 풀에서 실행되며, 반환된 future는 결과 처리까지 끝나면 완료됩니다.
+     */
+    private CompletableFuture<Void> performHealthCheck(HealthCheck healthCheck) {
+        Long id = healthCheck.getId();
+        // 진행 중 표시를 먼저 하고 소유를 확인 (샤드를 내놓는 쪽은 이 표시를 보고 반납을 미룸)
+        inFlight.add(id);
+        if (!shardCoordinator.owns(id)) {
+            inFlight.remove(id);
+            return null;
+        }
         try {
-            HttpMethod method = HttpMethod.valueOf(healthCheck.getMethod().toUpperCase());
-            ResponseEntity<String> response = restTemplate.exchange(
-                    healthCheck.getUrl(),
-                    method,
-                    null,
-                    String.class
-            );
-
-            int statusCode = response.getStatusCode().value();
-
-            if (statusCode >= 200 && statusCode < 300) {
-                log.debug("✅ Health Check OK: {} - {}", healthCheck.getName(), statusCode);
-            } else {
-                log.warn("⚠️ Health Check WARNING: {} - {}", healthCheck.getName(), statusCode);
-                createHealthCheckNotification(healthCheck, "WARNING", "Status code: " + statusCode);
+            return probeExecutor.probe(healthCheck)
+                    .thenAcceptAsync(result -> handleProbeResult(healthCheck, result), taskScheduler)
+                    .whenComplete((ignored, error) -> inFlight.remove(id));
+        } catch (RuntimeException e) {
+            inFlight.remove(id);
+            throw e;
+        }
+    }
+
+    private boolean isShardBusy(int shard) {
+        return inFlight.stream().anyMatch(id -> shardCoordinator.shardOf(id) == shard);
+    }
+
+    /**
+     * 결과는 이력에 모두 기록하고, 알림은 상태가 바뀔 때만 만듭니다. (장애가 계속되는 동안에는 알림을 쓰지 않음)
+     */
+    private void handleProbeResult(HealthCheck healthCheck, ProbeResult result) {
+        probeHistoryService.record(result);
+        probeMetrics.record(result);
+        if (result.errorClass() != null) {
+            log.debug("❌ Health Check FAILED: {} - {}", healthCheck.getName(), result.errorMessage());
+        } else if (result.isSuccess()) {
+            log.debug("✅ Health Check OK: {} - {} ({}ms)", healthCheck.getName(), result.statusCode(),
+                    result.latencyMillis());
+        } else {
+            log.debug("⚠️ Health Check WARNING: {} - {}", healthCheck.getName(), result.statusCode());
+        }
+
+        if (probeQuorum.isEnabled()) {
+            // 이 서버도 출처 하나로만 투표 (local-vantage가 비어 있으면 투표하지 않음)
+            if (probeQuorum.getLocalVantage() != null) {
+                probeQuorum.record(probeQuorum.getLocalVantage(), result)
+                        .ifPresent(alert -> notifyStateChange(healthCheck, result, alert));
             }
-        } catch (Exception e) {
-            log.error("❌ Health Check FAILED: {} - {}", healthCheck.getName(), e.getMessage());
-            createHealthCheckNotification(healthCheck, "FAILED", e.getMessage());
+            return;
+        }
+        healthStateTracker.evaluate(healthCheck.getId(), result)
+                .ifPresent(alert -> notifyStateChange(healthCheck, result, alert));
+    }
+
+    private void notifyStateChange(HealthCheck healthCheck, ProbeResult result,
+                                   HealthStateTracker.HealthAlert alert) {
+        String message = switch (alert.type()) {
+            case DOWN, DEGRADED -> result.errorMessage() != null
+                    ? result.errorMessage()
+                    : "Status code: " + result.statusCode();
+            case RECOVERED -> "Recovered from " + alert.previous() + " after "
+                    + formatDuration(Duration.between(alert.since(), LocalDateTime.now()));
+            case FLAPPING -> "Alternating between success and failure, state alerts paused until stable";
+        };
+        if (probeQuorum.isEnabled() && (alert.type() == HealthStateTracker.AlertType.DOWN
+                || alert.type() == HealthStateTracker.AlertType.DEGRADED)) {
+            message = "Failing from " + String.join(", ", probeQuorum.getFailingVantages(healthCheck.getId()))
+                    + ": " + message;
+        }
+        log.warn("🔔 Health Check {}: {} ({} -> {})", alert.type(), healthCheck.getName(), alert.previous(),
+                alert.current());
+        createHealthCheckNotification(healthCheck, alert.type().name(), message);
+    }
+
+    private static String formatDuration(Duration duration) {
+        long seconds = Math.max(0, duration.getSeconds());
+        if (seconds < 60) {
+            return seconds + "s";
+        }
+        if (seconds < 3600) {
+            return (seconds / 60) + "m " + (seconds % 60) + "s";
         }
+        return (seconds / 3600) + "h " + (seconds % 3600 / 60) + "m";
     }
 
     private void createHealthCheckNotification(HealthCheck healthCheck, String status, String message) {
@@ -167,9 +356,9 @@ public class HealthCheckService {
     }
 
     private void cancelScheduledTask(Long healthCheckId) {
-        ScheduledFuture<?> task = scheduledTasks.remove(healthCheckId);
-        if (task != null) {
-            task.cancel(false);
+        ScheduledCheck scheduled = scheduledTasks.remove(healthCheckId);
+        if (scheduled != null) {
+            scheduled.timeout().cancel();
             log.info("⏹️ Health Check unscheduled: {}", healthCheckId);
         }
     }
@@ -181,7 +370,24 @@ public class HealthCheckService {
                 .url(entity.getUrl())
                 .method(entity.getMethod())
                 .intervalSeconds(entity.getIntervalSeconds())
+                .connectTimeoutMs(entity.getConnectTimeoutMs())
+                .readTimeoutMs(entity.getReadTimeoutMs())
+                .probeMode(entity.getProbeMode())
+                .maxBodyBytes(entity.getMaxBodyBytes())
+                .assertionType(entity.getAssertionType())
+                .assertionExpression(entity.getAssertionExpression())
+                .assertionExpected(entity.getAssertionExpected())
+                .conditional(entity.getConditional())
                 .enabled(entity.getEnabled())
+                .state(entity.getId() == null ? null
+                        : probeQuorum.isEnabled() ? probeQuorum.getState(entity.getId()).name()
+                        : healthStateTracker.getState(entity.getId()).name())
                 .build();
     }
+
+    /**
+     * @param version 스케줄할 때의 설정 버전 (다른 노드에서 수정되면 다시 스케줄)
+     */
+    private record ScheduledCheck(HashedWheelScheduler.Timeout timeout, Long version) {
+    }
 }
@@ -0,0 +1,277 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Health Check 샤드 소유권 (여러 인스턴스가 같은 DB를 쓸 때 체크를 나눠 맡음)
+ *
+ * 체크 ID를 고정 개수(shards)의 샤드로 나누고, 각 샤드는 DB의 임대(health_check_shard_leases)를 가진 노드 하나만 실행합니다.
+ * 노드는 heartbeat-ms마다 cluster_nodes에 생존 신호를 남기고, 살아 있는 노드 목록의 일관된 해시 링(ConsistentHashRing)으로
+ * 자기가 맡을 샤드를 정합니다. 노드가 늘거나 줄면 약 1/N의 샤드만 주인이 바뀝니다.
+ *
+ * 임대 시각은 모두 DB 시계 기준이라 노드 간 시계 차이와 무관합니다. 겹치지 않는 인계:
+ * - 임대 갱신 직전의 로컬 시각 + lease-ttl-ms - fence-margin-ms가 지나면 갱신에 실패한 노드는 스스로 새 프로브를 멈춥니다.
+ *   다른 노드는 DB 시각으로 임대가 끝나야 가져가므로, 그 사이 fence-margin-ms 동안 진행 중이던 프로브가 끝납니다.
+ *   (fence-margin-ms는 프로브 최대 소요 시간보다 커야 함)
+ * - 재배치로 내놓는 샤드는 먼저 로컬에서 실행을 멈추고, 진행 중인 프로브가 없을 때 임대를 비웁니다.
+ *
+ * conflux.cluster.enabled=false(기본값)이면 이 노드가 모든 체크를 맡습니다. shards는 모든 노드에서 같아야 합니다.
+ */
+@Slf4j
+@Component
+public class HealthCheckShardCoordinator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int shards;
+    private final int virtualNodes;
+    private final long leaseTtlMillis;
+    private final long fenceMarginMillis;
+
+    /**
+     * 현재 소유 상태 (heartbeat 스레드가 통째로 바꾸고, 프로브 스레드는 읽기만 함)
+     */
+    private volatile Ownership ownership = Ownership.NONE;
+    private ConsistentHashRing ring;
+    private boolean leaseRowsReady;
+
+    public HealthCheckShardCoordinator(JdbcTemplate jdbcTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${conflux.cluster.enabled:false}") boolean enabled,
+                                       @Value("${conflux.cluster.node-id:}") String nodeId,
+                                       @Value("${conflux.cluster.shards:128}") int shards,
+                                       @Value("${conflux.cluster.virtual-nodes:64}") int virtualNodes,
+                                       @Value("${conflux.cluster.lease-ttl-ms:15000}") long leaseTtlMillis,
+                                       @Value("${conflux.cluster.fence-margin-ms:5000}") long fenceMarginMillis) {
+        if (enabled && fenceMarginMillis >= leaseTtlMillis) {
+            throw new IllegalArgumentException("conflux.cluster.fence-margin-ms must be smaller than lease-ttl-ms");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.shards = Math.max(1, shards);
+        this.virtualNodes = virtualNodes;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.fenceMarginMillis = fenceMarginMillis;
+        if (enabled) {
+            Gauge.builder("conflux.cluster.shards.owned", this, coordinator -> coordinator.ownedShards().size())
+                    .description("Health check shards whose lease this node currently holds")
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int shardOf(long healthCheckId) {
+        return (int) Long.remainderUnsigned(ConsistentHashRing.mix(healthCheckId), shards);
+    }
+
+    /**
+     * 지금 이 노드가 체크를 실행해도 되는지 (임대가 유효하고, 내놓는 중이 아닌 샤드)
+     */
+    public boolean owns(long healthCheckId) {
+        if (!enabled) {
+            return true;
+        }
+        Ownership current = ownership;
+        int shard = shardOf(healthCheckId);
+        return current.held().contains(shard) && !current.releasing().contains(shard)
+                && System.nanoTime() - current.validUntilNanos() < 0;
+    }
+
+    /**
+     * 임대가 유효한 샤드 (내놓는 중인 샤드 제외)
+     */
+    public Set<Integer> ownedShards() {
+        Ownership current = ownership;
+        if (System.nanoTime() - current.validUntilNanos() >= 0) {
+            return Set.of();
+        }
+        Set<Integer> owned = new TreeSet<>(current.held());
+        owned.removeAll(current.releasing());
+        return owned;
+    }
+
+    /**
+     * 마지막 heartbeat 기준 살아 있는 노드
+     */
+    public synchronized List<String> members() {
+        return ring != null ? ring.nodes() : List.of();
+    }
+
+    /**
+     * 생존 신호 → 멤버 확인 → 임대 갱신 → 재배치로 빠진 샤드 반납 → 맡을 샤드 획득
+     *
+     * @param shardBusy 샤드에 진행 중인 프로브가 있는지 (있으면 반납을 다음 차례로 미룸)
+     */
+    public synchronized void heartbeat(IntPredicate shardBusy) {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long now = databaseMillis();
+        ensureLeaseRows();
+
+        if (jdbcTemplate.update("UPDATE cluster_nodes SET heartbeat_at = ? WHERE node_id = ?", now, nodeId) == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO cluster_nodes (node_id, heartbeat_at, started_at) VALUES (?, ?, ?)",
+                        nodeId, now, now);
+                log.info("🤝 Joined health check cluster as {}", nodeId);
+            } catch (DataIntegrityViolationException e) {
+                jdbcTemplate.update("UPDATE cluster_nodes SET heartbeat_at = ? WHERE node_id = ?", now, nodeId);
+            }
+        }
+        jdbcTemplate.update("DELETE FROM cluster_nodes WHERE heartbeat_at < ?", now - leaseTtlMillis * 10);
+        Set<String> live = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT node_id FROM cluster_nodes WHERE heartbeat_at >= ?", String.class, now - leaseTtlMillis));
+        live.add(nodeId);
+        if (ring == null || !ring.nodes().equals(live.stream().sorted().toList())) {
+            ring = new ConsistentHashRing(live, virtualNodes);
+            log.info("🔀 Health check cluster members: {}", ring.nodes());
+        }
+
+        // 1) 내 임대 갱신 → 실제로 가진 샤드 (임대가 끝나 다른 노드가 가져간 샤드는 빠짐)
+        long leaseUntil = now + leaseTtlMillis;
+        long validUntilNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(leaseTtlMillis - fenceMarginMillis);
+        jdbcTemplate.update("UPDATE health_check_shard_leases SET lease_until = ? WHERE owner = ?", leaseUntil, nodeId);
+        Set<Integer> held = new TreeSet<>(jdbcTemplate.queryForList(
+                "SELECT shard FROM health_check_shard_leases WHERE owner = ?", Integer.class, nodeId));
+        Set<Integer> lost = new TreeSet<>(ownership.held());
+        lost.removeAll(held);
+        if (!lost.isEmpty()) {
+            log.warn("⚠️ Lost health check shard leases: {}", lost);
+        }
+
+        // 2) 재배치로 다른 노드 몫이 된 샤드: 실행을 먼저 멈추고(releasing), 진행 중인 프로브가 없으면 반납
+        Set<Integer> releasing = new TreeSet<>();
+        for (int shard : held) {
+            if (!nodeId.equals(ring.ownerOf(shard))) {
+                releasing.add(shard);
+            }
+        }
+        ownership = new Ownership(Set.copyOf(held), Set.copyOf(releasing), validUntilNanos);
+        List<Integer> released = new ArrayList<>();
+        for (int shard : releasing) {
+            if (!shardBusy.test(shard) && jdbcTemplate.update(
+                    "UPDATE health_check_shard_leases SET owner = NULL, lease_until = 0 WHERE shard = ? AND owner = ?",
+                    shard, nodeId) > 0) {
+                released.add(shard);
+            }
+        }
+        held.removeAll(released);
+        releasing.removeAll(released);
+
+        // 3) 내 몫인데 비어 있거나 임대가 끝난 샤드 획득
+        List<Integer> acquired = new ArrayList<>();
+        for (int shard = 0; shard < shards; shard++) {
+            if (!held.contains(shard) && nodeId.equals(ring.ownerOf(shard)) && jdbcTemplate.update(
+                    "UPDATE health_check_shard_leases SET owner = ?, lease_until = ? "
+                            + "WHERE shard = ? AND (owner IS NULL OR lease_until < ?)",
+                    nodeId, leaseUntil, shard, now) > 0) {
+                acquired.add(shard);
+            }
+        }
+        held.addAll(acquired);
+        ownership = new Ownership(Set.copyOf(held), Set.copyOf(releasing), validUntilNanos);
+        if (!released.isEmpty() || !acquired.isEmpty()) {
+            log.info("🧭 Health check shards rebalanced on {}: +{} -{} (now {})", nodeId, acquired.size(),
+                    released.size(), held.size() - releasing.size());
+        }
+    }
+
+    /**
+     * 종료 시 임대를 반납하고 클러스터에서 빠집니다. 진행 중인 프로브가 남은 샤드는 임대가 끝날 때까지 둡니다.
+     */
+    public synchronized void leave(IntPredicate shardBusy) {
+        if (!enabled) {
+            return;
+        }
+        Ownership current = ownership;
+        ownership = Ownership.NONE;
+        try {
+            for (int shard : current.held()) {
+                if (!shardBusy.test(shard)) {
+                    jdbcTemplate.update("UPDATE health_check_shard_leases SET owner = NULL, lease_until = 0 "
+                            + "WHERE shard = ? AND owner = ?", shard, nodeId);
+                }
+            }
+            jdbcTemplate.update("DELETE FROM cluster_nodes WHERE node_id = ?", nodeId);
+            log.info("👋 Left health check cluster: {}", nodeId);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Failed to release health check shard leases, they expire in {}ms: {}", leaseTtlMillis,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 샤드마다 임대 행을 하나씩 만들어 둡니다. (이후 획득/반납은 조건부 UPDATE 한 문장)
+     */
+    private void ensureLeaseRows() {
+        if (leaseRowsReady) {
+            return;
+        }
+        Set<Integer> existing = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT shard FROM health_check_shard_leases", Integer.class));
+        for (int shard = 0; shard < shards; shard++) {
+            if (!existing.contains(shard)) {
+                try {
+                    jdbcTemplate.update("INSERT INTO health_check_shard_leases (shard, owner, lease_until) "
+                            + "VALUES (?, NULL, 0)", shard);
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 노드가 먼저 만듦
+                }
+            }
+        }
+        leaseRowsReady = true;
+    }
+
+    private long databaseMillis() {
+        return jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class).getTime();
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * @param held            임대를 가진 샤드
+     * @param releasing       재배치로 내놓는 중인 샤드 (실행하지 않음)
+     * @param validUntilNanos 이 시각(System.nanoTime)이 지나면 갱신 전까지 어떤 샤드도 실행하지 않음
+     */
+    private record Ownership(Set<Integer> held, Set<Integer> releasing, long validUntilNanos) {
+        static final Ownership NONE = new Ownership(Collections.emptySet(), Collections.emptySet(), System.nanoTime());
+    }
+}
@@ -0,0 +1,179 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hoooon22.conflux_backend.domain.HealthState;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+
+/**
+ * Health Check별 상태 머신 (UP / DEGRADED / DOWN)
+ *
+ * 프로브 결과마다 알림을 만드는 대신 상태가 바뀔 때만 알림(HealthAlert)을 반환합니다.
+ * - 연속 실패가 degraded-threshold 이상이면 DEGRADED, down-threshold 이상이면 DOWN
+ * - DEGRADED/DOWN에서는 연속 성공이 recovery-threshold 이상이어야 UP으로 돌아옴 (히스테리시스)
+ * - 최근 flap-window개 결과 중 성공/실패가 바뀐 비율이 flap-start-ratio 이상이면 flapping으로 보고
+ *   FLAPPING 알림 한 번 후 상태 알림을 멈추고, flap-stop-ratio 아래로 내려오면 그때 상태를 다시 알립니다.
+ */
+@Component
+public class HealthStateTracker {
+
+    private final int degradedThreshold;
+    private final int downThreshold;
+    private final int recoveryThreshold;
+    private final int flapWindow;
+    private final double flapStartRatio;
+    private final double flapStopRatio;
+
+    private final Map<Long, CheckState> states = new ConcurrentHashMap<>();
+
+    public HealthStateTracker(@Value("${conflux.alerting.degraded-threshold:2}") int degradedThreshold,
+                              @Value("${conflux.alerting.down-threshold:4}") int downThreshold,
+                              @Value("${conflux.alerting.recovery-threshold:2}") int recoveryThreshold,
+                              @Value("${conflux.alerting.flap-window:20}") int flapWindow,
+                              @Value("${conflux.alerting.flap-start-ratio:0.5}") double flapStartRatio,
+                              @Value("${conflux.alerting.flap-stop-ratio:0.25}") double flapStopRatio) {
+        if (flapWindow < 2 || flapWindow > Long.SIZE) {
+            throw new IllegalArgumentException("flap-window must be between 2 and 64: " + flapWindow);
+        }
+        this.degradedThreshold = degradedThreshold;
+        this.downThreshold = downThreshold;
+        this.recoveryThreshold = recoveryThreshold;
+        this.flapWindow = flapWindow;
+        this.flapStartRatio = flapStartRatio;
+        this.flapStopRatio = flapStopRatio;
+    }
+
+    /**
+     * 프로브 결과를 반영하고, 알려야 할 상태 변화가 있으면 반환합니다.
+     */
+    public Optional<HealthAlert> evaluate(Long healthCheckId, ProbeResult result) {
+        CheckState state = states.computeIfAbsent(healthCheckId, id -> new CheckState());
+        synchronized (state) {
+            return Optional.ofNullable(state.apply(result));
+        }
+    }
+
+    public HealthState getState(Long healthCheckId) {
+        CheckState state = states.get(healthCheckId);
+        return state != null ? state.current : HealthState.UNKNOWN;
+    }
+
+    public void remove(Long healthCheckId) {
+        states.remove(healthCheckId);
+    }
+
+    /**
+     * 같은 임계값을 쓰는 빈 추적기 (프로브 출처별 상태 추적용)
+     */
+    HealthStateTracker copy() {
+        return new HealthStateTracker(degradedThreshold, downThreshold, recoveryThreshold, flapWindow, flapStartRatio,
+                flapStopRatio);
+    }
+
+    /**
+     * 알림 종류 (알림 제목에 그대로 사용)
+     */
+    public enum AlertType {
+        DEGRADED, DOWN, RECOVERED, FLAPPING
+    }
+
+    /**
+     * 상태 변화 알림
+     *
+     * @param type     알림 종류
+     * @param previous 마지막으로 알린 상태
+     * @param current  현재 상태
+     * @param since    마지막으로 알린 상태가 시작된 시각 (복구 시 장애 지속 시간 계산용)
+     */
+    public record HealthAlert(AlertType type, HealthState previous, HealthState current, LocalDateTime since) {
+    }
+
+    private final class CheckState {
+        private HealthState current = HealthState.UNKNOWN;
+        private HealthState announced = HealthState.UNKNOWN;
+        private LocalDateTime announcedSince = LocalDateTime.now();
+        private int consecutiveFailures;
+        private int consecutiveSuccesses;
+        private boolean flapping;
+
+        /**
+         * 최근 결과 비트열 (1 = 실패, 최하위 비트가 가장 최근)
+         */
+        private long history;
+        private int recorded;
+
+        private HealthAlert apply(ProbeResult result) {
+            boolean success = result.isSuccess();
+            if (success) {
+                consecutiveSuccesses++;
+                consecutiveFailures = 0;
+            } else {
+                consecutiveFailures++;
+                consecutiveSuccesses = 0;
+            }
+            history = (history << 1) | (success ? 0 : 1);
+            recorded = Math.min(recorded + 1, flapWindow);
+
+            current = nextState();
+
+            boolean wasFlapping = flapping;
+            updateFlapping();
+            if (flapping) {
+                return wasFlapping ? null : new HealthAlert(AlertType.FLAPPING, announced, current, announcedSince);
+            }
+            return announce(result.timestamp());
+        }
+
+        private HealthState nextState() {
+            if (consecutiveFailures >= downThreshold) {
+                return HealthState.DOWN;
+            }
+            if (current == HealthState.UNKNOWN || current == HealthState.UP) {
+                if (consecutiveFailures >= degradedThreshold) {
+                    return HealthState.DEGRADED;
+                }
+                return consecutiveSuccesses > 0 ? HealthState.UP : current;
+            }
+            // DEGRADED/DOWN: 충분히 연속 성공해야 UP
+            return consecutiveSuccesses >= recoveryThreshold ? HealthState.UP : current;
+        }
+
+        private void updateFlapping() {
+            if (recorded < flapWindow) {
+                return;
+            }
+            long window = flapWindow == Long.SIZE ? history : history & ((1L << flapWindow) - 1);
+            // 이웃한 결과끼리 다른 곳의 수
+            long changes = Long.bitCount((window ^ (window >>> 1)) & ((1L << (flapWindow - 1)) - 1));
+            double ratio = (double) changes / (flapWindow - 1);
+            if (!flapping && ratio >= flapStartRatio) {
+                flapping = true;
+            } else if (flapping && ratio < flapStopRatio) {
+                flapping = false;
+            }
+        }
+
+        private HealthAlert announce(LocalDateTime at) {
+            if (current == announced || current == HealthState.UNKNOWN) {
+                return null;
+            }
+            HealthState previous = announced;
+            LocalDateTime since = announcedSince;
+            announced = current;
+            announcedSince = at != null ? at : LocalDateTime.now();
+            return switch (current) {
+                case UP -> previous == HealthState.UNKNOWN ? null
+                        : new HealthAlert(AlertType.RECOVERED, previous, current, since);
+                case DEGRADED -> new HealthAlert(AlertType.DEGRADED, previous, current, since);
+                case DOWN -> new HealthAlert(AlertType.DOWN, previous, current, since);
+                default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hoooon22.conflux_backend.domain.HealthCheck;
+import com.hoooon22.conflux_backend.domain.ProbeMode;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 논블로킹 HTTP 프로브 실행기 (java.net.http.HttpClient 비동기 API)
+ *
+ * 본문은 String으로 읽지 않습니다. 프로브 방식(ProbeMode)에 따라 HEAD로 요청하거나, 헤더만 받고 끊거나,
+ * 최대 maxBodyBytes까지만 스트리밍으로 읽고 버립니다. 내용 검사가 있으면 그 앞부분만 보관해 검사합니다.
+ * 조건부 요청이 켜진 체크는 이전 ETag/Last-Modified를 보내 304(변경 없음)를 받으면 본문 전송 자체를 생략합니다.
+ *
+ * 프로브는 스레드를 점유하지 않고 비동기로 진행되므로, 응답하지 않는 엔드포인트가 있어도 다른 체크가 밀리지 않습니다.
+ * 체크마다 연결/응답 타임아웃을 적용하고, 호스트(host:port)별 동시 요청 수를 제한합니다.
+ * 제한을 넘은 요청은 호스트별 대기열에서 기다리며, 대기열마저 가득 차면 즉시 ProbeRejected로 실패합니다.
+ * 프로브 에이전트에서 쓸 때는 대상 서버가 출처를 구분할 수 있도록 X-Conflux-Vantage 헤더에 에이전트 이름을 보냅니다.
+ */
+@Slf4j
+@Component
+public class HttpProbeExecutor {
+
+    public static final int DEFAULT_CONNECT_TIMEOUT_MS = 3000;
+    public static final int DEFAULT_READ_TIMEOUT_MS = 5000;
+
+    /**
+     * BODY 모드에서 본문을 읽는 기본 최대 크기
+     */
+    public static final int DEFAULT_MAX_BODY_BYTES = 64 * 1024;
+
+    static final String REJECTED = "ProbeRejected";
+    static final String ASSERTION_FAILED = "AssertionFailed";
+
+    public static final String VANTAGE_HEADER = "X-Conflux-Vantage";
+
+    private final int maxConcurrentPerHost;
+    private final int maxQueuedPerHost;
+    private final ExecutorService ioExecutor;
+
+    /**
+     * 프로브 출처 이름 (null이면 헤더를 보내지 않음)
+     */
+    private final String vantage;
+
+    /**
+     * HttpClient는 연결 타임아웃이 클라이언트 단위 설정이라 타임아웃 값별로 하나씩 만들어 재사용합니다.
+     */
+    private final Map<Integer, HttpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, HostLimiter> hostLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * 조건부 요청용 체크별 마지막 ETag/Last-Modified
+     */
+    private final Map<Long, Validators> validators = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HttpProbeExecutor(@Value("${conflux.probe.max-concurrent-per-host:8}") int maxConcurrentPerHost,
+                             @Value("${conflux.probe.max-queued-per-host:1000}") int maxQueuedPerHost,
+                             @Value("${conflux.probe.io-threads:4}") int ioThreads) {
+        this(maxConcurrentPerHost, maxQueuedPerHost, ioThreads, null);
+    }
+
+    public HttpProbeExecutor(int maxConcurrentPerHost, int maxQueuedPerHost, int ioThreads, String vantage) {
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+        this.maxQueuedPerHost = maxQueuedPerHost;
+        this.vantage = vantage;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, r -> {
+            Thread thread = new Thread(r, "probe-io-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdownNow();
+    }
+
+    /**
+     * Health Check 한 건을 비동기로 프로브합니다.
+     * 반환된 future는 실패하지 않고, 오류도 ProbeResult(errorClass)로 완료됩니다.
+     */
+    public CompletableFuture<ProbeResult> probe(HealthCheck healthCheck) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        URI uri;
+        try {
+            uri = URI.create(healthCheck.getUrl());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(failure(healthCheck, startedAt, 0, e));
+        }
+
+        CompletableFuture<ProbeResult> result = new CompletableFuture<>();
+        HostLimiter limiter = hostLimiters.computeIfAbsent(hostKey(uri), key -> new HostLimiter());
+        Runnable task = () -> send(healthCheck, uri, startedAt)
+                .whenComplete((probeResult, error) -> {
+                    Runnable next = limiter.release();
+                    if (next != null) {
+                        ioExecutor.execute(next);
+                    }
+                    result.complete(probeResult);
+                });
+
+        switch (limiter.acquire(task, maxConcurrentPerHost, maxQueuedPerHost)) {
+            case RUN_NOW -> task.run();
+            case QUEUED -> {
+                // 호스트 슬롯이 나면 release()에서 실행됨
+            }
+            case REJECTED -> result.complete(new ProbeResult(healthCheck.getId(), startedAt, 0, 0, REJECTED,
+                    "Too many pending probes for " + hostKey(uri)));
+        }
+        return result;
+    }
+
+    private CompletableFuture<ProbeResult> send(HealthCheck healthCheck, URI uri, LocalDateTime startedAt) {
+        int connectTimeout = orDefault(healthCheck.getConnectTimeoutMs(), DEFAULT_CONNECT_TIMEOUT_MS);
+        int readTimeout = orDefault(healthCheck.getReadTimeoutMs(), DEFAULT_READ_TIMEOUT_MS);
+        ProbeMode mode = healthCheck.getProbeMode() != null ? healthCheck.getProbeMode() : ProbeMode.BODY;
+        boolean conditional = Boolean.TRUE.equals(healthCheck.getConditional());
+        boolean assertion = mode == ProbeMode.BODY && ProbeAssertions.isConfigured(healthCheck);
+        int bodyCap = mode == ProbeMode.STATUS_ONLY ? 0 : orDefault(healthCheck.getMaxBodyBytes(), DEFAULT_MAX_BODY_BYTES);
+        Validators previous = conditional ? validators.get(healthCheck.getId()) : null;
+        long start = System.nanoTime();
+
+        HttpRequest request;
+        try {
+            String method = mode == ProbeMode.HEAD ? "HEAD" : healthCheck.getMethod().toUpperCase();
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                    .method(method, HttpRequest.BodyPublishers.noBody())
+                    .timeout(Duration.ofMillis(readTimeout));
+            if (previous != null) {
+                previous.apply(builder);
+            }
+            if (vantage != null) {
+                builder.header(VANTAGE_HEADER, vantage);
+            }
+            request = builder.build();
+        } catch (RuntimeException e) {
+            // 잘못된 메서드/URL 등: 호스트 슬롯이 반납되도록 실패 결과로 완료
+            return CompletableFuture.completedFuture(failure(healthCheck, startedAt, 0, e));
+        }
+
+        AtomicReference<CappedBodySubscriber> body = new AtomicReference<>();
+        HttpResponse.BodyHandler<CappedBodySubscriber.BodyPrefix> bodyHandler = responseInfo -> {
+            CappedBodySubscriber subscriber = new CappedBodySubscriber(bodyCap, assertion);
+            body.set(subscriber);
+            return subscriber;
+        };
+        Runnable abortBody = () -> {
+            CappedBodySubscriber subscriber = body.get();
+            if (subscriber != null) {
+                subscriber.abort();
+            }
+        };
+        return sendWithRetry(client(connectTimeout), request, bodyHandler, connectTimeout + readTimeout, abortBody, true)
+                .handle((response, error) -> {
+                    long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    if (error != null) {
+                        return failure(healthCheck, startedAt, latencyMillis, error);
+                    }
+                    int status = response.statusCode();
+                    String assertionFailure = null;
+                    if (assertion) {
+                        if (status == 304 && previous != null) {
+                            // 변경 없음: 이전 본문의 검사 결과를 그대로 사용
+                            assertionFailure = previous.assertionFailure();
+                        } else if (status >= 200 && status < 300) {
+                            assertionFailure = ProbeAssertions.evaluate(healthCheck, response.body());
+                        }
+                    }
+                    if (conditional && status >= 200 && status < 300) {
+                        rememberValidators(healthCheck.getId(), response, assertionFailure);
+                    }
+                    return new ProbeResult(healthCheck.getId(), startedAt, status, latencyMillis,
+                            assertionFailure != null ? ASSERTION_FAILED : null, assertionFailure);
+                });
+    }
+
+    /**
+     * Health Check 설정이 바뀌거나 삭제되면 저장해 둔 ETag/Last-Modified를 버립니다.
+     */
+    public void forget(Long healthCheckId) {
+        if (healthCheckId != null) {
+            validators.remove(healthCheckId);
+        }
+    }
+
+    private void rememberValidators(Long healthCheckId, HttpResponse<?> response, String assertionFailure) {
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (healthCheckId == null) {
+            return;
+        }
+        if (etag == null && lastModified == null) {
+            validators.remove(healthCheckId);
+        } else {
+            validators.put(healthCheckId, new Validators(etag, lastModified, assertionFailure));
+        }
+    }
+
+    /**
+     * 서버가 먼저 닫은 keep-alive 연결을 재사용해서 생긴 I/O 오류는 한 번만 다시 시도합니다.
+     * 타임아웃과 연결 거부는 실제 장애이므로 재시도하지 않습니다.
+     *
+     * 전체 상한을 넘기면 본문 구독(abortBody)과 요청 자체를 취소해 연결을 닫은 뒤에 실패로 완료합니다.
+     * (결과 future만 실패시키면 교환은 계속 진행되어, 호스트 슬롯을 반납한 뒤에도 연결과 본문 읽기가 남음)
+     */
+    private <T> CompletableFuture<HttpResponse<T>> sendWithRetry(HttpClient client, HttpRequest request,
+                                                                 HttpResponse.BodyHandler<T> bodyHandler,
+                                                                 long totalTimeoutMillis, Runnable abortBody,
+                                                                 boolean retry) {
+        CompletableFuture<HttpResponse<T>> exchange = client.sendAsync(request, bodyHandler);
+        return exchange.copy()
+                // 응답 헤더 이후 본문이 멈춘 경우까지 포함한 전체 상한
+                .orTimeout(totalTimeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof TimeoutException) {
+                        abortBody.run();
+                        exchange.cancel(true);
+                    }
+                    if (retry && isStaleConnection(cause)) {
+                        return sendWithRetry(client, request, bodyHandler, totalTimeoutMillis, abortBody, false);
+                    }
+                    return CompletableFuture.<HttpResponse<T>>failedFuture(cause);
+                })
+                .thenCompose(future -> future);
+    }
+
+    private static boolean isStaleConnection(Throwable cause) {
+        return cause instanceof IOException
+                && !(cause instanceof HttpTimeoutException)
+                && !(cause instanceof ConnectException);
+    }
+
+    private HttpClient client(int connectTimeoutMillis) {
+        return clients.computeIfAbsent(connectTimeoutMillis, timeout -> HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeout))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(ioExecutor)
+                .build());
+    }
+
+    private ProbeResult failure(HealthCheck healthCheck, LocalDateTime startedAt, long latencyMillis, Throwable error) {
+        Throwable cause = unwrap(error);
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return new ProbeResult(healthCheck.getId(), startedAt, 0, latencyMillis,
+                cause.getClass().getSimpleName(), message);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static String hostKey(URI uri) {
+        return uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * 조건부 요청 검증값과 그 본문에 대한 검사 결과 (304 응답이면 그대로 재사용)
+     */
+    private record Validators(String etag, String lastModified, String assertionFailure) {
+
+        void apply(HttpRequest.Builder builder) {
+            if (etag != null) {
+                builder.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                builder.header("If-Modified-Since", lastModified);
+            }
+        }
+    }
+
+    private enum Admission {
+        RUN_NOW, QUEUED, REJECTED
+    }
+
+    /**
+     * 호스트별 동시 요청 제한 (세마포어 + 대기열, 대기 중에도 스레드를 점유하지 않음)
+     */
+    private static final class HostLimiter {
+        private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+        private int inFlight;
+
+        synchronized Admission acquire(Runnable task, int maxConcurrent, int maxQueued) {
+            if (inFlight < maxConcurrent) {
+                inFlight++;
+                return Admission.RUN_NOW;
+            }
+            if (waiting.size() >= maxQueued) {
+                return Admission.REJECTED;
+            }
+            waiting.addLast(task);
+            return Admission.QUEUED;
+        }
+
+        /**
+         * 슬롯을 반납합니다. 대기 중인 작업이 있으면 슬롯을 그대로 넘기고 그 작업을 반환합니다.
+         */
+        synchronized Runnable release() {
+            Runnable next = waiting.pollFirst();
+            if (next == null) {
+                inFlight--;
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 웹훅 수집/중복 판별 메트릭
+ *
+ * 미터는 엔드포인트별로 처음 한 번만 등록하고 이후에는 캐시된 미터에 기록만 하므로,
+ * 요청마다 태그/빌더 객체를 만들지 않습니다. (MetricsOverheadBenchmark 참고)
+ */
+@Component
+public class IngestMetrics {
+
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofSeconds(1)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, EndpointMeters> endpoints = new ConcurrentHashMap<>();
+
+    private final Counter duplicateCounter;
+    private final Counter newCounter;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    public IngestMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.duplicateCounter = Counter.builder("conflux.notifications.dedup")
+                .description("Incoming notifications merged into an existing notification")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        this.newCounter = Counter.builder("conflux.notifications.dedup")
+                .description("Incoming notifications stored as a new notification")
+                .tag("result", "new")
+                .register(meterRegistry);
+        this.cacheHitCounter = Counter.builder("conflux.dedup.cache.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("conflux.dedup.cache.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 웹훅 요청 한 건의 처리 결과와 소요 시간
+     *
+     * @param endpoint   웹훅 엔드포인트 (예: github, custom)
+     * @param source     알림 출처 (예: GitHub)
+     * @param accepted   수집 큐에 들어갔는지 여부 (false면 429)
+     * @param startNanos 요청 처리 시작 시각 (System.nanoTime)
+     */
+    public void recordWebhook(String endpoint, String source, boolean accepted, long startNanos) {
+        EndpointMeters meters = meters(endpoint, source);
+        (accepted ? meters.accepted() : meters.rejected())
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 재전송으로 걸러진 웹훅 요청의 소요 시간 (본문을 읽지 않고 응답)
+     */
+    public void recordDuplicateDelivery(String endpoint, String source, long startNanos) {
+        meters(endpoint, source).duplicate().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 중복 판별 결과 (occurrences: 합쳐진 알림 수)
+     */
+    public void recordDedup(boolean duplicate, int occurrences) {
+        (duplicate ? duplicateCounter : newCounter).increment(occurrences);
+    }
+
+    public void recordCacheLookup(boolean hit) {
+        (hit ? cacheHitCounter : cacheMissCounter).increment();
+    }
+
+    private EndpointMeters meters(String endpoint, String source) {
+        EndpointMeters meters = endpoints.get(endpoint);
+        if (meters == null) {
+            meters = endpoints.computeIfAbsent(endpoint, key -> new EndpointMeters(
+                    webhookTimer(key, source, "accepted"), webhookTimer(key, source, "rejected"),
+                    webhookTimer(key, source, "duplicate")));
+        }
+        return meters;
+    }
+
+    private Timer webhookTimer(String endpoint, String source, String result) {
+        return Timer.builder("conflux.webhook.requests")
+                .description("Webhook handling time until the notification is queued")
+                .tag("endpoint", endpoint)
+                .tag("source", source)
+                .tag("result", result)
+                .serviceLevelObjectives(LATENCY_SLOS)
+                .register(meterRegistry);
+    }
+
+    private record EndpointMeters(Timer accepted, Timer rejected, Timer duplicate) {
+    }
+}
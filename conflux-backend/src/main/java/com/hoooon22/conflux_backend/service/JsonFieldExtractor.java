@@ -0,0 +1,169 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * JSON 본문에서 필요한 필드만 토큰 단위로 꺼내는 스트리밍 추출기
+ *
+ * 경로(JSON Pointer, 예: /repository/full_name, /commits/0/id)를 미리 트리로 컴파일해 두고,
+ * 파싱 중 트리에 없는 필드/배열 원소는 skipChildren()으로 건너뜁니다. (Map/JsonNode를 만들지 않음)
+ * 찾는 값이 모두 나오면 나머지 본문은 읽지 않고 끝냅니다.
+ * 컴파일된 추출기는 불변이므로 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public final class JsonFieldExtractor {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Node root = new Node();
+    private final int size;
+
+    private JsonFieldExtractor(List<String> pointers) {
+        this.size = pointers.size();
+        for (int i = 0; i < pointers.size(); i++) {
+            Node node = root;
+            for (JsonPointer pointer = JsonPointer.compile(pointers.get(i)); !pointer.matches(); pointer = pointer.tail()) {
+                node = node.children.computeIfAbsent(pointer.getMatchingProperty(), key -> new Node());
+            }
+            if (node == root) {
+                throw new IllegalArgumentException("Empty JSON pointer: " + pointers.get(i));
+            }
+            node.slots = append(node.slots, i);
+            node.leafCount++;
+        }
+        root.countLeaves();
+    }
+
+    /**
+     * @param pointers 꺼낼 경로 목록 (JSON Pointer 형식)
+     */
+    public static JsonFieldExtractor compile(List<String> pointers) {
+        return new JsonFieldExtractor(pointers);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return pointers와 같은 순서의 값 배열 (없거나 null이거나 객체/배열이면 null, 숫자/불리언은 문자열로)
+     * @throws JsonParseException 본문이 JSON 객체/배열이 아니거나 문법 오류가 있을 때
+     */
+    public String[] extract(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return extract(parser);
+        }
+    }
+
+    public String[] extract(byte[] body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return extract(parser);
+        }
+    }
+
+    private String[] extract(JsonParser parser) throws IOException {
+        String[] values = new String[size];
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a JSON object or array");
+        }
+        visit(parser, root, values, new int[] {root.leafTotal});
+        return values;
+    }
+
+    /**
+     * 현재 토큰(START_OBJECT/START_ARRAY)의 자식 중 node에 있는 것만 따라갑니다.
+     *
+     * @param remaining 아직 찾지 못한 값 수 (0이 되면 즉시 종료)
+     * @return 모두 찾아서 중단했으면 true
+     */
+    private static boolean visit(JsonParser parser, Node node, String[] values, int[] remaining) throws IOException {
+        boolean object = parser.currentToken() == JsonToken.START_OBJECT;
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of JSON input");
+            }
+            String key;
+            if (object) {
+                // 필드 이름 다음 값 토큰으로 이동
+                key = parser.currentName();
+                token = parser.nextToken();
+            } else {
+                key = Integer.toString(index++);
+            }
+            Node child = node.children.get(key);
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+            if (token.isScalarValue()) {
+                if (child.slots != null) {
+                    String value = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                    for (int slot : child.slots) {
+                        values[slot] = value;
+                    }
+                }
+                remaining[0] -= child.leafTotal;
+            } else if (child.children.isEmpty()) {
+                parser.skipChildren();
+                remaining[0] -= child.leafTotal;
+            } else {
+                int before = remaining[0];
+                if (visit(parser, child, values, remaining)) {
+                    return true;
+                }
+                // 하위 객체를 끝까지 읽었으면 그 아래 경로는 (없던 것 포함) 모두 확정
+                remaining[0] = before - child.leafTotal;
+            }
+            if (remaining[0] <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] append(int[] slots, int slot) {
+        if (slots == null) {
+            return new int[] {slot};
+        }
+        int[] grown = Arrays.copyOf(slots, slots.length + 1);
+        grown[slots.length] = slot;
+        return grown;
+    }
+
+    /**
+     * 경로 트리 노드
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private int[] slots;
+        /**
+         * 이 노드 자체가 끝점인 경로 수
+         */
+        private int leafCount;
+        /**
+         * 이 노드 아래(자신 포함)의 경로 수
+         */
+        private int leafTotal;
+
+        int countLeaves() {
+            leafTotal = leafCount;
+            for (Node child : children.values()) {
+                leafTotal += child.countLeaves();
+            }
+            return leafTotal;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.WebhookMapping;
+
+/**
+ * 선언형 매핑(WebhookMapping)을 컴파일한 어댑터
+ * 템플릿이 참조하는 경로를 모두 모아 JsonFieldExtractor 하나로 한 번에 꺼낸 뒤 템플릿을 채웁니다.
+ */
+final class MappedWebhookAdapter implements WebhookAdapter {
+
+    private static final String ANY_STATUS = "*";
+    private static final int MAX_GROUP_KEY_LENGTH = 255;
+
+    private final String id;
+    private final String source;
+    private final JsonFieldExtractor extractor;
+    private final NotificationTemplate title;
+    private final NotificationTemplate message;
+    private final NotificationTemplate repository;
+    private final NotificationTemplate sender;
+    private final NotificationTemplate status;
+    private final NotificationTemplate groupKey;
+    private final Map<String, String> statusMap;
+
+    private MappedWebhookAdapter(String id, WebhookMapping mapping) {
+        if (mapping.getSource() == null || mapping.getSource().isBlank()) {
+            throw new IllegalArgumentException("Webhook mapping '" + id + "' has no source");
+        }
+        List<String> pointers = new ArrayList<>();
+        this.id = id;
+        this.source = mapping.getSource();
+        this.title = NotificationTemplate.compile(mapping.getTitle(), pointers);
+        this.message = NotificationTemplate.compile(mapping.getMessage(), pointers);
+        this.repository = NotificationTemplate.compile(mapping.getRepository(), pointers);
+        this.sender = NotificationTemplate.compile(mapping.getSender(), pointers);
+        this.status = NotificationTemplate.compile(mapping.getStatus(), pointers);
+        this.groupKey = NotificationTemplate.compile(mapping.getGroupKey(), pointers);
+        this.statusMap = mapping.getStatusMap() != null ? Map.copyOf(mapping.getStatusMap()) : null;
+        this.extractor = JsonFieldExtractor.compile(pointers);
+    }
+
+    static MappedWebhookAdapter compile(String id, WebhookMapping mapping) {
+        return new MappedWebhookAdapter(id, mapping);
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public String source() {
+        return source;
+    }
+
+    @Override
+    public NotificationDto toNotification(InputStream body) throws IOException {
+        return build(extractor.extract(body));
+    }
+
+    @Override
+    public NotificationDto toNotification(byte[] body) throws IOException {
+        return build(extractor.extract(body));
+    }
+
+    private NotificationDto build(String[] values) {
+        return NotificationDto.builder()
+                .source(source)
+                .title(render(title, values))
+                .message(render(message, values))
+                .repository(render(repository, values))
+                .sender(render(sender, values))
+                .timestamp(LocalDateTime.now())
+                .status(mapStatus(render(status, values)))
+                .groupKey(groupKey(render(groupKey, values)))
+                .build();
+    }
+
+    private String mapStatus(String value) {
+        if (statusMap == null || value == null) {
+            return value;
+        }
+        String mapped = statusMap.get(value);
+        if (mapped == null) {
+            mapped = statusMap.getOrDefault(ANY_STATUS, value);
+        }
+        return mapped;
+    }
+
+    /**
+     * 빈 키는 묶지 않음, 컬럼 길이를 넘는 키는 자름
+     */
+    private static String groupKey(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.length() > MAX_GROUP_KEY_LENGTH ? value.substring(0, MAX_GROUP_KEY_LENGTH) : value;
+    }
+
+    private static String render(NotificationTemplate template, String[] values) {
+        return template != null ? template.render(values) : null;
+    }
+}
@@ -0,0 +1,367 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hoooon22.conflux_backend.dto.NotificationCursor;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 콜드 티어 (NotificationSegment 파일 모음)
+ *
+ * NotificationTieringService가 hot-days보다 오래된 알림을 날짜별 세그먼트로 옮겨 두면,
+ * 피드/검색/요약이 notifications 테이블과 함께 여기서도 읽습니다.
+ * 세그먼트는 읽기 전용이라 개별 읽음/삭제는 반영하지 않고, 보관 기간이 지나면 세그먼트 단위로 지웁니다.
+ * 세그먼트 목록은 통째로 바꿔 끼우므로(copy-on-write) 읽기에는 락이 없습니다.
+ */
+@Slf4j
+@Component
+public class NotificationColdStorage {
+
+    private static final Comparator<NotificationSegment> BY_TIME =
+            Comparator.comparingLong(NotificationSegment::minTimestamp).thenComparingLong(NotificationSegment::minId);
+
+    private static final Comparator<NotificationDto> FEED_ORDER =
+            Comparator.comparing(NotificationDto::getTimestamp).thenComparing(NotificationDto::getId).reversed();
+
+    private final Path directory;
+
+    // 시간순 (쓰기는 synchronized, 읽기는 volatile 스냅샷)
+    private volatile List<NotificationSegment> segments = List.of();
+    private volatile List<NotificationGroupCount> groupCounts = List.of();
+
+    public NotificationColdStorage(@Value("${conflux.tiering.directory:./data/segments}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * 기존 세그먼트를 매핑합니다. 쓰다 만 임시 파일은 지우고, 읽을 수 없는 파일은 건너뜁니다.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<NotificationSegment> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(NotificationSegment.EXTENSION + ".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(NotificationSegment.EXTENSION)) {
+                    try {
+                        loaded.add(NotificationSegment.open(file));
+                    } catch (IOException | RuntimeException e) {
+                        log.error("❌ Skipping unreadable notification segment {}: {}", file, e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load notification segments from " + directory, e);
+        }
+        replace(loaded);
+        if (!loaded.isEmpty()) {
+            log.info("🧊 Loaded {} notification segments ({} notifications)", loaded.size(), size());
+        }
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * 콜드 티어의 알림 수
+     */
+    public long size() {
+        return segments.stream().mapToLong(NotificationSegment::rows).sum();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 콜드 티어에서 가장 최근 알림 시간 (비어 있으면 null)
+     */
+    public LocalDateTime latestTimestamp() {
+        return segments.stream()
+                .mapToLong(NotificationSegment::maxTimestamp)
+                .max()
+                .stream()
+                .mapToObj(NotificationSegment::timestampOf)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * (source, repository)별 알림 수 (세그먼트를 쓸 때 집계해 둔 값)
+     */
+    public List<NotificationGroupCount> groupCounts() {
+        return groupCounts;
+    }
+
+    public boolean contains(long id) {
+        for (NotificationSegment segment : segments) {
+            if (segment.rowOf(id) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 알림을 새 세그먼트로 씁니다. (하루치가 많으면 여러 번 호출되어 세그먼트가 여러 개가 됨)
+     */
+    public synchronized void write(LocalDate day, List<NotificationDto> notifications) throws IOException {
+        Files.createDirectories(directory);
+        long firstId = notifications.stream().mapToLong(NotificationDto::getId).min().orElseThrow();
+        Path path = directory.resolve("notifications-" + day + "-" + firstId + NotificationSegment.EXTENSION);
+        NotificationSegment segment = NotificationSegment.write(path, notifications);
+
+        List<NotificationSegment> next = new ArrayList<>(segments);
+        next.removeIf(existing -> existing.path().equals(path));
+        next.add(segment);
+        replace(next);
+        log.debug("🧊 Notification segment written: {} ({} notifications, {} bytes)",
+                path.getFileName(), segment.rows(), segment.sizeInBytes());
+    }
+
+    /**
+     * 모든 알림이 cutoff보다 오래된 세그먼트를 지웁니다.
+     *
+     * @return 지운 알림 수
+     */
+    public synchronized long dropOlderThan(LocalDateTime cutoff) {
+        long cutoffMicros = NotificationSegment.micros(cutoff);
+        List<NotificationSegment> keep = new ArrayList<>();
+        long dropped = 0;
+        for (NotificationSegment segment : segments) {
+            if (segment.maxTimestamp() < cutoffMicros) {
+                delete(segment);
+                dropped += segment.rows();
+            } else {
+                keep.add(segment);
+            }
+        }
+        if (dropped > 0) {
+            replace(keep);
+        }
+        return dropped;
+    }
+
+    /**
+     * 모든 세그먼트를 지웁니다.
+     */
+    public synchronized void clear() {
+        segments.forEach(this::delete);
+        replace(List.of());
+    }
+
+    /**
+     * 조건에 맞는 알림을 최신순으로 최대 limit개 반환합니다. (커서가 있으면 커서보다 오래된 것만)
+     * 세그먼트를 최근 것부터 보며, 이미 limit개를 모았고 남은 세그먼트가 모두 그보다 오래되었으면 멈춥니다.
+     */
+    public List<NotificationDto> page(NotificationFilter filter, NotificationCursor cursor, int limit) {
+        if (filter.getIds() != null && !filter.getIds().isEmpty()) {
+            return findByIds(filter.getIds()).stream()
+                    .filter(dto -> matches(dto, filter, cursor))
+                    .sorted(FEED_ORDER)
+                    .limit(limit)
+                    .toList();
+        }
+
+        long fromMicros = filter.getFrom() != null ? NotificationSegment.micros(filter.getFrom()) : Long.MIN_VALUE;
+        long upperTimestamp = Long.MAX_VALUE;
+        long upperId = Long.MAX_VALUE;
+        if (cursor != null) {
+            upperTimestamp = NotificationSegment.micros(cursor.timestamp());
+            upperId = cursor.id();
+        }
+        if (filter.getTo() != null && NotificationSegment.micros(filter.getTo()) <= upperTimestamp) {
+            upperTimestamp = NotificationSegment.micros(filter.getTo());
+            upperId = Long.MIN_VALUE;
+        }
+        RowFilter rowFilter = new RowFilter(filter);
+
+        List<NotificationSegment> newestFirst = new ArrayList<>(segments);
+        newestFirst.sort(Comparator.comparingLong(NotificationSegment::maxTimestamp).reversed());
+        NotificationSegment.BlockReader reader = new NotificationSegment.BlockReader();
+        List<NotificationDto> result = new ArrayList<>();
+        for (NotificationSegment segment : newestFirst) {
+            if (segment.maxTimestamp() < fromMicros) {
+                continue;
+            }
+            if (result.size() >= limit
+                    && segment.maxTimestamp() < NotificationSegment.micros(result.get(limit - 1).getTimestamp())) {
+                break;
+            }
+            int collected = 0;
+            for (int row = segment.lowerBound(upperTimestamp, upperId) - 1; row >= 0 && collected < limit; row--) {
+                if (segment.timestamp(row) < fromMicros) {
+                    break;
+                }
+                if (rowFilter.matches(segment, row)) {
+                    result.add(segment.read(row, reader));
+                    collected++;
+                }
+            }
+            if (collected > 0) {
+                result.sort(FEED_ORDER);
+                if (result.size() > limit) {
+                    result.subList(limit, result.size()).clear();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ID로 알림을 찾습니다. (없는 ID는 결과에서 빠짐)
+     */
+    public List<NotificationDto> findByIds(Collection<Long> ids) {
+        NotificationSegment.BlockReader reader = new NotificationSegment.BlockReader();
+        List<NotificationDto> found = new ArrayList<>();
+        List<NotificationSegment> snapshot = segments;
+        for (Long id : new HashSet<>(ids)) {
+            for (NotificationSegment segment : snapshot) {
+                int row = segment.rowOf(id);
+                if (row >= 0) {
+                    found.add(segment.read(row, reader));
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 모든 알림을 세그먼트별 ID 순으로 훑습니다. (검색 색인 재구성용)
+     */
+    public void forEach(Consumer<NotificationDto> consumer) {
+        List<NotificationSegment> byId = new ArrayList<>(segments);
+        byId.sort(Comparator.comparingLong(NotificationSegment::minId));
+        NotificationSegment.BlockReader reader = new NotificationSegment.BlockReader();
+        for (NotificationSegment segment : byId) {
+            for (int i = 0; i < segment.rows(); i++) {
+                consumer.accept(segment.read(segment.rowByIdOrder(i), reader));
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 알림을 오래된 것부터 한 건씩 넘깁니다. (내보내기용, 결과를 모으지 않음)
+     */
+    public void forEachMatching(NotificationFilter filter, Consumer<NotificationDto> consumer) {
+        long fromMicros = filter.getFrom() != null ? NotificationSegment.micros(filter.getFrom()) : Long.MIN_VALUE;
+        long toMicros = filter.getTo() != null ? NotificationSegment.micros(filter.getTo()) : Long.MAX_VALUE;
+        RowFilter rowFilter = new RowFilter(filter);
+        NotificationSegment.BlockReader reader = new NotificationSegment.BlockReader();
+        for (NotificationSegment segment : segments) {
+            if (segment.maxTimestamp() < fromMicros || segment.minTimestamp() >= toMicros) {
+                continue;
+            }
+            for (int row = segment.lowerBound(fromMicros, Long.MIN_VALUE); row < segment.rows(); row++) {
+                if (segment.timestamp(row) >= toMicros) {
+                    break;
+                }
+                if (rowFilter.matches(segment, row)) {
+                    consumer.accept(segment.read(row, reader));
+                }
+            }
+        }
+    }
+
+    private void replace(List<NotificationSegment> next) {
+        List<NotificationSegment> sorted = new ArrayList<>(next);
+        sorted.sort(BY_TIME);
+        Map<List<String>, long[]> totals = new HashMap<>();
+        for (NotificationSegment segment : sorted) {
+            for (NotificationGroupCount group : segment.groups()) {
+                long[] counts = totals.computeIfAbsent(
+                        Arrays.asList(group.source(), group.repository()), key -> new long[2]);
+                counts[0] += group.total();
+                counts[1] += group.unread();
+            }
+        }
+        List<NotificationGroupCount> groups = new ArrayList<>(totals.size());
+        totals.forEach((key, counts) -> groups.add(new NotificationGroupCount(key.get(0), key.get(1), counts[0], counts[1])));
+
+        segments = List.copyOf(sorted);
+        groupCounts = List.copyOf(groups);
+    }
+
+    private void delete(NotificationSegment segment) {
+        try {
+            Files.deleteIfExists(segment.path());
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to delete notification segment {}: {}", segment.path(), e.getMessage());
+        }
+    }
+
+    private static boolean matches(NotificationDto dto, NotificationFilter filter, NotificationCursor cursor) {
+        if (filter.getSources() != null && !filter.getSources().isEmpty() && !filter.getSources().contains(dto.getSource())) {
+            return false;
+        }
+        if (filter.getStatus() != null && !filter.getStatus().equalsIgnoreCase(dto.getStatus())) {
+            return false;
+        }
+        if (filter.getRepository() != null && !filter.getRepository().equals(dto.getRepository())) {
+            return false;
+        }
+        if (filter.getFrom() != null && dto.getTimestamp().isBefore(filter.getFrom())) {
+            return false;
+        }
+        if (filter.getTo() != null && !dto.getTimestamp().isBefore(filter.getTo())) {
+            return false;
+        }
+        return cursor == null || dto.getTimestamp().isBefore(cursor.timestamp())
+                || (dto.getTimestamp().isEqual(cursor.timestamp()) && dto.getId() < cursor.id());
+    }
+
+    /**
+     * 압축하지 않은 컬럼(source, status, repository)만으로 거르는 조건 (블록을 풀기 전에 적용)
+     */
+    private static final class RowFilter {
+
+        private final Set<String> sources;
+        private final String status;
+        private final String repository;
+
+        RowFilter(NotificationFilter filter) {
+            this.sources = filter.getSources() != null && !filter.getSources().isEmpty()
+                    ? new HashSet<>(filter.getSources()) : null;
+            this.status = filter.getStatus() != null ? filter.getStatus().toUpperCase() : null;
+            this.repository = filter.getRepository();
+        }
+
+        boolean matches(NotificationSegment segment, int row) {
+            return (sources == null || sources.contains(segment.source(row)))
+                    && (status == null || status.equals(segment.status(row)))
+                    && (repository == null || repository.equals(segment.repository(row)));
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hoooon22.conflux_backend.domain.NotificationFingerprint;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationTimelineEntry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트 묶음 (예: GitHub Actions 실행 하나가 보내는 queued → in_progress → completed 웹훅)
+ *
+ * 묶음 키(groupKey)가 있는 알림은 (소스, 키)별 슬라이딩 윈도우로 묶습니다. 마지막 이벤트 후 window-ms 안에 온
+ * 같은 키의 이벤트는 같은 묶음 지문을 받으므로, 수집 경로의 지문 중복 처리를 그대로 타고 알림 한 행(묶음 레코드)으로
+ * 합쳐집니다. 묶음 행은 최신 이벤트 내용으로 바뀌고, 각 이벤트는 notification_timeline에 단계 이력으로 남습니다.
+ *
+ * 열린 윈도우는 메모리에만 둡니다. window-ms 동안 이벤트가 없으면 sweep-interval-ms마다 내리고,
+ * max-groups개를 넘으면 가장 오래 쓰지 않은 것부터 내립니다. (내려간 키의 다음 이벤트는 새 묶음)
+ * 재시작하면 최근 window-ms 안에 갱신된 묶음 행으로 윈도우를 다시 채웁니다.
+ */
+@Slf4j
+@Service
+public class NotificationCorrelator {
+
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int feedTimelineSize;
+    private final Map<String, Window> windows;
+
+    private final Counter openedCounter;
+    private final Counter joinedCounter;
+    private final Counter expiredCounter;
+    private final Counter displacedCounter;
+
+    public NotificationCorrelator(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                  @Value("${conflux.correlation.enabled:true}") boolean enabled,
+                                  @Value("${conflux.correlation.window-ms:3600000}") long windowMillis,
+                                  @Value("${conflux.correlation.max-groups:10000}") int maxGroups,
+                                  @Value("${conflux.correlation.feed-timeline-size:20}") int feedTimelineSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.feedTimelineSize = feedTimelineSize;
+        this.openedCounter = eventCounter(meterRegistry, "opened");
+        this.joinedCounter = eventCounter(meterRegistry, "joined");
+        this.expiredCounter = evictionCounter(meterRegistry, "expired");
+        this.displacedCounter = evictionCounter(meterRegistry, "capacity");
+        this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                if (size() <= maxGroups) {
+                    return false;
+                }
+                displacedCounter.increment();
+                return true;
+            }
+        };
+        Gauge.builder("conflux.correlation.groups", this, NotificationCorrelator::openGroups)
+                .description("Correlation windows currently held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시작 전에 열려 있던 묶음을 이어 가도록 최근 window-ms 안에 갱신된 묶음 행으로 윈도우를 채웁니다.
+     * (오래된 것부터 넣으므로 max-groups를 넘으면 최근 묶음이 남음)
+     */
+    @PostConstruct
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minusNanos(windowMillis * 1_000_000L);
+        int[] loaded = {0};
+        synchronized (this) {
+            jdbcTemplate.query("SELECT source, group_key, fingerprint, timestamp FROM notifications "
+                            + "WHERE group_key IS NOT NULL AND fingerprint IS NOT NULL AND timestamp >= ? ORDER BY timestamp",
+                    rs -> {
+                        windows.put(windowKey(rs.getString("source"), rs.getString("group_key")),
+                                new Window(rs.getString("fingerprint"),
+                                        epochMillis(rs.getTimestamp("timestamp").toLocalDateTime())));
+                        loaded[0]++;
+                    },
+                    Timestamp.valueOf(since));
+        }
+        if (loaded[0] > 0) {
+            log.info("🧩 Restored {} open notification groups", loaded[0]);
+        }
+    }
+
+    /**
+     * 알림을 배치 반영 단위로 바꿉니다.
+     * 묶음 키가 있으면 열린 윈도우의 묶음 지문(없으면 새 윈도우)을, 없으면 내용 지문을 씁니다.
+     * 이벤트 순서대로 호출해야 합니다. (수집 큐 flusher, 직접 저장 경로)
+     */
+    public IngestEntry toEntry(NotificationDto dto) {
+        if (!enabled || dto.getGroupKey() == null) {
+            return new IngestEntry(dto,
+                    NotificationFingerprint.of(dto.getSource(), dto.getTitle(), dto.getMessage()), 1);
+        }
+        long at = dto.getTimestamp() != null ? epochMillis(dto.getTimestamp()) : System.currentTimeMillis();
+        return new IngestEntry(dto, assign(dto.getSource(), dto.getGroupKey(), at), 1, List.of(dto));
+    }
+
+    private synchronized String assign(String source, String groupKey, long at) {
+        String key = windowKey(source, groupKey);
+        Window window = windows.get(key);
+        if (window != null && at - window.lastSeen <= windowMillis) {
+            window.lastSeen = Math.max(window.lastSeen, at);
+            joinedCounter.increment();
+            return window.fingerprint;
+        }
+        String fingerprint = NotificationFingerprint.ofGroup(source, groupKey, at);
+        windows.put(key, new Window(fingerprint, at));
+        openedCounter.increment();
+        return fingerprint;
+    }
+
+    /**
+     * window-ms 동안 이벤트가 없던 윈도우를 내립니다.
+     */
+    @Scheduled(fixedDelayString = "${conflux.correlation.sweep-interval-ms:60000}")
+    public synchronized void evictExpired() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        int before = windows.size();
+        windows.values().removeIf(window -> window.lastSeen < cutoff);
+        int expired = before - windows.size();
+        if (expired > 0) {
+            expiredCounter.increment(expired);
+            log.debug("🧹 Closed {} idle notification groups", expired);
+        }
+    }
+
+    public synchronized int openGroups() {
+        return windows.size();
+    }
+
+    /**
+     * 모든 윈도우를 내립니다. (전체 삭제 시)
+     */
+    public synchronized void clear() {
+        windows.clear();
+    }
+
+    /**
+     * 묶음 행에 합쳐진 이벤트를 이력에 추가합니다. (알림을 반영하는 트랜잭션 안에서 호출)
+     *
+     * @param eventsById 알림 ID → 이벤트 (들어온 순서)
+     */
+    void appendTimeline(Map<Long, List<NotificationDto>> eventsById) {
+        List<Object[]> rows = new ArrayList<>();
+        eventsById.forEach((id, events) -> events.forEach(event -> rows.add(new Object[] {
+                id, Timestamp.valueOf(event.getTimestamp()), event.getTitle(), event.getMessage(), event.getSender()
+        })));
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification_timeline (notification_id, timestamp, title, message, sender) "
+                + "VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * 피드 항목 중 묶음 알림에 최근 feed-timeline-size개 이력을 채웁니다. (페이지당 조회 한 번)
+     */
+    public void attachTimelines(List<NotificationDto> items) {
+        Map<Long, NotificationDto> grouped = new HashMap<>();
+        for (NotificationDto item : items) {
+            if (item.getGroupKey() != null && item.getId() != null) {
+                grouped.put(item.getId(), item);
+            }
+        }
+        if (grouped.isEmpty() || feedTimelineSize <= 0) {
+            return;
+        }
+        Map<Long, List<NotificationTimelineEntry>> timelines = new HashMap<>();
+        List<Long> ids = new ArrayList<>(grouped.keySet());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            List<Object> args = new ArrayList<>(chunk);
+            args.add(feedTimelineSize);
+            jdbcTemplate.query("SELECT notification_id, timestamp, title, message, sender FROM ("
+                            + "SELECT t.*, ROW_NUMBER() OVER (PARTITION BY notification_id ORDER BY id DESC) AS recency "
+                            + "FROM notification_timeline t WHERE notification_id IN ("
+                            + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")"
+                            + ") recent WHERE recency <= ? ORDER BY notification_id, id",
+                    rs -> {
+                        timelines.computeIfAbsent(rs.getLong("notification_id"), id -> new ArrayList<>())
+                                .add(entry(rs.getTimestamp("timestamp"), rs.getString("title"),
+                                        rs.getString("message"), rs.getString("sender")));
+                    },
+                    args.toArray());
+        }
+        grouped.forEach((id, item) -> item.setTimeline(timelines.getOrDefault(id, List.of())));
+    }
+
+    /**
+     * 묶음 알림의 전체 이력 (오래된 것부터)
+     */
+    public List<NotificationTimelineEntry> timeline(Long notificationId) {
+        return jdbcTemplate.query("SELECT timestamp, title, message, sender FROM notification_timeline "
+                        + "WHERE notification_id = ? ORDER BY id",
+                (rs, rowNum) -> entry(rs.getTimestamp("timestamp"), rs.getString("title"), rs.getString("message"),
+                        rs.getString("sender")),
+                notificationId);
+    }
+
+    private static NotificationTimelineEntry entry(Timestamp timestamp, String title, String message, String sender) {
+        return new NotificationTimelineEntry(timestamp.toLocalDateTime(), title, message, sender);
+    }
+
+    private static String windowKey(String source, String groupKey) {
+        return source + '\u0000' + groupKey;
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("conflux.correlation.events")
+                .description("Grouped notification events by whether they opened a new group or joined an open one")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("conflux.correlation.evictions")
+                .description("Correlation windows dropped from memory")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 열린 묶음 하나 (lastSeen: 마지막 이벤트 시각, epoch millis)
+     */
+    private static final class Window {
+
+        private final String fingerprint;
+        private long lastSeen;
+
+        private Window(String fingerprint, long lastSeen) {
+            this.fingerprint = fingerprint;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
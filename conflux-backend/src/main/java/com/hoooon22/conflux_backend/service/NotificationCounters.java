@@ -0,0 +1,219 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+import com.hoooon22.conflux_backend.dto.NotificationSummaryDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (source, repository)별 전체/읽지 않음 알림 카운터 (notification_counters)
+ *
+ * NotificationService/NotificationRetentionService가 notifications를 바꾸는 트랜잭션 안에서 증감분(Changes)을 함께 반영하므로,
+ * 요약 조회(summary)는 알림 테이블이 아닌 카운터 행 몇 개만 읽습니다.
+ * 일괄 처리 중 동시 변경 등으로 생긴 오차는 주기적인 재집계(reconcile)로 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class NotificationCounters {
+
+    /**
+     * 리포지토리가 없는 알림의 repository 값
+     */
+    static final String NO_REPOSITORY = "";
+
+    /**
+     * 증감 (행이 없으면 증감분으로 새로 만듦)
+     */
+    private static final String INCREMENT_SQL = "MERGE INTO notification_counters c "
+            + "USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), CAST(? AS BIGINT), CAST(? AS BIGINT))) "
+            + "AS d (source, repository, total, unread) "
+            + "ON c.source = d.source AND c.repository = d.repository "
+            + "WHEN MATCHED THEN UPDATE SET total = c.total + d.total, unread = c.unread + d.unread "
+            + "WHEN NOT MATCHED THEN INSERT (source, repository, total, unread) "
+            + "VALUES (d.source, d.repository, d.total, d.unread)";
+
+    /**
+     * 카운터 - 실제 집계 (한 문장으로 읽으므로 같은 스냅샷 기준, 커밋 중인 트랜잭션은 양쪽 모두에서 빠짐)
+     */
+    private static final String DRIFT_SQL = "SELECT source, repository, SUM(total) AS total, SUM(unread) AS unread FROM ("
+            + "SELECT source, repository, total, unread FROM notification_counters "
+            + "UNION ALL "
+            + "SELECT source, COALESCE(repository, '') AS repository, -COUNT(*) AS total, "
+            + "-SUM(CASE WHEN status = 'UNREAD' THEN 1 ELSE 0 END) AS unread "
+            + "FROM notifications GROUP BY source, COALESCE(repository, '')"
+            + ") counts GROUP BY source, repository HAVING SUM(total) <> 0 OR SUM(unread) <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationCounters(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public static Changes changes() {
+        return new Changes();
+    }
+
+    /**
+     * 증감분을 반영합니다. 알림을 변경한 트랜잭션 안에서 호출해야 함께 커밋/롤백됩니다.
+     * 카운터 행은 (source, repository) 순서로 갱신해 트랜잭션 간 락 순서를 맞춥니다.
+     * 처음 보는 (source, repository)를 두 트랜잭션이 동시에 만들면 한쪽이 유니크 제약 위반으로 실패하며,
+     * 수집 경로는 이를 건별 upsert 재시도로 처리합니다.
+     */
+    public void apply(Changes changes) {
+        List<Map.Entry<Key, long[]>> entries = changes.nonZero();
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Key, long[]> entry = entries.get(i);
+                ps.setString(1, entry.getKey().source());
+                ps.setString(2, entry.getKey().repository());
+                ps.setLong(3, entry.getValue()[0]);
+                ps.setLong(4, entry.getValue()[1]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    /**
+     * 전체/소스별/리포지토리별 알림 수 (카운터 행만 읽음)
+     */
+    public NotificationSummaryDto summary() {
+        return summary(List.of());
+    }
+
+    /**
+     * 카운터 행에 다른 곳(콜드 티어)의 집계를 더한 요약
+     */
+    public NotificationSummaryDto summary(Collection<NotificationGroupCount> extra) {
+        Map<String, NotificationSummaryDto.Counts> sources = new TreeMap<>();
+        Map<String, NotificationSummaryDto.Counts> repositories = new TreeMap<>();
+        long[] totals = new long[2];
+        Consumer<NotificationGroupCount> add = group -> {
+            NotificationSummaryDto.Counts counts = new NotificationSummaryDto.Counts(group.total(), group.unread());
+            totals[0] += counts.total();
+            totals[1] += counts.unread();
+            sources.merge(group.source(), counts, NotificationSummaryDto.Counts::plus);
+            if (group.repository() != null && !NO_REPOSITORY.equals(group.repository())) {
+                repositories.merge(group.repository(), counts, NotificationSummaryDto.Counts::plus);
+            }
+        };
+        jdbcTemplate.query("SELECT source, repository, total, unread FROM notification_counters WHERE total > 0", rs -> {
+            add.accept(new NotificationGroupCount(rs.getString("source"), rs.getString("repository"),
+                    rs.getLong("total"), rs.getLong("unread")));
+        });
+        extra.forEach(add);
+        return NotificationSummaryDto.builder()
+                .total(totals[0])
+                .unread(totals[1])
+                .sources(sources)
+                .repositories(repositories)
+                .build();
+    }
+
+    /**
+     * 모든 카운터를 지웁니다. (알림 전체 삭제와 같은 트랜잭션에서 호출)
+     */
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM notification_counters");
+    }
+
+    @Scheduled(fixedDelayString = "${conflux.counters.reconcile-interval-ms:600000}",
+            initialDelayString = "${conflux.counters.reconcile-initial-delay-ms:30000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("❌ Notification counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터를 실제 알림 집계와 맞춥니다.
+     * 오차를 한 문장으로 구한 뒤 상대값(total = total - 오차)으로 되돌리므로 락 없이 수집과 동시에 실행해도 됩니다.
+     *
+     * @return 보정한 카운터 수
+     */
+    public int reconcile() {
+        Changes corrections = changes();
+        jdbcTemplate.query(DRIFT_SQL, rs -> {
+            corrections.add(rs.getString("source"), rs.getString("repository"),
+                    -rs.getLong("total"), -rs.getLong("unread"));
+        });
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> apply(corrections));
+        log.warn("🩹 Notification counters reconciled: {} keys corrected", corrections.size());
+        return corrections.size();
+    }
+
+    private record Key(String source, String repository) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int bySource = source.compareTo(other.source);
+            return bySource != 0 ? bySource : repository.compareTo(other.repository);
+        }
+    }
+
+    /**
+     * (source, repository)별 증감분 모음
+     */
+    public static final class Changes {
+
+        private final Map<Key, long[]> deltas = new TreeMap<>();
+
+        private Changes() {
+        }
+
+        public Changes add(String source, String repository, long total, long unread) {
+            long[] delta = deltas.computeIfAbsent(
+                    new Key(source, repository != null ? repository : NO_REPOSITORY), key -> new long[2]);
+            delta[0] += total;
+            delta[1] += unread;
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return nonZero().isEmpty();
+        }
+
+        int size() {
+            return deltas.size();
+        }
+
+        private List<Map.Entry<Key, long[]>> nonZero() {
+            List<Map.Entry<Key, long[]>> entries = new ArrayList<>();
+            for (Map.Entry<Key, long[]> entry : deltas.entrySet()) {
+                if (entry.getValue()[0] != 0 || entry.getValue()[1] != 0) {
+                    entries.add(entry);
+                }
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 지문 → 알림 ID 캐시 (LRU, 최대 크기 제한)
+ * 캐시 적중 시 중복 알림 처리는 PK 기준 UPDATE 한 번으로 끝납니다.
+ * 캐시 값이 오래되어도(삭제된 행 등) UPDATE 결과 0건으로 감지되므로 정합성에는 영향이 없습니다.
+ */
+@Component
+public class NotificationDedupCache {
+
+    private final Map<String, Long> cache;
+
+    public NotificationDedupCache(@Value("${conflux.dedup.cache-size:10000}") int maxSize) {
+        this.cache = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized Long get(String fingerprint) {
+        return cache.get(fingerprint);
+    }
+
+    public synchronized void put(String fingerprint, Long id) {
+        cache.put(fingerprint, id);
+    }
+
+    public synchronized void evict(String fingerprint) {
+        cache.remove(fingerprint);
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+}
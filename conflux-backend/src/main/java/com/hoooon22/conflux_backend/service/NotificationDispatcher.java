@@ -0,0 +1,410 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.domain.DispatchChannelType;
+import com.hoooon22.conflux_backend.dto.DispatchRoutes;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.event.NotificationEvent;
+import com.hoooon22.conflux_backend.event.NotificationEventType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 새 알림을 규칙에 따라 외부 채널(웹훅, Slack)로 보내는 발송기
+ *
+ * 알림이 저장되는 트랜잭션 안에서는 채널별 아웃박스 행만 쌓고(커밋 직전 JDBC 배치), 실제 전송은 poll-ms마다
+ * 별도로 진행하므로 수집 경로는 외부 채널의 응답을 기다리지 않습니다.
+ * - 배치/다이제스트: 채널마다 요청 하나에 최대 batchSize개를 담고, 덜 모였으면 가장 오래된 알림이 lingerMs를 기다릴 때까지 모읍니다.
+ * - 속도 제한: 채널별 토큰 버킷 (요청 하나에 토큰 하나, 429를 받으면 모아 둔 토큰을 버림)
+ * - 재시도: 실패한 행은 지수 백오프(+지터, Retry-After가 있으면 그 이상)로 다시 보내고, max-attempts번 실패하면 DEAD로 남깁니다.
+ * 채널마다 요청은 한 번에 하나만 보내며, 꽉 찬 배치를 보낸 직후에는 다음 poll을 기다리지 않고 이어서 보냅니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final int MAX_SLACK_MESSAGE_LENGTH = 200;
+
+    private final NotificationOutbox outbox;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final Path routesFile;
+    private final int maxAttempts;
+    private final long backoffInitialMillis;
+    private final long backoffMaxMillis;
+    private final long leaseMillis;
+    private final Duration requestTimeout;
+    private final long deadRetentionMillis;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private Map<String, ChannelState> channels = Map.of();
+    private List<CompiledRule> rules = List.of();
+
+    public NotificationDispatcher(NotificationOutbox outbox,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  ThreadPoolTaskScheduler taskScheduler,
+                                  @Value("${conflux.dispatch.enabled:false}") boolean enabled,
+                                  @Value("${conflux.dispatch.routes-file:}") String routesFile,
+                                  @Value("${conflux.dispatch.max-attempts:10}") int maxAttempts,
+                                  @Value("${conflux.dispatch.backoff-initial-ms:1000}") long backoffInitialMillis,
+                                  @Value("${conflux.dispatch.backoff-max-ms:600000}") long backoffMaxMillis,
+                                  @Value("${conflux.dispatch.lease-ms:60000}") long leaseMillis,
+                                  @Value("${conflux.dispatch.request-timeout-ms:10000}") long requestTimeoutMillis,
+                                  @Value("${conflux.dispatch.dead-retention-days:7}") int deadRetentionDays) {
+        if (leaseMillis <= requestTimeoutMillis) {
+            throw new IllegalArgumentException("dispatch lease-ms must be longer than request-timeout-ms");
+        }
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.routesFile = routesFile == null || routesFile.isBlank() ? null : Path.of(routesFile);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffInitialMillis = backoffInitialMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.leaseMillis = leaseMillis;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.deadRetentionMillis = TimeUnit.DAYS.toMillis(deadRetentionDays);
+    }
+
+    /**
+     * 시작 시 채널/규칙을 읽습니다. (오류가 있으면 기동 실패)
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (routesFile == null || !Files.exists(routesFile)) {
+            log.warn("⚠️ Notification dispatch enabled but routes file {} not found, nothing will be sent", routesFile);
+            return;
+        }
+        DispatchRoutes routes;
+        try (InputStream in = Files.newInputStream(routesFile)) {
+            routes = objectMapper.readValue(in, DispatchRoutes.class);
+        }
+
+        Map<String, ChannelState> loaded = new LinkedHashMap<>();
+        for (DispatchRoutes.Channel channel : routes.getChannels()) {
+            if (channel.getName() == null || channel.getName().isBlank() || channel.getName().length() > 100) {
+                throw new IllegalArgumentException("Dispatch channel name must be 1-100 characters: " + channel.getName());
+            }
+            if (channel.getType() == null || channel.getUrl() == null) {
+                throw new IllegalArgumentException("Dispatch channel " + channel.getName() + " needs type and url");
+            }
+            if (loaded.put(channel.getName(), new ChannelState(channel, URI.create(channel.getUrl()))) != null) {
+                throw new IllegalArgumentException("Duplicate dispatch channel: " + channel.getName());
+            }
+        }
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (DispatchRoutes.Rule rule : routes.getRules()) {
+            for (String channel : rule.getChannels()) {
+                if (!loaded.containsKey(channel)) {
+                    throw new IllegalArgumentException("Dispatch rule refers to unknown channel: " + channel);
+                }
+            }
+            compiled.add(new CompiledRule(Set.copyOf(rule.getSources()),
+                    rule.getStatuses().stream().map(status -> status.toLowerCase(Locale.ROOT)).collect(Collectors.toSet()),
+                    List.copyOf(rule.getChannels())));
+        }
+        channels = Map.copyOf(loaded);
+        rules = List.copyOf(compiled);
+        log.info("📤 Notification dispatch channels loaded: {} ({} rules)", loaded.keySet(), compiled.size());
+    }
+
+    /**
+     * 새 알림과 묶음 알림의 새 단계(예: 실행 완료)를 알림과 같은 트랜잭션에서 아웃박스에 쌓습니다.
+     * 트랜잭션 안에서는 모아 두었다가 커밋 직전에 JDBC 배치 한 번으로 넣습니다. (수집 배치 500건이면 INSERT 배치 1번)
+     */
+    @EventListener
+    public void onNotificationEvent(NotificationEvent event) {
+        if (!enabled || event.notification() == null || !dispatches(event)) {
+            return;
+        }
+        NotificationDto notification = event.notification();
+        Set<String> targets = route(notification);
+        if (targets.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            log.error("❌ Failed to serialize notification {} for dispatch: {}", notification.getId(), e.getMessage());
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<NotificationOutbox.Entry> entries = targets.stream()
+                .map(channel -> new NotificationOutbox.Entry(channel, notification.getId(), payload, now))
+                .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outbox.enqueue(entries);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<NotificationOutbox.Entry> pending =
+                (List<NotificationOutbox.Entry>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<NotificationOutbox.Entry> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    outbox.enqueue(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(NotificationDispatcher.this);
+                }
+            });
+            pending = buffer;
+        }
+        pending.addAll(entries);
+    }
+
+    /**
+     * 새 알림, 또는 묶음 알림이 새 이벤트로 갱신된 경우 (단순 중복으로 count만 오른 알림은 다시 보내지 않음)
+     */
+    private static boolean dispatches(NotificationEvent event) {
+        return event.type() == NotificationEventType.CREATED
+                || (event.type() == NotificationEventType.UPDATED && event.notification().getGroupKey() != null);
+    }
+
+    /**
+     * 알림이 맞는 규칙들의 채널 (규칙 순서대로, 중복 없이)
+     */
+    Set<String> route(NotificationDto notification) {
+        Set<String> targets = new LinkedHashSet<>();
+        Set<String> titleWords = null;
+        for (CompiledRule rule : rules) {
+            if (!rule.sources().isEmpty() && !rule.sources().contains(notification.getSource())) {
+                continue;
+            }
+            if (!rule.statuses().isEmpty()) {
+                if (titleWords == null) {
+                    titleWords = notification.getTitle() == null ? Set.of()
+                            : Arrays.stream(notification.getTitle().toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}_]+"))
+                                    .collect(Collectors.toSet());
+                }
+                if (rule.statuses().stream().noneMatch(titleWords::contains)) {
+                    continue;
+                }
+            }
+            targets.addAll(rule.channels());
+        }
+        return targets;
+    }
+
+    @Scheduled(fixedDelayString = "${conflux.dispatch.poll-ms:500}")
+    public void dispatchDue() {
+        if (!enabled) {
+            return;
+        }
+        channels.values().forEach(this::dispatch);
+    }
+
+    /**
+     * 오래된 DEAD 행 정리
+     */
+    @Scheduled(fixedDelayString = "${conflux.dispatch.purge-interval-ms:3600000}")
+    public void purgeDead() {
+        if (!enabled) {
+            return;
+        }
+        int purged = outbox.purgeDead(System.currentTimeMillis() - deadRetentionMillis);
+        if (purged > 0) {
+            log.info("🧹 Purged {} undeliverable outbox rows", purged);
+        }
+    }
+
+    private void dispatch(ChannelState channel) {
+        if (!channel.inFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            DispatchRoutes.Channel config = channel.config;
+            // 토큰이 없으면 DB를 조회하지 않음
+            if (!channel.bucket.hasToken()) {
+                channel.inFlight.set(false);
+                return;
+            }
+            List<NotificationOutbox.Message> batch = outbox.claim(config.getName(), System.currentTimeMillis(),
+                    config.getBatchSize(), config.getLingerMs(), leaseMillis);
+            if (batch.isEmpty() || !channel.bucket.tryAcquire()) {
+                channel.inFlight.set(false);
+                return;
+            }
+            HttpRequest request = HttpRequest.newBuilder(channel.uri)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(render(config, batch)))
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> complete(channel, batch, response, error));
+        } catch (RuntimeException | IOException e) {
+            channel.inFlight.set(false);
+            log.warn("⚠️ Dispatch to channel {} failed before sending: {}", channel.config.getName(), e.getMessage());
+        }
+    }
+
+    private void complete(ChannelState channel, List<NotificationOutbox.Message> batch,
+                          HttpResponse<Void> response, Throwable error) {
+        boolean full = false;
+        try {
+            if (error == null && response.statusCode() / 100 == 2) {
+                outbox.delivered(batch);
+                channel.delivered.increment(batch.size());
+                full = batch.size() >= channel.config.getBatchSize();
+                return;
+            }
+            String reason = error != null
+                    ? error.getClass().getSimpleName() + ": " + error.getMessage()
+                    : "HTTP " + response.statusCode();
+            long retryAfterMillis = response != null ? retryAfterMillis(response) : 0;
+            if (response != null && response.statusCode() == 429) {
+                channel.bucket.drain();
+            }
+            long now = System.currentTimeMillis();
+            int dead = outbox.failed(batch, reason, maxAttempts,
+                    message -> now + Math.max(retryAfterMillis, backoffMillis(message.attempts() + 1)));
+            channel.failures.increment(batch.size());
+            channel.dead.increment(dead);
+            log.warn("⚠️ Dispatch of {} notifications to {} failed ({}), {} gave up", batch.size(),
+                    channel.config.getName(), reason, dead);
+        } catch (RuntimeException e) {
+            // 결과를 기록하지 못한 행은 임대가 끝나면 다시 보냄
+            log.warn("⚠️ Failed to record dispatch result for channel {}: {}", channel.config.getName(), e.getMessage());
+        } finally {
+            channel.inFlight.set(false);
+            if (full) {
+                taskScheduler.execute(() -> dispatch(channel));
+            }
+        }
+    }
+
+    /**
+     * attempt번째 실패 후 대기 시간 (initial * 2^(attempt-1), 최대 backoff-max-ms, 절반~전체 사이 지터)
+     */
+    long backoffMillis(int attempt) {
+        long base = backoffInitialMillis << Math.min(attempt - 1, 30);
+        long capped = Math.min(backoffMaxMillis, base <= 0 ? backoffMaxMillis : base);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private static long retryAfterMillis(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+                    } catch (NumberFormatException e) {
+                        return 0L;
+                    }
+                })
+                .orElse(0L);
+    }
+
+    private byte[] render(DispatchRoutes.Channel config, List<NotificationOutbox.Message> batch) throws IOException {
+        if (config.getType() == DispatchChannelType.SLACK) {
+            StringBuilder text = new StringBuilder();
+            if (batch.size() > 1) {
+                text.append("*").append(batch.size()).append(" notifications*\n");
+            }
+            for (NotificationOutbox.Message message : batch) {
+                NotificationDto notification = objectMapper.readValue(message.payload(), NotificationDto.class);
+                String body = notification.getMessage() == null ? "" : notification.getMessage();
+                if (body.length() > MAX_SLACK_MESSAGE_LENGTH) {
+                    body = body.substring(0, MAX_SLACK_MESSAGE_LENGTH) + "…";
+                }
+                text.append("• *[").append(notification.getSource()).append("]* ").append(notification.getTitle());
+                if (!body.isEmpty()) {
+                    text.append(" — ").append(body);
+                }
+                text.append('\n');
+            }
+            return objectMapper.writeValueAsBytes(Map.of("text", text.toString().stripTrailing()));
+        }
+        // 저장해 둔 JSON을 다시 직렬화하지 않고 그대로 이어 붙임
+        StringBuilder json = new StringBuilder(64 + batch.stream().mapToInt(message -> message.payload().length() + 1).sum());
+        json.append("{\"channel\":").append(objectMapper.writeValueAsString(config.getName()))
+                .append(",\"notifications\":[");
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(batch.get(i).payload());
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record CompiledRule(Set<String> sources, Set<String> statuses, List<String> channels) {
+    }
+
+    private final class ChannelState {
+        private final DispatchRoutes.Channel config;
+        private final URI uri;
+        private final TokenBucket bucket;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        private final Counter delivered;
+        private final Counter failures;
+        private final Counter dead;
+
+        private ChannelState(DispatchRoutes.Channel config, URI uri) {
+            this.config = config;
+            this.uri = uri;
+            this.bucket = new TokenBucket(config.getRatePerSecond(), config.getBurst());
+            this.delivered = counter("conflux.dispatch.delivered", "Notifications delivered to the channel");
+            this.failures = counter("conflux.dispatch.failures", "Notification delivery attempts that failed");
+            this.dead = counter("conflux.dispatch.dead", "Notifications given up after max-attempts");
+        }
+
+        private Counter counter(String name, String description) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("channel", config.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
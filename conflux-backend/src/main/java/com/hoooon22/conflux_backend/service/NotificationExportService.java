@@ -0,0 +1,189 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hoooon22.conflux_backend.domain.ExportFormat;
+import com.hoooon22.conflux_backend.domain.ProbeSample;
+import com.hoooon22.conflux_backend.domain.ProbeSampleCodec;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림/프로브 샘플 내보내기 (NDJSON, CSV)
+ *
+ * 결과를 목록으로 모으지 않고, 읽기 전용 트랜잭션의 forward-only 커서에서 fetch-size만큼씩 읽는 대로 씁니다.
+ * (PostgreSQL은 트랜잭션 안에서만 fetch size 단위로 가져옴) 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * 알림은 콜드 티어 세그먼트를 먼저, 그다음 notifications 테이블을 (timestamp, id) 순으로 씁니다.
+ * 내보내는 동안 DB 연결 하나를 계속 씁니다.
+ */
+@Slf4j
+@Service
+public class NotificationExportService {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final String[] NOTIFICATION_COLUMNS = {
+            "id", "timestamp", "source", "title", "message", "repository", "sender", "status", "count"
+    };
+    private static final String[] PROBE_SAMPLE_COLUMNS = {
+            "healthCheckId", "timestamp", "statusCode", "latencyMillis", "errorClass", "success"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final NotificationColdStorage coldStorage;
+    private final ProbeHistoryService probeHistoryService;
+
+    public NotificationExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     NotificationColdStorage coldStorage, ProbeHistoryService probeHistoryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.coldStorage = coldStorage;
+        this.probeHistoryService = probeHistoryService;
+    }
+
+    /**
+     * 조건에 맞는 알림을 시간순으로 씁니다. (filter의 ids는 쓰지 않음, out은 다 쓴 뒤 닫음)
+     *
+     * @return 쓴 행 수
+     */
+    public long exportNotifications(NotificationFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        try (ExportWriter writer = new ExportWriter(format, out, NOTIFICATION_COLUMNS)) {
+            coldStorage.forEachMatching(filter, dto -> write(writer, dto));
+
+            StringBuilder sql = new StringBuilder("SELECT id, timestamp, source, title, message, repository, sender, "
+                    + "status, count FROM notifications WHERE 1 = 1");
+            List<Object> args = new ArrayList<>();
+            if (filter.getSources() != null && !filter.getSources().isEmpty()) {
+                sql.append(" AND source IN (").append(String.join(",", Collections.nCopies(filter.getSources().size(), "?")))
+                        .append(")");
+                args.addAll(filter.getSources());
+            }
+            if (filter.getStatus() != null) {
+                sql.append(" AND status = ?");
+                args.add(filter.getStatus().toUpperCase());
+            }
+            if (filter.getRepository() != null) {
+                sql.append(" AND repository = ?");
+                args.add(filter.getRepository());
+            }
+            if (filter.getFrom() != null) {
+                sql.append(" AND timestamp >= ?");
+                args.add(Timestamp.valueOf(filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                sql.append(" AND timestamp < ?");
+                args.add(Timestamp.valueOf(filter.getTo()));
+            }
+            sql.append(" ORDER BY timestamp, id");
+
+            stream(sql.toString(), args, rs -> writer.row(rs.getLong("id"),
+                    TIMESTAMP.format(rs.getTimestamp("timestamp").toLocalDateTime()), rs.getString("source"),
+                    rs.getString("title"), rs.getString("message"), rs.getString("repository"),
+                    rs.getString("sender"), rs.getString("status"), rs.getInt("count")));
+
+            log.info("📤 Exported {} notifications as {} in {}ms", writer.rows(), format,
+                    (System.nanoTime() - start) / 1_000_000);
+            return writer.rows();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * [from, to) 구간의 원본 프로브 샘플을 체크별, 시간순으로 씁니다. (healthCheckId가 null이면 모든 체크)
+     * 아직 메모리 버퍼에 있는 샘플도 포함되도록 먼저 flush합니다.
+     *
+     * @return 쓴 행 수
+     */
+    public long exportProbeSamples(Long healthCheckId, LocalDateTime from, LocalDateTime to, ExportFormat format,
+                                   OutputStream out) throws IOException {
+        probeHistoryService.flush();
+        long fromMillis = from.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long toMillis = to.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long start = System.nanoTime();
+        try (ExportWriter writer = new ExportWriter(format, out, PROBE_SAMPLE_COLUMNS)) {
+            StringBuilder sql = new StringBuilder(
+                    "SELECT health_check_id, data FROM probe_sample_blocks WHERE end_time >= ? AND start_time < ?");
+            List<Object> args = new ArrayList<>(List.of(fromMillis, toMillis));
+            if (healthCheckId != null) {
+                sql.append(" AND health_check_id = ?");
+                args.add(healthCheckId);
+            }
+            sql.append(" ORDER BY health_check_id, start_time");
+
+            stream(sql.toString(), args, rs -> {
+                long checkId = rs.getLong("health_check_id");
+                for (ProbeSample sample : ProbeSampleCodec.decode(rs.getBytes("data"))) {
+                    if (sample.timestamp() >= fromMillis && sample.timestamp() < toMillis) {
+                        writer.row(checkId, sample.timestamp(), sample.statusCode(), sample.latencyMillis(),
+                                sample.errorClass(), sample.isSuccess());
+                    }
+                }
+            });
+
+            log.info("📤 Exported {} probe samples as {} in {}ms", writer.rows(), format,
+                    (System.nanoTime() - start) / 1_000_000);
+            return writer.rows();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 읽기 전용 트랜잭션에서 forward-only 커서로 행을 하나씩 넘깁니다.
+     */
+    private void stream(String sql, List<Object> args, RowWriter rowWriter) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    private static void write(ExportWriter writer, NotificationDto dto) {
+        try {
+            writer.row(dto.getId(), TIMESTAMP.format(dto.getTimestamp()), dto.getSource(), dto.getTitle(), dto.getMessage(),
+                    dto.getRepository(), dto.getSender(), dto.getStatus(), dto.getCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+}
@@ -0,0 +1,426 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 웹훅 알림 비동기 수집 큐 (write-behind)
+ *
+ * 웹훅 요청 스레드는 큐에 넣고 바로 응답(202)하고, 전용 flusher 스레드가 시간/크기 윈도우 단위로 모아
+ * 같은 지문의 알림을 하나로 합친 뒤 NotificationService.addNotificationBatch로 JDBC 배치 반영합니다.
+ * 큐는 용량이 제한되어 있어 가득 차면 submit이 false를 반환합니다 (컨트롤러에서 429로 응답).
+ * DB 반영에 실패한 배치는 버리지 않고 apply-retry-ms부터 apply-retry-max-ms까지 간격을 늘려 가며 계속 다시 시도합니다.
+ * 그동안 큐가 차서 새 요청은 429로 거절됩니다.
+ * 종료 시에는 새 요청을 받지 않고 큐에 남은 알림을 모두 반영한 뒤 종료합니다. (shutdown-timeout-ms까지)
+ *
+ * WAL을 켜면(conflux.ingest.wal.enabled) 큐에 넣기 전에 NotificationWal에 기록하고 fsync된 뒤에 응답하므로,
+ * 반영 전에 프로세스가 죽어도 이벤트가 남습니다. 배치를 반영한 트랜잭션에서 ingest_wal_state.applied_seq를 함께 올리고,
+ * 시작 시 그보다 뒤의 레코드를 먼저 다시 반영한 뒤 큐를 처리합니다. 반영이 끝난 세그먼트는 지웁니다.
+ * WAL을 켜면 종료 중에는 재시도를 멈추고, 반영 안 된 레코드는 WAL에 남아 다음 시작 때 다시 반영됩니다.
+ */
+@Slf4j
+@Service
+public class NotificationIngestQueue {
+
+    private final NotificationService notificationService;
+    private final NotificationCorrelator correlator;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<IngestEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final boolean walEnabled;
+    private final Path walDirectory;
+    private final int walSegmentBytes;
+    private final boolean walFsync;
+    private final int walKeepAppliedSegments;
+    private final long applyRetryMillis;
+    private final long applyRetryMaxMillis;
+    private final Object walLock = new Object();
+    private final CountDownLatch applicationReady = new CountDownLatch(1);
+    private NotificationWal wal;
+    private long replayUntilSeq;
+
+    private final DistributionSummary batchSizeSummary;
+    private final DistributionSummary coalescedSizeSummary;
+    private final Timer flushTimer;
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final DistributionSummary walGroupSummary;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public NotificationIngestQueue(NotificationService notificationService,
+                                   NotificationCorrelator correlator,
+                                   JdbcTemplate jdbcTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${conflux.ingest.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${conflux.ingest.batch-size:500}") int batchSize,
+                                   @Value("${conflux.ingest.flush-interval-ms:200}") long flushIntervalMillis,
+                                   @Value("${conflux.ingest.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis,
+                                   @Value("${conflux.ingest.wal.enabled:false}") boolean walEnabled,
+                                   @Value("${conflux.ingest.wal.directory:./data/wal}") String walDirectory,
+                                   @Value("${conflux.ingest.wal.segment-bytes:16777216}") int walSegmentBytes,
+                                   @Value("${conflux.ingest.wal.fsync:true}") boolean walFsync,
+                                   @Value("${conflux.ingest.wal.keep-applied-segments:0}") int walKeepAppliedSegments,
+                                   @Value("${conflux.ingest.apply-retry-ms:1000}") long applyRetryMillis,
+                                   @Value("${conflux.ingest.apply-retry-max-ms:30000}") long applyRetryMaxMillis) {
+        this.notificationService = notificationService;
+        this.correlator = correlator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.walEnabled = walEnabled;
+        this.walDirectory = Path.of(walDirectory);
+        this.walSegmentBytes = walSegmentBytes;
+        this.walFsync = walFsync;
+        this.walKeepAppliedSegments = walKeepAppliedSegments;
+        this.applyRetryMillis = applyRetryMillis;
+        this.applyRetryMaxMillis = applyRetryMaxMillis;
+
+        meterRegistry.gauge("conflux.ingest.queue.depth", queue, BlockingQueue::size);
+        this.batchSizeSummary = DistributionSummary.builder("conflux.ingest.batch.size")
+                .description("Webhook events drained per flush")
+                .register(meterRegistry);
+        this.coalescedSizeSummary = DistributionSummary.builder("conflux.ingest.batch.coalesced")
+                .description("Distinct notifications written per flush after dedup coalescing")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("conflux.ingest.flush.latency")
+                .description("Time to write one coalesced batch to the database")
+                .register(meterRegistry);
+        this.acceptedCounter = Counter.builder("conflux.ingest.events")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("conflux.ingest.events")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.walGroupSummary = DistributionSummary.builder("conflux.ingest.wal.group.size")
+                .description("Events made durable per WAL fsync (group commit)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (walEnabled) {
+            Long appliedSeq = jdbcTemplate.queryForObject("SELECT applied_seq FROM ingest_wal_state WHERE id = 1",
+                    Long.class);
+            wal = NotificationWal.open(walDirectory, walSegmentBytes, walFsync, appliedSeq);
+            replayUntilSeq = wal.lastSeq();
+            log.info("📒 Ingest WAL opened at {} (last seq: {}, applied: {})", walDirectory, wal.lastSeq(), appliedSeq);
+        }
+        flusher = new Thread(this::runFlusher, "notification-ingest-flusher");
+        flusher.start();
+        log.info("📥 Notification ingest queue started (capacity: {}, batch: {}, window: {}ms)",
+                queue.remainingCapacity(), batchSize, flushIntervalMillis);
+    }
+
+    /**
+     * 종료 시 새 요청은 거절하고, 큐에 남은 알림을 모두 반영할 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        accepting = false;
+        running = false;
+        log.info("🛑 Draining notification ingest queue ({} pending)...", queue.size());
+        flusher.join(shutdownTimeoutMillis);
+        if (flusher.isAlive()) {
+            log.warn("⚠️ Ingest queue drain timed out, {} notifications not written", queue.size());
+            flusher.interrupt();
+        }
+        if (wal != null) {
+            try {
+                wal.close();
+            } catch (IOException e) {
+                log.error("❌ Failed to sync ingest WAL on close: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * WAL 재반영은 이벤트 리스너(검색 색인, 스트림, 발송)가 모두 등록된 뒤에 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        applicationReady.countDown();
+    }
+
+    /**
+     * 알림을 수집 큐에 넣습니다.
+     *
+     * @return 큐가 가득 찼거나 종료 중이면 false (호출 측에서 429로 응답)
+     */
+    public boolean submit(NotificationDto dto) {
+        if (wal != null) {
+            return submitDurably(dto);
+        }
+        if (accepting && queue.offer(new IngestEvent(0, dto))) {
+            acceptedCounter.increment();
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * WAL에 기록하고 큐에 넣은 뒤, fsync될 때까지 기다립니다.
+     * 기록과 큐 삽입을 한 잠금 안에서 해서 큐의 순서가 seq 순서와 같습니다. (반영 위치가 앞지르지 않도록)
+     */
+    private boolean submitDurably(NotificationDto dto) {
+        byte[] record = NotificationWal.encode(dto);
+        long seq;
+        synchronized (walLock) {
+            if (!accepting || queue.remainingCapacity() == 0) {
+                rejectedCounter.increment();
+                return false;
+            }
+            try {
+                seq = wal.append(record);
+            } catch (IOException | IllegalArgumentException e) {
+                log.error("❌ Failed to append to ingest WAL: {}", e.getMessage());
+                rejectedCounter.increment();
+                return false;
+            }
+            queue.add(new IngestEvent(seq, dto));
+        }
+        try {
+            long synced = wal.sync(seq);
+            if (synced > 0) {
+                walGroupSummary.record(synced);
+            }
+        } catch (IOException e) {
+            // 디스크에 남았는지 알 수 없으므로 응답하지 않음 (큐에 든 이벤트는 반영되므로 재전송 시 중복될 수 있음)
+            // 실패한 WAL은 이후 덧붙이기도 거절하므로 새 요청은 모두 429
+            log.error("❌ Failed to sync ingest WAL (seq {}), rejecting events until restart: {}", seq, e.getMessage());
+            rejectedCounter.increment();
+            return false;
+        }
+        acceptedCounter.increment();
+        return true;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void runFlusher() {
+        if (wal != null && !replayWal()) {
+            return;
+        }
+        List<IngestEvent> drained = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectWindow(drained);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (drained.isEmpty()) {
+                continue;
+            }
+            if (!flush(drained)) {
+                if (wal != null) {
+                    log.warn("⚠️ Stopped applying during shutdown, {} queued events left in WAL for replay", queue.size());
+                } else {
+                    log.error("❌ Stopped applying during shutdown, {} notifications not written",
+                            drained.size() + queue.size());
+                }
+                return;
+            }
+            drained.clear();
+        }
+        log.info("✅ Notification ingest queue drained");
+    }
+
+    /**
+     * 반영되지 않은 WAL 레코드(applied_seq 뒤)를 batchSize씩 다시 반영합니다.
+     *
+     * @return 모두 반영했으면 true (종료 중이라 멈췄으면 false)
+     */
+    private boolean replayWal() {
+        try {
+            while (applicationReady.getCount() > 0) {
+                if (!running) {
+                    return false;
+                }
+                applicationReady.await(100, TimeUnit.MILLISECONDS);
+            }
+            Long appliedSeq = jdbcTemplate.queryForObject("SELECT applied_seq FROM ingest_wal_state WHERE id = 1",
+                    Long.class);
+            List<IngestEvent> chunk = new ArrayList<>(batchSize);
+            long[] replayed = {0};
+            boolean[] stopped = {false};
+            wal.replay(appliedSeq, record -> {
+                // 시작한 뒤에 들어온 이벤트는 큐에서 처리
+                if (stopped[0] || record.seq() > replayUntilSeq) {
+                    return;
+                }
+                chunk.add(new IngestEvent(record.seq(), record.notification()));
+                if (chunk.size() >= batchSize) {
+                    stopped[0] = !flush(chunk);
+                    replayed[0] += chunk.size();
+                    chunk.clear();
+                }
+            });
+            if (!stopped[0] && !chunk.isEmpty()) {
+                stopped[0] = !flush(chunk);
+                replayed[0] += chunk.size();
+            }
+            if (replayed[0] > 0) {
+                log.info("♻️ Replayed {} events from ingest WAL", replayed[0]);
+            }
+            return !stopped[0];
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to replay ingest WAL", e);
+        }
+    }
+
+    /**
+     * 첫 알림이 들어온 뒤 flushIntervalMillis 동안, 또는 batchSize만큼 찰 때까지 모읍니다.
+     */
+    private void collectWindow(List<IngestEvent> drained) throws InterruptedException {
+        IngestEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        drained.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (drained.size() < batchSize) {
+            queue.drainTo(drained, batchSize - drained.size());
+            long remaining = deadline - System.nanoTime();
+            if (drained.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            IngestEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            drained.add(next);
+        }
+    }
+
+    /**
+     * 반영될 때까지 다시 시도합니다. 이미 202로 응답한 이벤트이고, WAL이 있으면 applied_seq가 앞지르지 않아야 합니다.
+     *
+     * @return 반영했으면 true, 종료 중에 멈췄으면 false (WAL이 있으면 WAL에 남음)
+     */
+    private boolean flush(List<IngestEvent> drained) {
+        List<IngestEntry> entries = coalesce(drained);
+        batchSizeSummary.record(drained.size());
+        coalescedSizeSummary.record(entries.size());
+        long appliedSeq = drained.get(drained.size() - 1).seq();
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                if (wal == null) {
+                    notificationService.addNotificationBatch(entries);
+                    return true;
+                }
+                notificationService.addNotificationBatch(entries, () -> jdbcTemplate.update(
+                        "UPDATE ingest_wal_state SET applied_seq = ? WHERE id = 1 AND applied_seq < ?",
+                        appliedSeq, appliedSeq));
+                truncateWal(appliedSeq);
+                return true;
+            } catch (RuntimeException e) {
+                if (!keepRetrying()) {
+                    return false;
+                }
+                long delay = Math.min(applyRetryMillis << Math.min(attempt - 1, 20), applyRetryMaxMillis);
+                log.warn("⚠️ Failed to write notification batch (attempt {}), retrying in {}ms ({} queued): {}",
+                        attempt, delay, queue.size(), e.getMessage());
+                if (!backoff(delay)) {
+                    return false;
+                }
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void truncateWal(long appliedSeq) {
+        try {
+            int deleted = wal.truncate(appliedSeq, walKeepAppliedSegments);
+            if (deleted > 0) {
+                log.debug("🧹 Deleted {} applied ingest WAL segments", deleted);
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to delete applied ingest WAL segments: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * WAL이 없으면 종료 중에도 (shutdown-timeout-ms가 지나 인터럽트될 때까지) 계속 시도하고,
+     * WAL이 있으면 종료 시 멈추고 WAL에 남깁니다.
+     */
+    private boolean keepRetrying() {
+        return running || wal == null;
+    }
+
+    /**
+     * @return 다 기다렸으면 true, 더 시도하지 않아야 하면 false
+     */
+    private boolean backoff(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        try {
+            long remaining;
+            while (keepRetrying() && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)));
+            }
+            return keepRetrying();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 같은 지문의 알림을 하나로 합칩니다. 순서는 처음 들어온 순서, 내용은 마지막 알림 기준입니다.
+     * 묶음 키가 있는 알림은 묶음 지문으로 합쳐지고, 합쳐진 이벤트는 모두 이력에 남습니다. (NotificationCorrelator)
+     */
+    private List<IngestEntry> coalesce(List<IngestEvent> drained) {
+        Map<String, IngestEntry> byFingerprint = new LinkedHashMap<>();
+        for (IngestEvent event : drained) {
+            IngestEntry entry = correlator.toEntry(event.notification());
+            byFingerprint.merge(entry.fingerprint(), entry, IngestEntry::merge);
+        }
+        return new ArrayList<>(byFingerprint.values());
+    }
+
+    /**
+     * 큐에 든 이벤트 (seq: WAL 레코드 번호, WAL을 끄면 0)
+     */
+    private record IngestEvent(long seq, NotificationDto notification) {
+    }
+}
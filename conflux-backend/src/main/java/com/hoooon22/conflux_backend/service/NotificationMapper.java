@@ -0,0 +1,48 @@
+package com.hoooon22.conflux_backend.service;
+
+import com.hoooon22.conflux_backend.domain.Notification;
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+/**
+ * 알림 Entity ↔ DTO 변환
+ */
+public final class NotificationMapper {
+
+    private NotificationMapper() {
+    }
+
+    /**
+     * DTO → Entity 변환
+     */
+    public static Notification toEntity(NotificationDto dto) {
+        return Notification.builder()
+                .source(dto.getSource())
+                .title(dto.getTitle())
+                .message(dto.getMessage())
+                .repository(dto.getRepository())
+                .sender(dto.getSender())
+                .groupKey(dto.getGroupKey())
+                .timestamp(dto.getTimestamp())
+                .status(NotificationStatus.UNREAD) // 기본값: 읽지 않음
+                .build();
+    }
+
+    /**
+     * Entity → DTO 변환
+     */
+    public static NotificationDto toDto(Notification entity) {
+        return NotificationDto.builder()
+                .id(entity.getId()) // ID 추가
+                .source(entity.getSource())
+                .title(entity.getTitle())
+                .message(entity.getMessage())
+                .repository(entity.getRepository())
+                .sender(entity.getSender())
+                .timestamp(entity.getTimestamp())
+                .status(entity.getStatus().name()) // Enum을 String으로 변환
+                .count(entity.getCount()) // 카운트 추가
+                .groupKey(entity.getGroupKey())
+                .build();
+    }
+}
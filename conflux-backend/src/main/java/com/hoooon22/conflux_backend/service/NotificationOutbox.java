@@ -0,0 +1,152 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 발송 대기열 (notification_outbox 테이블, JDBC)
+ *
+ * 행은 알림과 같은 트랜잭션에서 쌓이므로 알림이 커밋되면 발송도 반드시 한 번 이상 시도됩니다.
+ * 발송기는 보낼 차례가 된 행의 next_attempt_at을 임대 만료 시각으로 옮겨(조건부 UPDATE) 가져갑니다.
+ * 여러 인스턴스가 같은 행을 동시에 보내지 않고, 보내던 중 죽은 인스턴스의 행은 임대가 끝나면 다시 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    static final String PENDING = "PENDING";
+    static final String DEAD = "DEAD";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void enqueue(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification_outbox (channel, notification_id, payload, status, "
+                        + "attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, 0, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Entry entry = entries.get(i);
+                        ps.setString(1, entry.channel());
+                        ps.setObject(2, entry.notificationId());
+                        ps.setString(3, entry.payload());
+                        ps.setString(4, PENDING);
+                        ps.setLong(5, entry.createdAt());
+                        ps.setLong(6, entry.createdAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                });
+    }
+
+    /**
+     * 채널의 보낼 차례가 된 행을 최대 limit개 임대합니다.
+     * limit개가 안 되고 가장 오래된 행도 linger만큼 기다리지 않았으면 더 모이도록 비워서 반환합니다.
+     */
+    public List<Message> claim(String channel, long now, int limit, long lingerMillis, long leaseMillis) {
+        List<Message> due = jdbcTemplate.query(
+                "SELECT id, payload, attempts, next_attempt_at, created_at FROM notification_outbox "
+                        + "WHERE channel = ? AND status = ? AND next_attempt_at <= ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new Message(rs.getLong("id"), rs.getString("payload"), rs.getInt("attempts"),
+                        rs.getLong("next_attempt_at"), rs.getLong("created_at")),
+                channel, PENDING, now, limit);
+        if (due.isEmpty()
+                || due.size() < limit && due.stream().allMatch(message -> message.createdAt() > now - lingerMillis)) {
+            return List.of();
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE notification_outbox SET next_attempt_at = ? WHERE id = ? AND next_attempt_at = ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, now + leaseMillis);
+                        ps.setLong(2, due.get(i).id());
+                        ps.setLong(3, due.get(i).nextAttemptAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return due.size();
+                    }
+                });
+        List<Message> claimed = new ArrayList<>(due.size());
+        for (int i = 0; i < updated.length; i++) {
+            // 다른 인스턴스가 먼저 가져간 행은 제외
+            if (updated[i] != 0) {
+                claimed.add(due.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 전송에 성공한 행 삭제
+     */
+    public void delivered(List<Message> messages) {
+        jdbcTemplate.batchUpdate("DELETE FROM notification_outbox WHERE id = ?", messages, messages.size(),
+                (ps, message) -> ps.setLong(1, message.id()));
+    }
+
+    /**
+     * 전송에 실패한 행을 다시 예약하고, 시도 횟수가 maxAttempts에 닿은 행은 DEAD로 남깁니다.
+     *
+     * @return DEAD가 된 행 수
+     */
+    public int failed(List<Message> messages, String error, int maxAttempts, ToLongFunction<Message> nextAttemptAt) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        int dead = (int) messages.stream().filter(message -> message.attempts() + 1 >= maxAttempts).count();
+        jdbcTemplate.batchUpdate("UPDATE notification_outbox SET attempts = ?, status = ?, next_attempt_at = ?, "
+                        + "last_error = ? WHERE id = ?", messages, messages.size(),
+                (ps, message) -> {
+                    int attempts = message.attempts() + 1;
+                    ps.setInt(1, attempts);
+                    ps.setString(2, attempts >= maxAttempts ? DEAD : PENDING);
+                    ps.setLong(3, attempts >= maxAttempts ? message.nextAttemptAt() : nextAttemptAt.applyAsLong(message));
+                    ps.setString(4, lastError);
+                    ps.setLong(5, message.id());
+                });
+        return dead;
+    }
+
+    /**
+     * createdBefore 이전에 쌓인 DEAD 행 삭제
+     */
+    public int purgeDead(long createdBefore) {
+        return jdbcTemplate.update("DELETE FROM notification_outbox WHERE status = ? AND created_at < ?",
+                DEAD, createdBefore);
+    }
+
+    /**
+     * 쌓을 행 (채널마다 하나)
+     *
+     * @param payload 알림 JSON (발송 시점에 알림이 지워졌거나 옮겨졌어도 그대로 보냄)
+     */
+    public record Entry(String channel, Long notificationId, String payload, long createdAt) {
+    }
+
+    /**
+     * 임대한 행
+     *
+     * @param attempts      지금까지 실패한 횟수
+     * @param nextAttemptAt 임대 전의 next_attempt_at (임대 조건)
+     */
+    public record Message(long id, String payload, int attempts, long nextAttemptAt, long createdAt) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+import com.hoooon22.conflux_backend.event.NotificationEvent;
+import com.hoooon22.conflux_backend.event.NotificationEventType;
+import com.hoooon22.conflux_backend.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 보관 기간 정리
+ *
+ * max-age-days보다 오래된 알림을 chunk-size 건씩 나눠 각각 별도 트랜잭션으로 삭제합니다.
+ * (mode=archive면 삭제 전에 notifications_archive로 옮김)
+ * 한 번에 잡는 락이 chunk-size 행으로 제한되고 chunk 사이에 잠깐 쉬므로, 정리 중에도 웹훅 수집이 막히지 않습니다.
+ * 콜드 티어(NotificationColdStorage)는 세그먼트의 모든 알림이 보관 기간을 지나면 파일째 지웁니다. (archive 모드에서는 그대로 둠)
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private static final String ARCHIVE_MODE = "archive";
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationCounters counters;
+    private final NotificationColdStorage coldStorage;
+    private final int maxAgeDays;
+    private final boolean archive;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        JdbcTemplate jdbcTemplate,
+                                        ApplicationEventPublisher eventPublisher,
+                                        NotificationCounters counters,
+                                        NotificationColdStorage coldStorage,
+                                        @Value("${conflux.retention.max-age-days:90}") int maxAgeDays,
+                                        @Value("${conflux.retention.mode:purge}") String mode,
+                                        @Value("${conflux.retention.chunk-size:1000}") int chunkSize,
+                                        @Value("${conflux.retention.chunk-pause-ms:50}") long chunkPauseMillis) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.counters = counters;
+        this.coldStorage = coldStorage;
+        this.maxAgeDays = maxAgeDays;
+        this.archive = ARCHIVE_MODE.equalsIgnoreCase(mode);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkPauseMillis = chunkPauseMillis;
+    }
+
+    /**
+     * 보관 기간이 지난 알림을 정리합니다. (max-age-days가 0 이하면 끔)
+     */
+    @Scheduled(fixedDelayString = "${conflux.retention.interval-ms:3600000}",
+            initialDelayString = "${conflux.retention.initial-delay-ms:60000}")
+    public void applyRetention() {
+        if (maxAgeDays <= 0) {
+            return;
+        }
+        purgeOlderThan(LocalDateTime.now().minus(Duration.ofDays(maxAgeDays)));
+    }
+
+    /**
+     * cutoff 이전 알림을 chunk 단위로 삭제(또는 보관)합니다.
+     *
+     * @return 삭제된 알림 수 (지운 세그먼트의 알림 포함)
+     */
+    public int purgeOlderThan(LocalDateTime cutoff) {
+        int total = 0;
+        int chunks = 0;
+        List<Long> ids;
+        do {
+            ids = notificationRepository.findIdsOlderThan(cutoff, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            total += purgeChunk(ids, cutoff);
+            chunks++;
+            if (ids.size() == chunkSize && !pause()) {
+                break;
+            }
+        } while (ids.size() == chunkSize);
+        long dropped = archive ? 0 : coldStorage.dropOlderThan(cutoff);
+
+        if (total > 0 || dropped > 0) {
+            // 오래된 알림은 조건(to=cutoff) 하나로 구독자에게 알림
+            eventPublisher.publishEvent(NotificationEvent.bulk(NotificationEventType.BULK_DELETED,
+                    NotificationFilter.builder().to(cutoff).build()));
+            log.info("🧹 Notification retention: {} notifications {} in {} chunks, {} dropped with expired segments "
+                    + "(older than {})", total, archive ? "archived" : "deleted", chunks, dropped, cutoff);
+        }
+        return total + (int) dropped;
+    }
+
+    /**
+     * chunk 하나를 한 트랜잭션으로 처리합니다.
+     * 조회 이후 중복 알림으로 시간이 갱신된 행은 건너뛰도록 삭제 조건에도 cutoff를 겁니다.
+     */
+    private int purgeChunk(List<Long> ids, LocalDateTime cutoff) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            if (archive) {
+                List<Object> args = new ArrayList<>(ids.size() + 2);
+                args.add(Timestamp.valueOf(LocalDateTime.now()));
+                args.add(Timestamp.valueOf(cutoff));
+                args.addAll(ids);
+                jdbcTemplate.update("INSERT INTO notifications_archive "
+                        + "(id, source, title, message, repository, sender, timestamp, status, count, archived_at) "
+                        + "SELECT id, source, title, message, repository, sender, timestamp, status, count, ? "
+                        + "FROM notifications WHERE timestamp < ? AND id IN ("
+                        + String.join(",", Collections.nCopies(ids.size(), "?")) + ")", args.toArray());
+            }
+            NotificationFilter chunk = NotificationFilter.builder().ids(ids).to(cutoff).build();
+            // 카운터는 상태별 DELETE의 실제 삭제 행 수로 조정 (집계 후 읽음 처리된 행으로 어긋나지 않음)
+            NotificationCounters.Changes counterChanges = NotificationCounters.changes();
+            int chunkDeleted = 0;
+            for (NotificationGroupCount group : notificationRepository.countGroups(chunk, null)) {
+                int unread = notificationRepository.delete(chunk, group.source(), group.repository(),
+                        NotificationStatus.UNREAD);
+                int read = notificationRepository.delete(chunk, group.source(), group.repository(),
+                        NotificationStatus.READ);
+                counterChanges.add(group.source(), group.repository(), -(unread + read), -unread);
+                chunkDeleted += unread + read;
+            }
+            counters.apply(counterChanges);
+            return chunkDeleted;
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private boolean pause() {
+        if (chunkPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
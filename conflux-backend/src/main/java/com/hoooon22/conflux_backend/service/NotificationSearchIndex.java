@@ -0,0 +1,881 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.event.NotificationEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 검색용 인메모리 역색인 (title, message, repository, sender)
+ *
+ * 용어(소문자로 바꾼 글자/숫자 연속) → posting 목록(알림 ID 오름차순, ID와 필드 비트를 long 하나에 담음)을 TreeMap에 둡니다.
+ * 검색어의 각 토큰은 같은 용어와, 그 토큰으로 시작하는 용어(접두사, 최대 max-prefix-expansions개)에 매칭됩니다.
+ * 모든 토큰이 매칭된 알림만 결과에 포함되고(AND), 점수는 토큰별 최고점(idf × 필드 가중치, 접두사 매칭은 감점)의 합이며
+ * 점수가 같으면 최근 알림이 먼저입니다.
+ *
+ * 기동 시 DB와 콜드 티어 세그먼트에서 한 번 색인하고(백그라운드), 이후에는 커밋된 NotificationEvent로 증분 반영합니다.
+ * 알림이 콜드 티어로 옮겨져도 ID는 그대로이므로 색인은 바뀌지 않습니다.
+ * 중복 알림은 내용이 같으므로 시간만 갱신합니다. 묶음 알림은 이벤트마다 제목/메시지/발신자가 바뀌므로
+ * 색인한 용어를 따로 보관해 두었다가 이전 posting을 지우고 다시 색인합니다.
+ * 삭제된 알림은 표시만 해두고, 일정 비율을 넘으면 DB에서 다시 색인합니다.
+ * 조건 기반 일괄 삭제처럼 색인만으로 대상을 알 수 없는 경우는 NotificationSearchService가 결과를 DB에서 읽을 때 발견해 지웁니다.
+ */
+@Slf4j
+@Component
+public class NotificationSearchIndex {
+
+    static final int TITLE = 1;
+    static final int MESSAGE = 2;
+    static final int REPOSITORY = 4;
+    static final int SENDER = 8;
+
+    /**
+     * posting = (알림 ID << FIELD_BITS) | 필드 비트 (값 순서가 곧 ID 순서)
+     */
+    private static final int FIELD_BITS = 4;
+    private static final long FIELD_MASK = (1L << FIELD_BITS) - 1;
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final float PREFIX_PENALTY = 0.6f;
+    private static final int COMPACT_MIN_DELETED = 10_000;
+
+    private static final float[] FIELD_WEIGHTS = new float[16];
+
+    static {
+        for (int fields = 0; fields < FIELD_WEIGHTS.length; fields++) {
+            FIELD_WEIGHTS[fields] = ((fields & TITLE) != 0 ? 3f : 0f)
+                    + ((fields & REPOSITORY) != 0 ? 2f : 0f)
+                    + ((fields & SENDER) != 0 ? 2f : 0f)
+                    + ((fields & MESSAGE) != 0 ? 1f : 0f);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationColdStorage coldStorage;
+    private final int maxPrefixExpansions;
+    private final int maxTermsPerNotification;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // lock으로 보호
+    private IndexData data = new IndexData();
+    private List<NotificationEvent> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    public NotificationSearchIndex(JdbcTemplate jdbcTemplate,
+                                   NotificationColdStorage coldStorage,
+                                   @Value("${conflux.search.max-prefix-expansions:128}") int maxPrefixExpansions,
+                                   @Value("${conflux.search.max-terms-per-notification:256}") int maxTermsPerNotification) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.coldStorage = coldStorage;
+        this.maxPrefixExpansions = maxPrefixExpansions;
+        this.maxTermsPerNotification = maxTermsPerNotification;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * DB에서 다시 색인합니다. (백그라운드, 이미 진행 중이면 무시)
+     * 색인하는 동안에도 기존 색인으로 검색하며, 그 사이에 들어온 이벤트는 새 색인에 이어서 반영합니다.
+     */
+    public void requestRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null || rebuildExecutor.isShutdown()) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된(삭제되지 않은) 알림 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return data.live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후에만 반영합니다. 트랜잭션 밖에서 발행된 이벤트는 즉시 반영합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationEvent(NotificationEvent event) {
+        lock.writeLock().lock();
+        try {
+            data.apply(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * DB에 없는 것으로 확인된 알림을 색인에서 지웁니다.
+     */
+    public void remove(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(data::delete);
+            if (pendingDuringRebuild != null) {
+                ids.forEach(id -> pendingDuringRebuild.add(NotificationEvent.deleted(id)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * 검색어와 매칭되는 알림 ID를 점수 순으로 최대 limit개 반환합니다.
+     *
+     * @throws IllegalStateException 기동 후 첫 색인이 아직 끝나지 않았을 때
+     */
+    public SearchHits search(String query, int limit) {
+        if (!ready) {
+            throw new IllegalStateException("Search index is not ready yet");
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        tokenize(query, tokens::add);
+        if (tokens.isEmpty() || limit <= 0) {
+            return new SearchHits(List.of(), 0);
+        }
+        List<String> queryTokens = new ArrayList<>(tokens).subList(0, Math.min(tokens.size(), MAX_QUERY_TOKENS));
+
+        lock.readLock().lock();
+        try {
+            return data.search(queryTokens, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild() {
+        long startNanos = System.nanoTime();
+        try {
+            IndexData fresh = new IndexData();
+            // 콜드 티어(대개 ID가 작음)부터 색인해야 posting 끝에 이어 붙이게 됨
+            // 콜드 티어로 옮겨진 묶음은 더 이상 바뀌지 않으므로 묶음으로 보관하지 않음
+            coldStorage.forEach(dto -> fresh.index(dto.getId(), dto.getTitle(), dto.getMessage(), dto.getRepository(),
+                    dto.getSender(), dto.getTimestamp(), false));
+            jdbcTemplate.query("SELECT id, title, message, repository, sender, timestamp, group_key FROM notifications "
+                            + "ORDER BY id",
+                    rs -> {
+                        fresh.index(rs.getLong("id"), rs.getString("title"), rs.getString("message"),
+                                rs.getString("repository"), rs.getString("sender"),
+                                rs.getTimestamp("timestamp").toLocalDateTime(), rs.getString("group_key") != null);
+                    });
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(fresh::apply);
+                data = fresh;
+                ready = true;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            log.info("🔎 Search index built: {} notifications, {} terms in {}ms",
+                    fresh.live, fresh.terms.size(), (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("❌ Failed to build search index: {}", e.getMessage(), e);
+        }
+    }
+
+    private void compactIfNeeded() {
+        boolean compact;
+        lock.readLock().lock();
+        try {
+            compact = data.deleted >= COMPACT_MIN_DELETED && data.deleted > data.live / 4;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (compact) {
+            log.info("🧹 Search index has too many deleted notifications, rebuilding");
+            requestRebuild();
+        }
+    }
+
+    /**
+     * 글자/숫자 연속을 소문자 토큰으로 나눕니다. (MAX_TOKEN_LENGTH 초과분은 잘라냄)
+     */
+    static void tokenize(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.appendCodePoint(Character.toLowerCase(codePoint));
+                }
+            } else if (!token.isEmpty()) {
+                consumer.accept(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (!token.isEmpty()) {
+            consumer.accept(token.toString());
+        }
+    }
+
+    private static long docId(Long id) {
+        return id != null && id > 0 ? id : -1;
+    }
+
+    private static long doc(long posting) {
+        return posting >>> FIELD_BITS;
+    }
+
+    private static long epochSeconds(LocalDateTime timestamp) {
+        return timestamp != null ? Math.max(1, timestamp.toEpochSecond(ZoneOffset.UTC)) : 1;
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param ids   점수 순 알림 ID (최대 limit개)
+     * @param total 매칭된 전체 알림 수
+     */
+    public record SearchHits(List<Long> ids, int total) {
+    }
+
+    /**
+     * 색인 데이터 (lock으로 보호, 다시 색인할 때는 새로 만들어 통째로 교체)
+     */
+    private final class IndexData {
+
+        /**
+         * 용어 → Long(posting 하나) 또는 Postings (알림 하나에만 나오는 용어가 대부분이라 객체를 아낌)
+         */
+        private final TreeMap<String, Object> terms = new TreeMap<>();
+
+        /**
+         * 알림 ID → 마지막 발생 시간 (epoch 초, 0이면 색인되지 않았거나 삭제됨)
+         */
+        private DocTimestamps timestamps = new DocTimestamps();
+
+        /**
+         * 묶음 알림 ID → 색인한 용어 (내용이 바뀌면 이전 posting을 지우는 데 씀, 묶음 알림만 보관)
+         */
+        private final Map<Long, String[]> groupTerms = new HashMap<>();
+        private int live;
+        private int deleted;
+
+        void apply(NotificationEvent event) {
+            switch (event.type()) {
+                case CREATED, UPDATED -> upsert(event.notification());
+                case DELETED -> delete(event.id());
+                case CLEARED -> clear();
+                case BULK_DELETED -> deleteMatching(event.criteria());
+                default -> {
+                    // 읽음 처리는 검색에 영향 없음
+                }
+            }
+        }
+
+        private void upsert(NotificationDto dto) {
+            long doc = docId(dto.getId());
+            if (doc < 0) {
+                return;
+            }
+            boolean grouped = dto.getGroupKey() != null;
+            if (timestamps.get(doc) != 0) {
+                if (!grouped) {
+                    // 중복 알림: 내용은 같고 시간만 바뀜
+                    timestamps.put(doc, epochSeconds(dto.getTimestamp()));
+                    return;
+                }
+                // 묶음 알림: 최신 이벤트로 내용이 바뀌었으므로 이전 용어를 지우고 다시 색인
+                removePostings(doc);
+            }
+            index(dto.getId(), dto.getTitle(), dto.getMessage(), dto.getRepository(), dto.getSender(), dto.getTimestamp(),
+                    grouped);
+        }
+
+        void index(long id, String title, String message, String repository, String sender, LocalDateTime timestamp,
+                   boolean grouped) {
+            long doc = docId(id);
+            if (doc < 0) {
+                return;
+            }
+            Map<String, Integer> docTerms = new HashMap<>();
+            collect(docTerms, title, TITLE);
+            collect(docTerms, repository, REPOSITORY);
+            collect(docTerms, sender, SENDER);
+            collect(docTerms, message, MESSAGE);
+            docTerms.forEach((term, fields) -> addPosting(term, (doc << FIELD_BITS) | fields));
+            if (grouped) {
+                groupTerms.put(doc, docTerms.keySet().toArray(String[]::new));
+            }
+
+            if (timestamps.put(doc, epochSeconds(timestamp)) == 0) {
+                live++;
+            }
+        }
+
+        private void collect(Map<String, Integer> docTerms, String text, int field) {
+            tokenize(text, term -> {
+                if (docTerms.size() < maxTermsPerNotification || docTerms.containsKey(term)) {
+                    docTerms.merge(term, field, (a, b) -> a | b);
+                }
+            });
+        }
+
+        private void addPosting(String term, long entry) {
+            Object current = terms.get(term);
+            if (current == null) {
+                terms.put(term, entry);
+            } else if (current instanceof Long single) {
+                if (doc(single) == doc(entry)) {
+                    terms.put(term, single | entry);
+                } else {
+                    terms.put(term, new Postings(single, entry));
+                }
+            } else {
+                ((Postings) current).add(entry);
+            }
+        }
+
+        /**
+         * 묶음 알림의 이전 posting을 지웁니다. (보관한 용어가 없으면 그대로 둠)
+         */
+        private void removePostings(long doc) {
+            String[] previous = groupTerms.remove(doc);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous) {
+                Object current = terms.get(term);
+                if (current instanceof Long single) {
+                    if (doc(single) == doc) {
+                        terms.remove(term);
+                    }
+                } else if (current != null && ((Postings) current).remove(doc)) {
+                    terms.remove(term);
+                }
+            }
+        }
+
+        void delete(Long id) {
+            long doc = docId(id);
+            if (doc >= 0 && timestamps.get(doc) != 0) {
+                groupTerms.remove(doc);
+                timestamps.put(doc, 0);
+                live--;
+                deleted++;
+            }
+        }
+
+        private void clear() {
+            terms.clear();
+            groupTerms.clear();
+            timestamps = new DocTimestamps();
+            live = 0;
+            deleted = 0;
+        }
+
+        /**
+         * ID 목록이나 시간 범위만으로 된 조건은 바로 반영하고, 그 밖의 조건은 검색 시 DB 확인에 맡깁니다.
+         */
+        private void deleteMatching(NotificationFilter criteria) {
+            boolean otherCriteria = (criteria.getSources() != null && !criteria.getSources().isEmpty())
+                    || criteria.getStatus() != null || criteria.getRepository() != null;
+            if (otherCriteria) {
+                return;
+            }
+            if (criteria.getIds() != null && !criteria.getIds().isEmpty()) {
+                if (criteria.getFrom() == null && criteria.getTo() == null) {
+                    criteria.getIds().forEach(this::delete);
+                }
+                return;
+            }
+            long from = criteria.getFrom() != null ? epochSeconds(criteria.getFrom()) : Long.MIN_VALUE;
+            long to = criteria.getTo() != null ? epochSeconds(criteria.getTo()) : Long.MAX_VALUE;
+            timestamps.forEach((doc, timestamp) -> {
+                if (timestamp != 0 && timestamp >= from && timestamp < to) {
+                    delete(doc);
+                }
+            });
+        }
+
+        SearchHits search(List<String> tokens, int limit) {
+            List<List<Expansion>> perToken = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                List<Expansion> expansions = expansions(token);
+                if (expansions.isEmpty()) {
+                    return new SearchHits(List.of(), 0);
+                }
+                perToken.add(expansions);
+            }
+            // posting이 가장 적은 토큰으로 후보를 만들고 나머지 토큰으로 좁힘
+            perToken.sort(Comparator.comparingLong(NotificationSearchIndex::postingCount));
+            Candidates candidates = union(perToken.get(0));
+            for (int i = 1; i < perToken.size() && candidates.size > 0; i++) {
+                candidates = intersect(candidates, perToken.get(i));
+            }
+            return top(candidates, limit);
+        }
+
+        private List<Expansion> expansions(String token) {
+            List<Expansion> expansions = new ArrayList<>();
+            Object exact = terms.get(token);
+            if (exact != null) {
+                expansions.add(expansion(exact, 1f));
+            }
+            if (token.length() >= MIN_PREFIX_LENGTH) {
+                int count = 0;
+                for (Map.Entry<String, Object> entry : terms.tailMap(token, false).entrySet()) {
+                    if (!entry.getKey().startsWith(token) || count++ >= maxPrefixExpansions) {
+                        break;
+                    }
+                    expansions.add(expansion(entry.getValue(), PREFIX_PENALTY));
+                }
+            }
+            return expansions;
+        }
+
+        private Expansion expansion(Object value, float penalty) {
+            long[] entries;
+            int size;
+            if (value instanceof Long single) {
+                entries = new long[] {single};
+                size = 1;
+            } else {
+                Postings postings = (Postings) value;
+                entries = postings.entries;
+                size = postings.size;
+            }
+            // BM25 idf (삭제 표시만 된 posting 때문에 음수가 되지 않도록 하한)
+            float idf = (float) Math.log(1 + (live - size + 0.5) / (size + 0.5));
+            return new Expansion(entries, size, Math.max(idf, 0.01f) * penalty);
+        }
+
+        /**
+         * 삭제된 알림을 빼고 (점수, 시간, ID) 내림차순 상위 limit개
+         * ID가 큰(대개 최근) 알림부터 보므로 점수가 비슷하면 힙이 금방 채워지고 이후 후보는 대부분 비교 한 번으로 끝납니다.
+         */
+        private SearchHits top(Candidates candidates, int limit) {
+            int[] heap = new int[Math.min(limit, candidates.size)];
+            int heapSize = 0;
+            int total = 0;
+            for (int i = candidates.size - 1; i >= 0; i--) {
+                if (timestamps.get(candidates.docs[i]) == 0) {
+                    continue;
+                }
+                total++;
+                if (heapSize < heap.length) {
+                    heap[heapSize] = i;
+                    siftUp(heap, heapSize++, candidates);
+                } else if (heap.length > 0 && ranksHigher(candidates, i, heap[0])) {
+                    heap[0] = i;
+                    siftDown(heap, heapSize, candidates);
+                }
+            }
+            Integer[] ranked = new Integer[heapSize];
+            for (int i = 0; i < heapSize; i++) {
+                ranked[i] = heap[i];
+            }
+            Arrays.sort(ranked, (a, b) -> ranksHigher(candidates, a, b) ? -1 : ranksHigher(candidates, b, a) ? 1 : 0);
+            List<Long> ids = new ArrayList<>(heapSize);
+            for (Integer index : ranked) {
+                ids.add(candidates.docs[index]);
+            }
+            return new SearchHits(ids, total);
+        }
+
+        private boolean ranksHigher(Candidates candidates, int a, int b) {
+            if (candidates.scores[a] != candidates.scores[b]) {
+                return candidates.scores[a] > candidates.scores[b];
+            }
+            long timestampA = timestamps.get(candidates.docs[a]);
+            long timestampB = timestamps.get(candidates.docs[b]);
+            if (timestampA != timestampB) {
+                return timestampA > timestampB;
+            }
+            return candidates.docs[a] > candidates.docs[b];
+        }
+
+        /**
+         * 최소 힙 (루트가 현재 상위 limit개 중 가장 낮은 순위)
+         */
+        private void siftUp(int[] heap, int index, Candidates candidates) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksHigher(candidates, heap[parent], heap[index])) {
+                    break;
+                }
+                swap(heap, parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int size, Candidates candidates) {
+            int index = 0;
+            while (true) {
+                int lowest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && ranksHigher(candidates, heap[lowest], heap[left])) {
+                    lowest = left;
+                }
+                if (right < size && ranksHigher(candidates, heap[lowest], heap[right])) {
+                    lowest = right;
+                }
+                if (lowest == index) {
+                    return;
+                }
+                swap(heap, index, lowest);
+                index = lowest;
+            }
+        }
+    }
+
+    private static long postingCount(List<Expansion> expansions) {
+        long count = 0;
+        for (Expansion expansion : expansions) {
+            count += expansion.size;
+        }
+        return count;
+    }
+
+    private static float score(Expansion expansion, long entry) {
+        return expansion.weight * FIELD_WEIGHTS[(int) (entry & FIELD_MASK)];
+    }
+
+    /**
+     * 한 토큰의 확장 용어들의 posting 합집합 (알림별 최고점, k-way 병합)
+     */
+    private static Candidates union(List<Expansion> expansions) {
+        int total = (int) postingCount(expansions);
+        Candidates result = new Candidates(total);
+        int k = expansions.size();
+        int[] cursors = new int[k];
+        int[] heap = new int[k];
+        int heapSize = 0;
+        for (int e = 0; e < k; e++) {
+            heap[heapSize] = e;
+            siftUpByDoc(heap, heapSize++, expansions, cursors);
+        }
+        while (heapSize > 0) {
+            int e = heap[0];
+            Expansion expansion = expansions.get(e);
+            long entry = expansion.entries[cursors[e]];
+            result.addOrMax(doc(entry), score(expansion, entry));
+            if (++cursors[e] >= expansion.size) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDownByDoc(heap, heapSize, expansions, cursors);
+        }
+        return result;
+    }
+
+    /**
+     * 후보 중 이 토큰의 확장 용어에 매칭되는 것만 남기고 토큰 점수(최고점)를 더합니다.
+     */
+    private static Candidates intersect(Candidates candidates, List<Expansion> expansions) {
+        float[] best = new float[candidates.size];
+        Arrays.fill(best, -1f);
+        for (Expansion expansion : expansions) {
+            int position = 0;
+            for (int i = 0; i < candidates.size && position < expansion.size; i++) {
+                long doc = candidates.docs[i];
+                position = gallop(expansion.entries, position, expansion.size, doc);
+                if (position < expansion.size && doc(expansion.entries[position]) == doc) {
+                    best[i] = Math.max(best[i], score(expansion, expansion.entries[position]));
+                }
+            }
+        }
+        Candidates result = new Candidates(candidates.size);
+        for (int i = 0; i < candidates.size; i++) {
+            if (best[i] >= 0) {
+                result.addOrMax(candidates.docs[i], candidates.scores[i] + best[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * from부터 ID가 doc 이상인 첫 posting 위치 (지수 탐색 후 이진 탐색)
+     */
+    private static int gallop(long[] entries, int from, int size, long doc) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < size && doc(entries[high]) < doc) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high, size);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (doc(entries[mid]) < doc) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long currentDoc(int e, List<Expansion> expansions, int[] cursors) {
+        return doc(expansions.get(e).entries[cursors[e]]);
+    }
+
+    private static void siftUpByDoc(int[] heap, int index, List<Expansion> expansions, int[] cursors) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (currentDoc(heap[parent], expansions, cursors) <= currentDoc(heap[index], expansions, cursors)) {
+                break;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDownByDoc(int[] heap, int size, List<Expansion> expansions, int[] cursors) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && currentDoc(heap[left], expansions, cursors) < currentDoc(heap[smallest], expansions, cursors)) {
+                smallest = left;
+            }
+            if (right < size && currentDoc(heap[right], expansions, cursors) < currentDoc(heap[smallest], expansions, cursors)) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * 검색어 토큰 하나가 매칭되는 용어의 posting
+     */
+    private record Expansion(long[] entries, int size, float weight) {
+    }
+
+    /**
+     * 검색 후보 (알림 ID 오름차순 + 점수)
+     */
+    private static final class Candidates {
+
+        private final long[] docs;
+        private final float[] scores;
+        private int size;
+
+        Candidates(int capacity) {
+            this.docs = new long[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void addOrMax(long doc, float score) {
+            if (size > 0 && docs[size - 1] == doc) {
+                scores[size - 1] = Math.max(scores[size - 1], score);
+                return;
+            }
+            docs[size] = doc;
+            scores[size++] = score;
+        }
+    }
+
+    /**
+     * 알림 ID 오름차순 posting 목록
+     */
+    private static final class Postings {
+
+        private long[] entries;
+        private int size;
+
+        Postings(long first, long second) {
+            entries = new long[4];
+            entries[0] = first;
+            size = 1;
+            add(second);
+        }
+
+        void add(long entry) {
+            long doc = doc(entry);
+            if (doc > doc(entries[size - 1])) {
+                ensureCapacity();
+                entries[size++] = entry;
+                return;
+            }
+            // 커밋 순서가 ID 순서와 다를 때 (대부분 끝 근처에 끼워 넣음)
+            int position = gallop(entries, 0, size, doc);
+            if (position < size && doc(entries[position]) == doc) {
+                entries[position] |= entry;
+                return;
+            }
+            ensureCapacity();
+            System.arraycopy(entries, position, entries, position + 1, size - position);
+            entries[position] = entry;
+            size++;
+        }
+
+        /**
+         * @return 지운 뒤 비었으면 true
+         */
+        boolean remove(long doc) {
+            int position = gallop(entries, 0, size, doc);
+            if (position < size && doc(entries[position]) == doc) {
+                System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+                size--;
+            }
+            return size == 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+        }
+    }
+
+    /**
+     * 알림 ID → epoch 초 (열린 주소법, 크기는 ID 최댓값이 아니라 색인된 알림 수에 비례)
+     * 삭제는 값만 0으로 두고, 칸은 다시 색인할 때 정리됩니다.
+     */
+    private static final class DocTimestamps {
+
+        private long[] keys = new long[1024];
+        private long[] values = new long[1024];
+        private int size;
+
+        long get(long id) {
+            int slot = slot(keys, id);
+            return keys[slot] == id ? values[slot] : 0;
+        }
+
+        /**
+         * @return 이전 값 (없었으면 0)
+         */
+        long put(long id, long value) {
+            int slot = slot(keys, id);
+            if (keys[slot] == id) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            keys[slot] = id;
+            values[slot] = value;
+            if (++size * 4 > keys.length * 3) {
+                resize();
+            }
+            return 0;
+        }
+
+        void forEach(DocConsumer consumer) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new long[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = slot(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        /**
+         * id가 있는 칸 또는 첫 빈 칸 (ID는 1 이상이라 0을 빈 칸으로 씀)
+         */
+        private static int slot(long[] keys, long id) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != 0 && keys[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    @FunctionalInterface
+    private interface DocConsumer {
+        void accept(long id, long timestamp);
+    }
+}
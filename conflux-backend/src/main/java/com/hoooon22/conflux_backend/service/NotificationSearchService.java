@@ -0,0 +1,64 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationSearchResultDto;
+import com.hoooon22.conflux_backend.repository.NotificationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 검색 (NotificationSearchIndex로 ID를 찾고 DB에서 최신 내용을 읽음)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationSearchService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final NotificationSearchIndex searchIndex;
+    private final NotificationRepository notificationRepository;
+    private final NotificationColdStorage coldStorage;
+
+    /**
+     * 검색어로 알림을 찾습니다. (관련도 순, 최대 limit개, 테이블에 없으면 콜드 티어에서 읽음)
+     * 색인에는 남아 있지만 DB에서 이미 삭제된 알림은 색인에서 지우고 다시 검색합니다.
+     *
+     * @throws IllegalStateException 검색 색인이 아직 준비되지 않았을 때
+     */
+    @Transactional(readOnly = true)
+    public NotificationSearchResultDto search(String query, int limit) {
+        for (int attempt = 1; ; attempt++) {
+            NotificationSearchIndex.SearchHits hits = searchIndex.search(query, limit);
+            Map<Long, NotificationDto> found = notificationRepository.findAllById(hits.ids()).stream()
+                    .map(NotificationMapper::toDto)
+                    .collect(Collectors.toMap(NotificationDto::getId, Function.identity(), (a, b) -> a, HashMap::new));
+            List<Long> missing = hits.ids().stream().filter(id -> !found.containsKey(id)).toList();
+            if (!missing.isEmpty()) {
+                coldStorage.findByIds(missing).forEach(dto -> found.put(dto.getId(), dto));
+            }
+            List<Long> stale = missing.stream().filter(id -> !found.containsKey(id)).toList();
+
+            if (stale.isEmpty() || attempt == MAX_ATTEMPTS) {
+                List<NotificationDto> items = hits.ids().stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .toList();
+                return NotificationSearchResultDto.builder()
+                        .items(items)
+                        .total(hits.total() - stale.size())
+                        .build();
+            }
+            searchIndex.remove(stale);
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+
+/**
+ * 콜드 티어 세그먼트 파일 (읽기 전용, 메모리 매핑)
+ *
+ * 한 파일에 같은 날짜의 알림을 (timestamp, id) 오름차순으로 담습니다.
+ * 필터와 커서 비교에 쓰는 컬럼(id, timestamp, source/repository/status)은 압축하지 않은 고정 폭 배열로 두고,
+ * 문자열은 사전(dictionary) 번호로 저장합니다. 제목/메시지/보낸 사람/카운트는 BLOCK_ROWS 행씩 Deflate로 압축하므로
+ * 조회 시에는 결과에 포함되는 블록만 풉니다.
+ *
+ * <pre>
+ * header      MAGIC, VERSION, rows, blocks, min/max timestamp(epoch µs), min/max id, 섹션 오프셋
+ * dictionary  문자열 수, (길이, UTF-8)...
+ * groups      (source, repository)별 (total, unread) — 요약 API용
+ * columns     id[rows], timestamp[rows], (sourceRef, repositoryRef, statusRef)[rows]
+ * id index    (id, row)[rows] — id 오름차순
+ * block table (offset, 압축 길이, 원본 길이)[blocks]
+ * blocks      Deflate((senderRef, count, title, message)[BLOCK_ROWS])
+ * </pre>
+ */
+final class NotificationSegment {
+
+    static final String EXTENSION = ".seg";
+
+    private static final int MAGIC = 0x434E4653; // "CNFS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 96;
+    private static final int BLOCK_ROWS = 128;
+    private static final int REF_WIDTH = 12;
+    private static final int ID_INDEX_WIDTH = 12;
+    private static final int BLOCK_TABLE_WIDTH = 16;
+    private static final int NULL_REF = -1;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int rows;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final long minId;
+    private final long maxId;
+    private final String[] dictionary;
+    private final List<NotificationGroupCount> groups;
+    private final long idsOffset;
+    private final long timestampsOffset;
+    private final long refsOffset;
+    private final long idIndexOffset;
+    private final long blockTableOffset;
+
+    private NotificationSegment(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a notification segment: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported segment version " + buffer.getInt(4) + ": " + path);
+        }
+        this.rows = buffer.getInt(8);
+        this.minTimestamp = buffer.getLong(16);
+        this.maxTimestamp = buffer.getLong(24);
+        this.minId = buffer.getLong(32);
+        this.maxId = buffer.getLong(40);
+        long dictionaryOffset = buffer.getLong(48);
+        long groupsOffset = buffer.getLong(56);
+        this.idsOffset = buffer.getLong(64);
+        this.timestampsOffset = idsOffset + 8L * rows;
+        this.refsOffset = timestampsOffset + 8L * rows;
+        this.idIndexOffset = buffer.getLong(72);
+        this.blockTableOffset = buffer.getLong(80);
+
+        ByteBuffer reader = buffer.duplicate().position((int) dictionaryOffset);
+        this.dictionary = new String[reader.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(reader);
+        }
+        reader.position((int) groupsOffset);
+        int groupCount = reader.getInt();
+        List<NotificationGroupCount> groupList = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            groupList.add(new NotificationGroupCount(string(reader.getInt()), string(reader.getInt()),
+                    reader.getLong(), reader.getLong()));
+        }
+        this.groups = Collections.unmodifiableList(groupList);
+    }
+
+    /**
+     * 세그먼트 파일을 읽기 전용으로 매핑합니다. (매핑 후 채널은 닫음)
+     */
+    static NotificationSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new NotificationSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 알림을 (timestamp, id) 순으로 정렬해 새 세그먼트 파일로 씁니다.
+     * 임시 파일에 쓰고 fsync한 뒤 이름을 바꾸므로, 중간에 중단되어도 완성되지 않은 세그먼트가 보이지 않습니다.
+     */
+    static NotificationSegment write(Path path, List<NotificationDto> notifications) throws IOException {
+        if (notifications.isEmpty()) {
+            throw new IllegalArgumentException("Segment must contain at least one notification");
+        }
+        List<NotificationDto> sorted = new ArrayList<>(notifications);
+        sorted.sort(Comparator.comparing(NotificationDto::getTimestamp).thenComparing(NotificationDto::getId));
+        int rows = sorted.size();
+
+        // 사전, 그룹 집계, 압축 블록
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        Map<List<Integer>, long[]> groups = new LinkedHashMap<>();
+        int[] refs = new int[rows * 3];
+        for (int row = 0; row < rows; row++) {
+            NotificationDto dto = sorted.get(row);
+            refs[row * 3] = ref(dictionary, dto.getSource());
+            refs[row * 3 + 1] = ref(dictionary, dto.getRepository());
+            refs[row * 3 + 2] = ref(dictionary, dto.getStatus());
+            long[] counts = groups.computeIfAbsent(List.of(refs[row * 3], refs[row * 3 + 1]), key -> new long[2]);
+            counts[0]++;
+            if (!"READ".equals(dto.getStatus())) {
+                counts[1]++;
+            }
+        }
+        List<byte[]> blocks = new ArrayList<>();
+        int[] rawLengths = new int[(rows + BLOCK_ROWS - 1) / BLOCK_ROWS];
+        for (int start = 0, block = 0; start < rows; start += BLOCK_ROWS, block++) {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(raw);
+            for (int row = start; row < Math.min(start + BLOCK_ROWS, rows); row++) {
+                NotificationDto dto = sorted.get(row);
+                out.writeInt(ref(dictionary, dto.getSender()));
+                out.writeInt(dto.getCount() != null ? dto.getCount() : 1);
+                writeString(out, dto.getTitle());
+                writeString(out, dto.getMessage());
+            }
+            rawLengths[block] = raw.size();
+            blocks.add(deflate(raw.toByteArray()));
+        }
+
+        ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+        DataOutputStream dictionaryOut = new DataOutputStream(dictionaryBytes);
+        dictionaryOut.writeInt(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(dictionaryOut, value);
+        }
+        int groupsSize = 4 + groups.size() * 24;
+
+        long dictionaryOffset = HEADER_SIZE;
+        long groupsOffset = dictionaryOffset + dictionaryBytes.size();
+        long columnsOffset = groupsOffset + groupsSize;
+        long idIndexOffset = columnsOffset + (8L + 8L + REF_WIDTH) * rows;
+        long blockTableOffset = idIndexOffset + (long) ID_INDEX_WIDTH * rows;
+        long dataOffset = blockTableOffset + (long) BLOCK_TABLE_WIDTH * blocks.size();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows);
+            out.writeInt(blocks.size());
+            out.writeLong(micros(sorted.get(0).getTimestamp()));
+            out.writeLong(micros(sorted.get(rows - 1).getTimestamp()));
+            out.writeLong(sorted.stream().mapToLong(NotificationDto::getId).min().orElseThrow());
+            out.writeLong(sorted.stream().mapToLong(NotificationDto::getId).max().orElseThrow());
+            out.writeLong(dictionaryOffset);
+            out.writeLong(groupsOffset);
+            out.writeLong(columnsOffset);
+            out.writeLong(idIndexOffset);
+            out.writeLong(blockTableOffset);
+            out.writeLong(0);
+
+            dictionaryBytes.writeTo(out);
+            out.writeInt(groups.size());
+            for (Map.Entry<List<Integer>, long[]> group : groups.entrySet()) {
+                out.writeInt(group.getKey().get(0));
+                out.writeInt(group.getKey().get(1));
+                out.writeLong(group.getValue()[0]);
+                out.writeLong(group.getValue()[1]);
+            }
+
+            for (NotificationDto dto : sorted) {
+                out.writeLong(dto.getId());
+            }
+            for (NotificationDto dto : sorted) {
+                out.writeLong(micros(dto.getTimestamp()));
+            }
+            for (int ref : refs) {
+                out.writeInt(ref);
+            }
+
+            long[] idIndex = new long[rows];
+            for (int row = 0; row < rows; row++) {
+                idIndex[row] = sorted.get(row).getId();
+            }
+            Integer[] byId = new Integer[rows];
+            for (int row = 0; row < rows; row++) {
+                byId[row] = row;
+            }
+            Arrays.sort(byId, Comparator.comparingLong(row -> idIndex[row]));
+            for (Integer row : byId) {
+                out.writeLong(idIndex[row]);
+                out.writeInt(row);
+            }
+
+            long blockOffset = dataOffset;
+            for (int block = 0; block < blocks.size(); block++) {
+                out.writeLong(blockOffset);
+                out.writeInt(blocks.get(block).length);
+                out.writeInt(rawLengths[block]);
+                blockOffset += blocks.get(block).length;
+            }
+            for (byte[] block : blocks) {
+                out.write(block);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return open(path);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    long minId() {
+        return minId;
+    }
+
+    long maxId() {
+        return maxId;
+    }
+
+    /**
+     * 가장 이른/늦은 알림 시간 (epoch µs)
+     */
+    long minTimestamp() {
+        return minTimestamp;
+    }
+
+    long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    List<NotificationGroupCount> groups() {
+        return groups;
+    }
+
+    long id(int row) {
+        return buffer.getLong((int) (idsOffset + 8L * row));
+    }
+
+    long timestamp(int row) {
+        return buffer.getLong((int) (timestampsOffset + 8L * row));
+    }
+
+    String source(int row) {
+        return string(buffer.getInt((int) (refsOffset + (long) REF_WIDTH * row)));
+    }
+
+    String repository(int row) {
+        return string(buffer.getInt((int) (refsOffset + (long) REF_WIDTH * row + 4)));
+    }
+
+    String status(int row) {
+        return string(buffer.getInt((int) (refsOffset + (long) REF_WIDTH * row + 8)));
+    }
+
+    /**
+     * (timestamp, id)가 주어진 값 이상인 첫 행 (없으면 rows)
+     */
+    int lowerBound(long timestamp, long id) {
+        int low = 0;
+        int high = rows;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long midTimestamp = timestamp(mid);
+            if (midTimestamp < timestamp || (midTimestamp == timestamp && id(mid) < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 알림 ID의 행 번호 (없으면 -1)
+     */
+    int rowOf(long id) {
+        if (id < minId || id > maxId) {
+            return -1;
+        }
+        int low = 0;
+        int high = rows - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong((int) (idIndexOffset + (long) ID_INDEX_WIDTH * mid));
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return buffer.getInt((int) (idIndexOffset + (long) ID_INDEX_WIDTH * mid + 8));
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * id 오름차순 i번째 행 번호
+     */
+    int rowByIdOrder(int i) {
+        return buffer.getInt((int) (idIndexOffset + (long) ID_INDEX_WIDTH * i + 8));
+    }
+
+    /**
+     * 행을 알림으로 읽습니다. (같은 블록을 연달아 읽을 때는 BlockReader가 푼 블록을 재사용)
+     */
+    NotificationDto read(int row, BlockReader reader) {
+        ByteBuffer block = reader.block(this, row / BLOCK_ROWS);
+        block.position(reader.offsetOf(row % BLOCK_ROWS));
+        String sender = string(block.getInt());
+        int count = block.getInt();
+        String title = readString(block);
+        String message = readString(block);
+        return NotificationDto.builder()
+                .id(id(row))
+                .source(source(row))
+                .title(title)
+                .message(message)
+                .repository(repository(row))
+                .sender(sender)
+                .timestamp(timestampOf(timestamp(row)))
+                .status(status(row))
+                .count(count)
+                .build();
+    }
+
+    private ByteBuffer inflate(int block) {
+        int entry = (int) (blockTableOffset + (long) BLOCK_TABLE_WIDTH * block);
+        int offset = (int) buffer.getLong(entry);
+        int compressedLength = buffer.getInt(entry + 8);
+        int rawLength = buffer.getInt(entry + 12);
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(buffer.slice(offset, compressedLength));
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                read += inflater.inflate(raw, read, rawLength - read);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted segment block " + block + ": " + path, e);
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(raw);
+    }
+
+    private String string(int ref) {
+        return ref == NULL_REF ? null : dictionary[ref];
+    }
+
+    private static int ref(Map<String, Integer> dictionary, String value) {
+        return value == null ? NULL_REF : dictionary.computeIfAbsent(value, key -> dictionary.size());
+    }
+
+    private static byte[] deflate(byte[] raw) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 4 + 16);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(raw);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static long micros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+    }
+
+    static LocalDateTime timestampOf(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 조회 한 번 동안 마지막으로 푼 블록을 들고 있는 읽기 도우미 (스레드 간 공유하지 않음)
+     */
+    static final class BlockReader {
+
+        private NotificationSegment segment;
+        private int blockIndex = -1;
+        private ByteBuffer block;
+        private int[] rowOffsets;
+
+        ByteBuffer block(NotificationSegment target, int index) {
+            if (target != segment || index != blockIndex) {
+                segment = target;
+                blockIndex = index;
+                block = target.inflate(index);
+                rowOffsets = null;
+            }
+            return block;
+        }
+
+        /**
+         * 블록 안 i번째 행의 시작 위치 (행 길이가 가변이라 처음 한 번 훑어서 기록)
+         */
+        int offsetOf(int i) {
+            if (rowOffsets == null) {
+                rowOffsets = new int[BLOCK_ROWS];
+                ByteBuffer scan = block.duplicate().position(0);
+                for (int row = 0; row < BLOCK_ROWS && scan.hasRemaining(); row++) {
+                    rowOffsets[row] = scan.position();
+                    scan.position(scan.position() + 8);
+                    skipString(scan);
+                    skipString(scan);
+                }
+            }
+            return rowOffsets[i];
+        }
+
+        private static void skipString(ByteBuffer scan) {
+            int length = scan.getInt();
+            if (length > 0) {
+                scan.position(scan.position() + length);
+            }
+        }
+    }
+}
@@ -1,15 +1,48 @@
 package com.hoooon22.conflux_backend.service;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.hoooon22.conflux_backend.domain.Notification;
+import com.hoooon22.conflux_backend.domain.NotificationFingerprint;
 import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationCursor;
 import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.dto.NotificationSummaryDto;
+import com.hoooon22.conflux_backend.dto.NotificationTimelineEntry;
+import com.hoooon22.conflux_backend.event.NotificationEvent;
+import com.hoooon22.conflux_backend.event.NotificationEventType;
 import com.hoooon22.conflux_backend.repository.NotificationRepository;
+import com.hoooon22.conflux_backend.repository.NotificationSpecifications;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,33 +52,404 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    /**
+     * 피드 정렬 순서 (keyset 커서와 같은 순서여야 함)
+     */
+    private static final Sort FEED_ORDER = Sort.by(Sort.Direction.DESC, "timestamp", "id");
+
+    /**
+     * 동시 중복 INSERT 충돌 시 재시도 횟수
+     */
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 500;
+    private static final List<NotificationStatus> DUPLICATE_PREVIOUS_STATUSES =
+            List.of(NotificationStatus.UNREAD, NotificationStatus.READ, NotificationStatus.UNREAD);
+
     private final NotificationRepository notificationRepository;
+    private final NotificationDedupCache dedupCache;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IngestMetrics ingestMetrics;
+    private final NotificationCounters counters;
+    private final NotificationColdStorage coldStorage;
+    private final NotificationCorrelator correlator;
 
     /**
      * 알림을 저장합니다 (DTO → Entity 변환 후 DB 저장)
      * 중복 알림이 있으면 카운트를 증가시키고 시간을 업데이트합니다.
+     * 변경 내용은 NotificationEvent로 발행되어 커밋 후 스트림 구독자에게 전달됩니다.
+     *
+     * 중복 판별은 내용 지문(fingerprint)으로 합니다. 지문 → ID 캐시에 있으면 PK 기준 UPDATE 한 번으로 끝나고,
+     * 없으면 지문 유니크 인덱스로 조회합니다. 같은 알림이 동시에 들어와 INSERT가 유니크 제약에 걸리면
+     * 먼저 저장된 행의 카운트를 올리도록 새 트랜잭션에서 다시 시도합니다.
+     * 묶음 키가 있는 알림은 내용 대신 묶음 지문으로 같은 묶음 행에 합칩니다. (NotificationCorrelator)
      */
-    @Transactional
     public void addNotification(NotificationDto dto) {
-        // 같은 알림이 이미 있는지 확인
-        var existingNotification = notificationRepository
-                .findFirstBySourceAndTitleAndMessageOrderByTimestampDesc(
-                        dto.getSource(), dto.getTitle(), dto.getMessage());
+        upsertWithRetry(correlator.toEntry(dto));
+    }
+
+    private void upsert(IngestEntry entry) {
+        NotificationDto dto = entry.notification();
+        String fingerprint = entry.fingerprint();
+        int occurrences = entry.occurrences();
+        // 1) 캐시 적중: PK 기준 UPDATE
+        Long cachedId = dedupCache.get(fingerprint);
+        ingestMetrics.recordCacheLookup(cachedId != null);
+        if (cachedId != null && incrementDuplicate(cachedId, entry)) {
+            ingestMetrics.recordDedup(true, occurrences);
+            return;
+        }
+
+        // 2) 캐시 미스: 지문 인덱스로 조회
+        var existingId = notificationRepository.findIdByFingerprint(fingerprint);
+        if (existingId.isPresent() && incrementDuplicate(existingId.get(), entry)) {
+            dedupCache.put(fingerprint, existingId.get());
+            ingestMetrics.recordDedup(true, occurrences);
+            return;
+        }
+
+        // 3) 새로운 알림: 저장 (동시 INSERT는 유니크 제약 위반으로 flush 시점에 감지)
+        Notification entity = NotificationMapper.toEntity(dto);
+        entity.setFingerprint(fingerprint);
+        entity.setCount(occurrences);
+        notificationRepository.saveAndFlush(entity);
+        if (entry.grouped()) {
+            correlator.appendTimeline(Map.of(entity.getId(), entry.groupEvents()));
+        }
+        counters.apply(NotificationCounters.changes().add(entity.getSource(), entity.getRepository(), 1, 1));
+        dedupCache.put(fingerprint, entity.getId());
+        recordNew(occurrences);
+        eventPublisher.publishEvent(NotificationEvent.of(NotificationEventType.CREATED, NotificationMapper.toDto(entity)));
+        log.info("✅ New notification saved to DB: {}", entity.getId());
+    }
+
+    /**
+     * 중복 알림: 카운트 증가 + 시간 업데이트 + 읽지 않음 상태로 변경 (행을 미리 잠가 읽지 않고 PK 기준 UPDATE)
+     * 묶음 알림이면 제목/메시지/발신자도 최신 이벤트로 바꾸고 이벤트를 이력에 추가합니다.
+     * 이전 상태를 조건으로 UPDATE하므로 갱신된 쪽이 읽음이었으면 읽지 않음 카운터를 올립니다.
+     * (대부분인 읽지 않음 행을 먼저 시도하고, 두 UPDATE 사이에 상태가 바뀌었으면 한 번 더 시도)
+     *
+     * @return 해당 행이 없어서(삭제 등) 갱신하지 못했으면 false
+     */
+    private boolean incrementDuplicate(Long id, IngestEntry entry) {
+        NotificationDto dto = entry.notification();
+        NotificationDto latest = entry.grouped() ? dto : null;
+        NotificationStatus previous = null;
+        for (NotificationStatus candidate : DUPLICATE_PREVIOUS_STATUSES) {
+            int updated = notificationRepository.incrementCount(id, candidate, entry.occurrences(), dto.getTimestamp(),
+                    NotificationStatus.UNREAD, latest != null ? latest.getTitle() : null,
+                    latest != null ? latest.getMessage() : null, latest != null ? latest.getSender() : null);
+            if (updated > 0) {
+                previous = candidate;
+                break;
+            }
+        }
+        if (previous == null) {
+            return false;
+        }
+        Notification existing = notificationRepository.findById(id).orElseThrow();
+        if (previous == NotificationStatus.READ) {
+            counters.apply(NotificationCounters.changes().add(existing.getSource(), existing.getRepository(), 0, 1));
+        }
+        if (entry.grouped()) {
+            correlator.appendTimeline(Map.of(id, entry.groupEvents()));
+        }
+        eventPublisher.publishEvent(NotificationEvent.of(NotificationEventType.UPDATED, NotificationMapper.toDto(existing)));
+        log.info("🔄 Duplicate notification updated. Count: {}, ID: {}", existing.getCount(), existing.getId());
+        return true;
+    }
+
+    /**
+     * 수집 큐에서 모은 알림을 한 트랜잭션에서 JDBC 배치로 반영합니다. (NotificationIngestQueue 참고)
+     * 기존 행은 UPDATE 배치(count += occurrences), 새 알림은 INSERT 배치 한 번으로 처리합니다.
+     * 묶음 알림은 기존 행의 제목/메시지/발신자도 최신 이벤트로 바꾸고, 합쳐진 이벤트를 이력에 한 번에 추가합니다.
+     * 다른 경로에서 같은 알림이 먼저 저장되어 유니크 제약에 걸리면, 배치를 롤백하고 건별 upsert로 다시 반영합니다.
+     */
+    public void addNotificationBatch(List<IngestEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        addNotificationBatch(entries, () -> { });
+    }
+
+    /**
+     * addNotificationBatch와 같고, 배치를 반영한 트랜잭션 안에서 afterApply를 실행합니다. (WAL 반영 위치 기록)
+     * 건별 upsert로 다시 반영한 경우에는 afterApply를 마지막에 별도 트랜잭션으로 실행합니다.
+     */
+    public void addNotificationBatch(List<IngestEntry> entries, Runnable afterApply) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!entries.isEmpty()) {
+                    applyBatch(entries);
+                }
+                afterApply.run();
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("⚠️ Batch insert conflicted, falling back to per-notification upsert ({} entries)", entries.size());
+            entries.forEach(entry -> dedupCache.evict(entry.fingerprint()));
+            for (IngestEntry entry : entries) {
+                upsertWithRetry(entry);
+            }
+            transactionTemplate.executeWithoutResult(status -> afterApply.run());
+        }
+    }
+
+    private void upsertWithRetry(IngestEntry entry) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> upsert(entry));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                dedupCache.evict(entry.fingerprint());
+                if (attempt >= MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("🔁 Concurrent duplicate detected, retrying as count update: {}", entry.fingerprint());
+            }
+        }
+    }
+
+    private void applyBatch(List<IngestEntry> entries) {
+        // 1) 지문 → ID 확인 (캐시, 없으면 IN 조회)
+        Map<String, Long> ids = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (IngestEntry entry : entries) {
+            Long cachedId = dedupCache.get(entry.fingerprint());
+            ingestMetrics.recordCacheLookup(cachedId != null);
+            if (cachedId != null) {
+                ids.put(entry.fingerprint(), cachedId);
+            } else {
+                misses.add(entry.fingerprint());
+            }
+        }
+        for (int from = 0; from < misses.size(); from += IN_CLAUSE_SIZE) {
+            List<String> chunk = misses.subList(from, Math.min(from + IN_CLAUSE_SIZE, misses.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, fingerprint FROM notifications WHERE fingerprint IN (" + placeholders + ")",
+                    rs -> {
+                        ids.put(rs.getString("fingerprint"), rs.getLong("id"));
+                    },
+                    chunk.toArray());
+        }
+
+        // 2) 기존 알림: UPDATE 배치 (행이 사라졌으면 새 알림으로 처리)
+        List<IngestEntry> updates = new ArrayList<>();
+        List<IngestEntry> inserts = new ArrayList<>();
+        for (IngestEntry entry : entries) {
+            (ids.containsKey(entry.fingerprint()) ? updates : inserts).add(entry);
+        }
+        List<Long> updatedIds = new ArrayList<>();
+        Map<Long, List<NotificationDto>> timeline = new LinkedHashMap<>();
+        NotificationCounters.Changes counterChanges = NotificationCounters.changes();
+        if (!updates.isEmpty()) {
+            countReadRowsBecomingUnread(updates.stream().map(entry -> ids.get(entry.fingerprint())).toList(),
+                    counterChanges);
+            int[] results = jdbcTemplate.batchUpdate(
+                    "UPDATE notifications SET count = count + ?, timestamp = ?, status = ?, title = COALESCE(?, title), "
+                            + "message = COALESCE(?, message), sender = COALESCE(?, sender) WHERE id = ?",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            IngestEntry entry = updates.get(i);
+                            NotificationDto latest = entry.grouped() ? entry.notification() : null;
+                            ps.setInt(1, entry.occurrences());
+                            ps.setTimestamp(2, Timestamp.valueOf(entry.notification().getTimestamp()));
+                            ps.setString(3, NotificationStatus.UNREAD.name());
+                            ps.setString(4, latest != null ? latest.getTitle() : null);
+                            ps.setString(5, latest != null ? latest.getMessage() : null);
+                            ps.setString(6, latest != null ? latest.getSender() : null);
+                            ps.setLong(7, ids.get(entry.fingerprint()));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return updates.size();
+                        }
+                    });
+            for (int i = 0; i < results.length; i++) {
+                IngestEntry entry = updates.get(i);
+                if (results[i] == 0) {
+                    dedupCache.evict(entry.fingerprint());
+                    inserts.add(entry);
+                } else {
+                    Long id = ids.get(entry.fingerprint());
+                    dedupCache.put(entry.fingerprint(), id);
+                    updatedIds.add(id);
+                    if (entry.grouped()) {
+                        timeline.put(id, entry.groupEvents());
+                    }
+                    ingestMetrics.recordDedup(true, entry.occurrences());
+                }
+            }
+        }
+
+        // 3) 새 알림: INSERT 배치 (생성된 ID 회수)
+        List<Long> createdIds = new ArrayList<>();
+        if (!inserts.isEmpty()) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(
+                            "INSERT INTO notifications (source, title, message, repository, sender, fingerprint, "
+                                    + "timestamp, status, count, group_key) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                            new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            IngestEntry entry = inserts.get(i);
+                            NotificationDto dto = entry.notification();
+                            ps.setString(1, dto.getSource());
+                            ps.setString(2, dto.getTitle());
+                            ps.setString(3, dto.getMessage());
+                            ps.setString(4, dto.getRepository());
+                            ps.setString(5, dto.getSender());
+                            ps.setString(6, entry.fingerprint());
+                            ps.setTimestamp(7, Timestamp.valueOf(dto.getTimestamp()));
+                            ps.setString(8, NotificationStatus.UNREAD.name());
+                            ps.setInt(9, entry.occurrences());
+                            ps.setString(10, dto.getGroupKey());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return inserts.size();
+                        }
+                    },
+                    keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < keys.size(); i++) {
+                Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+                dedupCache.put(inserts.get(i).fingerprint(), id);
+                NotificationDto dto = inserts.get(i).notification();
+                counterChanges.add(dto.getSource(), dto.getRepository(), 1, 1);
+                createdIds.add(id);
+                recordNew(inserts.get(i).occurrences());
+                if (inserts.get(i).grouped()) {
+                    timeline.put(id, inserts.get(i).groupEvents());
+                }
+            }
+        }
+
+        // 4) 묶음 이력 + 카운터 반영 + 변경 이벤트 발행 (커밋 후 스트림 구독자에게 전달)
+        correlator.appendTimeline(timeline);
+        counters.apply(counterChanges);
+        publishBatchEvents(createdIds, NotificationEventType.CREATED);
+        publishBatchEvents(updatedIds, NotificationEventType.UPDATED);
+        log.info("📦 Notification batch applied. New: {}, Duplicates: {}", createdIds.size(), updatedIds.size());
+    }
+
+    /**
+     * 중복 반영으로 다시 읽지 않음이 될 (지금 읽음 상태인) 행을 잠그고 카운터 증감분에 더합니다.
+     */
+    private void countReadRowsBecomingUnread(List<Long> ids, NotificationCounters.Changes counterChanges) {
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(NotificationStatus.READ.name());
+            args.addAll(chunk);
+            jdbcTemplate.query("SELECT source, repository FROM notifications WHERE status = ? AND id IN ("
+                            + placeholders + ") FOR UPDATE",
+                    rs -> {
+                        counterChanges.add(rs.getString("source"), rs.getString("repository"), 0, 1);
+                    },
+                    args.toArray());
+        }
+    }
+
+    /**
+     * 새 알림 1건 + 같은 배치에서 합쳐진 나머지는 중복으로 집계
+     */
+    private void recordNew(int occurrences) {
+        ingestMetrics.recordDedup(false, 1);
+        if (occurrences > 1) {
+            ingestMetrics.recordDedup(true, occurrences - 1);
+        }
+    }
+
+    private void publishBatchEvents(List<Long> ids, NotificationEventType type) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        notificationRepository.findAllById(ids).forEach(entity ->
+                eventPublisher.publishEvent(NotificationEvent.of(type, NotificationMapper.toDto(entity))));
+    }
+
+    /**
+     * 지문 컬럼 추가 이전에 저장된 알림에 지문을 채웁니다.
+     * 같은 내용의 알림이 여러 행이면 가장 최근(id가 큰) 행에만 지문을 부여합니다.
+     * id 역순 keyset으로 BACKFILL_BATCH_SIZE건씩, chunk마다 별도 트랜잭션에서 JDBC 배치 UPDATE 합니다.
+     * (엔티티를 읽지 않고, 시작 시 긴 트랜잭션 하나로 테이블 전체를 붙잡지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillFingerprints() {
+        long lastId = Long.MAX_VALUE;
+        int filled = 0;
+        BackfillChunk chunk;
+        do {
+            chunk = backfillChunkWithRetry(lastId);
+            lastId = chunk.lastId();
+            filled += chunk.filled();
+        } while (chunk.scanned() == BACKFILL_BATCH_SIZE);
+
+        if (filled > 0) {
+            log.info("🧬 Fingerprints backfilled for {} notifications", filled);
+        }
+    }
+
+    /**
+     * chunk 하나를 채웁니다. 그 사이 수집 경로가 같은 지문을 먼저 저장해 유니크 제약에 걸리면 같은 chunk를 다시 확인합니다.
+     */
+    private BackfillChunk backfillChunkWithRetry(long beforeId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> backfillChunk(beforeId));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("🔁 Fingerprint backfill chunk conflicted with ingest, retrying (before id {})", beforeId);
+            }
+        }
+    }
+
+    private BackfillChunk backfillChunk(long beforeId) {
+        List<Object[]> rows = jdbcTemplate.query("SELECT id, source, title, message FROM notifications "
+                        + "WHERE fingerprint IS NULL AND id < ? ORDER BY id DESC LIMIT ?",
+                (rs, rowNum) -> new Object[] {
+                        rs.getLong("id"),
+                        NotificationFingerprint.of(rs.getString("source"), rs.getString("title"), rs.getString("message"))
+                },
+                beforeId, BACKFILL_BATCH_SIZE);
+        if (rows.isEmpty()) {
+            return new BackfillChunk(0, 0, beforeId);
+        }
 
-        if (existingNotification.isPresent()) {
-            // 중복 알림: 카운트 증가 + 시간 업데이트 + 읽지 않음 상태로 변경
-            Notification existing = existingNotification.get();
-            existing.setCount(existing.getCount() + 1);
-            existing.setTimestamp(dto.getTimestamp());
-            existing.setStatus(NotificationStatus.UNREAD); // 다시 읽지 않음 상태로
-            notificationRepository.save(existing);
-            log.info("🔄 Duplicate notification updated. Count: {}, ID: {}", existing.getCount(), existing.getId());
-        } else {
-            // 새로운 알림: 저장
-            Notification entity = dtoToEntity(dto);
-            notificationRepository.save(entity);
-            log.info("✅ New notification saved to DB: {}", entity);
+        // 이미 지문을 가진 행(또는 이 chunk의 더 최근 행)과 같은 내용이면 건너뜀
+        List<String> fingerprints = rows.stream().map(row -> (String) row[1]).distinct().toList();
+        String placeholders = String.join(",", Collections.nCopies(fingerprints.size(), "?"));
+        Set<String> taken = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT fingerprint FROM notifications WHERE fingerprint IN (" + placeholders + ")",
+                String.class, fingerprints.toArray()));
+        List<Object[]> updates = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (taken.add((String) row[1])) {
+                updates.add(new Object[] {row[1], row[0]});
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE notifications SET fingerprint = ? WHERE id = ? AND fingerprint IS NULL",
+                    updates);
         }
+        return new BackfillChunk(rows.size(), updates.size(), (Long) rows.get(rows.size() - 1)[0]);
+    }
+
+    /**
+     * 지문 채우기 chunk 결과 (lastId: 다음 chunk의 keyset 기준)
+     */
+    private record BackfillChunk(int scanned, int filled, long lastId) {
     }
 
     /**
@@ -56,28 +460,112 @@ public class NotificationService {
         List<Notification> entities = notificationRepository.findAllByOrderByTimestampDesc();
         log.info("📋 Fetching notifications from DB. Total count: {}", entities.size());
         return entities.stream()
-                .map(this::entityToDto)
+                .map(NotificationMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 모든 알림을 삭제합니다. (테스트용)
+     * 조건에 맞는 알림을 최신순으로 한 페이지 반환합니다.
+     * OFFSET 대신 (timestamp, id) keyset 커서를 사용하므로 테이블 크기와 페이지 깊이에 관계없이 비용이 일정합니다.
+     * 페이지가 콜드 티어(NotificationColdStorage)의 시간대에 걸치면 세그먼트에서도 읽어 합칩니다.
+     * 묶음 알림은 한 항목으로 나오며 최근 단계 이력(timeline)을 함께 싣습니다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationPageDto getNotifications(NotificationFilter filter, NotificationCursor cursor, int limit) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<NotificationDto> rows = notificationRepository.findBy(
+                        NotificationSpecifications.feed(filter, cursor),
+                        query -> query.sortBy(FEED_ORDER).limit(limit + 1).all())
+                .stream()
+                .map(NotificationMapper::toDto)
+                .collect(Collectors.toList());
+        if (reachesColdTier(filter, rows, limit)) {
+            rows = mergeTiers(rows, coldStorage.page(filter, cursor, limit + 1), limit + 1);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<NotificationDto> items = hasNext ? rows.subList(0, limit) : rows;
+        correlator.attachTimelines(items);
+
+        return NotificationPageDto.builder()
+                .items(items)
+                .nextCursor(hasNext ? NotificationCursor.of(items.get(items.size() - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * 테이블에서 한 페이지를 다 채웠고 그 마지막 행이 콜드 티어의 가장 최근 알림보다 새로우면 세그먼트는 볼 필요가 없습니다.
+     */
+    private boolean reachesColdTier(NotificationFilter filter, List<NotificationDto> hotRows, int limit) {
+        LocalDateTime coldLatest = coldStorage.latestTimestamp();
+        if (coldLatest == null || (filter.getFrom() != null && filter.getFrom().isAfter(coldLatest))) {
+            return false;
+        }
+        return hotRows.size() <= limit || !hotRows.get(limit).getTimestamp().isAfter(coldLatest);
+    }
+
+    /**
+     * 두 티어의 결과를 최신순으로 합칩니다. (옮기는 도중이라 양쪽에 있는 알림은 테이블 쪽을 사용)
+     */
+    private static List<NotificationDto> mergeTiers(List<NotificationDto> hot, List<NotificationDto> cold, int limit) {
+        Map<Long, NotificationDto> byId = new LinkedHashMap<>();
+        hot.forEach(dto -> byId.put(dto.getId(), dto));
+        cold.forEach(dto -> byId.putIfAbsent(dto.getId(), dto));
+        return byId.values().stream()
+                .sorted(Comparator.comparing(NotificationDto::getTimestamp).thenComparing(NotificationDto::getId).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 모든 알림을 삭제합니다. (테스트용, 엔티티를 읽지 않고 DELETE 한 번으로, 콜드 티어 세그먼트도 지움)
      */
     @Transactional
     public void clearNotifications() {
-        notificationRepository.deleteAll();
+        notificationRepository.deleteAllInBatch();
+        coldStorage.clear();
+        counters.clear();
+        dedupCache.clear();
+        correlator.clear();
+        eventPublisher.publishEvent(NotificationEvent.cleared());
         log.info("🗑️ All notifications cleared from DB.");
     }
 
+    /**
+     * 묶음 알림의 전체 단계 이력 (오래된 것부터, 묶지 않은 알림은 빈 목록)
+     *
+     * @throws IllegalArgumentException 알림이 없을 때
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationTimelineEntry> getTimeline(Long id) {
+        if (!notificationRepository.existsById(id)) {
+            throw new IllegalArgumentException("Notification not found: " + id);
+        }
+        return correlator.timeline(id);
+    }
+
+    /**
+     * 전체/소스별/리포지토리별 알림 수 (카운터 테이블 + 콜드 티어 세그먼트별 집계, 알림 테이블은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public NotificationSummaryDto getSummary() {
+        return counters.summary(coldStorage.groupCounts());
+    }
+
     /**
      * 특정 알림을 읽음 상태로 변경합니다.
      */
     @Transactional
     public void markAsRead(Long id) {
-        Notification notification = notificationRepository.findById(id)
+        Notification notification = notificationRepository.findForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("Notification not found: " + id));
+        if (notification.getStatus() == NotificationStatus.UNREAD) {
+            counters.apply(NotificationCounters.changes()
+                    .add(notification.getSource(), notification.getRepository(), 0, -1));
+        }
         notification.setStatus(NotificationStatus.READ);
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(NotificationEvent.of(NotificationEventType.READ, NotificationMapper.toDto(notification)));
         log.info("✅ Notification marked as READ: {}", id);
     }
 
@@ -86,42 +574,70 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotification(Long id) {
-        if (!notificationRepository.existsById(id)) {
-            throw new IllegalArgumentException("Notification not found: " + id);
-        }
-        notificationRepository.deleteById(id);
+        Notification notification = notificationRepository.findForUpdate(id)
+                .orElseThrow(() -> new IllegalArgumentException("Notification not found: " + id));
+        notificationRepository.delete(notification);
+        counters.apply(NotificationCounters.changes().add(notification.getSource(), notification.getRepository(),
+                -1, notification.getStatus() == NotificationStatus.UNREAD ? -1 : 0));
+        eventPublisher.publishEvent(NotificationEvent.deleted(id));
         log.info("🗑️ Notification deleted: {}", id);
     }
 
     /**
-     * DTO → Entity 변환
+     * 조건에 맞는 알림을 모두 읽음 상태로 변경합니다. (조건이 없으면 전체)
+     * 읽지 않은 알림이 있는 (source, repository) 묶음마다 UPDATE 한 번을 실행하고, 그 변경 행 수를 카운터에서 뺍니다.
+     * 집계 후 UPDATE 전에 다른 트랜잭션이 바꾼 행도 실제로 바뀐 만큼만 반영되어 카운터가 어긋나지 않습니다.
+     * 변경된 행이 있으면 조건을 담은 BULK_READ 이벤트 하나를 발행합니다.
+     *
+     * @return 읽음으로 바뀐 알림 수
      */
-    private Notification dtoToEntity(NotificationDto dto) {
-        return Notification.builder()
-                .source(dto.getSource())
-                .title(dto.getTitle())
-                .message(dto.getMessage())
-                .repository(dto.getRepository())
-                .sender(dto.getSender())
-                .timestamp(dto.getTimestamp())
-                .status(NotificationStatus.UNREAD) // 기본값: 읽지 않음
-                .build();
+    @Transactional
+    public int markAsRead(NotificationFilter filter) {
+        NotificationCounters.Changes counterChanges = NotificationCounters.changes();
+        int updated = 0;
+        for (NotificationGroupCount group : notificationRepository.countGroups(filter, NotificationStatus.UNREAD)) {
+            int changed = notificationRepository.updateStatus(filter, group.source(), group.repository(),
+                    NotificationStatus.READ);
+            counterChanges.add(group.source(), group.repository(), 0, -changed);
+            updated += changed;
+        }
+        counters.apply(counterChanges);
+        if (updated > 0) {
+            eventPublisher.publishEvent(NotificationEvent.bulk(NotificationEventType.BULK_READ, filter));
+        }
+        log.info("✅ {} notifications marked as READ", updated);
+        return updated;
     }
 
     /**
-     * Entity → DTO 변환
+     * 조건에 맞는 알림을 삭제합니다. (조건이 없으면 거부)
+     * 알림이 있는 (source, repository) 묶음마다 읽음/안 읽음 상태별로 DELETE를 실행하고, 그 삭제 행 수를 카운터에서 뺍니다.
+     * 집계 후 DELETE 전에 다른 트랜잭션이 읽음 처리하거나 추가한 행도 실제로 지운 만큼만 반영됩니다.
+     * 지문 캐시에 남은 삭제된 ID는 다음 UPDATE 결과 0건으로 감지되므로 따로 비우지 않습니다.
+     *
+     * @return 삭제된 알림 수
+     * @throws IllegalArgumentException 조건이 하나도 없을 때 (전체 삭제 방지)
      */
-    private NotificationDto entityToDto(Notification entity) {
-        return NotificationDto.builder()
-                .id(entity.getId()) // ID 추가
-                .source(entity.getSource())
-                .title(entity.getTitle())
-                .message(entity.getMessage())
-                .repository(entity.getRepository())
-                .sender(entity.getSender())
-                .timestamp(entity.getTimestamp())
-                .status(entity.getStatus().name()) // Enum을 String으로 변환
-                .count(entity.getCount()) // 카운트 추가
-                .build();
+    @Transactional
+    public int deleteNotifications(NotificationFilter filter) {
+        if (!filter.hasCriteria()) {
+            throw new IllegalArgumentException("At least one delete condition is required");
+        }
+        NotificationCounters.Changes counterChanges = NotificationCounters.changes();
+        int deleted = 0;
+        for (NotificationGroupCount group : notificationRepository.countGroups(filter, null)) {
+            int unread = notificationRepository.delete(filter, group.source(), group.repository(),
+                    NotificationStatus.UNREAD);
+            int read = notificationRepository.delete(filter, group.source(), group.repository(),
+                    NotificationStatus.READ);
+            counterChanges.add(group.source(), group.repository(), -(unread + read), -unread);
+            deleted += unread + read;
+        }
+        counters.apply(counterChanges);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(NotificationEvent.bulk(NotificationEventType.BULK_DELETED, filter));
+        }
+        log.info("🗑️ {} notifications deleted", deleted);
+        return deleted;
     }
 }
@@ -0,0 +1,305 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.event.NotificationEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 변경 사항을 SSE로 push 하는 서비스
+ *
+ * 구독 시 초기 스냅샷(최신 한 페이지와 다음 페이지 커서)을 보내고 이후에는 커밋된 변경(delta)만 전달합니다.
+ * 최근 이벤트는 링 버퍼에 보관되어 Last-Event-ID로 재접속한 클라이언트에게 이어서 전달됩니다.
+ * 구독자마다 제한된 크기의 큐를 두고 별도 스레드에서 전송하므로, 느린 구독자가 쓰기 트랜잭션을 막지 않습니다.
+ * 큐가 넘치는 구독자는 연결을 끊고, 재접속 시 Last-Event-ID 기준으로 다시 따라잡게 합니다.
+ * 소스를 지정한 구독자에게는 해당 소스의 스냅샷과 알림 delta만 보냅니다 (일괄/삭제 이벤트는 그대로 전달).
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+
+    private static final String SNAPSHOT_EVENT = "snapshot";
+
+    private final NotificationService notificationService;
+    private final long emitterTimeoutMillis;
+    private final int snapshotSize;
+    private final int replayBufferSize;
+    private final int subscriberQueueSize;
+
+    /**
+     * 이벤트 ID 시퀀스. 재시작 후에도 이전 ID와 겹치지 않도록 시작 시각 기준으로 초기화합니다.
+     */
+    private long sequence = System.currentTimeMillis() * 1000;
+    private final ArrayDeque<StreamEvent> replayBuffer = new ArrayDeque<>();
+    private final Object lock = new Object();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senderExecutor;
+
+    public NotificationStreamService(NotificationService notificationService,
+                                     @Value("${conflux.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                     @Value("${conflux.stream.snapshot-size:200}") int snapshotSize,
+                                     @Value("${conflux.stream.replay-buffer-size:1024}") int replayBufferSize,
+                                     @Value("${conflux.stream.subscriber-queue-size:256}") int subscriberQueueSize,
+                                     @Value("${conflux.stream.sender-threads:8}") int senderThreads) {
+        this.notificationService = notificationService;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.snapshotSize = snapshotSize;
+        this.replayBufferSize = replayBufferSize;
+        this.subscriberQueueSize = subscriberQueueSize;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.senderExecutor = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "notification-stream-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 웹 서버의 graceful shutdown이 열린 스트림을 기다리지 않도록 컨텍스트 종료 시작 시점에 모든 구독을 닫습니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeSubscribers() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdownNow();
+    }
+
+    /**
+     * 새 구독을 엽니다.
+     * lastEventId가 링 버퍼 안에 있으면 그 이후 이벤트만 재전송하고, 아니면 스냅샷부터 보냅니다.
+     * sources가 비어 있으면 모든 소스를 구독합니다.
+     */
+    public SseEmitter subscribe(Long lastEventId, List<String> sources) {
+        SseEmitter emitter = createEmitter();
+        Set<String> sourceFilter = sources == null || sources.isEmpty() ? null : Set.copyOf(sources);
+        Subscriber subscriber = new Subscriber(emitter, subscriberQueueSize, sourceFilter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        List<StreamEvent> replay = null;
+        long snapshotId;
+        synchronized (lock) {
+            // 스냅샷을 읽는 동안 커밋되는 이벤트를 놓치지 않도록 먼저 등록합니다.
+            subscribers.add(subscriber);
+            snapshotId = sequence;
+            if (lastEventId != null && canReplayFrom(lastEventId)) {
+                replay = new ArrayList<>();
+                for (StreamEvent event : replayBuffer) {
+                    if (event.id() > lastEventId && subscriber.accepts(event)) {
+                        replay.add(event);
+                    }
+                }
+            }
+        }
+
+        if (replay != null) {
+            log.info("📡 Stream resumed from event {} ({} events replayed)", lastEventId, replay.size());
+            subscriber.start(replay);
+        } else {
+            NotificationFilter filter = sourceFilter == null ? NotificationFilter.none()
+                    : NotificationFilter.builder().sources(sources).build();
+            NotificationPageDto snapshot = notificationService.getNotifications(filter, null, snapshotSize);
+            subscriber.start(List.of(new StreamEvent(snapshotId, SNAPSHOT_EVENT, snapshot)));
+            log.info("📡 Stream subscribed with snapshot of {} notifications", snapshot.getItems().size());
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 트랜잭션 커밋 후에만 전달합니다. 트랜잭션 밖에서 발행된 이벤트는 즉시 전달합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationEvent(NotificationEvent event) {
+        Object payload = event.notification() != null ? event.notification()
+                : event.criteria() != null ? event.criteria() : new DeltaPayload(event.id());
+        synchronized (lock) {
+            StreamEvent streamEvent = new StreamEvent(++sequence, event.type().eventName(), payload);
+            replayBuffer.addLast(streamEvent);
+            if (replayBuffer.size() > replayBufferSize) {
+                replayBuffer.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.accepts(streamEvent)) {
+                    continue;
+                }
+                if (!subscriber.queue.offer(streamEvent)) {
+                    overflow(subscriber);
+                    continue;
+                }
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 comment를 보냅니다.
+     */
+    @Scheduled(fixedRateString = "${conflux.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(StreamEvent.HEARTBEAT)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMillis);
+    }
+
+    private boolean canReplayFrom(long lastEventId) {
+        if (lastEventId > sequence) {
+            return false;
+        }
+        if (lastEventId == sequence) {
+            return true;
+        }
+        StreamEvent oldest = replayBuffer.peekFirst();
+        return oldest != null && oldest.id() <= lastEventId + 1;
+    }
+
+    /**
+     * 큐가 넘친 구독자를 끊습니다. 전송 중일 수 있으므로 complete는 전송 스레드에서 처리합니다.
+     */
+    private void overflow(Subscriber subscriber) {
+        log.warn("⚠️ Stream subscriber too slow, disconnecting (queue size {})", subscriberQueueSize);
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senderExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            for (StreamEvent event : subscriber.takeInitial()) {
+                send(subscriber, event);
+            }
+            StreamEvent event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                send(subscriber, event);
+            }
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // drain 종료 직전에 들어온 이벤트가 있으면 다시 예약합니다.
+        if (!subscriber.closed && !subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, StreamEvent event) throws IOException {
+        if (event == StreamEvent.HEARTBEAT) {
+            subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        subscriber.emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(event.name())
+                .data(event.payload(), MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 삭제/전체 삭제 이벤트의 데이터 (id만 전달)
+     */
+    public record DeltaPayload(Long id) {
+    }
+
+    private record StreamEvent(long id, String name, Object payload) {
+        static final StreamEvent HEARTBEAT = new StreamEvent(-1, "heartbeat", null);
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        /**
+         * 스냅샷/재전송 이벤트가 준비될 때까지는 전송을 시작하지 않도록 true로 시작합니다.
+         */
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        private volatile List<StreamEvent> initial = List.of();
+        private volatile boolean closed;
+        /**
+         * 구독한 소스 (null이면 전체)
+         */
+        private final Set<String> sources;
+
+        private Subscriber(SseEmitter emitter, int queueSize, Set<String> sources) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.sources = sources;
+        }
+
+        private boolean accepts(StreamEvent event) {
+            return sources == null || !(event.payload() instanceof NotificationDto notification)
+                    || sources.contains(notification.getSource());
+        }
+
+        /**
+         * 등록 이후 쌓인 delta보다 스냅샷/재전송 이벤트가 먼저 나가도록 설정하고 전송을 허용합니다.
+         */
+        private void start(List<StreamEvent> events) {
+            this.initial = events;
+            draining.set(false);
+        }
+
+        private List<StreamEvent> takeInitial() {
+            List<StreamEvent> events = initial;
+            initial = List.of();
+            return events;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+/**
+ * 컴파일된 매핑 템플릿 ("GitHub Event: ${/action}", "${/conclusion|/status:unknown}")
+ *
+ * 템플릿은 로딩 시 한 번만 해석해 리터럴/값 참조 목록으로 바꿔 두고, 요청마다 값 배열로 이어 붙이기만 합니다.
+ * 값 참조의 JSON Pointer는 pointers 목록에 등록되어 어댑터의 JsonFieldExtractor 슬롯 번호로 바뀝니다.
+ */
+final class NotificationTemplate {
+
+    private final Object[] parts;
+    private final String constant;
+
+    private NotificationTemplate(Object[] parts, String constant) {
+        this.parts = parts;
+        this.constant = constant;
+    }
+
+    /**
+     * @param template 템플릿 (null이면 null 반환)
+     * @param pointers 어댑터가 꺼낼 경로 목록 (새 경로는 뒤에 추가, 같은 경로는 같은 슬롯 재사용)
+     */
+    static NotificationTemplate compile(String template, List<String> pointers) {
+        if (template == null) {
+            return null;
+        }
+        List<Object> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            int start = template.indexOf("${", i);
+            if (start < 0) {
+                literal.append(template, i, template.length());
+                break;
+            }
+            int end = template.indexOf('}', start);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed ${ in template: " + template);
+            }
+            literal.append(template, i, start);
+            if (!literal.isEmpty()) {
+                parts.add(literal.toString());
+                literal.setLength(0);
+            }
+            parts.add(reference(template.substring(start + 2, end), pointers));
+            i = end + 1;
+        }
+        if (!literal.isEmpty()) {
+            parts.add(literal.toString());
+        }
+        if (parts.isEmpty()) {
+            return new NotificationTemplate(new Object[0], "");
+        }
+        if (parts.size() == 1 && parts.get(0) instanceof String text) {
+            return new NotificationTemplate(null, text);
+        }
+        return new NotificationTemplate(parts.toArray(), null);
+    }
+
+    /**
+     * "/a|/b:기본값" → 값 참조
+     */
+    private static Reference reference(String expression, List<String> pointers) {
+        int colon = expression.indexOf(':');
+        String paths = colon < 0 ? expression : expression.substring(0, colon);
+        String defaultValue = colon < 0 ? "" : expression.substring(colon + 1);
+        String[] candidates = paths.split("\\|");
+        int[] slots = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            String pointer = candidates[i].trim();
+            if (pointer.isEmpty() || JsonPointer.compile(pointer).matches()) {
+                throw new IllegalArgumentException("Invalid JSON pointer in ${" + expression + "}");
+            }
+            int slot = pointers.indexOf(pointer);
+            if (slot < 0) {
+                slot = pointers.size();
+                pointers.add(pointer);
+            }
+            slots[i] = slot;
+        }
+        return new Reference(slots, defaultValue);
+    }
+
+    String render(String[] values) {
+        if (constant != null) {
+            return constant;
+        }
+        if (parts.length == 1) {
+            return ((Reference) parts[0]).resolve(values);
+        }
+        StringBuilder text = new StringBuilder(64);
+        for (Object part : parts) {
+            text.append(part instanceof Reference reference ? reference.resolve(values) : (String) part);
+        }
+        return text.toString();
+    }
+
+    private record Reference(int[] slots, String defaultValue) {
+
+        String resolve(String[] values) {
+            for (int slot : slots) {
+                String value = values[slot];
+                if (value != null && !value.isEmpty()) {
+                    return value;
+                }
+            }
+            return defaultValue;
+        }
+    }
+}
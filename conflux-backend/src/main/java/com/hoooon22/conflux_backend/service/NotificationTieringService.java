@@ -0,0 +1,152 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hoooon22.conflux_backend.domain.NotificationStatus;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 계층 저장 (hot → cold)
+ *
+ * hot-days보다 오래된 알림을 날짜별로 최대 segment-max-rows 건씩 세그먼트 파일(NotificationColdStorage)로 옮기고
+ * notifications 테이블에서 지웁니다. 테이블에는 최근 알림만 남으므로 인덱스와 조회 비용이 전체 보관량과 무관해집니다.
+ *
+ * 한 묶음은 한 트랜잭션에서 행을 잠가 읽고(FOR UPDATE) → 세그먼트를 쓰고 → 삭제하므로, 그 사이 중복 알림으로 갱신되는 일이 없습니다.
+ * 세그먼트를 쓴 뒤 커밋 전에 중단되면 다음 실행에서 이미 옮겨진 행을 확인해 삭제만 합니다.
+ * 옮기는 것은 삭제가 아니므로 스트림/검색 색인에 이벤트를 보내지 않고, 카운터는 콜드 티어 집계로 넘어갑니다.
+ */
+@Slf4j
+@Service
+public class NotificationTieringService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationCounters counters;
+    private final NotificationColdStorage coldStorage;
+    private final int hotDays;
+    private final int segmentMaxRows;
+
+    public NotificationTieringService(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      NotificationCounters counters,
+                                      NotificationColdStorage coldStorage,
+                                      @Value("${conflux.tiering.hot-days:7}") int hotDays,
+                                      @Value("${conflux.tiering.segment-max-rows:50000}") int segmentMaxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.counters = counters;
+        this.coldStorage = coldStorage;
+        this.hotDays = hotDays;
+        this.segmentMaxRows = Math.max(1, segmentMaxRows);
+    }
+
+    /**
+     * hot-days 이전 날짜의 알림을 콜드 티어로 옮깁니다. (hot-days가 0 이하면 끔)
+     */
+    @Scheduled(fixedDelayString = "${conflux.tiering.interval-ms:3600000}",
+            initialDelayString = "${conflux.tiering.initial-delay-ms:120000}")
+    public void applyTiering() {
+        if (hotDays <= 0) {
+            return;
+        }
+        rollOlderThan(LocalDate.now().minusDays(hotDays).atStartOfDay());
+    }
+
+    /**
+     * cutoff 이전 알림을 오래된 날짜부터 세그먼트로 옮깁니다.
+     *
+     * @return 옮긴 알림 수
+     */
+    public int rollOlderThan(LocalDateTime cutoff) {
+        long startNanos = System.nanoTime();
+        int total = 0;
+        int segments = 0;
+        while (true) {
+            LocalDateTime oldest = jdbcTemplate.queryForObject(
+                    "SELECT MIN(timestamp) FROM notifications WHERE timestamp < ?", LocalDateTime.class,
+                    Timestamp.valueOf(cutoff));
+            if (oldest == null) {
+                break;
+            }
+            LocalDate day = oldest.toLocalDate();
+            LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+            Batch batch = rollBatch(day, dayEnd.isBefore(cutoff) ? dayEnd : cutoff);
+            if (batch.deleted() == 0) {
+                log.warn("⚠️ Notification tiering made no progress on {}, stopping", day);
+                break;
+            }
+            total += batch.deleted();
+            segments += batch.written() > 0 ? 1 : 0;
+        }
+        if (total > 0) {
+            log.info("🧊 Notification tiering: {} notifications moved to {} segments in {}ms (older than {})",
+                    total, segments, (System.nanoTime() - startNanos) / 1_000_000, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * 하루치 중 가장 오래된 최대 segment-max-rows 건을 한 트랜잭션에서 옮깁니다.
+     */
+    private Batch rollBatch(LocalDate day, LocalDateTime end) {
+        return transactionTemplate.execute(status -> {
+            List<NotificationDto> rows = jdbcTemplate.query(
+                    "SELECT id, source, title, message, repository, sender, timestamp, status, count "
+                            + "FROM notifications WHERE timestamp >= ? AND timestamp < ? "
+                            + "ORDER BY timestamp, id FETCH FIRST ? ROWS ONLY FOR UPDATE",
+                    (rs, rowNum) -> NotificationDto.builder()
+                            .id(rs.getLong("id"))
+                            .source(rs.getString("source"))
+                            .title(rs.getString("title"))
+                            .message(rs.getString("message"))
+                            .repository(rs.getString("repository"))
+                            .sender(rs.getString("sender"))
+                            .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+                            .status(rs.getString("status"))
+                            .count(rs.getInt("count"))
+                            .build(),
+                    Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(end), segmentMaxRows);
+
+            // 이전 실행에서 세그먼트만 쓰고 삭제하지 못한 행은 다시 쓰지 않음
+            List<NotificationDto> fresh = rows.stream().filter(row -> !coldStorage.contains(row.getId())).toList();
+            if (!fresh.isEmpty()) {
+                try {
+                    coldStorage.write(day, fresh);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write notification segment for " + day, e);
+                }
+            }
+
+            // 행을 잠근 채 읽었으므로 카운터 증감분은 읽은 값으로 계산
+            NotificationCounters.Changes counterChanges = NotificationCounters.changes();
+            rows.forEach(row -> counterChanges.add(row.getSource(), row.getRepository(), -1,
+                    NotificationStatus.UNREAD.name().equals(row.getStatus()) ? -1 : 0));
+            int[] results = jdbcTemplate.batchUpdate("DELETE FROM notifications WHERE id = ?", rows, rows.size(),
+                    (ps, row) -> ps.setLong(1, row.getId()))[0];
+            counters.apply(counterChanges);
+            int deleted = Arrays.stream(results).sum();
+            return new Batch(fresh.size(), deleted);
+        });
+    }
+
+    /**
+     * @param written 세그먼트에 새로 쓴 알림 수
+     * @param deleted 테이블에서 지운 알림 수
+     */
+    private record Batch(int written, int deleted) {
+    }
+}
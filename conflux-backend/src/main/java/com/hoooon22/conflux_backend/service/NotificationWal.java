@@ -0,0 +1,435 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+/**
+ * 수집 이벤트 WAL (append-only, 메모리 매핑 세그먼트)
+ *
+ * 웹훅 이벤트를 세그먼트 끝에 레코드로 덧붙이고, 동시에 들어온 요청들의 fsync를 한 번으로 묶습니다. (group commit)
+ * 세그먼트가 가득 차면 다음 세그먼트(wal-첫 seq.log)를 만들고, 반영이 끝난 세그먼트는 truncate에서 지웁니다.
+ * 다시 열 때는 마지막 세그먼트를 끝까지 읽어, 기록 중 중단된 레코드 자리부터 이어서 씁니다.
+ *
+ * 잠금 순서는 항상 syncLock → this 입니다. 덧붙이기는 this만 잡아 fsync 중에도 진행되고,
+ * fsync 범위를 바꾸는 세그먼트 교체(roll)와 close는 syncLock도 잡아 진행 중인 fsync가 끝난 뒤에 실행됩니다.
+ *
+ * <pre>
+ * record   length(payload 바이트 수), crc32(seq + payload), seq, payload
+ * payload  source, title, message, repository, sender, status (길이 + UTF-8, null이면 길이 -1), timestamp(epoch µs)
+ * </pre>
+ * length가 0이거나 CRC가 맞지 않는 곳이 세그먼트의 끝입니다.
+ */
+final class NotificationWal implements Closeable {
+
+    private static final String PREFIX = "wal-";
+    private static final String EXTENSION = ".log";
+    private static final int RECORD_HEADER = 16;
+    private static final int NULL_LENGTH = -1;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final Object syncLock = new Object();
+    private final AtomicLong durableSeq;
+
+    /** 첫 seq → 세그먼트 파일 (마지막이 쓰는 중인 세그먼트) */
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private MappedByteBuffer active;
+    private int position;
+    private int unsyncedFrom;
+    private long lastSeq;
+    private boolean closed;
+    private volatile boolean failed;
+
+    private NotificationWal(Path directory, int segmentBytes, boolean fsync, long lastSeq) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.lastSeq = lastSeq;
+        this.durableSeq = new AtomicLong(lastSeq);
+    }
+
+    /**
+     * 디렉터리의 세그먼트를 열고 마지막 레코드 뒤에서 이어 씁니다.
+     *
+     * @param appliedSeq DB에 반영된 마지막 seq (로그가 지워졌어도 seq는 이보다 크게 이어감)
+     */
+    static NotificationWal open(Path directory, int segmentBytes, boolean fsync, long appliedSeq) throws IOException {
+        Files.createDirectories(directory);
+        TreeMap<Long, Path> found = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                Long firstSeq = firstSeq(path);
+                if (firstSeq != null) {
+                    found.put(firstSeq, path);
+                }
+            });
+        }
+
+        long lastSeq = appliedSeq;
+        int end = 0;
+        MappedByteBuffer tail = null;
+        for (Map.Entry<Long, Path> segment : found.entrySet()) {
+            boolean last = segment.getKey().equals(found.lastKey());
+            MappedByteBuffer buffer = map(segment.getValue(), last ? Math.max(segmentBytes, (int) Files.size(segment.getValue())) : 0);
+            long[] seq = {lastSeq};
+            int segmentEnd = scan(buffer, buffer.capacity(), Long.MIN_VALUE, record -> seq[0] = Math.max(seq[0], record.seq()));
+            lastSeq = seq[0];
+            if (last) {
+                tail = buffer;
+                end = segmentEnd;
+            }
+        }
+
+        NotificationWal wal = new NotificationWal(directory, segmentBytes, fsync, lastSeq);
+        wal.segments.putAll(found);
+        if (tail != null) {
+            wal.active = tail;
+            wal.position = end;
+            wal.unsyncedFrom = end;
+        } else {
+            wal.openSegment(lastSeq + 1);
+        }
+        return wal;
+    }
+
+    /**
+     * 레코드를 덧붙이고 seq를 반환합니다. (디스크 반영은 sync)
+     */
+    long append(byte[] payload) throws IOException {
+        int size = RECORD_HEADER + payload.length;
+        if (size + 4 > segmentBytes) {
+            throw new IllegalArgumentException("WAL record too large: " + payload.length + " bytes");
+        }
+        synchronized (this) {
+            if (position + size + 4 <= active.capacity()) {
+                return write(payload, size);
+            }
+        }
+        synchronized (syncLock) {
+            synchronized (this) {
+                if (position + size + 4 > active.capacity()) {
+                    roll();
+                }
+                return write(payload, size);
+            }
+        }
+    }
+
+    private long write(byte[] payload, int size) throws IOException {
+        if (closed) {
+            throw new IOException("WAL is closed");
+        }
+        checkNotFailed();
+        long seq = lastSeq + 1;
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(8).putLong(0, seq));
+        crc.update(payload);
+
+        ByteBuffer writer = active.duplicate().position(position + 4);
+        writer.putInt((int) crc.getValue()).putLong(seq).put(payload).putInt(0);
+        // 길이를 마지막에 써서, 중간에 멈춘 레코드는 끝(length 0)이나 CRC 불일치로 보이게 함
+        active.putInt(position, payload.length);
+        position += size;
+        lastSeq = seq;
+        return seq;
+    }
+
+    /**
+     * seq까지 디스크에 반영될 때까지 기다립니다. 먼저 온 요청이 그때까지 쌓인 레코드를 한 번에 fsync합니다.
+     *
+     * @return 이 호출이 fsync한 레코드 수 (다른 요청이 이미 반영했으면 0)
+     * @throws IOException fsync에 실패한 경우 (이후 이 WAL은 계속 실패)
+     */
+    long sync(long seq) throws IOException {
+        if (!fsync || durableSeq.get() >= seq) {
+            return 0;
+        }
+        synchronized (syncLock) {
+            long durable = durableSeq.get();
+            if (durable >= seq) {
+                return 0;
+            }
+            checkNotFailed();
+            MappedByteBuffer buffer;
+            int from;
+            int to;
+            long target;
+            synchronized (this) {
+                buffer = active;
+                from = unsyncedFrom;
+                to = position;
+                target = lastSeq;
+                unsyncedFrom = position;
+            }
+            force(buffer, from, to);
+            durableSeq.accumulateAndGet(target, Math::max);
+            return target - durable;
+        }
+    }
+
+    /**
+     * afterSeq보다 큰 레코드를 순서대로 읽습니다.
+     */
+    void replay(long afterSeq, Consumer<Record> consumer) throws IOException {
+        List<Path> sealed;
+        ByteBuffer tail;
+        int end;
+        synchronized (this) {
+            sealed = new ArrayList<>(segments.headMap(segments.lastKey()).values());
+            tail = active.duplicate();
+            end = position;
+        }
+        for (Path path : sealed) {
+            MappedByteBuffer buffer = map(path, 0);
+            scan(buffer, buffer.capacity(), afterSeq, consumer);
+        }
+        scan(tail, end, afterSeq, consumer);
+    }
+
+    /**
+     * 모든 레코드가 appliedSeq 이하인 지난 세그먼트를 지웁니다. (최근 keep개는 남김)
+     *
+     * @return 지운 세그먼트 수
+     */
+    int truncate(long appliedSeq, int keep) throws IOException {
+        List<Path> applied = new ArrayList<>();
+        synchronized (this) {
+            Long next = null;
+            for (Long firstSeq : segments.descendingKeySet()) {
+                // 다음 세그먼트의 첫 seq 바로 앞까지가 이 세그먼트
+                if (next != null && next - 1 <= appliedSeq) {
+                    applied.add(0, segments.get(firstSeq));
+                }
+                next = firstSeq;
+            }
+            for (int i = 0; i < applied.size() - keep; i++) {
+                segments.remove(firstSeq(applied.get(i)));
+            }
+        }
+        int deleted = 0;
+        for (int i = 0; i < applied.size() - keep; i++) {
+            Files.deleteIfExists(applied.get(i));
+            deleted++;
+        }
+        return deleted;
+    }
+
+    synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (!failed) {
+                    forceUnsynced();
+                }
+            }
+        }
+    }
+
+    /**
+     * 쓰는 중인 세그먼트를 닫고 다음 세그먼트를 엽니다. (syncLock과 this를 잡은 상태에서 호출)
+     */
+    private void roll() throws IOException {
+        forceUnsynced();
+        openSegment(lastSeq + 1);
+    }
+
+    /**
+     * 아직 fsync되지 않은 나머지를 반영합니다. syncLock을 잡고 있으므로 unsyncedFrom 앞은 모두 반영이 끝난 상태이고,
+     * 그래서 여기까지 반영하면 lastSeq까지 내구성이 보장됩니다.
+     */
+    private void forceUnsynced() throws IOException {
+        checkNotFailed();
+        if (fsync) {
+            force(active, unsyncedFrom, position);
+        }
+        unsyncedFrom = position;
+        durableSeq.accumulateAndGet(lastSeq, Math::max);
+    }
+
+    /**
+     * fsync가 한 번 실패하면 그 범위가 디스크에 있는지 알 수 없으므로, 이후 덧붙이기/sync를 모두 실패시킵니다.
+     */
+    private void force(MappedByteBuffer buffer, int from, int to) throws IOException {
+        if (to <= from) {
+            return;
+        }
+        try {
+            buffer.force(from, to - from);
+        } catch (UncheckedIOException e) {
+            failed = true;
+            throw e.getCause();
+        }
+    }
+
+    private void checkNotFailed() throws IOException {
+        if (failed) {
+            throw new IOException("WAL failed to sync earlier and no longer accepts records");
+        }
+    }
+
+    private void openSegment(long firstSeq) throws IOException {
+        Path path = directory.resolve(PREFIX + String.format("%020d", firstSeq) + EXTENSION);
+        active = map(path, segmentBytes);
+        segments.put(firstSeq, path);
+        position = 0;
+        unsyncedFrom = 0;
+    }
+
+    /**
+     * size가 0보다 크면 그 크기로 읽기/쓰기 매핑 (파일이 작으면 늘림), 0이면 파일 전체를 읽기 전용으로 매핑
+     */
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        if (size == 0) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * 버퍼 앞에서부터 유효한 레코드를 읽어 afterSeq보다 큰 것을 넘기고, 마지막 유효 레코드 뒤 위치를 반환합니다.
+     */
+    private static int scan(ByteBuffer buffer, int limit, long afterSeq, Consumer<Record> consumer) {
+        ByteBuffer reader = buffer.duplicate();
+        int offset = 0;
+        while (offset + RECORD_HEADER <= limit) {
+            int length = reader.getInt(offset);
+            if (length <= 0 || offset + RECORD_HEADER + length > limit) {
+                break;
+            }
+            int checksum = reader.getInt(offset + 4);
+            long seq = reader.getLong(offset + 8);
+            byte[] payload = new byte[length];
+            reader.get(offset + RECORD_HEADER, payload);
+            CRC32 crc = new CRC32();
+            crc.update(ByteBuffer.allocate(8).putLong(0, seq));
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            if (seq > afterSeq) {
+                consumer.accept(new Record(seq, decode(payload)));
+            }
+            offset += RECORD_HEADER + length;
+        }
+        return offset;
+    }
+
+    private static Long firstSeq(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(EXTENSION)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static byte[] encode(NotificationDto dto) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, dto.getSource());
+            writeString(out, dto.getTitle());
+            writeString(out, dto.getMessage());
+            writeString(out, dto.getRepository());
+            writeString(out, dto.getSender());
+            writeString(out, dto.getStatus());
+            LocalDateTime timestamp = dto.getTimestamp();
+            out.writeLong(timestamp == null ? NULL_TIMESTAMP
+                    : timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000);
+            writeString(out, dto.getGroupKey());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static NotificationDto decode(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        NotificationDto.NotificationDtoBuilder builder = NotificationDto.builder()
+                .source(readString(in))
+                .title(readString(in))
+                .message(readString(in))
+                .repository(readString(in))
+                .sender(readString(in))
+                .status(readString(in));
+        long micros = in.getLong();
+        if (micros != NULL_TIMESTAMP) {
+            builder.timestamp(LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC));
+        }
+        // 묶음 키는 나중에 추가된 필드 (이전 형식 레코드에는 없음)
+        if (in.hasRemaining()) {
+            builder.groupKey(readString(in));
+        }
+        return builder.build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    /**
+     * WAL 레코드 (seq는 1부터 증가)
+     */
+    record Record(long seq, NotificationDto notification) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.hoooon22.conflux_backend.service;
+
+import com.hoooon22.conflux_backend.domain.LatencyHistogram;
+import com.hoooon22.conflux_backend.domain.ProbeRollup;
+import com.hoooon22.conflux_backend.domain.ProbeSample;
+
+/**
+ * 샘플/롤업을 합산하는 집계 값 (롤업 한 행, 또는 조회 구간 전체)
+ */
+class ProbeAggregate {
+
+    private long sampleCount;
+    private long successCount;
+    private long latencySum;
+    private long latencyMax;
+    private final LatencyHistogram histogram;
+
+    ProbeAggregate() {
+        this.histogram = new LatencyHistogram();
+    }
+
+    static ProbeAggregate of(ProbeRollup rollup) {
+        ProbeAggregate aggregate = new ProbeAggregate();
+        aggregate.merge(rollup);
+        return aggregate;
+    }
+
+    void add(ProbeSample sample) {
+        sampleCount++;
+        if (sample.isSuccess()) {
+            successCount++;
+        }
+        latencySum += sample.latencyMillis();
+        latencyMax = Math.max(latencyMax, sample.latencyMillis());
+        histogram.record(sample.latencyMillis());
+    }
+
+    void merge(ProbeRollup rollup) {
+        sampleCount += rollup.getSampleCount();
+        successCount += rollup.getSuccessCount();
+        latencySum += rollup.getLatencySum();
+        latencyMax = Math.max(latencyMax, rollup.getLatencyMax());
+        histogram.merge(LatencyHistogram.fromBytes(rollup.getHistogram()));
+    }
+
+    void merge(ProbeAggregate other) {
+        sampleCount += other.sampleCount;
+        successCount += other.successCount;
+        latencySum += other.latencySum;
+        latencyMax = Math.max(latencyMax, other.latencyMax);
+        histogram.merge(other.histogram);
+    }
+
+    /**
+     * 집계 값을 롤업 엔티티에 기록합니다.
+     */
+    void writeTo(ProbeRollup rollup) {
+        rollup.setSampleCount(sampleCount);
+        rollup.setSuccessCount(successCount);
+        rollup.setLatencySum(latencySum);
+        rollup.setLatencyMax(latencyMax);
+        rollup.setHistogram(histogram.toBytes());
+    }
+
+    long getSampleCount() {
+        return sampleCount;
+    }
+
+    long getSuccessCount() {
+        return successCount;
+    }
+
+    Double uptimePercent() {
+        return sampleCount == 0 ? null : successCount * 100.0 / sampleCount;
+    }
+
+    long avgLatency() {
+        return sampleCount == 0 ? 0 : latencySum / sampleCount;
+    }
+
+    long getLatencyMax() {
+        return latencyMax;
+    }
+
+    long percentile(double quantile) {
+        return histogram.percentile(quantile);
+    }
+}
@@ -0,0 +1,134 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.domain.HealthCheck;
+import com.hoooon22.conflux_backend.domain.ProbeAssertionType;
+
+/**
+ * 응답 본문 앞부분에 대한 내용 검사
+ * 정규식/JSON 경로/검색 바이트열은 검사식별로 한 번만 컴파일해 재사용합니다.
+ */
+final class ProbeAssertions {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_COMPILED = 1024;
+    private static final Map<String, Object> COMPILED = new ConcurrentHashMap<>();
+
+    private ProbeAssertions() {
+    }
+
+    static boolean isConfigured(HealthCheck healthCheck) {
+        return healthCheck.getAssertionType() != null
+                && healthCheck.getAssertionExpression() != null
+                && !healthCheck.getAssertionExpression().isEmpty();
+    }
+
+    /**
+     * @return 통과하면 null, 실패하면 실패 사유
+     */
+    static String evaluate(HealthCheck healthCheck, CappedBodySubscriber.BodyPrefix body) {
+        ProbeAssertionType type = healthCheck.getAssertionType();
+        String expression = healthCheck.getAssertionExpression();
+        byte[] bytes = body.bytes() != null ? body.bytes() : new byte[0];
+        int length = body.length();
+        if (COMPILED.size() > MAX_COMPILED) {
+            // 검사식이 자주 바뀌어 쌓인 경우 (체크 수보다 훨씬 많을 때만) 비움
+            COMPILED.clear();
+        }
+
+        return switch (type) {
+            case CONTAINS -> indexOf(bytes, length, (byte[]) COMPILED.computeIfAbsent("C:" + expression,
+                    key -> expression.getBytes(StandardCharsets.UTF_8))) >= 0
+                    ? null
+                    : "Body does not contain \"" + expression + "\"" + truncatedNote(body);
+            case REGEX -> {
+                Pattern pattern;
+                try {
+                    pattern = (Pattern) COMPILED.computeIfAbsent("R:" + expression, key -> Pattern.compile(expression));
+                } catch (PatternSyntaxException e) {
+                    yield "Invalid regex: " + e.getDescription();
+                }
+                yield pattern.matcher(new String(bytes, 0, length, StandardCharsets.UTF_8)).find()
+                        ? null
+                        : "Body does not match /" + expression + "/" + truncatedNote(body);
+            }
+            case JSON_PATH -> evaluateJsonPath(expression, healthCheck.getAssertionExpected(), bytes, length, body);
+        };
+    }
+
+    private static String evaluateJsonPath(String expression, String expected, byte[] bytes, int length,
+                                           CappedBodySubscriber.BodyPrefix body) {
+        JsonPointer pointer;
+        try {
+            pointer = (JsonPointer) COMPILED.computeIfAbsent("J:" + expression, key -> toPointer(expression));
+        } catch (IllegalArgumentException e) {
+            return "Invalid JSON path: " + expression;
+        }
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(bytes, 0, length);
+        } catch (IOException e) {
+            return body.truncated()
+                    ? "JSON body exceeds " + length + " byte limit"
+                    : "Body is not valid JSON";
+        }
+        JsonNode node = root != null ? root.at(pointer) : null;
+        if (node == null || node.isMissingNode()) {
+            return "JSON path " + expression + " not found";
+        }
+        if (expected == null) {
+            return null;
+        }
+        String actual = node.isValueNode() ? node.asText() : node.toString();
+        return expected.equals(actual) ? null : "JSON path " + expression + " is " + actual + ", expected " + expected;
+    }
+
+    /**
+     * $.a.b[0] 형식을 JSON Pointer(/a/b/0)로 변환합니다. (/로 시작하면 그대로 사용)
+     */
+    static JsonPointer toPointer(String expression) {
+        String path = expression.trim();
+        if (path.startsWith("/")) {
+            return JsonPointer.compile(path);
+        }
+        if (path.startsWith("$")) {
+            path = path.substring(1);
+        }
+        StringBuilder pointer = new StringBuilder();
+        for (String segment : path.replace("[", ".").replace("]", "").split("\\.")) {
+            if (!segment.isEmpty()) {
+                pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+            }
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    private static int indexOf(byte[] haystack, int length, byte[] needle) {
+        if (needle.length == 0) {
+            return 0;
+        }
+        outer:
+        for (int i = 0; i <= length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String truncatedNote(CappedBodySubscriber.BodyPrefix body) {
+        return body.truncated() ? " (first " + body.length() + " bytes checked)" : "";
+    }
+}
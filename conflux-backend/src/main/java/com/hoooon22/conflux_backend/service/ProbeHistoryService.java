@@ -0,0 +1,436 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hoooon22.conflux_backend.domain.ProbeRollup;
+import com.hoooon22.conflux_backend.domain.ProbeSample;
+import com.hoooon22.conflux_backend.domain.ProbeSampleBlock;
+import com.hoooon22.conflux_backend.domain.ProbeSampleCodec;
+import com.hoooon22.conflux_backend.domain.RollupResolution;
+import com.hoooon22.conflux_backend.dto.HealthCheckStatsDto;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.repository.ProbeRollupRepository;
+import com.hoooon22.conflux_backend.repository.ProbeSampleBlockRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Health Check 프로브 이력 시계열 저장소
+ *
+ * 프로브 결과는 체크별 메모리 버퍼에 쌓였다가 flush 주기마다 한 번에 반영됩니다.
+ * - 원본 샘플: block-size개 단위로 ProbeSampleCodec 블록 한 행에 압축 저장 (채워지는 중인 블록은 같은 행을 갱신)
+ * - 롤업: 1분/1시간/1일 구간별 샘플 수, 성공 수, 응답 시간 히스토그램을 누적
+ * 조회는 롤업을 큰 단위부터 조합해 읽으므로 30일 구간도 수십 행만 읽습니다. (1일 30행 + 경계 시간/분 단위)
+ * 보관 기간이 지난 블록/롤업은 주기적으로 삭제됩니다.
+ */
+@Slf4j
+@Service
+public class ProbeHistoryService {
+
+    private static final RollupResolution[] RESOLUTIONS = RollupResolution.values();
+    private static final int MAX_SAMPLES_PER_QUERY = 10_000;
+
+    private final ProbeSampleBlockRepository blockRepository;
+    private final ProbeRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final int maxPendingSamples;
+    private final long rawRetentionMillis;
+    private final Map<RollupResolution, Long> rollupRetentionMillis = new EnumMap<>(RollupResolution.class);
+
+    private final Map<Long, Series> seriesByCheck = new ConcurrentHashMap<>();
+
+    public ProbeHistoryService(ProbeSampleBlockRepository blockRepository,
+                               ProbeRollupRepository rollupRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${conflux.history.block-size:360}") int blockSize,
+                               @Value("${conflux.history.max-pending-samples:3600}") int maxPendingSamples,
+                               @Value("${conflux.history.raw-retention-days:30}") int rawRetentionDays,
+                               @Value("${conflux.history.minute-retention-days:2}") int minuteRetentionDays,
+                               @Value("${conflux.history.hour-retention-days:90}") int hourRetentionDays,
+                               @Value("${conflux.history.day-retention-days:730}") int dayRetentionDays) {
+        this.blockRepository = blockRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.blockSize = blockSize;
+        this.maxPendingSamples = maxPendingSamples;
+        this.rawRetentionMillis = Duration.ofDays(rawRetentionDays).toMillis();
+        rollupRetentionMillis.put(RollupResolution.MINUTE, Duration.ofDays(minuteRetentionDays).toMillis());
+        rollupRetentionMillis.put(RollupResolution.HOUR, Duration.ofDays(hourRetentionDays).toMillis());
+        rollupRetentionMillis.put(RollupResolution.DAY, Duration.ofDays(dayRetentionDays).toMillis());
+    }
+
+    /**
+     * 프로브 결과 1건을 기록합니다. (메모리 버퍼에 추가만 하고, DB 반영은 flush에서)
+     */
+    public void record(ProbeResult result) {
+        if (result.healthCheckId() == null) {
+            return;
+        }
+        ProbeSample sample = new ProbeSample(toEpochMillis(result.timestamp()), result.statusCode(),
+                result.latencyMillis(), result.errorClass());
+        seriesByCheck.computeIfAbsent(result.healthCheckId(), Series::new).append(sample, maxPendingSamples);
+    }
+
+    /**
+     * 버퍼에 쌓인 샘플을 블록과 롤업에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${conflux.history.flush-interval-ms:30000}")
+    public void flush() {
+        for (Series series : seriesByCheck.values()) {
+            flush(series);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 보관 기간이 지난 원본 블록과 롤업을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${conflux.history.retention-interval-ms:3600000}")
+    public void applyRetention() {
+        long now = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            int blocks = blockRepository.deleteEndedBefore(now - rawRetentionMillis);
+            int rollups = 0;
+            for (RollupResolution resolution : RESOLUTIONS) {
+                rollups += rollupRepository.deleteOlderThan(resolution,
+                        resolution.bucketStart(now - rollupRetentionMillis.get(resolution)));
+            }
+            if (blocks > 0 || rollups > 0) {
+                log.info("🧹 Probe history retention: {} blocks, {} rollups deleted", blocks, rollups);
+            }
+        });
+    }
+
+    /**
+     * Health Check 삭제 시 이력도 함께 삭제합니다.
+     */
+    public void deleteHistory(Long healthCheckId) {
+        Series series = seriesByCheck.remove(healthCheckId);
+        if (series != null) {
+            synchronized (series.flushLock) {
+                series.drainPending();
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            blockRepository.deleteByHealthCheckId(healthCheckId);
+            rollupRepository.deleteByHealthCheckId(healthCheckId);
+        });
+    }
+
+    /**
+     * [from, to) 구간의 가용률과 응답 시간 분위수 (분 단위로 정렬해 집계)
+     * 롤업은 큰 단위부터 채우고 남는 경계만 작은 단위로 읽습니다. 아직 flush되지 않은 샘플도 포함합니다.
+     */
+    public HealthCheckStatsDto getStats(Long healthCheckId, LocalDateTime from, LocalDateTime to) {
+        long fromMillis = toEpochMillis(from);
+        long toMillis = toEpochMillis(to);
+        ProbeAggregate total = aggregate(healthCheckId, fromMillis, toMillis,
+                RESOLUTIONS.length - 1, finestAvailableLevel(fromMillis));
+
+        Series series = seriesByCheck.get(healthCheckId);
+        if (series != null) {
+            for (ProbeSample sample : series.pendingSnapshot()) {
+                if (sample.timestamp() >= fromMillis && sample.timestamp() < toMillis) {
+                    total.add(sample);
+                }
+            }
+        }
+        return toStats(healthCheckId, from, to, total);
+    }
+
+    /**
+     * [from, to) 구간을 롤업 단위별로 나눈 통계 목록 (그래프용)
+     * resolution을 지정하지 않으면 구간 길이에 맞춰 고릅니다. (6시간 이하: 1분, 14일 이하: 1시간, 그 이상: 1일)
+     */
+    public List<HealthCheckStatsDto> getSeries(Long healthCheckId, LocalDateTime from, LocalDateTime to,
+                                               RollupResolution resolution) {
+        long fromMillis = toEpochMillis(from);
+        long toMillis = toEpochMillis(to);
+        RollupResolution effective = resolution != null ? resolution : defaultResolution(toMillis - fromMillis);
+        return rollupRepository.findRange(healthCheckId, effective, effective.bucketStart(fromMillis), toMillis)
+                .stream()
+                .map(rollup -> toStats(healthCheckId,
+                        toLocalDateTime(rollup.getBucketStart()),
+                        toLocalDateTime(rollup.getBucketStart() + effective.getMillis()),
+                        ProbeAggregate.of(rollup)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * [from, to) 구간의 원본 샘플 (시간순, 최대 limit개)
+     */
+    public List<ProbeSample> getSamples(Long healthCheckId, LocalDateTime from, LocalDateTime to, int limit) {
+        long fromMillis = toEpochMillis(from);
+        long toMillis = toEpochMillis(to);
+        int max = Math.max(1, Math.min(limit, MAX_SAMPLES_PER_QUERY));
+
+        List<ProbeSample> samples = new ArrayList<>();
+        for (ProbeSampleBlock block : blockRepository.findOverlapping(healthCheckId, fromMillis, toMillis)) {
+            for (ProbeSample sample : ProbeSampleCodec.decode(block.getData())) {
+                if (sample.timestamp() >= fromMillis && sample.timestamp() < toMillis) {
+                    samples.add(sample);
+                }
+            }
+        }
+        Series series = seriesByCheck.get(healthCheckId);
+        if (series != null) {
+            for (ProbeSample sample : series.pendingSnapshot()) {
+                if (sample.timestamp() >= fromMillis && sample.timestamp() < toMillis) {
+                    samples.add(sample);
+                }
+            }
+        }
+        samples.sort(Comparator.comparingLong(ProbeSample::timestamp));
+        return samples.size() > max ? new ArrayList<>(samples.subList(0, max)) : samples;
+    }
+
+    private void flush(Series series) {
+        synchronized (series.flushLock) {
+            List<ProbeSample> drained = series.drainPending();
+            if (drained.isEmpty()) {
+                return;
+            }
+            try {
+                OpenBlock open = transactionTemplate.execute(status -> {
+                    OpenBlock next = appendBlocks(series, drained);
+                    mergeRollups(series.healthCheckId, drained);
+                    return next;
+                });
+                series.openSamples = open.samples();
+                series.openBlockId = open.id();
+            } catch (RuntimeException e) {
+                series.requeue(drained, maxPendingSamples);
+                log.error("❌ Failed to flush probe history for Health Check {}: {}",
+                        series.healthCheckId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 채우는 중인 블록에 샘플을 이어 붙이고, block-size를 채운 블록은 확정합니다.
+     *
+     * @return flush 후 채우는 중인 블록 (샘플, 행 ID)
+     */
+    private OpenBlock appendBlocks(Series series, List<ProbeSample> drained) {
+        List<ProbeSample> samples = new ArrayList<>(series.openSamples.size() + drained.size());
+        samples.addAll(series.openSamples);
+        samples.addAll(drained);
+
+        Long openBlockId = series.openBlockId;
+        int offset = 0;
+        while (samples.size() - offset >= blockSize) {
+            saveBlock(series.healthCheckId, openBlockId, samples.subList(offset, offset + blockSize));
+            openBlockId = null;
+            offset += blockSize;
+        }
+        List<ProbeSample> remaining = new ArrayList<>(samples.subList(offset, samples.size()));
+        if (remaining.isEmpty()) {
+            return new OpenBlock(List.of(), null);
+        }
+        return new OpenBlock(remaining, saveBlock(series.healthCheckId, openBlockId, remaining).getId());
+    }
+
+    private ProbeSampleBlock saveBlock(Long healthCheckId, Long blockId, List<ProbeSample> samples) {
+        ProbeSampleBlock block = blockId != null
+                ? blockRepository.findById(blockId).orElseGet(ProbeSampleBlock::new)
+                : new ProbeSampleBlock();
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        for (ProbeSample sample : samples) {
+            start = Math.min(start, sample.timestamp());
+            end = Math.max(end, sample.timestamp());
+        }
+        block.setHealthCheckId(healthCheckId);
+        block.setStartTime(start);
+        block.setEndTime(end);
+        block.setSampleCount(samples.size());
+        block.setData(ProbeSampleCodec.encode(samples));
+        return blockRepository.save(block);
+    }
+
+    /**
+     * 새 샘플을 구간별로 집계한 뒤 기존 롤업 행과 합칩니다. (단위별로 조회 1번 + 저장)
+     */
+    private void mergeRollups(Long healthCheckId, List<ProbeSample> samples) {
+        for (RollupResolution resolution : RESOLUTIONS) {
+            TreeMap<Long, ProbeAggregate> buckets = new TreeMap<>();
+            for (ProbeSample sample : samples) {
+                buckets.computeIfAbsent(resolution.bucketStart(sample.timestamp()), key -> new ProbeAggregate())
+                        .add(sample);
+            }
+
+            Map<Long, ProbeRollup> existing = new HashMap<>();
+            for (ProbeRollup rollup : rollupRepository.findRange(healthCheckId, resolution,
+                    buckets.firstKey(), buckets.lastKey() + 1)) {
+                existing.put(rollup.getBucketStart(), rollup);
+            }
+
+            List<ProbeRollup> changed = new ArrayList<>(buckets.size());
+            for (Map.Entry<Long, ProbeAggregate> bucket : buckets.entrySet()) {
+                ProbeRollup rollup = existing.get(bucket.getKey());
+                if (rollup == null) {
+                    rollup = ProbeRollup.builder()
+                            .healthCheckId(healthCheckId)
+                            .resolution(resolution)
+                            .bucketStart(bucket.getKey())
+                            .build();
+                } else {
+                    bucket.getValue().merge(rollup);
+                }
+                bucket.getValue().writeTo(rollup);
+                changed.add(rollup);
+            }
+            rollupRepository.saveAll(changed);
+        }
+    }
+
+    /**
+     * level 단위로 정렬되는 가운데 구간은 해당 롤업으로, 양쪽 경계는 한 단계 작은 단위로 재귀 집계합니다.
+     * minLevel(보관 중인 가장 작은 단위)에서는 구간 시작을 내림해 그 단위로 읽습니다.
+     */
+    private ProbeAggregate aggregate(Long healthCheckId, long from, long to, int level, int minLevel) {
+        ProbeAggregate result = new ProbeAggregate();
+        if (from >= to) {
+            return result;
+        }
+        RollupResolution resolution = RESOLUTIONS[level];
+        if (level <= minLevel) {
+            mergeRange(result, healthCheckId, resolution, resolution.bucketStart(from), to);
+            return result;
+        }
+        long alignedTo = resolution.bucketStart(to);
+        long alignedFrom = resolution.bucketStart(from) == from ? from : resolution.bucketStart(from)
+                + resolution.getMillis();
+        if (alignedFrom >= alignedTo) {
+            return aggregate(healthCheckId, from, to, level - 1, minLevel);
+        }
+        mergeRange(result, healthCheckId, resolution, alignedFrom, alignedTo);
+        result.merge(aggregate(healthCheckId, from, alignedFrom, level - 1, minLevel));
+        result.merge(aggregate(healthCheckId, alignedTo, to, level - 1, minLevel));
+        return result;
+    }
+
+    private void mergeRange(ProbeAggregate result, Long healthCheckId, RollupResolution resolution,
+                            long from, long to) {
+        for (ProbeRollup rollup : rollupRepository.findRange(healthCheckId, resolution, from, to)) {
+            result.merge(rollup);
+        }
+    }
+
+    /**
+     * from 시점의 롤업이 아직 보관 중인 가장 작은 단위
+     */
+    private int finestAvailableLevel(long from) {
+        long now = System.currentTimeMillis();
+        for (int level = 0; level < RESOLUTIONS.length; level++) {
+            if (from >= now - rollupRetentionMillis.get(RESOLUTIONS[level])) {
+                return level;
+            }
+        }
+        return RESOLUTIONS.length - 1;
+    }
+
+    private static RollupResolution defaultResolution(long rangeMillis) {
+        if (rangeMillis <= Duration.ofHours(6).toMillis()) {
+            return RollupResolution.MINUTE;
+        }
+        if (rangeMillis <= Duration.ofDays(14).toMillis()) {
+            return RollupResolution.HOUR;
+        }
+        return RollupResolution.DAY;
+    }
+
+    private static HealthCheckStatsDto toStats(Long healthCheckId, LocalDateTime from, LocalDateTime to,
+                                               ProbeAggregate aggregate) {
+        return HealthCheckStatsDto.builder()
+                .healthCheckId(healthCheckId)
+                .from(from)
+                .to(to)
+                .sampleCount(aggregate.getSampleCount())
+                .successCount(aggregate.getSuccessCount())
+                .uptimePercent(aggregate.uptimePercent())
+                .avgLatencyMillis(aggregate.avgLatency())
+                .p50LatencyMillis(aggregate.percentile(0.50))
+                .p95LatencyMillis(aggregate.percentile(0.95))
+                .p99LatencyMillis(aggregate.percentile(0.99))
+                .maxLatencyMillis(aggregate.getLatencyMax())
+                .build();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record OpenBlock(List<ProbeSample> samples, Long id) {
+    }
+
+    /**
+     * 체크별 버퍼 상태
+     * pending은 record/flush 사이의 동기화(this)로, openSamples/openBlockId는 flushLock으로 보호합니다.
+     */
+    private static final class Series {
+        private final Long healthCheckId;
+        private final ArrayDeque<ProbeSample> pending = new ArrayDeque<>();
+        private final Object flushLock = new Object();
+        private List<ProbeSample> openSamples = List.of();
+        private Long openBlockId;
+
+        private Series(Long healthCheckId) {
+            this.healthCheckId = healthCheckId;
+        }
+
+        /**
+         * DB 장애 등으로 flush가 계속 실패하면 오래된 샘플부터 버립니다.
+         */
+        private synchronized void append(ProbeSample sample, int maxPending) {
+            if (pending.size() >= maxPending) {
+                pending.pollFirst();
+            }
+            pending.addLast(sample);
+        }
+
+        private synchronized List<ProbeSample> drainPending() {
+            List<ProbeSample> drained = new ArrayList<>(pending);
+            pending.clear();
+            return drained;
+        }
+
+        private synchronized void requeue(List<ProbeSample> samples, int maxPending) {
+            for (int i = samples.size() - 1; i >= 0 && pending.size() < maxPending; i--) {
+                pending.addFirst(samples.get(i));
+            }
+        }
+
+        private synchronized List<ProbeSample> pendingSnapshot() {
+            return new ArrayList<>(pending);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Health Check 프로브 응답 시간 메트릭 (체크별 히스토그램)
+ * 버킷은 고정 SLO 경계만 사용해 체크 수가 많아도 시계열 수가 체크당 수십 개를 넘지 않습니다.
+ */
+@Component
+public class ProbeMetrics {
+
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500),
+            Duration.ofSeconds(5), Duration.ofSeconds(10)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, CheckMeters> checks = new ConcurrentHashMap<>();
+
+    public ProbeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(ProbeResult result) {
+        Long id = result.healthCheckId();
+        if (id == null) {
+            return;
+        }
+        CheckMeters meters = checks.get(id);
+        if (meters == null) {
+            meters = checks.computeIfAbsent(id, key -> new CheckMeters(timer(key, "success"), timer(key, "failure")));
+        }
+        (result.isSuccess() ? meters.success() : meters.failure())
+                .record(result.latencyMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Health Check 삭제 시 해당 체크의 시계열을 제거합니다.
+     */
+    public void remove(Long id) {
+        CheckMeters meters = checks.remove(id);
+        if (meters != null) {
+            meterRegistry.remove(meters.success());
+            meterRegistry.remove(meters.failure());
+        }
+    }
+
+    private Timer timer(Long id, String outcome) {
+        return Timer.builder("conflux.probe.latency")
+                .description("Health check probe latency")
+                .tag("check", String.valueOf(id))
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(LATENCY_SLOS)
+                .register(meterRegistry);
+    }
+
+    private record CheckMeters(Timer success, Timer failure) {
+    }
+}
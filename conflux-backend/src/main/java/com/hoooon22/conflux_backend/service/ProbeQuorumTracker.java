@@ -0,0 +1,203 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hoooon22.conflux_backend.domain.HealthState;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.dto.ProbeVantageDto;
+
+/**
+ * 여러 출처(vantage)의 프로브 결과를 모아 quorum으로 Health Check 상태를 정합니다.
+ *
+ * 출처마다 HealthStateTracker와 같은 임계값으로 상태(UP / DEGRADED / DOWN)를 따로 추적하고,
+ * window-ms 안에 결과를 보낸 출처 중 min-failing개 이상이 DOWN이어야 DOWN, DEGRADED 이상이어야 DEGRADED입니다.
+ * 그보다 적은 출처만 실패하면 그 출처 쪽 네트워크 문제로 보고 UP을 유지합니다.
+ * 출처별 flapping은 따로 알리지 않습니다. (quorum 상태가 바뀔 때만 알림)
+ *
+ * 결과는 메모리에서만 집계합니다. (결과마다 DB 트랜잭션 없음)
+ */
+@Component
+public class ProbeQuorumTracker {
+
+    private final HealthStateTracker template;
+    private final boolean enabled;
+    private final String localVantage;
+    private final int minFailing;
+    private final long windowNanos;
+
+    private final Map<String, Vantage> vantages = new ConcurrentHashMap<>();
+    private final Map<Long, CheckQuorum> checks = new ConcurrentHashMap<>();
+
+    public ProbeQuorumTracker(HealthStateTracker healthStateTracker,
+                              @Value("${conflux.quorum.enabled:false}") boolean enabled,
+                              @Value("${conflux.quorum.local-vantage:local}") String localVantage,
+                              @Value("${conflux.quorum.min-failing:2}") int minFailing,
+                              @Value("${conflux.quorum.window-ms:60000}") long windowMillis) {
+        if (minFailing < 1) {
+            throw new IllegalArgumentException("min-failing must be at least 1: " + minFailing);
+        }
+        this.template = healthStateTracker;
+        this.enabled = enabled;
+        this.localVantage = localVantage == null || localVantage.isBlank() ? null : localVantage;
+        this.minFailing = minFailing;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이 서버의 프로브 결과를 셀 출처 이름 (null이면 에이전트 결과만 사용)
+     */
+    public String getLocalVantage() {
+        return localVantage;
+    }
+
+    /**
+     * 출처 한 곳의 결과를 반영하고, 알려야 할 quorum 상태 변화가 있으면 반환합니다.
+     */
+    public Optional<HealthStateTracker.HealthAlert> record(String vantageName, ProbeResult result) {
+        Vantage vantage = vantage(vantageName);
+        vantage.results.incrementAndGet();
+        vantage.lastResultNanos = System.nanoTime();
+        vantage.tracker.evaluate(result.healthCheckId(), result);
+        HealthState state = vantage.tracker.getState(result.healthCheckId());
+
+        CheckQuorum check = checks.computeIfAbsent(result.healthCheckId(), id -> new CheckQuorum());
+        synchronized (check) {
+            return Optional.ofNullable(check.apply(vantageName, state, System.nanoTime(), result.timestamp()));
+        }
+    }
+
+    /**
+     * 결과 없이 연결만 확인한 출처 (배정 목록 조회)
+     */
+    public void touch(String vantageName) {
+        vantage(vantageName).lastSeen = LocalDateTime.now();
+    }
+
+    public HealthState getState(Long healthCheckId) {
+        CheckQuorum check = checks.get(healthCheckId);
+        return check != null ? check.current : HealthState.UNKNOWN;
+    }
+
+    /**
+     * window 안에 결과를 보낸 출처 중 DEGRADED/DOWN인 출처 이름
+     */
+    public List<String> getFailingVantages(Long healthCheckId) {
+        CheckQuorum check = checks.get(healthCheckId);
+        if (check == null) {
+            return List.of();
+        }
+        long now = System.nanoTime();
+        List<String> failing = new ArrayList<>();
+        synchronized (check) {
+            check.views.forEach((name, view) -> {
+                if (now - view.atNanos() <= windowNanos
+                        && (view.state() == HealthState.DOWN || view.state() == HealthState.DEGRADED)) {
+                    failing.add(name);
+                }
+            });
+        }
+        failing.sort(null);
+        return failing;
+    }
+
+    public List<ProbeVantageDto> getVantages() {
+        long now = System.nanoTime();
+        return vantages.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new ProbeVantageDto(entry.getKey(), entry.getValue().lastSeen,
+                        entry.getValue().results.get(),
+                        entry.getValue().results.get() > 0 && now - entry.getValue().lastResultNanos <= windowNanos))
+                .toList();
+    }
+
+    public void remove(Long healthCheckId) {
+        checks.remove(healthCheckId);
+        vantages.values().forEach(vantage -> vantage.tracker.remove(healthCheckId));
+    }
+
+    private Vantage vantage(String name) {
+        Vantage vantage = vantages.computeIfAbsent(name, key -> new Vantage(template.copy()));
+        vantage.lastSeen = LocalDateTime.now();
+        return vantage;
+    }
+
+    private static final class Vantage {
+        private final HealthStateTracker tracker;
+        private final AtomicLong results = new AtomicLong();
+        private volatile LocalDateTime lastSeen;
+        private volatile long lastResultNanos;
+
+        private Vantage(HealthStateTracker tracker) {
+            this.tracker = tracker;
+        }
+    }
+
+    private record View(HealthState state, long atNanos) {
+    }
+
+    private final class CheckQuorum {
+        private final Map<String, View> views = new HashMap<>();
+        private HealthState current = HealthState.UNKNOWN;
+        private HealthState announced = HealthState.UNKNOWN;
+        private LocalDateTime announcedSince = LocalDateTime.now();
+
+        private HealthStateTracker.HealthAlert apply(String vantage, HealthState state, long now, LocalDateTime at) {
+            views.put(vantage, new View(state, now));
+            // 결과가 끊긴 출처는 투표에서 뺌
+            views.values().removeIf(view -> now - view.atNanos() > windowNanos);
+
+            int down = 0;
+            int degraded = 0;
+            int up = 0;
+            for (View view : views.values()) {
+                switch (view.state()) {
+                    case DOWN -> down++;
+                    case DEGRADED -> degraded++;
+                    case UP -> up++;
+                    default -> {
+                    }
+                }
+            }
+            if (down >= minFailing) {
+                current = HealthState.DOWN;
+            } else if (down + degraded >= minFailing) {
+                current = HealthState.DEGRADED;
+            } else if (up > 0) {
+                current = HealthState.UP;
+            }
+            return announce(at);
+        }
+
+        private HealthStateTracker.HealthAlert announce(LocalDateTime at) {
+            if (current == announced || current == HealthState.UNKNOWN) {
+                return null;
+            }
+            HealthState previous = announced;
+            LocalDateTime since = announcedSince;
+            announced = current;
+            announcedSince = at != null ? at : LocalDateTime.now();
+            HealthStateTracker.AlertType type = switch (current) {
+                case UP -> previous == HealthState.UNKNOWN ? null : HealthStateTracker.AlertType.RECOVERED;
+                case DEGRADED -> HealthStateTracker.AlertType.DEGRADED;
+                case DOWN -> HealthStateTracker.AlertType.DOWN;
+                default -> null;
+            };
+            return type != null ? new HealthStateTracker.HealthAlert(type, previous, current, since) : null;
+        }
+    }
+}
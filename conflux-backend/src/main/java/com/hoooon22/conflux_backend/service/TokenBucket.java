@@ -0,0 +1,56 @@
+package com.hoooon22.conflux_backend.service;
+
+/**
+ * 토큰 버킷 속도 제한 (초당 ratePerSecond개 충전, 최대 burst개까지 모아 둠)
+ */
+final class TokenBucket {
+
+    private final double ratePerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate must be positive and burst at least 1");
+        }
+        this.ratePerNano = ratePerSecond / 1_000_000_000d;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * 토큰을 쓰지 않고 지금 있는지만 확인
+     */
+    synchronized boolean hasToken() {
+        refill();
+        return tokens >= 1;
+    }
+
+    /**
+     * 토큰이 있으면 하나 쓰고 true
+     */
+    synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 상대가 속도 제한(429)으로 거절하면 모아 둔 토큰을 버림
+     */
+    synchronized void drain() {
+        refill();
+        tokens = 0;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * ratePerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,38 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+/**
+ * 웹훅 소스 어댑터 (POST /api/webhook/{id})
+ *
+ * 대부분의 소스는 webhook-mappings.json의 선언형 매핑(MappedWebhookAdapter)으로 충분하며,
+ * 매핑으로 표현할 수 없는 소스는 이 인터페이스를 구현한 Spring 빈을 등록하면 됩니다.
+ * 같은 ID면 코드로 구현한 어댑터가 매핑보다 우선합니다.
+ */
+public interface WebhookAdapter {
+
+    /**
+     * URL 경로에 쓰이는 ID (예: "github", "sentry")
+     */
+    String id();
+
+    /**
+     * 알림 소스 (메트릭 태그)
+     */
+    String source();
+
+    /**
+     * 요청 본문을 알림으로 변환합니다.
+     *
+     * @throws IOException 본문이 올바른 JSON이 아닐 때
+     */
+    NotificationDto toNotification(InputStream body) throws IOException;
+
+    default NotificationDto toNotification(byte[] body) throws IOException {
+        return toNotification(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,134 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.dto.WebhookMapping;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 웹훅 어댑터 목록 (ID → 어댑터)
+ *
+ * 기본 매핑(classpath:webhook-mappings.json)에 mappings-file의 매핑을 ID별로 덮어쓴 뒤 모두 컴파일하고,
+ * 코드로 구현한 WebhookAdapter 빈을 그 위에 얹습니다.
+ * mappings-file은 주기적으로 변경 여부(수정 시각/크기)를 확인해 바뀌면 다시 컴파일하고 목록을 통째로 교체합니다.
+ * 다시 읽은 매핑에 오류가 있으면 로그만 남기고 기존 목록을 그대로 씁니다.
+ */
+@Slf4j
+@Component
+public class WebhookAdapterRegistry {
+
+    private static final String DEFAULT_MAPPINGS = "webhook-mappings.json";
+    private static final TypeReference<LinkedHashMap<String, WebhookMapping>> MAPPINGS_TYPE = new TypeReference<>() {
+    };
+
+    private final List<WebhookAdapter> codeAdapters;
+    private final ObjectMapper objectMapper;
+    private final Path mappingsFile;
+
+    private volatile Map<String, WebhookAdapter> adapters = Map.of();
+    private FileVersion loadedVersion;
+
+    public WebhookAdapterRegistry(List<WebhookAdapter> codeAdapters, ObjectMapper objectMapper,
+                                  @Value("${conflux.webhook.mappings-file:}") String mappingsFile) {
+        this.codeAdapters = codeAdapters;
+        this.objectMapper = objectMapper;
+        this.mappingsFile = mappingsFile == null || mappingsFile.isBlank() ? null : Path.of(mappingsFile);
+    }
+
+    /**
+     * 시작 시 매핑을 읽습니다. (오류가 있으면 기동 실패)
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        reload();
+    }
+
+    public WebhookAdapter find(String id) {
+        return adapters.get(id);
+    }
+
+    public Set<String> ids() {
+        return adapters.keySet();
+    }
+
+    /**
+     * mappings-file이 바뀌었으면 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${conflux.webhook.mappings-reload-ms:5000}",
+            initialDelayString = "${conflux.webhook.mappings-reload-ms:5000}")
+    public void reloadIfChanged() {
+        if (mappingsFile == null || FileVersion.of(mappingsFile).equals(loadedVersion)) {
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException | RuntimeException e) {
+            // 같은 파일로 계속 실패 로그를 남기지 않도록 버전은 기록
+            loadedVersion = FileVersion.of(mappingsFile);
+            log.error("❌ Failed to reload webhook mappings from {}, keeping previous mappings: {}",
+                    mappingsFile, e.getMessage());
+        }
+    }
+
+    /**
+     * 매핑을 다시 읽고 컴파일해 어댑터 목록을 교체합니다.
+     */
+    public synchronized void reload() throws IOException {
+        FileVersion version = mappingsFile != null ? FileVersion.of(mappingsFile) : null;
+        Map<String, WebhookMapping> mappings = new LinkedHashMap<>();
+        try (InputStream in = new ClassPathResource(DEFAULT_MAPPINGS).getInputStream()) {
+            mappings.putAll(objectMapper.readValue(in, MAPPINGS_TYPE));
+        }
+        if (mappingsFile != null && Files.exists(mappingsFile)) {
+            try (InputStream in = Files.newInputStream(mappingsFile)) {
+                mappings.putAll(objectMapper.readValue(in, MAPPINGS_TYPE));
+            }
+        }
+
+        Map<String, WebhookAdapter> compiled = new LinkedHashMap<>();
+        mappings.forEach((id, mapping) -> compiled.put(id, MappedWebhookAdapter.compile(id, mapping)));
+        for (WebhookAdapter adapter : codeAdapters) {
+            if (compiled.put(adapter.id(), adapter) instanceof MappedWebhookAdapter) {
+                log.warn("⚠️ Webhook mapping '{}' is overridden by {}", adapter.id(), adapter.getClass().getSimpleName());
+            }
+        }
+
+        adapters = Map.copyOf(compiled);
+        loadedVersion = version;
+        log.info("🔌 Webhook adapters loaded: {}", compiled.keySet());
+    }
+
+    /**
+     * 파일 변경 감지용 (수정 시각 + 크기, 파일이 없으면 MISSING)
+     */
+    private record FileVersion(long modifiedMillis, long size) {
+
+        private static final FileVersion MISSING = new FileVersion(-1, -1);
+
+        static FileVersion of(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileVersion(attributes.lastModifiedTime().toMillis(), attributes.size());
+            } catch (IOException e) {
+                return MISSING;
+            }
+        }
+    }
+}
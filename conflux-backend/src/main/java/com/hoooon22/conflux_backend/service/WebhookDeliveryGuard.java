@@ -0,0 +1,340 @@
+package com.hoooon22.conflux_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 웹훅 재전송 거르기 (X-GitHub-Delivery / Idempotency-Key)
+ *
+ * 요청 스레드에서는 메모리만 봅니다. 재전송은 Bloom 필터와 최근 키 캐시에서 바로 걸러, JSON 파싱이나 DB 조회 없이 응답합니다.
+ * Bloom 필터가 있다고 했지만 캐시에 없으면(오탐이거나 캐시에서 밀려난 키) 테이블에서 정확히 확인합니다.
+ *
+ * 처음 보는 ID는 메모리에 pending-lease-ms 동안만 유효한 임시 점유로 잡고, 알림이 수집 큐에 들어가면(202) confirm()으로
+ * 확정합니다. 확정한 ID는 flush-interval-ms마다 webhook_deliveries 테이블에 모아서 쓰고, 같은 주기에 다른 인스턴스가 쓴
+ * 최근 ID를 필터에 채웁니다. 그래서 다른 인스턴스로 간 재전송은 한 주기 남짓 뒤부터 걸러집니다.
+ * release()는 임시 점유만 지우므로 DB 오류로 원래 응답을 바꾸지 않고, 불리지 못해도 점유는 곧 만료됩니다.
+ *
+ * 필터는 ttl마다 새 세대로 바꾸고 직전 세대까지만 보므로, 키는 최소 ttl 동안 남고 그 뒤에는 자연히 잊힙니다.
+ * 테이블의 ttl이 지난 행은 purge-interval-ms마다 지웁니다.
+ */
+@Slf4j
+@Service
+public class WebhookDeliveryGuard {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int FLUSH_BATCH_SIZE = 500;
+    /**
+     * 다른 인스턴스가 쓴 ID를 읽을 때 시계 차이와 늦은 커밋을 감안해 더 거슬러 보는 시간
+     */
+    private static final long SYNC_LOOKBACK_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final long pendingLeaseMillis;
+    private final int expectedKeys;
+    private final double fpp;
+    private final Map<String, Long> recent;
+    /**
+     * 처리 중인 전송 ID → 점유 시각
+     */
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    /**
+     * 테이블에 아직 쓰지 않은 확정 ID
+     */
+    private final Queue<Confirmed> unflushed = new ConcurrentLinkedQueue<>();
+
+    private final Counter newCounter;
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAt;
+    private final Object flushLock = new Object();
+    private long syncedAt;
+
+    public WebhookDeliveryGuard(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                @Value("${conflux.webhook.idempotency.enabled:true}") boolean enabled,
+                                @Value("${conflux.webhook.idempotency.ttl-ms:86400000}") long ttlMillis,
+                                @Value("${conflux.webhook.idempotency.expected-keys:100000}") int expectedKeys,
+                                @Value("${conflux.webhook.idempotency.fpp:0.01}") double fpp,
+                                @Value("${conflux.webhook.idempotency.recent-capacity:10000}") int recentCapacity,
+                                @Value("${conflux.webhook.idempotency.pending-lease-ms:60000}") long pendingLeaseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.pendingLeaseMillis = Math.min(pendingLeaseMillis, ttlMillis);
+        this.expectedKeys = expectedKeys;
+        this.fpp = fpp;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > recentCapacity;
+            }
+        });
+        this.current = new BloomFilter(expectedKeys, fpp);
+        this.previous = new BloomFilter(expectedKeys, fpp);
+        this.rotatedAt = System.currentTimeMillis();
+        this.syncedAt = rotatedAt;
+
+        this.newCounter = checkCounter(meterRegistry, "new");
+        this.memoryHitCounter = checkCounter(meterRegistry, "duplicate-memory");
+        this.databaseHitCounter = checkCounter(meterRegistry, "duplicate-db");
+        this.falsePositiveCounter = checkCounter(meterRegistry, "false-positive");
+    }
+
+    /**
+     * 재시작 후에도 재전송을 메모리에서 거르도록 ttl 안에 받은 전송 ID를 필터에 다시 채웁니다.
+     */
+    @PostConstruct
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        int[] loaded = {0};
+        jdbcTemplate.query("SELECT delivery_key FROM webhook_deliveries WHERE received_at >= ?", rs -> {
+            current.put(rs.getString(1));
+            loaded[0]++;
+        }, System.currentTimeMillis() - ttlMillis);
+        if (loaded[0] > 0) {
+            log.info("🧾 Loaded {} recent webhook delivery ids", loaded[0]);
+        }
+    }
+
+    /**
+     * 전송 ID를 처음 받았으면 메모리에 임시로 점유하고 true, 재전송이면 false
+     * (꺼져 있거나 ID가 없으면 항상 true)
+     * 처리 결과에 따라 confirm() 또는 release()를 불러야 합니다.
+     *
+     * @param endpoint   웹훅 엔드포인트 (예: github-actions, 엔드포인트마다 ID 공간을 나눔)
+     * @param deliveryId X-GitHub-Delivery 또는 Idempotency-Key 헤더 값
+     */
+    public boolean register(String endpoint, String deliveryId) {
+        if (!enabled || deliveryId == null || deliveryId.isBlank()) {
+            return true;
+        }
+        String key = key(endpoint, deliveryId);
+        long now = System.currentTimeMillis();
+        rotateIfDue(now);
+
+        Long claimedAt = pending.get(key);
+        if (claimedAt != null && claimedAt >= now - pendingLeaseMillis) {
+            memoryHitCounter.increment();
+            return false;
+        }
+        if (current.mightContain(key) || previous.mightContain(key)) {
+            Long receivedAt = recent.get(key);
+            if (receivedAt != null && receivedAt >= now - ttlMillis) {
+                memoryHitCounter.increment();
+                return false;
+            }
+            List<Long> stored = jdbcTemplate.queryForList(
+                    "SELECT received_at FROM webhook_deliveries WHERE delivery_key = ? AND received_at >= ?",
+                    Long.class, key, now - ttlMillis);
+            if (!stored.isEmpty()) {
+                recent.put(key, stored.get(0));
+                databaseHitCounter.increment();
+                return false;
+            }
+            falsePositiveCounter.increment();
+        }
+
+        // 같은 ID가 동시에 들어와도 한 요청만 점유 (만료된 점유는 새로 잡음)
+        boolean[] claimed = {false};
+        pending.compute(key, (k, at) -> {
+            if (at != null && at >= now - pendingLeaseMillis) {
+                return at;
+            }
+            claimed[0] = true;
+            return now;
+        });
+        if (!claimed[0]) {
+            memoryHitCounter.increment();
+            return false;
+        }
+        newCounter.increment();
+        return true;
+    }
+
+    /**
+     * 알림을 받아들인(202) 전송 ID를 ttl 동안 거르도록 확정합니다.
+     * 테이블에는 다음 flushConfirmed()에서 모아서 씁니다.
+     */
+    public void confirm(String endpoint, String deliveryId) {
+        if (!enabled || deliveryId == null || deliveryId.isBlank()) {
+            return;
+        }
+        String key = key(endpoint, deliveryId);
+        long now = System.currentTimeMillis();
+        current.put(key);
+        recent.put(key, now);
+        pending.remove(key);
+        unflushed.add(new Confirmed(key, now));
+    }
+
+    /**
+     * 처리하지 못한 전송(큐 가득 참, 잘못된 본문, 처리 중 예외)의 임시 점유를 풀어 재전송을 다시 받게 합니다.
+     * 메모리만 건드리므로 실패하지 않습니다.
+     */
+    public void release(String endpoint, String deliveryId) {
+        if (!enabled || deliveryId == null || deliveryId.isBlank()) {
+            return;
+        }
+        pending.remove(key(endpoint, deliveryId));
+    }
+
+    /**
+     * 확정한 전송 ID를 테이블에 모아서 쓰고, 다른 인스턴스가 그사이 쓴 ID를 필터에 채웁니다.
+     * 쓰지 못한 ID는 다음 주기에 다시 씁니다 (그동안에도 이 인스턴스의 메모리에서는 걸러짐).
+     */
+    @Scheduled(fixedDelayString = "${conflux.webhook.idempotency.flush-interval-ms:200}")
+    public void flushConfirmed() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (flushLock) {
+            List<Confirmed> batch = new ArrayList<>();
+            Confirmed confirmed;
+            while ((confirmed = unflushed.poll()) != null) {
+                batch.add(confirmed);
+                if (batch.size() == FLUSH_BATCH_SIZE || unflushed.isEmpty()) {
+                    try {
+                        write(batch);
+                    } catch (DataAccessException e) {
+                        log.warn("⚠️ Failed to record {} webhook delivery ids, retrying: {}", batch.size(),
+                                e.getMessage());
+                        unflushed.addAll(batch);
+                        return;
+                    }
+                    batch.clear();
+                }
+            }
+            try {
+                long now = System.currentTimeMillis();
+                jdbcTemplate.query("SELECT delivery_key FROM webhook_deliveries WHERE received_at >= ?",
+                        rs -> {
+                            current.put(rs.getString(1));
+                        }, Math.max(syncedAt - SYNC_LOOKBACK_MS, now - ttlMillis));
+                syncedAt = now;
+            } catch (DataAccessException e) {
+                log.warn("⚠️ Failed to load recent webhook delivery ids: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushConfirmed();
+    }
+
+    /**
+     * ttl이 지난 전송 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${conflux.webhook.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        long lapsed = System.currentTimeMillis() - pendingLeaseMillis;
+        pending.values().removeIf(claimedAt -> claimedAt < lapsed);
+        int purged = jdbcTemplate.update("DELETE FROM webhook_deliveries WHERE received_at < ?",
+                System.currentTimeMillis() - ttlMillis);
+        if (purged > 0) {
+            log.debug("🧹 Purged {} expired webhook delivery ids", purged);
+        }
+    }
+
+    /**
+     * 이미 있는 행(ttl이 지났지만 아직 지우지 않은 행)은 시각만 갱신하고, 없는 행은 넣습니다.
+     */
+    private void write(List<Confirmed> batch) {
+        int[] updated = jdbcTemplate.batchUpdate("UPDATE webhook_deliveries SET received_at = ? WHERE delivery_key = ?",
+                batch.stream().map(c -> new Object[]{c.receivedAt(), c.key()}).toList());
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (updated[i] == 0) {
+                inserts.add(new Object[]{batch.get(i).key(), batch.get(i).receivedAt()});
+            }
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO webhook_deliveries (delivery_key, received_at) VALUES (?, ?)", inserts);
+        } catch (DuplicateKeyException e) {
+            // 그사이 다른 인스턴스가 같은 키를 넣었으면 한 건씩 다시 씀
+            for (Object[] row : inserts) {
+                try {
+                    jdbcTemplate.update("INSERT INTO webhook_deliveries (delivery_key, received_at) VALUES (?, ?)", row);
+                } catch (DuplicateKeyException duplicate) {
+                    jdbcTemplate.update("UPDATE webhook_deliveries SET received_at = ? WHERE delivery_key = ?",
+                            row[1], row[0]);
+                }
+            }
+        }
+    }
+
+    private void rotateIfDue(long now) {
+        if (now - rotatedAt < ttlMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now - rotatedAt >= ttlMillis) {
+                previous = current;
+                current = new BloomFilter(expectedKeys, fpp);
+                rotatedAt = now;
+            }
+        }
+    }
+
+    /**
+     * "엔드포인트:전송 ID" (컬럼보다 길면 전송 ID를 SHA-256으로 줄임)
+     */
+    private static String key(String endpoint, String deliveryId) {
+        String key = endpoint + ":" + deliveryId;
+        if (key.length() <= MAX_KEY_LENGTH) {
+            return key;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(deliveryId.getBytes(StandardCharsets.UTF_8));
+            return endpoint + ":sha256:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Confirmed(String key, long receivedAt) {
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("conflux.webhook.deliveries")
+                .description("Webhook delivery id checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,113 @@
+-- 초기 스키마 (H2, 엔티티 매핑과 동일)
+-- Flyway 도입 전 ddl-auto: update로 만들어진 DB는 baseline-on-migrate로 V0에서 시작해 이 스크립트도 실행합니다.
+-- 그래서 모든 문장은 이미 있는 테이블/컬럼/인덱스를 건너뛰고, 그 DB 이후에 추가된 것만 만듭니다.
+
+create table if not exists health_checks (
+    conditional boolean,
+    connect_timeout_ms integer,
+    enabled boolean not null,
+    interval_seconds integer not null,
+    max_body_bytes integer,
+    read_timeout_ms integer,
+    id bigint generated by default as identity,
+    assertion_expected varchar(1000),
+    assertion_expression varchar(1000),
+    method varchar(255) not null,
+    name varchar(255) not null,
+    url varchar(255) not null,
+    assertion_type enum ('CONTAINS','JSON_PATH','REGEX'),
+    probe_mode enum ('BODY','HEAD','STATUS_ONLY'),
+    primary key (id)
+);
+
+create table if not exists notification_counters (
+    id bigint generated by default as identity,
+    total bigint not null,
+    unread bigint not null,
+    repository varchar(255) not null,
+    source varchar(255) not null,
+    primary key (id),
+    constraint uk_notification_counters_key unique (source, repository)
+);
+
+create table if not exists notifications (
+    count integer not null,
+    id bigint generated by default as identity,
+    timestamp timestamp(6) not null,
+    fingerprint varchar(64),
+    message TEXT,
+    repository varchar(255),
+    sender varchar(255),
+    source varchar(255) not null,
+    title varchar(255) not null,
+    status enum ('READ','UNREAD') not null,
+    primary key (id),
+    constraint uk_notifications_fingerprint unique (fingerprint)
+);
+
+create table if not exists notifications_archive (
+    count integer not null,
+    archived_at timestamp(6) not null,
+    id bigint not null,
+    timestamp timestamp(6) not null,
+    message TEXT,
+    repository varchar(255),
+    sender varchar(255),
+    source varchar(255) not null,
+    title varchar(255) not null,
+    status enum ('READ','UNREAD') not null,
+    primary key (id)
+);
+
+create table if not exists probe_rollups (
+    bucket_start bigint not null,
+    health_check_id bigint not null,
+    id bigint generated by default as identity,
+    latency_max bigint not null,
+    latency_sum bigint not null,
+    sample_count bigint not null,
+    success_count bigint not null,
+    histogram varbinary(2048) not null,
+    resolution enum ('DAY','HOUR','MINUTE') not null,
+    primary key (id),
+    constraint uk_probe_rollups_bucket unique (health_check_id, resolution, bucket_start)
+);
+
+create table if not exists probe_sample_blocks (
+    sample_count integer not null,
+    end_time bigint not null,
+    health_check_id bigint not null,
+    id bigint generated by default as identity,
+    start_time bigint not null,
+    data varbinary(65536) not null,
+    primary key (id)
+);
+
+-- Flyway 도입 전 DB: 그 DB를 만든 버전 이후에 추가된 컬럼과 제약
+alter table health_checks add column if not exists conditional boolean;
+alter table health_checks add column if not exists connect_timeout_ms integer;
+alter table health_checks add column if not exists max_body_bytes integer;
+alter table health_checks add column if not exists read_timeout_ms integer;
+alter table health_checks add column if not exists assertion_expected varchar(1000);
+alter table health_checks add column if not exists assertion_expression varchar(1000);
+alter table health_checks add column if not exists assertion_type enum ('CONTAINS','JSON_PATH','REGEX');
+alter table health_checks add column if not exists probe_mode enum ('BODY','HEAD','STATUS_ONLY');
+
+alter table notifications add column if not exists fingerprint varchar(64);
+alter table notifications add constraint if not exists uk_notifications_fingerprint unique (fingerprint);
+
+create index if not exists idx_notifications_timestamp_id on notifications (timestamp, id);
+
+create index if not exists idx_notifications_source_timestamp_id on notifications (source, timestamp, id);
+
+create index if not exists idx_notifications_status_timestamp_id on notifications (status, timestamp, id);
+
+create index if not exists idx_notifications_repository_timestamp_id on notifications (repository, timestamp, id);
+
+create index if not exists idx_notifications_archive_timestamp on notifications_archive (timestamp);
+
+create index if not exists idx_probe_rollups_resolution_bucket on probe_rollups (resolution, bucket_start);
+
+create index if not exists idx_probe_blocks_check_end on probe_sample_blocks (health_check_id, end_time);
+
+create index if not exists idx_probe_blocks_end on probe_sample_blocks (end_time);
@@ -0,0 +1,18 @@
+-- Health Check 샤드 임대 (conflux.cluster, HealthCheckShardCoordinator)
+-- 시각 컬럼은 모두 DB 시계 기준 epoch millis
+
+alter table health_checks add column version bigint default 0 not null;
+
+create table cluster_nodes (
+    node_id varchar(255) not null,
+    heartbeat_at bigint not null,
+    started_at bigint not null,
+    primary key (node_id)
+);
+
+create table health_check_shard_leases (
+    shard integer not null,
+    owner varchar(255),
+    lease_until bigint not null,
+    primary key (shard)
+);
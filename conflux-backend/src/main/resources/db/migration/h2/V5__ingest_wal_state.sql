@@ -0,0 +1,10 @@
+-- 수집 WAL 반영 위치 (NotificationIngestQueue)
+-- applied_seq는 알림 배치와 같은 트랜잭션에서 갱신하므로, 재시작 시 이보다 큰 seq만 다시 반영합니다.
+
+create table ingest_wal_state (
+    id integer not null,
+    applied_seq bigint not null,
+    primary key (id)
+);
+
+insert into ingest_wal_state (id, applied_seq) values (1, 0);
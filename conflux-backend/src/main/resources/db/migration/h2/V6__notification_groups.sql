@@ -0,0 +1,19 @@
+-- 이벤트 묶음 (NotificationCorrelator)
+-- group_key: 웹훅 매핑의 groupKey 템플릿 값 (예: "org/repo/Deploy@main"), 묶음 행은 최신 이벤트 내용으로 갱신됩니다.
+-- notification_timeline: 묶음에 합쳐진 이벤트 이력 (알림이 지워지면 함께 지움)
+
+alter table notifications add column group_key varchar(255);
+
+create table notification_timeline (
+    id bigint generated by default as identity,
+    notification_id bigint not null,
+    timestamp timestamp(6) not null,
+    title varchar(255) not null,
+    message TEXT,
+    sender varchar(255),
+    primary key (id),
+    constraint fk_notification_timeline_notification foreign key (notification_id)
+        references notifications (id) on delete cascade
+);
+
+create index idx_notification_timeline_notification_id on notification_timeline (notification_id, id);
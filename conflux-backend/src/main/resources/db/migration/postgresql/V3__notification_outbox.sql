@@ -0,0 +1,18 @@
+-- 외부 채널 발송 대기열 (트랜잭션 아웃박스, NotificationDispatcher)
+-- 알림과 같은 트랜잭션에서 채널별로 한 행씩 쌓이고, 전송에 성공하면 지웁니다.
+-- next_attempt_at / created_at은 epoch millis, 재시도를 모두 실패한 행은 status = 'DEAD'로 남습니다.
+
+create table notification_outbox (
+    id bigint generated by default as identity,
+    channel varchar(100) not null,
+    notification_id bigint,
+    payload TEXT not null,
+    status varchar(16) not null,
+    attempts integer not null,
+    next_attempt_at bigint not null,
+    created_at bigint not null,
+    last_error varchar(500),
+    primary key (id)
+);
+
+create index idx_notification_outbox_due on notification_outbox (channel, status, next_attempt_at);
@@ -0,0 +1,10 @@
+-- 웹훅 전송 ID 기록 (X-GitHub-Delivery / Idempotency-Key, WebhookDeliveryGuard)
+-- delivery_key는 "엔드포인트:전송 ID", received_at은 epoch millis (ttl이 지난 행은 주기적으로 지움)
+
+create table webhook_deliveries (
+    delivery_key varchar(255) not null,
+    received_at bigint not null,
+    primary key (delivery_key)
+);
+
+create index idx_webhook_deliveries_received_at on webhook_deliveries (received_at);
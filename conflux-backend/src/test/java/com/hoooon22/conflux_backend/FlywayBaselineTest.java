@@ -0,0 +1,102 @@
+package com.hoooon22.conflux_backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.hoooon22.conflux_backend.domain.HealthCheck;
+import com.hoooon22.conflux_backend.domain.NotificationFingerprint;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.repository.HealthCheckRepository;
+import com.hoooon22.conflux_backend.service.NotificationService;
+
+/**
+ * Flyway 도입 전(ddl-auto: update) 초기 스키마로 만들어진 DB가 V0 baseline 후 V1부터 마이그레이션되는지 확인
+ */
+@SpringBootTest(properties = {
+        "conflux.tiering.directory=build/test-segments/flyway-baseline"
+})
+class FlywayBaselineTest {
+
+    private static final String URL = "jdbc:h2:mem:flyway-baseline;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HealthCheckRepository healthCheckRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    /**
+     * 컨텍스트(Flyway)보다 먼저, 처음 버전의 엔티티로 ddl-auto가 만들던 스키마와 데이터를 준비합니다.
+     */
+    @DynamicPropertySource
+    static void preFlywayDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table health_checks (enabled boolean not null, interval_seconds integer not null, "
+                    + "id bigint generated by default as identity, method varchar(255) not null, "
+                    + "name varchar(255) not null, url varchar(255) not null, primary key (id))");
+            statement.execute("create table notifications (count integer not null, "
+                    + "id bigint generated by default as identity, timestamp timestamp(6) not null, message TEXT, "
+                    + "repository varchar(255), sender varchar(255), source varchar(255) not null, "
+                    + "title varchar(255) not null, status enum ('READ','UNREAD') not null, primary key (id))");
+            statement.execute("insert into health_checks (enabled, interval_seconds, method, name, url) "
+                    + "values (false, 60, 'GET', 'legacy', 'http://127.0.0.1:1/health')");
+            statement.execute("insert into notifications (count, timestamp, message, repository, sender, source, title, "
+                    + "status) values (3, CURRENT_TIMESTAMP, 'legacy build failed', 'org/legacy', 'ci', 'GitHub', "
+                    + "'Build', 'UNREAD')");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void baselinesPreFlywaySchemaAtZeroAndAddsLaterColumns() {
+        List<Map<String, Object>> history = jdbcTemplate.queryForList(
+                "SELECT \"version\", \"type\", \"script\" FROM \"flyway_schema_history\" "
+                        + "WHERE \"version\" IS NOT NULL AND \"success\" "
+                        + "ORDER BY \"installed_rank\"");
+        assertThat(history.get(0)).containsEntry("version", "0").containsEntry("type", "BASELINE");
+        assertThat(history.subList(1, history.size())).extracting(row -> row.get("script")).containsExactly(
+                "V1__baseline.sql", "V2__health_check_shards.sql", "V3__notification_outbox.sql",
+                "V4__webhook_deliveries.sql", "V5__ingest_wal_state.sql", "V6__notification_groups.sql");
+
+        // 기존 행은 그대로, 나중에 추가된 컬럼은 비어 있는 채로 매핑됨
+        List<HealthCheck> checks = healthCheckRepository.findAll();
+        assertThat(checks).singleElement().satisfies(check -> {
+            assertThat(check.getName()).isEqualTo("legacy");
+            assertThat(check.getProbeMode()).isNull();
+            assertThat(check.getAssertionExpected()).isNull();
+        });
+
+        // 지문 컬럼/유니크 제약이 생기고, 시작 시 기존 알림에 지문이 채워져 같은 내용은 그 행에 합쳐짐
+        String fingerprint = NotificationFingerprint.of("GitHub", "Build", "legacy build failed");
+        assertThat(jdbcTemplate.queryForObject("SELECT fingerprint FROM notifications WHERE repository = 'org/legacy'",
+                String.class)).isEqualTo(fingerprint);
+        notificationService.addNotification(NotificationDto.builder()
+                .source("GitHub")
+                .title("Build")
+                .message("legacy build failed")
+                .repository("org/legacy")
+                .sender("ci")
+                .timestamp(LocalDateTime.now())
+                .build());
+        assertThat(jdbcTemplate.queryForObject("SELECT count FROM notifications WHERE fingerprint = ?",
+                Integer.class, fingerprint)).isEqualTo(4);
+    }
+}
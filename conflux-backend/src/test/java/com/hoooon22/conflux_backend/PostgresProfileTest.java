@@ -0,0 +1,107 @@
+package com.hoooon22.conflux_backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hoooon22.conflux_backend.domain.NotificationFingerprint;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.dto.NotificationSummaryDto;
+import com.hoooon22.conflux_backend.service.NotificationService;
+import com.hoooon22.conflux_backend.service.NotificationTieringService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * postgres 프로필 검증 (PostgreSQL 대신 H2 PostgreSQL 호환 모드에 PostgreSQL 마이그레이션을 적용)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:postgres-profile;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "conflux.tiering.directory=build/test-segments/postgres-profile"
+})
+@ActiveProfiles("postgres")
+class PostgresProfileTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationTieringService tieringService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Test
+    void appliesPostgresMigrationsAndTunedPool() {
+        List<String> scripts = jdbcTemplate.queryForList(
+                "SELECT \"script\" FROM flyway_schema_history WHERE \"version\" IS NOT NULL AND \"success\" "
+                        + "ORDER BY \"installed_rank\"", String.class);
+        assertThat(scripts).containsExactly("V1__baseline.sql", "V2__health_check_shards.sql",
+                "V3__notification_outbox.sql", "V4__webhook_deliveries.sql",
+                "V5__ingest_wal_state.sql", "V6__notification_groups.sql");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.indexes "
+                + "WHERE index_name = 'idx_notifications_source_timestamp_id'", Integer.class)).isPositive();
+
+        assertThat(dataSource.getPoolName()).isEqualTo("conflux-pool");
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(20);
+        assertThat(dataSource.getConnectionTimeout()).isEqualTo(5000);
+        assertThat(dataSource.getDataSourceProperties()).containsEntry("reWriteBatchedInserts", "true");
+    }
+
+    @Test
+    void ingestsQueriesAndRollsNotificationsOnPostgresSchema() {
+        notificationService.clearNotifications();
+        LocalDateTime now = LocalDateTime.now();
+        notificationService.addNotificationBatch(List.of(
+                entry("deploy failed", "org/api", now.minusDays(30), 1),
+                entry("deploy passed", "org/api", now.minusMinutes(2), 1),
+                entry("disk full", null, now.minusMinutes(1), 2)));
+        // 중복 알림: 배치 UPDATE + 카운터 MERGE
+        notificationService.addNotificationBatch(List.of(entry("disk full", null, now, 1)));
+
+        NotificationPageDto page = notificationService.getNotifications(
+                NotificationFilter.builder().repository("org/api").build(), null, 1);
+        assertThat(page.getItems()).extracting(NotificationDto::getMessage).containsExactly("deploy passed");
+        assertThat(page.getNextCursor()).isNotNull();
+
+        NotificationSummaryDto summary = notificationService.getSummary();
+        assertThat(summary.getTotal()).isEqualTo(3);
+        assertThat(summary.getUnread()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT count FROM notifications WHERE message = 'disk full'",
+                Integer.class)).isEqualTo(3);
+
+        assertThat(notificationService.markAsRead(NotificationFilter.builder().repository("org/api").build()))
+                .isEqualTo(2);
+        assertThat(tieringService.rollOlderThan(now.minusDays(7))).isEqualTo(1);
+        assertThat(notificationService.getSummary().getUnread()).isEqualTo(1);
+        assertThat(notificationService.getNotifications(NotificationFilter.builder().build(), null, 10).getItems())
+                .hasSize(3);
+        notificationService.clearNotifications();
+    }
+
+    private static IngestEntry entry(String message, String repository, LocalDateTime timestamp, int occurrences) {
+        NotificationDto dto = NotificationDto.builder()
+                .source("GitHub")
+                .title("Build")
+                .message(message)
+                .repository(repository)
+                .sender("ci")
+                .timestamp(timestamp)
+                .build();
+        return new IngestEntry(dto, NotificationFingerprint.of(dto.getSource(), dto.getTitle(), message), occurrences);
+    }
+}
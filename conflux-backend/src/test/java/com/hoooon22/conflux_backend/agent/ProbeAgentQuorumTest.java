@@ -0,0 +1,172 @@
+package com.hoooon22.conflux_backend.agent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.domain.HealthState;
+import com.hoooon22.conflux_backend.dto.HealthCheckDto;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.dto.ProbeVantageDto;
+import com.hoooon22.conflux_backend.service.HealthCheckService;
+import com.hoooon22.conflux_backend.service.HttpProbeExecutor;
+import com.hoooon22.conflux_backend.service.ProbeQuorumTracker;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 별도 JVM으로 띄운 프로브 에이전트 3개의 결과로 quorum 알림이 나는지 확인
+ * (대상 서버는 X-Conflux-Vantage 헤더로 출처별 장애를 흉내 냄)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:probe-agents;DB_CLOSE_DELAY=-1",
+        "conflux.tiering.directory=build/test-segments/probe-agents",
+        "conflux.quorum.enabled=true",
+        "conflux.quorum.local-vantage=",
+        "conflux.quorum.min-failing=2",
+        "conflux.quorum.window-ms=5000",
+        "conflux.alerting.degraded-threshold=1",
+        "conflux.alerting.down-threshold=2",
+        "conflux.alerting.recovery-threshold=1"
+})
+class ProbeAgentQuorumTest {
+
+    private static final List<String> AGENTS = List.of("vantage-a", "vantage-b", "vantage-c");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private HealthCheckService healthCheckService;
+
+    @Autowired
+    private ProbeQuorumTracker probeQuorum;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Set<String> failingVantages = ConcurrentHashMap.newKeySet();
+    private final List<Process> agents = new ArrayList<>();
+    private HttpServer target;
+
+    @BeforeEach
+    void startTarget() throws IOException {
+        target = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        target.createContext("/", exchange -> {
+            String vantage = exchange.getRequestHeaders().getFirst(HttpProbeExecutor.VANTAGE_HEADER);
+            exchange.sendResponseHeaders(failingVantages.contains(vantage) ? 503 : 200, -1);
+            exchange.close();
+        });
+        target.setExecutor(Executors.newFixedThreadPool(4));
+        target.start();
+    }
+
+    @AfterEach
+    void stopAgents() {
+        agents.forEach(Process::destroy);
+        target.stop(0);
+    }
+
+    @Test
+    void alertsOnlyWhenQuorumOfVantagesFails() throws IOException {
+        Long id = healthCheckService.registerHealthCheck(HealthCheckDto.builder()
+                .name("quorum-target")
+                .url("http://127.0.0.1:" + target.getAddress().getPort() + "/health")
+                .method("GET")
+                .intervalSeconds(1)
+                .build()).getId();
+        for (String agent : AGENTS) {
+            agents.add(startAgent(agent));
+        }
+        await(() -> probeQuorum.getVantages().stream().filter(ProbeVantageDto::live).count() == AGENTS.size()
+                && probeQuorum.getState(id) == HealthState.UP);
+
+        // 한 출처만 실패: 그 출처는 DOWN이지만 알림 없음
+        failingVantages.add("vantage-a");
+        await(() -> probeQuorum.getFailingVantages(id).equals(List.of("vantage-a")));
+        sleep(2000);
+        assertThat(probeQuorum.getState(id)).isEqualTo(HealthState.UP);
+        assertThat(alerts()).isEmpty();
+
+        // 두 출처가 실패: DOWN
+        failingVantages.add("vantage-b");
+        await(() -> alerts().contains("quorum-target - DOWN: Failing from vantage-a, vantage-b: Status code: 503"));
+        assertThat(probeQuorum.getState(id)).isEqualTo(HealthState.DOWN);
+
+        failingVantages.clear();
+        await(() -> alerts().stream().anyMatch(alert -> alert.startsWith("quorum-target - RECOVERED")));
+        assertThat(healthCheckService.getAllHealthChecks()).extracting(HealthCheckDto::getState).containsExactly("UP");
+
+        healthCheckService.deleteHealthCheck(id);
+    }
+
+    @Test
+    void encodesResultBatchesCompactly() {
+        LocalDateTime start = LocalDateTime.now().withNano(0);
+        List<ProbeResult> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            results.add(i % 100 == 0
+                    ? new ProbeResult(7L + i % 3, start.plusSeconds(i), 0, 300, "HttpTimeoutException", "request timed out")
+                    : new ProbeResult(7L + i % 3, start.plusSeconds(i), 200, 20 + i % 7, null, null));
+        }
+
+        byte[] batch = ProbeBatchCodec.encode(results);
+
+        assertThat(batch.length).isLessThan(results.size() * 8);
+        assertThat(ProbeBatchCodec.decode(batch)).isEqualTo(results);
+    }
+
+    private Process startAgent(String name) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), ProbeAgent.class.getName(),
+                "--server=http://127.0.0.1:" + port,
+                "--agent-id=" + name,
+                "--sync-ms=500",
+                "--flush-ms=200",
+                "--jitter-ms=0")
+                .redirectErrorStream(true)
+                .redirectOutput(new File("build/probe-agent-" + name + ".log"))
+                .start();
+    }
+
+    private List<String> alerts() {
+        return jdbcTemplate.queryForList(
+                "SELECT title || ': ' || message FROM notifications WHERE source = 'HealthCheck' ORDER BY id",
+                String.class);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            sleep(100);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void spreadsKeysEvenlyAndIndependentOfNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 64);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("node-c", "node-a", "node-b", "node-a"), 64);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long key = 0; key < KEYS; key++) {
+            String owner = ring.ownerOf(key);
+            assertThat(reordered.ownerOf(key)).isEqualTo(owner);
+            counts.merge(owner, 1, Integer::sum);
+        }
+
+        assertThat(reordered.nodes()).containsExactly("node-a", "node-b", "node-c");
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(KEYS / 3 * 7 / 10, KEYS / 3 * 13 / 10));
+    }
+
+    @Test
+    void movesOnlyAboutOneNthOfKeysWhenMembershipChanges() {
+        ConsistentHashRing three = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 64);
+        ConsistentHashRing four = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"), 64);
+
+        int moved = 0;
+        for (long key = 0; key < KEYS; key++) {
+            String before = three.ownerOf(key);
+            String after = four.ownerOf(key);
+            if (!before.equals(after)) {
+                // 새 노드로만 옮겨지고, 기존 노드끼리는 주고받지 않음
+                assertThat(after).isEqualTo("node-d");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(KEYS / 4 * 7 / 10, KEYS / 4 * 13 / 10);
+
+        // 노드가 빠지면 그 노드의 키만 옮겨짐
+        for (long key = 0; key < KEYS; key++) {
+            if (!four.ownerOf(key).equals("node-d")) {
+                assertThat(three.ownerOf(key)).isEqualTo(four.ownerOf(key));
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 타이밍 휠 스케줄러의 위상 분산, 취소, 중복 실행 방지 테스트
+ */
+class HashedWheelSchedulerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private HashedWheelScheduler scheduler;
+
+    @BeforeEach
+    void startScheduler() {
+        scheduler = new HashedWheelScheduler(executor, 10, 64, 0);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void stopScheduler() throws InterruptedException {
+        scheduler.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void phaseIsDeterministicAndSpread() {
+        long interval = 60_000;
+        int[] perSecond = new int[60];
+        for (long id = 1; id <= 6000; id++) {
+            long phase = HashedWheelScheduler.phaseMillis(id, interval);
+            assertThat(phase).isEqualTo(HashedWheelScheduler.phaseMillis(id, interval)).isBetween(0L, interval - 1);
+            perSecond[(int) (phase / 1000)]++;
+        }
+        // 평균 100개/초, 한 초에 몰리지 않아야 함
+        for (int count : perSecond) {
+            assertThat(count).isBetween(50, 150);
+        }
+    }
+
+    @Test
+    void runsPeriodicallyUntilCancelled() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelScheduler.Timeout timeout = scheduler.schedule(1, 50, () -> {
+            runs.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        Thread.sleep(600);
+        timeout.cancel();
+        int afterCancel = runs.get();
+        assertThat(afterCancel).isBetween(8, 13);
+
+        Thread.sleep(200);
+        assertThat(runs.get()).isEqualTo(afterCancel);
+    }
+
+    @Test
+    void intervalEqualToWheelSpanIsNotDelayedByARotation() throws InterruptedException {
+        // 8ms x 8칸 = 64ms 한 바퀴, 주기도 64ms: 실행 후 다시 넣을 때 같은 버킷에 들어감
+        HashedWheelScheduler small = new HashedWheelScheduler(executor, 8, 8, 0);
+        small.start();
+        try {
+            AtomicInteger runs = new AtomicInteger();
+            small.schedule(3, 64, () -> {
+                runs.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            });
+            Thread.sleep(1500);
+            // 한 바퀴씩 밀리면 128ms마다 한 번 (약 11번)
+            assertThat(runs.get()).isBetween(19, 25);
+        } finally {
+            small.stop();
+        }
+    }
+
+    @Test
+    void skipsRunWhilePreviousIsInFlight() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        scheduler.schedule(2, 20, () -> {
+            runs.incrementAndGet();
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            synchronized (pending) {
+                pending.add(future);
+            }
+            return future;
+        });
+
+        Thread.sleep(300);
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(scheduler.getSkippedOverlaps()).isGreaterThan(5);
+
+        synchronized (pending) {
+            pending.forEach(future -> future.complete(null));
+        }
+        Thread.sleep(200);
+        assertThat(runs.get()).isGreaterThan(1);
+    }
+}
@@ -0,0 +1,193 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.ConfluxBackendApplication;
+import com.hoooon22.conflux_backend.dto.HealthCheckDto;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 같은 DB(한 JVM 안의 인메모리 H2)를 쓰는 인스턴스 여러 개가 Health Check를 나눠 맡는지 확인
+ */
+class HealthCheckClusterTest {
+
+    private static final int CHECKS = 60;
+    private static final long LEASE_TTL_MS = 2000;
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private final Map<String, List<Long>> hits = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new CopyOnWriteArrayList<>())
+                    .add(System.nanoTime());
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+        server.stop(0);
+    }
+
+    @Test
+    void nodesSplitChecksAndHandOffWithoutDoubleProbing() {
+        ConfigurableApplicationContext first = startNode("split", "node-1");
+        HealthCheckService registrar = first.getBean(HealthCheckService.class);
+        for (int i = 0; i < CHECKS; i++) {
+            registrar.registerHealthCheck(check("check-" + i));
+        }
+        await(() -> scheduled(first).size() == CHECKS);
+        // 첫 요청(JVM 예열)은 늦게 도착해 간격 비교에서 뺌
+        sleep(1500);
+        hits.clear();
+
+        ConfigurableApplicationContext second = startNode("split", "node-2");
+        ConfigurableApplicationContext third = startNode("split", "node-3");
+        List<ConfigurableApplicationContext> cluster = List.of(first, second, third);
+        await(() -> partitioned(cluster) && cluster.stream().allMatch(node -> !scheduled(node).isEmpty()));
+
+        // 인스턴스마다 약 1/3씩 (노드를 늘리면 노드당 프로브 수가 그만큼 줄어듦)
+        Map<ConfigurableApplicationContext, Set<Long>> before = new ConcurrentHashMap<>();
+        for (ConfigurableApplicationContext node : cluster) {
+            before.put(node, scheduled(node));
+            assertThat(scheduled(node).size()).isBetween(CHECKS / 3 / 2, CHECKS / 3 * 2);
+        }
+
+        // 정상 종료한 노드의 체크만 남은 노드로 옮겨짐
+        third.close();
+        nodes.remove(third);
+        List<ConfigurableApplicationContext> remaining = List.of(first, second);
+        await(() -> partitioned(remaining));
+        assertThat(scheduled(first)).containsAll(before.get(first));
+        assertThat(scheduled(second)).containsAll(before.get(second));
+
+        sleep(2500);
+        // 1초 간격 체크가 두 노드에서 동시에 실행된 적이 없음 (노드 합류/종료로 인한 인계 포함)
+        assertThat(hits).hasSize(CHECKS);
+        hits.forEach((path, times) -> {
+            for (int i = 1; i < times.size(); i++) {
+                assertThat(TimeUnit.NANOSECONDS.toMillis(times.get(i) - times.get(i - 1)))
+                        .as("gap between probes of %s", path)
+                        .isGreaterThan(500);
+            }
+        });
+    }
+
+    @Test
+    void waitsForAnotherNodesLeaseToExpireBeforeTakingOver() {
+        ConfigurableApplicationContext node = startNode("takeover", "node-1");
+        long id = node.getBean(HealthCheckService.class).registerHealthCheck(check("takeover")).getId();
+        HealthCheckShardCoordinator coordinator = node.getBean(HealthCheckShardCoordinator.class);
+        await(() -> coordinator.owns(id));
+
+        // 응답이 없어진 다른 노드가 이 샤드의 임대를 아직 가지고 있는 상황
+        JdbcTemplate jdbcTemplate = node.getBean(JdbcTemplate.class);
+        long now = jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class).getTime();
+        jdbcTemplate.update("UPDATE health_check_shard_leases SET owner = 'crashed-node', lease_until = ? WHERE shard = ?",
+                now + LEASE_TTL_MS, coordinator.shardOf(id));
+        await(() -> !coordinator.owns(id));
+        long releasedAt = System.nanoTime();
+
+        await(() -> coordinator.owns(id));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt)).isGreaterThan(LEASE_TTL_MS / 2);
+        assertThat(jdbcTemplate.queryForObject("SELECT owner FROM health_check_shard_leases WHERE shard = ?",
+                String.class, coordinator.shardOf(id))).isEqualTo("node-1");
+    }
+
+    private ConfigurableApplicationContext startNode(String database, String nodeId) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ConfluxBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:cluster-" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.h2.console.enabled=false",
+                        "--conflux.tiering.directory=build/test-segments/cluster-" + nodeId,
+                        // 지터 없이 격자 시각에 실행 (두 노드가 같은 체크를 실행하면 거의 동시에 요청이 옴)
+                        "--conflux.scheduler.jitter-ms=0",
+                        "--conflux.cluster.enabled=true",
+                        "--conflux.cluster.node-id=" + nodeId,
+                        "--conflux.cluster.shards=64",
+                        "--conflux.cluster.heartbeat-ms=200",
+                        "--conflux.cluster.lease-ttl-ms=" + LEASE_TTL_MS,
+                        "--conflux.cluster.fence-margin-ms=1000");
+        nodes.add(context);
+        return context;
+    }
+
+    private HealthCheckDto check(String name) {
+        return HealthCheckDto.builder()
+                .name(name)
+                .url(baseUrl + "/" + name)
+                .method("GET")
+                .intervalSeconds(1)
+                .connectTimeoutMs(300)
+                .readTimeoutMs(300)
+                .build();
+    }
+
+    private static Set<Long> scheduled(ConfigurableApplicationContext node) {
+        return node.getBean(HealthCheckService.class).getScheduledCheckIds();
+    }
+
+    /**
+     * 모든 체크가 정확히 한 노드에만 스케줄됨
+     */
+    private static boolean partitioned(List<ConfigurableApplicationContext> cluster) {
+        Set<Long> union = new HashSet<>();
+        int total = 0;
+        for (ConfigurableApplicationContext node : cluster) {
+            Set<Long> ids = scheduled(node);
+            union.addAll(ids);
+            total += ids.size();
+        }
+        return union.size() == CHECKS && total == CHECKS;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hoooon22.conflux_backend.domain.HealthState;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.service.HealthStateTracker.AlertType;
+
+/**
+ * 상태 전이 알림 테스트 (degraded 2회, down 4회, recovery 2회, flap window 10)
+ */
+class HealthStateTrackerTest {
+
+    private static final long CHECK_ID = 1L;
+
+    private final HealthStateTracker tracker = new HealthStateTracker(2, 4, 2, 10, 0.5, 0.25);
+
+    @Test
+    void alertsOnlyOnTransitions() {
+        List<AlertType> alerts = new ArrayList<>();
+        feed(alerts, "+++");
+        assertThat(alerts).isEmpty();
+        assertThat(tracker.getState(CHECK_ID)).isEqualTo(HealthState.UP);
+
+        // 한 번 실패는 무시, 2번이면 DEGRADED, 4번이면 DOWN, 이후 계속 실패해도 알림 없음
+        feed(alerts, "-+");
+        assertThat(alerts).isEmpty();
+        feed(alerts, "--------------------");
+        assertThat(alerts).containsExactly(AlertType.DEGRADED, AlertType.DOWN);
+        assertThat(tracker.getState(CHECK_ID)).isEqualTo(HealthState.DOWN);
+
+        // 성공 한 번으로는 복구되지 않음 (히스테리시스)
+        alerts.clear();
+        feed(alerts, "+-+");
+        assertThat(alerts).isEmpty();
+        feed(alerts, "+");
+        assertThat(alerts).containsExactly(AlertType.RECOVERED);
+        assertThat(tracker.getState(CHECK_ID)).isEqualTo(HealthState.UP);
+    }
+
+    @Test
+    void flappingSuppressesAlertsUntilStable() {
+        List<AlertType> alerts = new ArrayList<>();
+        feed(alerts, "++++++++++");
+        feed(alerts, "--+--+--+--+--+--+--+--+");
+        assertThat(alerts).containsExactly(AlertType.DEGRADED, AlertType.FLAPPING);
+
+        alerts.clear();
+        feed(alerts, "------------");
+        // 안정된 뒤 현재 상태(DOWN)를 한 번 알림
+        assertThat(alerts).containsExactly(AlertType.DOWN);
+    }
+
+    private void feed(List<AlertType> alerts, String pattern) {
+        for (char c : pattern.toCharArray()) {
+            ProbeResult result = c == '+'
+                    ? new ProbeResult(CHECK_ID, LocalDateTime.now(), 200, 10, null, null)
+                    : new ProbeResult(CHECK_ID, LocalDateTime.now(), 0, 10, "ConnectException", "refused");
+            tracker.evaluate(CHECK_ID, result).ifPresent(alert -> alerts.add(alert.type()));
+        }
+    }
+}
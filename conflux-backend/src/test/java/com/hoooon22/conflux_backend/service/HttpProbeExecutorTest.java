@@ -0,0 +1,329 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hoooon22.conflux_backend.domain.HealthCheck;
+import com.hoooon22.conflux_backend.domain.ProbeAssertionType;
+import com.hoooon22.conflux_backend.domain.ProbeMode;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 스텁 서버(빠름/느림/응답 없음/본문)를 대상으로 한 프로브 실행기 테스트
+ */
+class HttpProbeExecutorTest {
+
+    private static final int HANG_MILLIS = 30_000;
+    private static final int SLOW_MILLIS = 300;
+    private static final int HANG_READ_TIMEOUT_MS = 500;
+    private static final int READ_TIMEOUT_MS = 5000;
+
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private final AtomicInteger slowInFlight = new AtomicInteger();
+    private final AtomicInteger slowMaxInFlight = new AtomicInteger();
+
+    private final AtomicInteger contentRequests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final List<String> contentMethods = new CopyOnWriteArrayList<>();
+
+    private String fastUrl;
+    private String slowUrl;
+    private String hangUrl;
+    private String contentUrl;
+
+    @BeforeEach
+    void startStubServers() throws IOException {
+        fastUrl = startServer(0, false);
+        slowUrl = startServer(SLOW_MILLIS, true);
+        hangUrl = startServer(HANG_MILLIS, false);
+        contentUrl = startContentServer();
+    }
+
+    @AfterEach
+    void stopStubServers() {
+        servers.forEach(server -> server.stop(0));
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void hangingEndpointsDoNotDelayOthers() {
+        HttpProbeExecutor executor = new HttpProbeExecutor(64, 20_000, 4);
+        long start = System.nanoTime();
+
+        List<CompletableFuture<ProbeResult>> hanging = probeAll(executor, hangUrl, 200, HANG_READ_TIMEOUT_MS);
+        List<CompletableFuture<ProbeResult>> slow = probeAll(executor, slowUrl, 50, READ_TIMEOUT_MS);
+        List<CompletableFuture<ProbeResult>> fast = probeAll(executor, fastUrl, 10_000, READ_TIMEOUT_MS);
+
+        List<ProbeResult> fastResults = join(fast);
+        long fastElapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(fastResults).allMatch(ProbeResult::isSuccess);
+        assertThat(join(slow)).allSatisfy(result -> {
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.latencyMillis()).isGreaterThanOrEqualTo(SLOW_MILLIS);
+        });
+        assertThat(join(hanging)).allSatisfy(result -> {
+            assertThat(result.hasResponse()).isFalse();
+            assertThat(result.errorClass()).isEqualTo("HttpTimeoutException");
+        });
+        // 10k 빠른 프로브가 응답 없는 엔드포인트의 타임아웃에 묶이지 않고 끝나야 함
+        assertThat(fastElapsedMillis).isLessThan(HANG_MILLIS / 2);
+        executor.shutdown();
+    }
+
+    @Test
+    void limitsConcurrencyPerHostAndRejectsOverflow() {
+        HttpProbeExecutor executor = new HttpProbeExecutor(4, 10, 4);
+
+        List<CompletableFuture<ProbeResult>> slow = probeAll(executor, slowUrl, 20, READ_TIMEOUT_MS);
+        List<ProbeResult> results = join(slow);
+
+        assertThat(slowMaxInFlight.get()).isLessThanOrEqualTo(4);
+        assertThat(results).filteredOn(ProbeResult::isSuccess).hasSize(14);
+        assertThat(results).filteredOn(result -> HttpProbeExecutor.REJECTED.equals(result.errorClass())).hasSize(6);
+        executor.shutdown();
+    }
+
+    @Test
+    void headAndStatusOnlyModesSkipTheBody() {
+        HttpProbeExecutor executor = new HttpProbeExecutor(64, 100, 4);
+
+        ProbeResult head = executor.probe(contentCheck("/big").probeMode(ProbeMode.HEAD).build()).join();
+        ProbeResult statusOnly = executor.probe(contentCheck("/big").probeMode(ProbeMode.STATUS_ONLY).build()).join();
+        ProbeResult capped = executor.probe(contentCheck("/big").maxBodyBytes(1024).build()).join();
+
+        assertThat(head.isSuccess()).isTrue();
+        assertThat(statusOnly.isSuccess()).isTrue();
+        assertThat(capped.isSuccess()).isTrue();
+        assertThat(contentMethods).containsExactly("HEAD", "GET", "GET");
+        executor.shutdown();
+    }
+
+    @Test
+    void evaluatesContentAssertionsOnBodyPrefix() {
+        HttpProbeExecutor executor = new HttpProbeExecutor(64, 100, 4);
+
+        ProbeResult contains = executor.probe(contentCheck("/json")
+                .assertionType(ProbeAssertionType.CONTAINS).assertionExpression("\"UP\"").build()).join();
+        ProbeResult regex = executor.probe(contentCheck("/json")
+                .assertionType(ProbeAssertionType.REGEX).assertionExpression("\"version\":\\s*\"2\\.\\d+\"").build()).join();
+        ProbeResult jsonPath = executor.probe(contentCheck("/json")
+                .assertionType(ProbeAssertionType.JSON_PATH).assertionExpression("$.checks[0].status")
+                .assertionExpected("UP").build()).join();
+        ProbeResult jsonPathMismatch = executor.probe(contentCheck("/json")
+                .assertionType(ProbeAssertionType.JSON_PATH).assertionExpression("$.checks[1].status")
+                .assertionExpected("UP").build()).join();
+        // 찾는 문자열이 상한(1KB) 이후에 있으면 실패
+        ProbeResult beyondCap = executor.probe(contentCheck("/big").maxBodyBytes(1024)
+                .assertionType(ProbeAssertionType.CONTAINS).assertionExpression("END").build()).join();
+
+        assertThat(contains.isSuccess()).isTrue();
+        assertThat(regex.isSuccess()).isTrue();
+        assertThat(jsonPath.isSuccess()).isTrue();
+        assertThat(jsonPathMismatch.isSuccess()).isFalse();
+        assertThat(jsonPathMismatch.statusCode()).isEqualTo(200);
+        assertThat(jsonPathMismatch.errorClass()).isEqualTo(HttpProbeExecutor.ASSERTION_FAILED);
+        assertThat(jsonPathMismatch.errorMessage()).contains("DOWN");
+        assertThat(beyondCap.errorClass()).isEqualTo(HttpProbeExecutor.ASSERTION_FAILED);
+        assertThat(beyondCap.errorMessage()).contains("first 1024 bytes");
+        executor.shutdown();
+    }
+
+    @Test
+    void conditionalRequestsReuseValidatorsAndAssertionResult() {
+        HttpProbeExecutor executor = new HttpProbeExecutor(64, 100, 4);
+        HealthCheck check = contentCheck("/json").conditional(true)
+                .assertionType(ProbeAssertionType.CONTAINS).assertionExpression("\"UP\"").build();
+
+        ProbeResult first = executor.probe(check).join();
+        ProbeResult second = executor.probe(check).join();
+        executor.forget(check.getId());
+        ProbeResult afterForget = executor.probe(check).join();
+
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(second.statusCode()).isEqualTo(304);
+        assertThat(second.isSuccess()).isTrue();
+        assertThat(afterForget.statusCode()).isEqualTo(200);
+        assertThat(notModified.get()).isEqualTo(1);
+        assertThat(contentRequests.get()).isEqualTo(3);
+        executor.shutdown();
+    }
+
+    @Test
+    void timeoutClosesTricklingConnectionBeforeReleasingHostSlot() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        try (ServerSocket trickle = new ServerSocket(0, 8, InetAddress.getLoopbackAddress())) {
+            serverExecutor.execute(() -> trickleBody(trickle, closed));
+            HttpProbeExecutor executor = new HttpProbeExecutor(1, 10, 2);
+            HealthCheck check = HealthCheck.builder()
+                    .id(1L)
+                    .name("trickle")
+                    .url("http://127.0.0.1:" + trickle.getLocalPort() + "/slow-body")
+                    .readTimeoutMs(300)
+                    .connectTimeoutMs(200)
+                    .build();
+
+            ProbeResult result = executor.probe(check).get(5, TimeUnit.SECONDS);
+
+            assertThat(result.hasResponse()).isFalse();
+            assertThat(result.errorClass()).isEqualTo("TimeoutException");
+            // 헤더 이후 본문이 1바이트씩 오는 동안 타임아웃되면 연결까지 닫혀야 함
+            assertThat(closed.await(3, TimeUnit.SECONDS)).isTrue();
+            // 슬롯(호스트당 1개)이 반납되어 같은 호스트의 다음 프로브가 대기열에 묶이지 않음
+            assertThat(executor.probe(check).get(5, TimeUnit.SECONDS).errorClass()).isEqualTo("TimeoutException");
+            executor.shutdown();
+        }
+    }
+
+    private HealthCheck.HealthCheckBuilder contentCheck(String path) {
+        return HealthCheck.builder()
+                .id(1L)
+                .name("content")
+                .url(contentUrl + path)
+                .readTimeoutMs(READ_TIMEOUT_MS)
+                .connectTimeoutMs(1000);
+    }
+
+    private List<CompletableFuture<ProbeResult>> probeAll(HttpProbeExecutor executor, String url, int count,
+                                                          int readTimeoutMs) {
+        List<CompletableFuture<ProbeResult>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HealthCheck check = HealthCheck.builder()
+                    .id((long) i)
+                    .name("check-" + i)
+                    .url(url)
+                    .readTimeoutMs(readTimeoutMs)
+                    .connectTimeoutMs(1000)
+                    .build();
+            futures.add(executor.probe(check));
+        }
+        return futures;
+    }
+
+    private List<ProbeResult> join(List<CompletableFuture<ProbeResult>> futures) {
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 요청마다 헤더와 큰 Content-Length를 보낸 뒤 본문을 50ms에 1바이트씩 보냅니다.
+     * 클라이언트가 연결을 닫아 쓰기가 실패하면 closed를 내립니다.
+     */
+    private static void trickleBody(ServerSocket server, CountDownLatch closed) {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                String line;
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    // 요청 헤더는 읽고 버림
+                }
+                OutputStream out = socket.getOutputStream();
+                out.write("HTTP/1.1 200 OK\r\nContent-Length: 1000000\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                while (true) {
+                    out.write('x');
+                    out.flush();
+                    Thread.sleep(50);
+                }
+            } catch (IOException e) {
+                closed.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private String startServer(int delayMillis, boolean trackConcurrency) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/", exchange -> {
+            if (trackConcurrency) {
+                slowMaxInFlight.accumulateAndGet(slowInFlight.incrementAndGet(), Math::max);
+            }
+            try {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                // 응답을 보내기 전에 감소시켜야 클라이언트의 다음 요청과 겹쳐 세지지 않음
+                if (trackConcurrency) {
+                    slowInFlight.decrementAndGet();
+                }
+                exchange.sendResponseHeaders(200, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        servers.add(server);
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/health";
+    }
+
+    /**
+     * /big: 1MB 본문 (끝에 "END"), /json: ETag가 붙은 작은 JSON 문서
+     */
+    private String startContentServer() throws IOException {
+        byte[] big = new byte[1024 * 1024];
+        Arrays.fill(big, (byte) 'x');
+        System.arraycopy("END".getBytes(StandardCharsets.UTF_8), 0, big, big.length - 3, 3);
+        byte[] json = "{\"status\":\"UP\",\"version\":\"2.4\",\"checks\":[{\"name\":\"db\",\"status\":\"UP\"},{\"name\":\"cache\",\"status\":\"DOWN\"}]}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 64);
+        server.createContext("/", exchange -> {
+            contentRequests.incrementAndGet();
+            contentMethods.add(exchange.getRequestMethod());
+            try (exchange) {
+                if (exchange.getRequestURI().getPath().equals("/json")) {
+                    exchange.getResponseHeaders().set("ETag", "\"v1\"");
+                    if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                        notModified.incrementAndGet();
+                        exchange.sendResponseHeaders(304, -1);
+                        return;
+                    }
+                    exchange.sendResponseHeaders(200, json.length);
+                    exchange.getResponseBody().write(json);
+                    return;
+                }
+                if (exchange.getRequestMethod().equals("HEAD")) {
+                    exchange.sendResponseHeaders(200, -1);
+                    return;
+                }
+                exchange.sendResponseHeaders(200, big.length);
+                exchange.getResponseBody().write(big);
+            } catch (IOException e) {
+                // 클라이언트가 상한에 도달해 연결을 끊은 경우
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        servers.add(server);
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,60 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class JsonFieldExtractorTest {
+
+    private final JsonFieldExtractor extractor = JsonFieldExtractor.compile(List.of(
+            "/action", "/repository/full_name", "/sender/login", "/commits/1/id", "/repository/stars"));
+
+    @Test
+    void extractsNestedFieldsAndSkipsTheRest() throws IOException {
+        String[] values = extract("""
+                {"ref":"refs/heads/main",
+                 "commits":[{"id":"a","files":["x","y"]},{"id":"b","author":{"name":"n"}}],
+                 "repository":{"id":1,"owner":{"login":"org"},"full_name":"org/repo","stars":42},
+                 "action":"opened",
+                 "sender":{"login":"user-1"}}
+                """);
+
+        assertThat(values).containsExactly("opened", "org/repo", "user-1", "b", "42");
+    }
+
+    @Test
+    void missingNullAndNonScalarValuesAreNull() throws IOException {
+        String[] values = extract("""
+                {"action":null,"repository":{"full_name":{"nested":true}},"sender":"not-an-object"}
+                """);
+
+        assertThat(values).containsOnlyNulls();
+    }
+
+    @Test
+    void stopsReadingOnceAllFieldsAreFound() throws IOException {
+        JsonFieldExtractor single = JsonFieldExtractor.compile(List.of("/repository/full_name"));
+
+        // 찾은 뒤의 본문(문법 오류 포함)은 읽지 않음
+        String[] values = single.extract("{\"repository\":{\"full_name\":\"org/repo\"},\"commits\":[!!!"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThat(values).containsExactly("org/repo");
+    }
+
+    @Test
+    void rejectsMalformedOrNonObjectPayloads() {
+        assertThatThrownBy(() -> extract("\"just a string\"")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> extract("{\"action\":\"opened\"")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> extract("")).isInstanceOf(IOException.class);
+    }
+
+    private String[] extract(String json) throws IOException {
+        return extractor.extract(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,206 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * GitHub Actions 실행 하나의 단계별 웹훅이 피드에서 한 항목(묶음)으로 보이는지, 윈도우 만료/용량 초과 시 새 묶음이 되는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-correlation;DB_CLOSE_DELAY=-1",
+        "conflux.tiering.directory=build/test-segments/notification-correlation",
+        "conflux.correlation.window-ms=1500",
+        "conflux.ingest.flush-interval-ms=50"
+})
+class NotificationCorrelatorTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationCorrelator correlator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void groupsWorkflowRunPhasesIntoOneFeedItem() throws Exception {
+        post("org/grouped", "Deploy", "main", "queued", null);
+        post("org/grouped", "Deploy", "main", "in_progress", null);
+        post("org/grouped", "Deploy", "dev", "queued", null);
+        post("org/grouped", "Deploy", "main", "completed", "failure");
+        await(() -> rows("org/grouped") == 2 && events("org/grouped") == 4);
+
+        List<NotificationDto> items = feed("org/grouped");
+        assertThat(items).hasSize(2);
+        NotificationDto main = items.get(0);
+        assertThat(main.getGroupKey()).isEqualTo("org/grouped/Deploy@main");
+        assertThat(main.getTitle()).isEqualTo("🚀 Deploy - completed");
+        assertThat(main.getMessage()).isEqualTo("Workflow 'Deploy' failure on branch 'main'");
+        assertThat(main.getCount()).isEqualTo(3);
+        assertThat(main.getTimeline()).extracting(entry -> entry.title()).containsExactly(
+                "🚀 Deploy - queued", "🚀 Deploy - in_progress", "🚀 Deploy - completed");
+        assertThat(items.get(1).getGroupKey()).isEqualTo("org/grouped/Deploy@dev");
+        assertThat(items.get(1).getTimeline()).hasSize(1);
+
+        HttpResponse<String> timeline = get("/api/notifications/" + main.getId() + "/timeline");
+        assertThat(timeline.statusCode()).isEqualTo(200);
+        JsonNode entries = objectMapper.readTree(timeline.body());
+        assertThat(entries).hasSize(3);
+        assertThat(entries.get(2).get("message").asText()).isEqualTo("Workflow 'Deploy' failure on branch 'main'");
+        assertThat(get("/api/notifications/987654/timeline").statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void startsNewGroupAfterIdleWindow() throws Exception {
+        post("org/idle", "Nightly", "main", "queued", null);
+        await(() -> rows("org/idle") == 1);
+        sleep(2_000);
+        post("org/idle", "Nightly", "main", "completed", "success");
+        await(() -> rows("org/idle") == 2);
+
+        assertThat(feed("org/idle")).extracting(NotificationDto::getCount).containsExactly(1, 1);
+        // 1.5초 넘게 이벤트가 없던 윈도우는 정리 시 메모리에서 내려감
+        sleep(1_600);
+        int before = correlator.openGroups();
+        correlator.evictExpired();
+        assertThat(correlator.openGroups()).isLessThan(before);
+    }
+
+    @Test
+    void keepsUngroupedNotificationsAndBoundsOpenGroups() {
+        NotificationCorrelator bounded = new NotificationCorrelator(null, new SimpleMeterRegistry(), true, 60_000, 2, 20);
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 12, 0);
+        String first = bounded.toEntry(event("org/a", start)).fingerprint();
+        assertThat(bounded.toEntry(event("org/a", start.plusSeconds(1))).fingerprint()).isEqualTo(first);
+        bounded.toEntry(event("org/b", start.plusSeconds(2)));
+        bounded.toEntry(event("org/c", start.plusSeconds(3)));
+        // 용량(2) 초과로 가장 오래 쓰지 않은 org/a가 내려가 다음 이벤트는 새 묶음
+        assertThat(bounded.openGroups()).isEqualTo(2);
+        assertThat(bounded.toEntry(event("org/a", start.plusSeconds(4))).fingerprint()).isNotEqualTo(first);
+        // 윈도우(60초)가 지난 뒤의 이벤트도 새 묶음
+        String reopened = bounded.toEntry(event("org/c", start.plusSeconds(5))).fingerprint();
+        assertThat(bounded.toEntry(event("org/c", start.plusSeconds(70))).fingerprint()).isNotEqualTo(reopened);
+
+        NotificationDto plain = event("org/plain");
+        plain.setGroupKey(null);
+        IngestEntry entry = bounded.toEntry(plain);
+        assertThat(entry.grouped()).isFalse();
+        assertThat(entry.fingerprint()).hasSize(64);
+    }
+
+    @Test
+    void groupsDirectlySavedNotifications() {
+        notificationService.addNotification(event("org/direct"));
+        NotificationDto second = event("org/direct");
+        second.setTitle("Release - completed");
+        notificationService.addNotification(second);
+
+        List<NotificationDto> items = feed("org/direct");
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).getTitle()).isEqualTo("Release - completed");
+        assertThat(items.get(0).getCount()).isEqualTo(2);
+        assertThat(notificationService.getTimeline(items.get(0).getId())).hasSize(2);
+    }
+
+    private void post(String repository, String workflow, String branch, String status, String conclusion)
+            throws IOException, InterruptedException {
+        String body = objectMapper.createObjectNode()
+                .put("workflow", workflow)
+                .put("status", status)
+                .put("conclusion", conclusion)
+                .put("repository", repository)
+                .put("branch", branch)
+                .put("actor", "ci")
+                .toString();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/webhook/github-actions"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        assertThat(client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(202);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<NotificationDto> feed(String repository) {
+        NotificationPageDto page = notificationService.getNotifications(
+                NotificationFilter.builder().repository(repository).build(), null, 50);
+        return page.getItems();
+    }
+
+    private int rows(String repository) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE repository = ?",
+                Integer.class, repository);
+    }
+
+    private int events(String repository) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_timeline t "
+                + "JOIN notifications n ON n.id = t.notification_id WHERE n.repository = ?", Integer.class, repository);
+    }
+
+    private static NotificationDto event(String repository) {
+        return event(repository, LocalDateTime.now());
+    }
+
+    private static NotificationDto event(String repository, LocalDateTime timestamp) {
+        return NotificationDto.builder()
+                .source("Release")
+                .title("Release - queued")
+                .message("release pipeline")
+                .repository(repository)
+                .sender("ci")
+                .timestamp(timestamp)
+                .groupKey(repository + "/release")
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.domain.NotificationFingerprint;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로컬 HTTP 수신 서버로 외부 발송(라우팅, 배치, 재시도, 속도 제한) 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-dispatch;DB_CLOSE_DELAY=-1",
+        "conflux.tiering.directory=build/test-segments/notification-dispatch",
+        "conflux.dispatch.enabled=true",
+        "conflux.dispatch.poll-ms=50",
+        "conflux.dispatch.max-attempts=3",
+        "conflux.dispatch.backoff-initial-ms=100",
+        "conflux.dispatch.backoff-max-ms=400"
+})
+class NotificationDispatcherTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Map<String, List<Request>> received = new ConcurrentHashMap<>();
+    private static final AtomicInteger flakyFailuresLeft = new AtomicInteger(2);
+    private static HttpServer sink;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void routes(DynamicPropertyRegistry registry) throws IOException {
+        sink = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        sink.createContext("/", exchange -> {
+            String channel = exchange.getRequestURI().getPath().substring(1);
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            received.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>())
+                    .add(new Request(System.nanoTime(), body));
+            int status = switch (channel) {
+                case "dead" -> 500;
+                case "flaky" -> flakyFailuresLeft.getAndDecrement() > 0 ? 503 : 200;
+                default -> 200;
+            };
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        sink.setExecutor(Executors.newFixedThreadPool(4));
+        sink.start();
+
+        String base = "http://127.0.0.1:" + sink.getAddress().getPort() + "/";
+        Path file = Path.of("build", "dispatch-routes-test.json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, """
+                {
+                  "channels": [
+                    {"name": "audit", "type": "WEBHOOK", "url": "%1$saudit", "ratePerSecond": 50, "burst": 50,
+                     "batchSize": 100, "lingerMs": 300},
+                    {"name": "ops", "type": "SLACK", "url": "%1$sops", "batchSize": 20, "lingerMs": 100},
+                    {"name": "flaky", "type": "WEBHOOK", "url": "%1$sflaky", "burst": 10, "lingerMs": 0},
+                    {"name": "dead", "type": "WEBHOOK", "url": "%1$sdead", "burst": 10, "lingerMs": 0},
+                    {"name": "limited", "type": "WEBHOOK", "url": "%1$slimited", "ratePerSecond": 2, "burst": 1,
+                     "batchSize": 1, "lingerMs": 0}
+                  ],
+                  "rules": [
+                    {"sources": ["GitHub"], "channels": ["audit"]},
+                    {"sources": ["HealthCheck"], "statuses": ["down"], "channels": ["ops"]},
+                    {"sources": ["Flaky"], "channels": ["flaky"]},
+                    {"sources": ["Dead"], "channels": ["dead"]},
+                    {"sources": ["Limited"], "channels": ["limited"]}
+                  ]
+                }
+                """.formatted(base));
+        registry.add("conflux.dispatch.routes-file", file::toString);
+    }
+
+    @AfterAll
+    static void stopSink() {
+        sink.stop(0);
+    }
+
+    @Test
+    void routesAndBatchesBulkIngest() {
+        List<IngestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(entry("GitHub", "Build #" + i, "passed"));
+        }
+        notificationService.addNotificationBatch(entries);
+        notificationService.addNotification(dto("HealthCheck", "api - DOWN", "Status code: 503"));
+        notificationService.addNotification(dto("HealthCheck", "api - RECOVERED", "Recovered from DOWN after 1m"));
+
+        await(() -> notificationsReceived("audit") == 1000);
+        // 1000건이 요청 하나에 최대 100건씩 묶여서 전달됨
+        assertThat(received.get("audit").size()).isBetween(10, 20);
+        await(() -> received.containsKey("ops"));
+        sleep(300);
+        assertThat(received.get("ops")).hasSize(1);
+        assertThat(text(received.get("ops").get(0))).isEqualTo("• *[HealthCheck]* api - DOWN — Status code: 503");
+        assertThat(pending("audit")).isZero();
+    }
+
+    @Test
+    void retriesWithBackoffAndGivesUpAfterMaxAttempts() {
+        notificationService.addNotification(dto("Flaky", "deploy", "flaky sink"));
+        notificationService.addNotification(dto("Dead", "deploy", "broken sink"));
+
+        await(() -> received.containsKey("flaky") && received.get("flaky").size() == 3 && pending("flaky") == 0);
+        List<Request> attempts = received.get("flaky");
+        for (int i = 1; i < attempts.size(); i++) {
+            // 백오프 100ms, 200ms (절반~전체 지터)
+            assertThat(TimeUnit.NANOSECONDS.toMillis(attempts.get(i).nanoTime() - attempts.get(i - 1).nanoTime()))
+                    .isGreaterThanOrEqualTo(50L * (1L << (i - 1)));
+        }
+
+        await(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE channel = 'dead' AND status = 'DEAD'", Integer.class) == 1);
+        assertThat(received.get("dead")).hasSize(3);
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT attempts, last_error FROM notification_outbox WHERE channel = 'dead'"))
+                .containsEntry("attempts", 3)
+                .containsEntry("last_error", "HTTP 500");
+        assertThat(meterRegistry.get("conflux.dispatch.dead").tag("channel", "dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitsEachChannel() {
+        for (int i = 0; i < 6; i++) {
+            notificationService.addNotification(dto("Limited", "job " + i, "done"));
+        }
+
+        await(() -> received.containsKey("limited") && received.get("limited").size() == 6);
+        List<Request> requests = received.get("limited");
+        // 버킷 1개 + 초당 2개: 6번째 요청은 첫 요청보다 약 2.5초 뒤
+        assertThat(TimeUnit.NANOSECONDS.toMillis(requests.get(5).nanoTime() - requests.get(0).nanoTime()))
+                .isGreaterThan(2200);
+    }
+
+    private int notificationsReceived(String channel) {
+        return received.getOrDefault(channel, List.of()).stream()
+                .mapToInt(request -> json(request).get("notifications").size())
+                .sum();
+    }
+
+    private int pending(String channel) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox WHERE channel = ?",
+                Integer.class, channel);
+    }
+
+    private static JsonNode json(Request request) {
+        try {
+            return JSON.readTree(request.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String text(Request request) {
+        return json(request).get("text").asText();
+    }
+
+    private static NotificationDto dto(String source, String title, String message) {
+        return NotificationDto.builder()
+                .source(source)
+                .title(title)
+                .message(message)
+                .sender("ci")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static IngestEntry entry(String source, String title, String message) {
+        NotificationDto dto = dto(source, title, message);
+        return new IngestEntry(dto, NotificationFingerprint.of(source, title, message), 1);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Request(long nanoTime, String body) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+
+/**
+ * 알림/프로브 샘플 내보내기: 조건, 순서, CSV 따옴표 처리, gzip 응답 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-export;DB_CLOSE_DELAY=-1",
+        "conflux.tiering.directory=build/test-segments/notification-export"
+})
+class NotificationExportTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+    private static final int ROWS = 3_000;
+    private static final long CHECK_ID = 7L;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProbeHistoryService probeHistoryService;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM notifications");
+        jdbcTemplate.batchUpdate("INSERT INTO notifications (source, title, message, repository, sender, timestamp, "
+                        + "status, count) VALUES (?, ?, ?, ?, ?, ?, ?, 1)",
+                IntStream.range(0, ROWS).mapToObj(i -> new Object[]{
+                        i % 3 == 0 ? "GitHub" : "Custom", "Event " + i, "message #" + i, "org/repo-" + i % 2, "ci",
+                        Timestamp.valueOf(BASE.plusSeconds(i)), i % 4 == 0 ? "READ" : "UNREAD"
+                }).toList());
+    }
+
+    @Test
+    void exportsFilteredNotificationsAsNdjsonInTimeOrder() throws Exception {
+        HttpResponse<String> response = get("/api/notifications/export?source=GitHub&status=unread"
+                + "&from=" + BASE.plusSeconds(600) + "&to=" + BASE.plusSeconds(1800));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("application/x-ndjson"));
+        assertThat(response.headers().firstValue("Content-Disposition")).hasValueSatisfying(
+                disposition -> assertThat(disposition).contains("notifications.ndjson"));
+
+        List<String> lines = response.body().lines().toList();
+        // 600 ~ 1799 중 3의 배수(GitHub) 400건, 그중 4의 배수(READ) 100건 제외
+        assertThat(lines).hasSize(300);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("title").asText()).isEqualTo("Event 603");
+        assertThat(first.get("status").asText()).isEqualTo("UNREAD");
+        assertThat(first.get("count").asInt()).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines.get(lines.size() - 1)).get("title").asText()).isEqualTo("Event 1797");
+    }
+
+    @Test
+    void quotesCsvValuesOnlyWhenNeeded() throws Exception {
+        jdbcTemplate.update("INSERT INTO notifications (source, title, message, repository, sender, timestamp, "
+                        + "status, count) VALUES ('Quoted', 'Deploy, prod', ?, 'org/repo', 'ci', ?, 'UNREAD', 2)",
+                "said \"hi\"\nthen left", Timestamp.valueOf(BASE.minusMinutes(1)));
+
+        HttpResponse<String> response = get("/api/notifications/export?format=csv&source=Quoted");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/csv"));
+        assertThat(response.body()).startsWith("id,timestamp,source,title,message,repository,sender,status,count\r\n")
+                .contains(",Quoted,\"Deploy, prod\",\"said \"\"hi\"\"\nthen left\",org/repo,ci,UNREAD,2\r\n");
+    }
+
+    @Test
+    void compressesWholeExportWhenRequested() throws Exception {
+        HttpResponse<byte[]> response = client.send(request("/api/notifications/export?format=csv&gzip=true"),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        String csv = gunzip(response.body());
+        assertThat(csv.lines().count()).isEqualTo(ROWS + 1);
+        assertThat(response.body().length).isLessThan(csv.length() / 3);
+    }
+
+    @Test
+    void rejectsUnknownFormatAndStatus() throws Exception {
+        assertThat(get("/api/notifications/export?format=xml").statusCode()).isEqualTo(400);
+        assertThat(get("/api/notifications/export?status=archived").statusCode()).isEqualTo(400);
+        assertThat(get("/api/healthcheck/export?format=xml").statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void exportsRawProbeSamplesIncludingBufferedOnes() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            boolean failed = i % 50 == 49;
+            probeHistoryService.record(new ProbeResult(CHECK_ID, BASE.plusSeconds(i * 10L), failed ? 0 : 200,
+                    20 + i % 30, failed ? "HttpTimeoutException" : null, failed ? "timed out" : null));
+        }
+
+        HttpResponse<String> response = get("/api/healthcheck/export?format=csv&id=" + CHECK_ID
+                + "&from=" + BASE.plusSeconds(100) + "&to=" + BASE.plusSeconds(2100));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        List<String> lines = response.body().lines().toList();
+        assertThat(lines.get(0)).isEqualTo("healthCheckId,timestamp,statusCode,latencyMillis,errorClass,success");
+        // 10초 간격 샘플 중 [100s, 2100s) 구간의 200건
+        assertThat(lines).hasSize(201);
+        assertThat(lines.stream().filter(line -> line.endsWith(",HttpTimeoutException,false"))).hasSize(4);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(request(path), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
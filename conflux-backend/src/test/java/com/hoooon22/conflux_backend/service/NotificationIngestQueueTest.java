@@ -0,0 +1,180 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 수집 큐 (WAL 없이): DB 반영 실패 시 재시도, 큐가 가득 차면 거절(429), 종료 시 남은 알림 반영
+ */
+class NotificationIngestQueueTest {
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final List<String> applied = new CopyOnWriteArrayList<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private NotificationIngestQueue queue;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        databaseDown.set(false);
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void retriesFailedWriteWithoutDroppingAcceptedEvents() throws Exception {
+        failWhileDatabaseDown();
+        databaseDown.set(true);
+        queue = start(100);
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(queue.submit(notification("event #" + i))).isTrue();
+        }
+        await(() -> attempts.get() >= 5);
+        assertThat(applied).isEmpty();
+
+        databaseDown.set(false);
+        await(() -> applied.size() == 30);
+        assertThat(applied).containsExactlyElementsOf(events(30));
+    }
+
+    @Test
+    void rejectsWhenQueueFillsWhileDatabaseIsDown() throws Exception {
+        failWhileDatabaseDown();
+        databaseDown.set(true);
+        queue = start(20);
+
+        // flusher가 한 배치(최대 10)를 붙잡고 재시도하는 동안 큐(20)가 차면 거절
+        int accepted = 0;
+        while (queue.submit(notification("event #" + accepted))) {
+            accepted++;
+            assertThat(accepted).isLessThanOrEqualTo(30);
+        }
+        assertThat(accepted).isGreaterThanOrEqualTo(20);
+        assertThat(queue.submit(notification("rejected"))).isFalse();
+
+        databaseDown.set(false);
+        int total = accepted;
+        await(() -> applied.size() == total);
+        assertThat(applied).containsExactlyElementsOf(events(total));
+        assertThat(queue.submit(notification("after recovery"))).isTrue();
+    }
+
+    @Test
+    void drainsQueuedEventsOnShutdown() throws Exception {
+        CountDownLatch firstWrite = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstWrite.countDown();
+            release.await();
+            if (attempts.incrementAndGet() <= 2) {
+                throw new IllegalStateException("pool exhausted");
+            }
+            List<IngestEntry> entries = invocation.getArgument(0);
+            entries.forEach(entry -> applied.add(entry.notification().getMessage()));
+            return null;
+        }).when(notificationService).addNotificationBatch(anyList());
+        queue = start(100);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(queue.submit(notification("event #" + i))).isTrue();
+        }
+        assertThat(firstWrite.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 종료가 시작되면 새 요청은 거절하고, 실패한 배치를 다시 시도해 큐를 비운 뒤에 끝남
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> {
+            try {
+                queue.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicInteger acceptedDuringShutdown = new AtomicInteger();
+        await(() -> {
+            boolean accepted = queue.submit(notification("before shutdown #" + acceptedDuringShutdown.get()));
+            if (accepted) {
+                acceptedDuringShutdown.incrementAndGet();
+            }
+            return !accepted;
+        });
+        release.countDown();
+        shutdown.get(10, TimeUnit.SECONDS);
+        queue = null;
+
+        // 종료 전에 받은 알림은 모두 반영됨
+        assertThat(applied.stream().filter(message -> message.startsWith("event #")).toList())
+                .containsExactlyElementsOf(events(50));
+        assertThat(applied).hasSize(50 + acceptedDuringShutdown.get());
+    }
+
+    private void failWhileDatabaseDown() {
+        doAnswer(invocation -> {
+            attempts.incrementAndGet();
+            if (databaseDown.get()) {
+                throw new IllegalStateException("Connection is not available, request timed out after 5000ms");
+            }
+            List<IngestEntry> entries = invocation.getArgument(0);
+            entries.forEach(entry -> applied.add(entry.notification().getMessage()));
+            return null;
+        }).when(notificationService).addNotificationBatch(anyList());
+    }
+
+    private NotificationIngestQueue start(int capacity) throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationIngestQueue started = new NotificationIngestQueue(notificationService,
+                new NotificationCorrelator(null, meterRegistry, false, 0, 1, 0), null, meterRegistry,
+                capacity, 10, 10, 10_000, false, "", 0, false, 0, 1, 20);
+        started.start();
+        return started;
+    }
+
+    private static List<String> events(int count) {
+        return Stream.iterate(0, i -> i + 1).limit(count).map(i -> "event #" + i).toList();
+    }
+
+    private static NotificationDto notification(String message) {
+        return NotificationDto.builder()
+                .source("GitHub")
+                .title("Queue test")
+                .message(message)
+                .repository("org/repo")
+                .sender("ci")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
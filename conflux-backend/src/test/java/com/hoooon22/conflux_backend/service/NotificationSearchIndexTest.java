@@ -0,0 +1,179 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.event.NotificationEvent;
+import com.hoooon22.conflux_backend.event.NotificationEventType;
+
+class NotificationSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private NotificationSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // DB에는 알림이 없는 상태로 시작하고, 이후 이벤트로만 색인
+        index = new NotificationSearchIndex(mock(JdbcTemplate.class), mock(NotificationColdStorage.class), 128, 256);
+        assertThatThrownBy(() -> index.search("deploy", 10)).isInstanceOf(IllegalStateException.class);
+        index.buildOnStartup();
+        for (int i = 0; i < 500 && !index.isReady(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void ranksTitleMatchesAboveMessageMatchesAndNewerFirst() {
+        created(1L, "Build finished", "deploy step skipped", "org/api", "alice", NOW);
+        created(2L, "Deploy failed", "see logs", "org/api", "bob", NOW);
+        created(3L, "Nightly", "deploy succeeded", "org/web", "carol", NOW.plusMinutes(5));
+
+        NotificationSearchIndex.SearchHits hits = index.search("DEPLOY", 10);
+
+        assertThat(hits.ids()).containsExactly(2L, 3L, 1L);
+        assertThat(hits.total()).isEqualTo(3);
+        assertThat(index.search("deploy", 2).ids()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void matchesPrefixesAndRequiresEveryToken() {
+        created(1L, "Deployment failed", "pipeline #42", "org/api", "alice", NOW);
+        created(2L, "Deploy succeeded", "pipeline #43", "org/web", "bob", NOW);
+        created(3L, "Test failed", "unit tests", "org/api", "alice", NOW);
+
+        assertThat(index.search("depl", 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("depl fail", 10).ids()).containsExactly(1L);
+        assertThat(index.search("org/api alice", 10).ids()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("deploy", 10).ids()).first().isEqualTo(2L);  // 정확히 일치하는 용어가 우선
+        assertThat(index.search("missing deploy", 10).ids()).isEmpty();
+        assertThat(index.search("  ...  ", 10).ids()).isEmpty();
+    }
+
+    @Test
+    void followsDuplicatesDeletesAndClears() {
+        created(1L, "Deploy failed", "first", "org/api", "alice", NOW);
+        created(2L, "Deploy failed", "second", "org/api", "alice", NOW.plusMinutes(1));
+        created(3L, "Deploy failed", "third", "org/web", "alice", NOW.minusDays(10));
+        assertThat(index.search("deploy", 10).ids()).containsExactly(2L, 1L, 3L);
+
+        // 중복 알림: 시간만 갱신되어 최신 순위로 올라감
+        index.onNotificationEvent(NotificationEvent.of(NotificationEventType.UPDATED,
+                dto(1L, "Deploy failed", "first", "org/api", "alice", NOW.plusMinutes(2))));
+        assertThat(index.search("deploy", 10).ids()).containsExactly(1L, 2L, 3L);
+
+        index.onNotificationEvent(NotificationEvent.deleted(2L));
+        index.onNotificationEvent(NotificationEvent.bulk(NotificationEventType.BULK_DELETED,
+                NotificationFilter.builder().to(NOW.minusDays(1)).build()));
+        NotificationSearchIndex.SearchHits hits = index.search("deploy", 10);
+        assertThat(hits.ids()).containsExactly(1L);
+        assertThat(hits.total()).isEqualTo(1);
+
+        index.remove(List.of(1L));
+        assertThat(index.search("deploy", 10).ids()).isEmpty();
+        assertThat(index.size()).isZero();
+
+        created(4L, "Deploy failed", "again", "org/api", "alice", NOW);
+        index.onNotificationEvent(NotificationEvent.cleared());
+        assertThat(index.search("deploy", 10).ids()).isEmpty();
+    }
+
+    @Test
+    void indexesNotificationsCommittedOutOfIdOrder() {
+        for (long id = 10; id >= 1; id--) {
+            created(id, "Alert " + id, "disk usage high", "org/infra", "monitor", NOW.plusSeconds(id));
+        }
+
+        assertThat(index.search("disk", 3).ids()).containsExactly(10L, 9L, 8L);
+        assertThat(index.search("alert 7", 10).ids()).containsExactly(7L);
+        assertThat(index.search("disk", 100).total()).isEqualTo(10);
+    }
+
+    @Test
+    void reindexesGroupedNotificationWhenLatestEventChangesContent() {
+        created(1L, "Deploy failed", "failure in step build", "org/api", "alice", NOW);
+        index.onNotificationEvent(NotificationEvent.of(NotificationEventType.CREATED,
+                grouped(2L, "Deploy started", "workflow run in progress", "ci", NOW)));
+        assertThat(index.search("progress", 10).ids()).containsExactly(2L);
+
+        // 같은 묶음의 다음 이벤트: 제목/메시지/발신자가 최신 이벤트로 바뀜
+        index.onNotificationEvent(NotificationEvent.of(NotificationEventType.UPDATED,
+                grouped(2L, "Deploy failed", "failure in step test", "bob", NOW.plusMinutes(1))));
+        assertThat(index.search("failure", 10).ids()).containsExactly(2L, 1L);
+        assertThat(index.search("failure test", 10).ids()).containsExactly(2L);
+        assertThat(index.search("bob", 10).ids()).containsExactly(2L);
+        assertThat(index.search("progress", 10).ids()).isEmpty();
+        assertThat(index.search("started", 10).ids()).isEmpty();
+        // 묶음이 아닌 알림의 posting은 그대로
+        assertThat(index.search("build", 10).ids()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+
+        index.onNotificationEvent(NotificationEvent.of(NotificationEventType.UPDATED,
+                grouped(2L, "Deploy succeeded", "all steps passed", "bob", NOW.plusMinutes(2))));
+        assertThat(index.search("failure", 10).ids()).containsExactly(1L);
+        assertThat(index.search("deploy", 10).ids()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void indexesIdsBeyondIntRange() {
+        long base = (1L << 28) - 2;
+        long large = 5_000_000_000L;
+        created(base, "Backup finished", "nightly snapshot", "org/infra", "cron", NOW);
+        created(large, "Backup failed", "snapshot quota exceeded", "org/infra", "cron", NOW.plusMinutes(1));
+        for (long id = base + 1; id < base + 2000; id++) {
+            created(id, "Heartbeat " + id, "ok", "org/infra", "agent", NOW);
+        }
+
+        assertThat(index.search("snapshot", 10).ids()).containsExactly(large, base);
+        assertThat(index.search("backup fail", 10).ids()).containsExactly(large);
+        assertThat(index.search("heartbeat", 5000).total()).isEqualTo(1999);
+        assertThat(index.size()).isEqualTo(2001);
+
+        index.onNotificationEvent(NotificationEvent.deleted(large));
+        assertThat(index.search("snapshot", 10).ids()).containsExactly(base);
+    }
+
+    private void created(Long id, String title, String message, String repository, String sender, LocalDateTime timestamp) {
+        index.onNotificationEvent(NotificationEvent.of(NotificationEventType.CREATED,
+                dto(id, title, message, repository, sender, timestamp)));
+    }
+
+    private static NotificationDto grouped(Long id, String title, String message, String sender,
+                                           LocalDateTime timestamp) {
+        NotificationDto dto = dto(id, title, message, "org/api", sender, timestamp);
+        dto.setGroupKey("org/api/Deploy@main");
+        return dto;
+    }
+
+    private static NotificationDto dto(Long id, String title, String message, String repository, String sender,
+                                       LocalDateTime timestamp) {
+        return NotificationDto.builder()
+                .id(id)
+                .source("GitHub")
+                .title(title)
+                .message(message)
+                .repository(repository)
+                .sender(sender)
+                .timestamp(timestamp)
+                .status("success")
+                .count(1)
+                .build();
+    }
+}
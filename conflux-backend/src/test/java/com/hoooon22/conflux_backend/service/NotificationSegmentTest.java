@@ -0,0 +1,88 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationGroupCount;
+
+class NotificationSegmentTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripsNotificationsAcrossBlocks() throws IOException {
+        List<NotificationDto> notifications = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // ID 순서와 시간 순서가 다르게 (중복 알림으로 시간이 갱신된 경우)
+            long id = 1000 - i;
+            notifications.add(notification(id, DAY.plusSeconds(i).plusNanos(123_456_000), i % 3 == 0 ? "READ" : "UNREAD",
+                    i % 2 == 0 ? "org/api" : null, i == 7 ? null : "message #" + i));
+        }
+
+        NotificationSegment segment = NotificationSegment.write(tempDir.resolve("day" + NotificationSegment.EXTENSION),
+                notifications);
+
+        assertThat(segment.rows()).isEqualTo(300);
+        assertThat(segment.minId()).isEqualTo(701);
+        assertThat(segment.maxId()).isEqualTo(1000);
+        assertThat(NotificationSegment.timestampOf(segment.minTimestamp())).isEqualTo(DAY.plusNanos(123_456_000));
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).hasSize(1);  // 임시 파일이 남지 않음
+        }
+
+        NotificationSegment reopened = NotificationSegment.open(segment.path());
+        NotificationSegment.BlockReader reader = new NotificationSegment.BlockReader();
+        for (NotificationDto expected : notifications) {
+            int row = reopened.rowOf(expected.getId());
+            assertThat(reopened.read(row, reader)).isEqualTo(expected);
+        }
+        assertThat(reopened.rowOf(1001)).isEqualTo(-1);
+        assertThat(reopened.rowOf(850)).isGreaterThanOrEqualTo(0);
+
+        // (timestamp, id) 경계: 200번째 알림(1초 간격) 이상인 첫 행
+        long boundary = NotificationSegment.micros(DAY.plusSeconds(200).plusNanos(123_456_000));
+        assertThat(reopened.lowerBound(boundary, Long.MIN_VALUE)).isEqualTo(200);
+        assertThat(reopened.lowerBound(boundary, Long.MAX_VALUE)).isEqualTo(201);
+        assertThat(reopened.lowerBound(Long.MAX_VALUE, Long.MAX_VALUE)).isEqualTo(300);
+    }
+
+    @Test
+    void storesGroupCountsForSummary() throws IOException {
+        NotificationSegment segment = NotificationSegment.write(tempDir.resolve("groups" + NotificationSegment.EXTENSION),
+                List.of(notification(1, DAY, "UNREAD", "org/api", "a"),
+                        notification(2, DAY.plusSeconds(1), "READ", "org/api", "b"),
+                        notification(3, DAY.plusSeconds(2), "UNREAD", null, "c")));
+
+        assertThat(segment.groups()).containsExactlyInAnyOrder(
+                new NotificationGroupCount("GitHub", "org/api", 2, 1),
+                new NotificationGroupCount("GitHub", null, 1, 1));
+    }
+
+    private static NotificationDto notification(long id, LocalDateTime timestamp, String status, String repository,
+                                                String message) {
+        return NotificationDto.builder()
+                .id(id)
+                .source("GitHub")
+                .title("Event " + id)
+                .message(message)
+                .repository(repository)
+                .sender("user-" + id % 5)
+                .timestamp(timestamp)
+                .status(status)
+                .count((int) id % 4 + 1)
+                .build();
+    }
+}
@@ -0,0 +1,486 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.domain.Notification;
+import com.hoooon22.conflux_backend.domain.NotificationFingerprint;
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationCursor;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.dto.NotificationSummaryDto;
+import com.hoooon22.conflux_backend.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-service;DB_CLOSE_DELAY=-1",
+        "conflux.retention.chunk-size=2",
+        "conflux.retention.chunk-pause-ms=0",
+        "conflux.tiering.directory=build/test-segments/notification-service",
+        "conflux.tiering.segment-max-rows=2"
+})
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationRetentionService retentionService;
+
+    @Autowired
+    private NotificationCounters counters;
+
+    @Autowired
+    private NotificationTieringService tieringService;
+
+    @Autowired
+    private NotificationColdStorage coldStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        notificationService.clearNotifications();
+    }
+
+    @Test
+    void duplicateNotificationIncrementsCount() {
+        notificationService.addNotification(notification("build failed"));
+        notificationService.addNotification(notification("build failed"));
+        notificationService.addNotification(notification("build passed"));
+
+        List<Notification> all = notificationRepository.findAll();
+        assertThat(all).hasSize(2);
+        assertThat(all).filteredOn(n -> n.getMessage().equals("build failed"))
+                .singleElement()
+                .satisfies(n -> assertThat(n.getCount()).isEqualTo(2));
+    }
+
+    @Test
+    void dedupCountersTrackDuplicatesAndNewNotifications() {
+        double duplicates = dedupCount("duplicate");
+        double created = dedupCount("new");
+
+        notificationService.addNotification(notification("cpu high"));
+        notificationService.addNotification(notification("cpu high"));
+        notificationService.addNotification(notification("cpu high"));
+
+        assertThat(dedupCount("new") - created).isEqualTo(1);
+        assertThat(dedupCount("duplicate") - duplicates).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentDuplicatesFoldIntoOneRow() throws Exception {
+        int threads = 16;
+        int perThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < perThread; j++) {
+                    notificationService.addNotification(notification("deploy storm"));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        List<Notification> all = notificationRepository.findAll();
+        assertThat(all).hasSize(1);
+        assertThat(all.get(0).getCount()).isEqualTo(threads * perThread);
+    }
+
+    @Test
+    void deletedNotificationIsRecreated() {
+        notificationService.addNotification(notification("disk full"));
+        Long id = notificationRepository.findAll().get(0).getId();
+        notificationService.deleteNotification(id);
+
+        notificationService.addNotification(notification("disk full"));
+
+        List<Notification> all = notificationRepository.findAll();
+        assertThat(all).singleElement().satisfies(n -> {
+            assertThat(n.getId()).isNotEqualTo(id);
+            assertThat(n.getCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void batchAddsOccurrencesToExistingAndNewRows() {
+        notificationService.addNotification(notification("existing"));
+
+        notificationService.addNotificationBatch(List.of(
+                entry(notification("existing"), 3),
+                entry(notification("brand new"), 2)));
+
+        List<Notification> all = notificationRepository.findAll();
+        assertThat(all).hasSize(2);
+        assertThat(all).filteredOn(n -> n.getMessage().equals("existing"))
+                .singleElement()
+                .satisfies(n -> assertThat(n.getCount()).isEqualTo(4));
+        assertThat(all).filteredOn(n -> n.getMessage().equals("brand new"))
+                .singleElement()
+                .satisfies(n -> assertThat(n.getCount()).isEqualTo(2));
+    }
+
+    @Test
+    void bulkMarkAsReadAndDeleteUseFilter() {
+        notificationService.addNotification(notification("a"));
+        notificationService.addNotification(notification("b"));
+        notificationService.addNotification(notification("c"));
+        List<Long> ids = notificationRepository.findAll().stream().map(Notification::getId).sorted().toList();
+
+        assertThat(notificationService.markAsRead(NotificationFilter.builder().ids(ids.subList(0, 2)).build()))
+                .isEqualTo(2);
+        // 이미 읽은 알림은 다시 변경하지 않음
+        assertThat(notificationService.markAsRead(NotificationFilter.none())).isEqualTo(1);
+
+        notificationService.addNotification(notification("a"));
+        assertThat(notificationService.deleteNotifications(NotificationFilter.builder().status("read").build()))
+                .isEqualTo(2);
+        assertThat(notificationRepository.findAll()).extracting(Notification::getMessage).containsExactly("a");
+        assertThatThrownBy(() -> notificationService.deleteNotifications(NotificationFilter.none()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void retentionPurgesOldNotificationsInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            notificationService.addNotification(notification("old " + i, now.minusDays(100 + i)));
+        }
+        notificationService.addNotification(notification("recent", now.minusDays(1)));
+
+        assertThat(retentionService.purgeOlderThan(now.minusDays(90))).isEqualTo(5);
+        assertThat(notificationRepository.findAll()).extracting(Notification::getMessage).containsExactly("recent");
+        assertThat(summary().getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void tieringMovesOldNotificationsToSegmentsAndFeedSpansBothTiers() throws Exception {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        for (int i = 0; i < 3; i++) {
+            notificationService.addNotification(notification("old " + i, today.minusDays(10).plusHours(i)));
+        }
+        notificationService.addNotification(notification("older", today.minusDays(12)));
+        notificationService.addNotification(notification("recent 0", today.minusDays(1)));
+        notificationService.addNotification(notification("recent 1", today.minusDays(1).plusHours(1)));
+        notificationService.markAsRead(idOf("old 1"));
+        // 이전 실행이 세그먼트만 쓰고 중단된 상황: 이미 옮겨진 행은 다시 쓰지 않고 삭제만 함
+        Notification older = notificationRepository.findById(idOf("older")).orElseThrow();
+        coldStorage.write(older.getTimestamp().toLocalDate(), List.of(NotificationMapper.toDto(older)));
+
+        assertThat(tieringService.rollOlderThan(today.minusDays(7))).isEqualTo(4);
+        assertThat(notificationRepository.findAll()).extracting(Notification::getMessage)
+                .containsExactlyInAnyOrder("recent 0", "recent 1");
+        assertThat(coldStorage.size()).isEqualTo(4);
+        assertThat(coldStorage.segmentCount()).isEqualTo(3);  // 10일 전 3건은 segment-max-rows=2로 나뉨
+        assertThat(tieringService.rollOlderThan(today.minusDays(7))).isZero();
+
+        // 커서로 이어 읽으면 테이블 → 세그먼트 순으로 최신순
+        List<String> messages = new ArrayList<>();
+        NotificationCursor cursor = null;
+        do {
+            NotificationPageDto page = notificationService.getNotifications(NotificationFilter.none(), cursor, 2);
+            page.getItems().forEach(item -> messages.add(item.getMessage()));
+            cursor = page.getNextCursor() != null ? NotificationCursor.decode(page.getNextCursor()) : null;
+        } while (cursor != null);
+        assertThat(messages).containsExactly("recent 1", "recent 0", "old 2", "old 1", "old 0", "older");
+
+        NotificationFilter range = NotificationFilter.builder()
+                .from(today.minusDays(10).plusHours(1))
+                .to(today.minusDays(1).plusMinutes(1))
+                .build();
+        assertThat(notificationService.getNotifications(range, null, 10).getItems())
+                .extracting(NotificationDto::getMessage).containsExactly("recent 0", "old 2", "old 1");
+        assertThat(notificationService.getNotifications(NotificationFilter.builder().status("read").build(), null, 10)
+                .getItems()).extracting(NotificationDto::getMessage).containsExactly("old 1");
+
+        NotificationSummaryDto summary = summary();
+        assertThat(summary.getTotal()).isEqualTo(6);
+        assertThat(summary.getUnread()).isEqualTo(5);
+        assertThat(counters.reconcile()).isZero();
+
+        // 보관 기간은 세그먼트 단위로 적용
+        assertThat(retentionService.purgeOlderThan(today.minusDays(11))).isEqualTo(1);
+        assertThat(summary().getTotal()).isEqualTo(5);
+        notificationService.clearNotifications();
+        assertThat(coldStorage.isEmpty()).isTrue();
+    }
+
+    @Test
+    void countersFollowEveryWritePath() {
+        notificationService.addNotification(notification("a"));
+        notificationService.addNotification(notification("b"));
+        notificationService.addNotificationBatch(List.of(
+                entry(notification("c"), 1),
+                entry(github("push", "org/repo"), 1)));
+        assertThat(summary().getTotal()).isEqualTo(4);
+        assertThat(summary().getUnread()).isEqualTo(4);
+
+        Long aId = idOf("a");
+        notificationService.markAsRead(aId);
+        notificationService.markAsRead(aId);
+        assertThat(summary().getUnread()).isEqualTo(3);
+
+        // 읽은 알림에 중복이 들어오면 다시 읽지 않음 (단건, 배치 모두)
+        notificationService.addNotification(notification("a"));
+        notificationService.markAsRead(NotificationFilter.builder().sources(List.of("GitHub")).build());
+        notificationService.addNotificationBatch(List.of(entry(github("push", "org/repo"), 2)));
+        assertThat(summary().getUnread()).isEqualTo(4);
+
+        notificationService.deleteNotification(idOf("b"));
+        notificationService.markAsRead(NotificationFilter.builder().ids(List.of(idOf("c"))).build());
+        notificationService.deleteNotifications(NotificationFilter.builder().status("READ").build());
+
+        NotificationSummaryDto summary = summary();
+        assertThat(summary.getTotal()).isEqualTo(2);
+        assertThat(summary.getUnread()).isEqualTo(2);
+        assertThat(summary.getSources()).containsOnlyKeys("Custom", "GitHub");
+        assertThat(summary.getRepositories()).containsEntry("org/repo", new NotificationSummaryDto.Counts(1, 1));
+        assertThat(counters.reconcile()).isZero();
+    }
+
+    @Test
+    void countersStayExactUnderConcurrentBulkDeletes() throws Exception {
+        NotificationFilter readCustom = NotificationFilter.builder()
+                .sources(List.of("Custom"))
+                .status("read")
+                .build();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 240; i++) {
+                int n = i;
+                // 집계와 DELETE 사이에 읽음 처리/추가된 행이 있어도 카운터는 실제 삭제 행 수만큼만 줄어야 함
+                Runnable task = switch (i % 4) {
+                    case 0, 1 -> () -> notificationService.addNotification(notification("row " + n));
+                    case 2 -> () -> notificationService.markAsRead(NotificationFilter.none());
+                    default -> () -> notificationService.deleteNotifications(readCustom);
+                };
+                futures.add(pool.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(counters.reconcile()).isZero();
+        notificationService.markAsRead(NotificationFilter.none());
+        notificationService.deleteNotifications(readCustom);
+        assertThat(notificationRepository.findAll()).isEmpty();
+        assertThat(summary().getTotal()).isZero();
+        assertThat(counters.reconcile()).isZero();
+    }
+
+    @Test
+    void countersStayExactUnderConcurrentDuplicatesAndBulkReads() throws Exception {
+        notificationService.addNotification(notification("hot"));
+        notificationService.addNotification(github("push", "org/repo"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Runnable task = switch (i % 3) {
+                    case 0 -> () -> notificationService.addNotification(notification("hot"));
+                    case 1 -> () -> notificationService.addNotification(github("push", "org/repo"));
+                    default -> () -> notificationService.markAsRead(NotificationFilter.none());
+                };
+                futures.add(pool.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(notificationRepository.findAll()).hasSize(2);
+        assertThat(counters.reconcile()).isZero();
+    }
+
+    @Test
+    void backfillsLegacyFingerprintsInChunks() {
+        notificationService.addNotification(notification("already stored"));
+        List<Object[]> legacy = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            legacy.add(new Object[] {"legacy " + i});
+        }
+        legacy.add(new Object[] {"already stored"});
+        legacy.add(new Object[] {"legacy 7"});
+        jdbcTemplate.batchUpdate("INSERT INTO notifications (source, title, message, repository, sender, timestamp, "
+                + "status, count) VALUES ('Custom', 'Test', ?, NULL, 'tester', CURRENT_TIMESTAMP, 'UNREAD', 1)", legacy);
+
+        notificationService.backfillFingerprints();
+
+        // 같은 내용은 가장 최근 행에만, 이미 지문이 있는 내용은 채우지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE fingerprint IS NULL",
+                Integer.class)).isEqualTo(2);
+        Long newestLegacy7 = jdbcTemplate.queryForObject("SELECT MAX(id) FROM notifications WHERE message = 'legacy 7'",
+                Long.class);
+        assertThat(notificationRepository.findIdByFingerprint(NotificationFingerprint.of("Custom", "Test", "legacy 7")))
+                .hasValue(newestLegacy7);
+    }
+
+    @Test
+    void reconcileRepairsDriftedCounters() {
+        notificationService.addNotification(notification("a"));
+        notificationService.addNotification(github("push", "org/repo"));
+        jdbcTemplate.update("UPDATE notification_counters SET total = 7, unread = 0 WHERE source = 'Custom'");
+        jdbcTemplate.update("DELETE FROM notification_counters WHERE source = 'GitHub'");
+
+        assertThat(counters.reconcile()).isEqualTo(2);
+
+        NotificationSummaryDto summary = summary();
+        assertThat(summary.getSources()).containsEntry("Custom", new NotificationSummaryDto.Counts(1, 1))
+                .containsEntry("GitHub", new NotificationSummaryDto.Counts(1, 1));
+        assertThat(counters.reconcile()).isZero();
+    }
+
+    @Test
+    void cursorPagesApplySourceAndStatusFiltersOnTheServer() {
+        LocalDateTime base = LocalDate.now().atStartOfDay().minusHours(12);
+        for (int i = 0; i < 5; i++) {
+            notificationService.addNotification(source("HealthCheck", "hc " + i, null, base.plusMinutes(i)));
+        }
+        notificationService.addNotification(source("Custom", "custom tie a", null, base.plusMinutes(5)));
+        notificationService.addNotification(source("Custom", "custom tie b", null, base.plusMinutes(5)));
+        // 최신 알림은 모두 GitHub: 첫 페이지가 GitHub로 가득 차도 다른 소스 조회는 비지 않아야 함
+        for (int i = 0; i < 6; i++) {
+            notificationService.addNotification(
+                    source("GitHub", "gh " + i, i % 2 == 0 ? "org/api" : "org/web", base.plusMinutes(10 + i)));
+        }
+
+        NotificationFilter others = NotificationFilter.builder().sources(List.of("HealthCheck", "Custom")).build();
+        NotificationPageDto first = notificationService.getNotifications(others, null, 2);
+        assertThat(first.getItems()).extracting(NotificationDto::getMessage)
+                .containsExactly("custom tie b", "custom tie a");
+
+        // 페이지를 넘기는 사이에 새 알림이 들어와도 이어 읽는 페이지는 밀리거나 겹치지 않음
+        notificationService.addNotification(source("HealthCheck", "hc new", null, base.plusMinutes(30)));
+        assertThat(readAll(others, NotificationCursor.decode(first.getNextCursor()), 2))
+                .containsExactly("hc 4", "hc 3", "hc 2", "hc 1", "hc 0");
+        assertThat(readAll(others, null, 3)).containsExactly(
+                "hc new", "custom tie b", "custom tie a", "hc 4", "hc 3", "hc 2", "hc 1", "hc 0");
+
+        notificationService.markAsRead(idOf("gh 2"));
+        NotificationFilter unreadApi = NotificationFilter.builder()
+                .sources(List.of("GitHub"))
+                .repository("org/api")
+                .status("unread")
+                .build();
+        assertThat(readAll(unreadApi, null, 1)).containsExactly("gh 4", "gh 0");
+        NotificationFilter window = NotificationFilter.builder()
+                .sources(List.of("GitHub"))
+                .from(base.plusMinutes(11))
+                .to(base.plusMinutes(14))
+                .build();
+        assertThat(readAll(window, null, 2)).containsExactly("gh 3", "gh 2", "gh 1");
+    }
+
+    private List<String> readAll(NotificationFilter filter, NotificationCursor start, int pageSize) {
+        List<String> messages = new ArrayList<>();
+        NotificationCursor cursor = start;
+        do {
+            NotificationPageDto page = notificationService.getNotifications(filter, cursor, pageSize);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(pageSize);
+            page.getItems().forEach(item -> messages.add(item.getMessage()));
+            cursor = page.getNextCursor() != null ? NotificationCursor.decode(page.getNextCursor()) : null;
+        } while (cursor != null);
+        return messages;
+    }
+
+    private NotificationDto source(String source, String message, String repository, LocalDateTime timestamp) {
+        return NotificationDto.builder()
+                .source(source)
+                .title("Feed")
+                .message(message)
+                .repository(repository)
+                .sender("feed-test")
+                .timestamp(timestamp)
+                .status("success")
+                .build();
+    }
+
+    private NotificationSummaryDto summary() {
+        return notificationService.getSummary();
+    }
+
+    private Long idOf(String message) {
+        return notificationRepository.findAll().stream()
+                .filter(n -> n.getMessage().equals(message))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private NotificationDto github(String message, String repository) {
+        return NotificationDto.builder()
+                .source("GitHub")
+                .title("Test")
+                .message(message)
+                .repository(repository)
+                .sender("user-1")
+                .timestamp(LocalDateTime.now())
+                .status("success")
+                .build();
+    }
+
+    private IngestEntry entry(NotificationDto dto, int occurrences) {
+        return new IngestEntry(dto,
+                NotificationFingerprint.of(dto.getSource(), dto.getTitle(), dto.getMessage()), occurrences);
+    }
+
+    private NotificationDto notification(String message) {
+        return notification(message, LocalDateTime.now());
+    }
+
+    private NotificationDto notification(String message, LocalDateTime timestamp) {
+        return NotificationDto.builder()
+                .source("Custom")
+                .title("Test")
+                .message(message)
+                .sender("Custom")
+                .timestamp(timestamp)
+                .status("success")
+                .build();
+    }
+
+    private double dedupCount(String result) {
+        return meterRegistry.get("conflux.notifications.dedup").tag("result", result).counter().count();
+    }
+}
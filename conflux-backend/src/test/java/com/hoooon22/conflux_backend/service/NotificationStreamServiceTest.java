@@ -0,0 +1,272 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+import com.hoooon22.conflux_backend.dto.NotificationFilter;
+import com.hoooon22.conflux_backend.dto.NotificationPageDto;
+import com.hoooon22.conflux_backend.event.NotificationEvent;
+import com.hoooon22.conflux_backend.event.NotificationEventType;
+
+/**
+ * SSE 스트림: 초기 스냅샷, Last-Event-ID 재전송(버퍼를 벗어나면 스냅샷), 느린 구독자 연결 끊기
+ */
+class NotificationStreamServiceTest {
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final NotificationPageDto snapshot = NotificationPageDto.builder()
+            .items(List.of(notification(1L, "GitHub", "snapshot item")))
+            .nextCursor("next")
+            .build();
+    private NotificationStreamService stream;
+    /**
+     * 다음에 만들어지는 emitter의 send를 막아 둘 latch (느린 구독자 흉내)
+     */
+    private CountDownLatch nextGate;
+
+    @BeforeEach
+    void setUp() {
+        when(notificationService.getNotifications(any(), isNull(), anyInt())).thenReturn(snapshot);
+    }
+
+    @AfterEach
+    void stop() {
+        if (stream != null) {
+            stream.shutdown();
+        }
+    }
+
+    @Test
+    void sendsSnapshotThenCommittedDeltas() {
+        stream = start(16, 16);
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null, null);
+        await(() -> emitter.events.size() == 1);
+        assertThat(emitter.events.get(0).name()).isEqualTo("snapshot");
+        assertThat(emitter.events.get(0).payload()).isSameAs(snapshot);
+
+        NotificationDto created = notification(2L, "GitHub", "build failed");
+        stream.onNotificationEvent(NotificationEvent.of(NotificationEventType.CREATED, created));
+        stream.onNotificationEvent(NotificationEvent.of(NotificationEventType.READ, created));
+        stream.onNotificationEvent(NotificationEvent.deleted(2L));
+
+        await(() -> emitter.events.size() == 4);
+        assertThat(emitter.events).extracting(Sent::name).containsExactly("snapshot", "created", "read", "deleted");
+        assertThat(emitter.events.get(1).payload()).isSameAs(created);
+        assertThat(emitter.events.get(3).payload()).isEqualTo(new NotificationStreamService.DeltaPayload(2L));
+        // 스냅샷 이후의 delta는 스냅샷 ID보다 큰 ID로 순서대로 전달
+        assertThat(emitter.events).extracting(Sent::id).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void sendsOnlySubscribedSourcesInSnapshotAndDeltas() {
+        stream = start(16, 16);
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null, List.of("HealthCheck"));
+        await(() -> emitter.events.size() == 1);
+        ArgumentCaptor<NotificationFilter> filter = ArgumentCaptor.forClass(NotificationFilter.class);
+        verify(notificationService).getNotifications(filter.capture(), isNull(), anyInt());
+        assertThat(filter.getValue().getSources()).containsExactly("HealthCheck");
+
+        stream.onNotificationEvent(NotificationEvent.of(NotificationEventType.CREATED,
+                notification(2L, "GitHub", "push")));
+        stream.onNotificationEvent(NotificationEvent.of(NotificationEventType.CREATED,
+                notification(3L, "HealthCheck", "api down")));
+        stream.onNotificationEvent(NotificationEvent.bulk(NotificationEventType.BULK_READ, NotificationFilter.none()));
+
+        await(() -> emitter.events.size() == 3);
+        assertThat(emitter.events).extracting(Sent::name).containsExactly("snapshot", "created", "bulk_read");
+        assertThat(((NotificationDto) emitter.events.get(1).payload()).getMessage()).isEqualTo("api down");
+    }
+
+    @Test
+    void resumesFromLastEventIdWithinReplayBuffer() {
+        stream = start(16, 16);
+        RecordingEmitter watcher = (RecordingEmitter) stream.subscribe(null, null);
+        publish(5);
+        await(() -> watcher.events.size() == 6);
+        long lastSeen = watcher.events.get(2).id();
+
+        RecordingEmitter resumed = (RecordingEmitter) stream.subscribe(lastSeen, null);
+        await(() -> resumed.events.size() == 3);
+        assertThat(resumed.events).extracting(Sent::name).containsOnly("created");
+        assertThat(resumed.events).extracting(Sent::id).containsExactlyElementsOf(
+                watcher.events.subList(3, 6).stream().map(Sent::id).toList());
+        // 재전송으로 이어 받으면 스냅샷을 다시 읽지 않음
+        verify(notificationService, times(1)).getNotifications(any(), isNull(), anyInt());
+
+        // 재전송 이후의 새 이벤트도 이어서 받음
+        stream.onNotificationEvent(NotificationEvent.deleted(1L));
+        await(() -> resumed.events.size() == 4);
+        assertThat(resumed.events.get(3).name()).isEqualTo("deleted");
+    }
+
+    @Test
+    void fallsBackToSnapshotWhenLastEventIdLeftReplayBuffer() {
+        stream = start(3, 16);
+        RecordingEmitter watcher = (RecordingEmitter) stream.subscribe(null, null);
+        publish(6);
+        await(() -> watcher.events.size() == 7);
+
+        // 버퍼(3개)에서 이미 밀려난 ID: 빠진 이벤트를 재전송할 수 없으므로 스냅샷부터 다시
+        RecordingEmitter stale = (RecordingEmitter) stream.subscribe(watcher.events.get(1).id(), null);
+        await(() -> stale.events.size() == 1);
+        assertThat(stale.events.get(0).name()).isEqualTo("snapshot");
+        assertThat(stale.events.get(0).id()).isEqualTo(watcher.events.get(6).id());
+
+        // 버퍼의 가장 오래된 이벤트 직전 ID는 아직 이어 받을 수 있음
+        RecordingEmitter edge = (RecordingEmitter) stream.subscribe(watcher.events.get(3).id(), null);
+        await(() -> edge.events.size() == 3);
+        assertThat(edge.events).extracting(Sent::name).containsOnly("created");
+
+        // 재시작 전 서버가 발급한 알 수 없는 ID도 스냅샷으로 처리
+        RecordingEmitter unknown = (RecordingEmitter) stream.subscribe(watcher.events.get(6).id() + 100, null);
+        await(() -> unknown.events.size() == 1);
+        assertThat(unknown.events.get(0).name()).isEqualTo("snapshot");
+    }
+
+    @Test
+    void disconnectsSlowSubscriberWhenItsQueueOverflows() {
+        stream = start(64, 4);
+        nextGate = new CountDownLatch(1);
+        CountDownLatch gate = nextGate;
+        RecordingEmitter slow = (RecordingEmitter) stream.subscribe(null, null);
+        RecordingEmitter fast = (RecordingEmitter) stream.subscribe(null, null);
+        await(() -> fast.events.size() == 1);
+        assertThat(stream.getSubscriberCount()).isEqualTo(2);
+
+        // 느린 구독자는 스냅샷 전송에 묶여 있는 동안 큐(4개)가 넘쳐 끊김, 제때 받는 구독자는 그대로 유지
+        for (int i = 0; i < 10; i++) {
+            publish(1);
+            int received = i + 2;
+            await(() -> fast.events.size() == received);
+        }
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+
+        gate.countDown();
+        await(() -> slow.completed);
+        assertThat(slow.events).extracting(Sent::name).containsExactly("snapshot");
+
+        // 끊긴 구독자에게는 더 이상 전달하지 않고, 나머지 구독자는 영향 없음
+        publish(1);
+        await(() -> fast.events.size() == 12);
+        assertThat(slow.events).hasSize(1);
+        assertThat(fast.completed).isFalse();
+    }
+
+    private NotificationStreamService start(int replayBufferSize, int subscriberQueueSize) {
+        return new NotificationStreamService(notificationService, 0, 200, replayBufferSize,
+                subscriberQueueSize, 2) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter(nextGate);
+                nextGate = null;
+                return emitter;
+            }
+        };
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            stream.onNotificationEvent(NotificationEvent.of(NotificationEventType.CREATED,
+                    notification(100L + i, "GitHub", "event #" + i)));
+        }
+    }
+
+    private static NotificationDto notification(Long id, String source, String message) {
+        return NotificationDto.builder()
+                .id(id)
+                .source(source)
+                .title("Stream test")
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private record Sent(long id, String name, Object payload) {
+    }
+
+    /**
+     * 보낸 SSE 이벤트를 기록하는 emitter (gate가 있으면 열릴 때까지 send가 멈춤)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<Sent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            Object payload = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String value) {
+                    text.append(value);
+                } else {
+                    payload = part.getData();
+                }
+            }
+            long id = -1;
+            String name = null;
+            for (String line : text.toString().split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = Long.parseLong(line.substring(3));
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            if (name != null) {
+                events.add(new Sent(id, name, payload));
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.hoooon22.conflux_backend.dto.IngestEntry;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 수집 WAL: 세그먼트 기록/복구/정리와, 시작 시 반영되지 않은 레코드 재반영 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingest-wal;DB_CLOSE_DELAY=-1",
+        "conflux.tiering.directory=build/test-segments/ingest-wal",
+        "conflux.ingest.wal.enabled=true",
+        "conflux.ingest.wal.segment-bytes=4096",
+        "conflux.ingest.flush-interval-ms=50"
+})
+class NotificationWalTest {
+
+    private static final Path WAL_DIRECTORY = Path.of("build", "test-wal", "ingest-wal");
+
+    @Autowired
+    private NotificationIngestQueue ingestQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * 컨텍스트가 뜨기 전에, 반영되기 전에 죽은 것처럼 WAL에만 이벤트를 남겨 둠
+     */
+    @DynamicPropertySource
+    static void crashedWal(DynamicPropertyRegistry registry) throws IOException {
+        deleteRecursively(WAL_DIRECTORY);
+        try (NotificationWal wal = NotificationWal.open(WAL_DIRECTORY, 4096, true, 0)) {
+            for (int i = 0; i < 40; i++) {
+                wal.sync(wal.append(NotificationWal.encode(notification("Crashed", "pending #" + i))));
+            }
+        }
+        registry.add("conflux.ingest.wal.directory", WAL_DIRECTORY::toString);
+    }
+
+    @Test
+    void replaysUnappliedTailOnStartupAndTruncatesAppliedSegments() throws Exception {
+        await(() -> count("Crashed") == 40);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> submits = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            NotificationDto dto = notification("Live", "event #" + i);
+            submits.add(executor.submit(() -> ingestQueue.submit(dto)));
+        }
+        for (Future<Boolean> submit : submits) {
+            assertThat(submit.get()).isTrue();
+        }
+        executor.shutdown();
+
+        await(() -> count("Live") == 200);
+        await(() -> appliedSeq() == 240);
+        // 4KB 세그먼트 여러 개 중 반영이 끝난 것은 지워지고 쓰는 중인 세그먼트만 남음
+        await(() -> segmentFiles(WAL_DIRECTORY) == 1);
+    }
+
+    @Test
+    void recoversAfterTornRecordAndReplaysInOrder() throws IOException {
+        try (NotificationWal wal = NotificationWal.open(directory, 4096, true, 0)) {
+            for (int i = 1; i <= 100; i++) {
+                wal.append(NotificationWal.encode(notification("Unit", "event #" + i)));
+            }
+            long last = wal.append(NotificationWal.encode(notification("Unit", "TORN-MARKER")));
+            wal.sync(last);
+            assertThat(wal.segmentCount()).isGreaterThan(1);
+        }
+        // 마지막 레코드를 쓰다 멈춘 것처럼 내용 한 바이트를 망가뜨림
+        corrupt(directory, "TORN-MARKER");
+
+        try (NotificationWal wal = NotificationWal.open(directory, 4096, true, 0)) {
+            assertThat(wal.lastSeq()).isEqualTo(100);
+            List<NotificationWal.Record> records = new ArrayList<>();
+            wal.replay(0, records::add);
+            assertThat(records).extracting(NotificationWal.Record::seq).containsExactlyElementsOf(
+                    Stream.iterate(1L, seq -> seq + 1).limit(100).toList());
+            assertThat(records.get(41).notification().getMessage()).isEqualTo("event #42");
+            assertThat(records.get(41).notification().getTimestamp()).isEqualTo(LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123_456_000));
+
+            // 망가진 자리부터 이어 씀
+            assertThat(wal.append(NotificationWal.encode(notification("Unit", "after crash")))).isEqualTo(101);
+
+            int segments = wal.segmentCount();
+            assertThat(wal.truncate(60, 0)).isPositive();
+            assertThat(wal.segmentCount()).isLessThan(segments);
+            List<Long> remaining = new ArrayList<>();
+            wal.replay(60, record -> remaining.add(record.seq()));
+            assertThat(remaining).hasSize(41).startsWith(61L).endsWith(101L);
+        }
+    }
+
+    @Test
+    void concurrentAppendSyncAndRollKeepEveryRecord() throws Exception {
+        int threads = 8;
+        int perThread = 300;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (NotificationWal wal = NotificationWal.open(directory, 4096, true, 0)) {
+            List<Future<List<Long>>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String source = "Writer-" + t;
+                writers.add(executor.submit(() -> {
+                    List<Long> seqs = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        long seq = wal.append(NotificationWal.encode(notification(source, "event #" + i)));
+                        wal.sync(seq);
+                        // 반영됐다고 답한 뒤에는 다시 fsync할 것이 없어야 함
+                        assertThat(wal.sync(seq)).isZero();
+                        seqs.add(seq);
+                    }
+                    return seqs;
+                }));
+            }
+            // 4KB 세그먼트라 쓰는 동안 세그먼트 교체가 계속 일어남, 잠금 순서가 어긋나면 여기서 멈춤
+            List<Long> acknowledged = new ArrayList<>();
+            for (Future<List<Long>> writer : writers) {
+                acknowledged.addAll(writer.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(acknowledged).doesNotHaveDuplicates().hasSize(threads * perThread);
+            assertThat(wal.segmentCount()).isGreaterThan(10);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (NotificationWal wal = NotificationWal.open(directory, 4096, true, 0)) {
+            List<NotificationWal.Record> records = new ArrayList<>();
+            wal.replay(0, records::add);
+            assertThat(records).extracting(NotificationWal.Record::seq).containsExactlyElementsOf(
+                    Stream.iterate(1L, seq -> seq + 1).limit(threads * perThread).toList());
+            // 쓰레드마다 자기 레코드는 보낸 순서대로 남음
+            for (int t = 0; t < threads; t++) {
+                String source = "Writer-" + t;
+                assertThat(records.stream()
+                        .map(NotificationWal.Record::notification)
+                        .filter(notification -> source.equals(notification.getSource()))
+                        .map(NotificationDto::getMessage)
+                        .toList())
+                        .containsExactlyElementsOf(Stream.iterate(0, i -> i + 1).limit(perThread)
+                                .map(i -> "event #" + i).toList());
+            }
+        }
+    }
+
+    @Test
+    void keepsRetryingFailedApplyWithoutLosingWalRecords() throws Exception {
+        // 여러 번 실패시킨 뒤에야 반영되게 함 (예전 상한 10번보다 많이)
+        int failures = 12;
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> applied = new CopyOnWriteArrayList<>();
+        NotificationService failing = mock(NotificationService.class);
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new IllegalStateException("database unavailable");
+            }
+            List<IngestEntry> entries = invocation.getArgument(0);
+            entries.forEach(entry -> applied.add(entry.notification().getMessage()));
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(failing).addNotificationBatch(anyList(), any(Runnable.class));
+        JdbcTemplate state = mock(JdbcTemplate.class);
+        when(state.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationIngestQueue queue = new NotificationIngestQueue(failing,
+                new NotificationCorrelator(null, meterRegistry, false, 0, 1, 0), state, meterRegistry,
+                100, 10, 10, 5000, true, directory.toString(), 4096, true, 0, 1, 20);
+        queue.start();
+        queue.onApplicationReady();
+        try {
+            for (int i = 0; i < 30; i++) {
+                assertThat(queue.submit(notification("Retry", "event #" + i))).isTrue();
+            }
+            await(() -> applied.size() == 30);
+        } finally {
+            queue.shutdown();
+        }
+
+        assertThat(attempts.get()).isGreaterThan(failures);
+        assertThat(applied).containsExactlyElementsOf(
+                Stream.iterate(0, i -> i + 1).limit(30).map(i -> "event #" + i).toList());
+        // 반영 위치는 실제로 반영된 배치까지만 올라감
+        verify(state).update(anyString(), eq(30L), eq(30L));
+        try (NotificationWal wal = NotificationWal.open(directory, 4096, true, 0)) {
+            List<Long> records = new ArrayList<>();
+            wal.replay(0, record -> records.add(record.seq()));
+            assertThat(records).hasSize(30);
+        }
+    }
+
+    private int count(String source) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(count), 0) FROM notifications WHERE source = ?",
+                Integer.class, source);
+    }
+
+    private long appliedSeq() {
+        return jdbcTemplate.queryForObject("SELECT applied_seq FROM ingest_wal_state WHERE id = 1", Long.class);
+    }
+
+    private static NotificationDto notification(String source, String message) {
+        return NotificationDto.builder()
+                .source(source)
+                .title("WAL test")
+                .message(message)
+                .repository("org/repo")
+                .sender("ci")
+                .status(null)
+                .timestamp(LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123_456_000))
+                .build();
+    }
+
+    private static void corrupt(Path directory, String marker) throws IOException {
+        byte[] needle = marker.getBytes(StandardCharsets.UTF_8);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                byte[] bytes = Files.readAllBytes(file);
+                for (int i = 0; i + needle.length <= bytes.length; i++) {
+                    if (Arrays.equals(bytes, i, i + needle.length, needle, 0, needle.length)) {
+                        bytes[i] ^= 0x7f;
+                        Files.write(file, bytes);
+                        return;
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("marker not found");
+    }
+
+    private static long segmentFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
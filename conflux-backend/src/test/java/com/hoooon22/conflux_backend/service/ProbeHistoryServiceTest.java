@@ -0,0 +1,103 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hoooon22.conflux_backend.domain.ProbeSample;
+import com.hoooon22.conflux_backend.domain.ProbeSampleBlock;
+import com.hoooon22.conflux_backend.domain.ProbeSampleCodec;
+import com.hoooon22.conflux_backend.domain.RollupResolution;
+import com.hoooon22.conflux_backend.dto.HealthCheckStatsDto;
+import com.hoooon22.conflux_backend.dto.ProbeResult;
+import com.hoooon22.conflux_backend.repository.ProbeSampleBlockRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:probe-history;DB_CLOSE_DELAY=-1",
+        "conflux.history.max-pending-samples=100000"
+})
+class ProbeHistoryServiceTest {
+
+    private static final long CHECK_ID = 42L;
+    private static final int DAYS = 3;
+    private static final int INTERVAL_SECONDS = 10;
+
+    @Autowired
+    private ProbeHistoryService probeHistoryService;
+
+    @Autowired
+    private ProbeSampleBlockRepository blockRepository;
+
+    @AfterEach
+    void tearDown() {
+        probeHistoryService.deleteHistory(CHECK_ID);
+    }
+
+    @Test
+    void codecRoundTripsAndIsCompact() {
+        List<ProbeSample> samples = new ArrayList<>();
+        long start = 1_735_689_600_000L;
+        for (int i = 0; i < 360; i++) {
+            boolean failed = i % 50 == 0;
+            samples.add(new ProbeSample(start + i * 10_000L + (i % 7), failed ? 0 : 200, 20 + i % 90,
+                    failed ? "HttpTimeoutException" : null));
+        }
+
+        byte[] encoded = ProbeSampleCodec.encode(samples);
+
+        assertThat(ProbeSampleCodec.decode(encoded)).isEqualTo(samples);
+        assertThat(encoded.length).isLessThan(samples.size() * 6);
+    }
+
+    @Test
+    void statsAndSamplesCoverRecordedHistory() {
+        LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime start = end.minusDays(DAYS);
+        int total = DAYS * 86_400 / INTERVAL_SECONDS;
+        for (int i = 0; i < total; i++) {
+            // 100건마다 1건 실패, 응답 시간은 10~109ms 균등 분포
+            boolean failed = i % 100 == 99;
+            probeHistoryService.record(new ProbeResult(CHECK_ID, start.plusSeconds((long) i * INTERVAL_SECONDS),
+                    failed ? 503 : 200, 10 + i % 100, null, null));
+        }
+        probeHistoryService.flush();
+
+        List<ProbeSampleBlock> blocks = blockRepository.findAll();
+        assertThat(blocks).hasSize(total / 360);
+        assertThat(blocks.stream().mapToInt(block -> block.getData().length).sum()).isLessThan(total * 6);
+
+        long queryStart = System.nanoTime();
+        HealthCheckStatsDto stats = probeHistoryService.getStats(CHECK_ID, start, end);
+        long queryMillis = (System.nanoTime() - queryStart) / 1_000_000;
+
+        assertThat(stats.getSampleCount()).isEqualTo(total);
+        assertThat(stats.getUptimePercent()).isCloseTo(99.0, offset(0.01));
+        assertThat(stats.getP50LatencyMillis()).isBetween(52L, 68L);
+        assertThat(stats.getP99LatencyMillis()).isBetween(96L, 120L);
+        assertThat(stats.getMaxLatencyMillis()).isEqualTo(109L);
+        assertThat(queryMillis).isLessThan(500);
+
+        // 분 단위 경계가 섞인 구간 (1분 롤업 보관 기간 안쪽)
+        HealthCheckStatsDto partial = probeHistoryService.getStats(CHECK_ID, end.minusHours(30).minusMinutes(30),
+                end.minusMinutes(15));
+        assertThat(partial.getSampleCount()).isEqualTo((30 * 60 + 15) * 6);
+
+        assertThat(probeHistoryService.getSeries(CHECK_ID, start, end, RollupResolution.HOUR))
+                .hasSize(DAYS * 24)
+                .allSatisfy(point -> assertThat(point.getSampleCount()).isEqualTo(360));
+
+        List<ProbeSample> samples = probeHistoryService.getSamples(CHECK_ID, start.plusHours(1),
+                start.plusHours(2), 10_000);
+        assertThat(samples).hasSize(360);
+        assertThat(samples.get(0).latencyMillis()).isEqualTo(10 + 360 % 100);
+    }
+}
@@ -0,0 +1,133 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hoooon22.conflux_backend.dto.NotificationDto;
+
+class WebhookAdapterRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void builtInMappingsMatchPreviousWebhookHandlers() throws IOException {
+        WebhookAdapterRegistry registry = registry("");
+
+        NotificationDto github = convert(registry, "github", """
+                {"action":"opened","repository":{"full_name":"org/repo"},"sender":{"login":"user-1"}}
+                """);
+        assertThat(github.getSource()).isEqualTo("GitHub");
+        assertThat(github.getTitle()).isEqualTo("GitHub Event: opened");
+        assertThat(github.getMessage()).isEqualTo("Action: opened occurred");
+        assertThat(github.getRepository()).isEqualTo("org/repo");
+        assertThat(github.getSender()).isEqualTo("user-1");
+        assertThat(github.getStatus()).isEqualTo("success");
+
+        NotificationDto push = convert(registry, "github", "{\"ref\":\"refs/heads/main\"}");
+        assertThat(push.getTitle()).isEqualTo("GitHub Event: null");
+        assertThat(push.getRepository()).isEqualTo("Unknown");
+
+        NotificationDto custom = convert(registry, "custom", "{\"title\":\"Backup\"}");
+        assertThat(custom.getSource()).isEqualTo("Custom");
+        assertThat(custom.getTitle()).isEqualTo("Backup");
+        assertThat(custom.getMessage()).isEqualTo("No message provided");
+        assertThat(custom.getRepository()).isNull();
+        assertThat(custom.getSender()).isEqualTo("Custom");
+        assertThat(custom.getStatus()).isEqualTo("success");
+    }
+
+    @Test
+    void githubActionsFallsBackAndMapsStatus() throws IOException {
+        WebhookAdapterRegistry registry = registry("");
+
+        NotificationDto failed = convert(registry, "github-actions", """
+                {"workflow":"CI","status":"completed","conclusion":"failure","repository":"org/repo","actor":"user-1"}
+                """);
+        assertThat(failed.getTitle()).isEqualTo("🚀 CI - completed");
+        assertThat(failed.getMessage()).isEqualTo("Workflow 'CI' failure on branch 'main'");
+        assertThat(failed.getStatus()).isEqualTo("failed");
+
+        NotificationDto running = convert(registry, "github-actions", "{\"status\":\"in_progress\"}");
+        assertThat(running.getMessage()).isEqualTo("Workflow 'Unknown Workflow' in_progress on branch 'main'");
+        assertThat(running.getStatus()).isEqualTo("failed");
+
+        NotificationDto success = convert(registry, "github-actions", "{\"conclusion\":\"success\"}");
+        assertThat(success.getStatus()).isEqualTo("success");
+    }
+
+    @Test
+    void reloadsChangedMappingsFileAndKeepsPreviousOnError() throws IOException {
+        Path file = tempDir.resolve("mappings.json");
+        write(file, """
+                {"sentry":{"source":"Sentry","title":"${/event/title}","status":"${/level:error}"}}
+                """, 1_000);
+        WebhookAdapterRegistry registry = registry(file.toString());
+
+        assertThat(registry.ids()).contains("github", "custom", "github-actions", "sentry");
+        assertThat(convert(registry, "sentry", "{\"event\":{\"title\":\"NPE\"}}").getTitle()).isEqualTo("NPE");
+
+        write(file, """
+                {"sentry":{"source":"Sentry","title":"[${/level:error}] ${/event/title}"},
+                 "custom":{"source":"Custom","title":"Overridden"}}
+                """, 2_000);
+        registry.reloadIfChanged();
+        assertThat(convert(registry, "sentry", "{\"event\":{\"title\":\"NPE\"}}").getTitle()).isEqualTo("[error] NPE");
+        assertThat(convert(registry, "custom", "{}").getTitle()).isEqualTo("Overridden");
+
+        write(file, "{\"broken\":{\"title\":\"no source\"}}", 3_000);
+        registry.reloadIfChanged();
+        assertThat(registry.find("broken")).isNull();
+        assertThat(convert(registry, "sentry", "{\"event\":{\"title\":\"NPE\"}}").getTitle()).isEqualTo("[error] NPE");
+    }
+
+    @Test
+    void codeAdapterOverridesMappingWithSameId() throws IOException {
+        WebhookAdapter custom = new WebhookAdapter() {
+            @Override
+            public String id() {
+                return "custom";
+            }
+
+            @Override
+            public String source() {
+                return "Code";
+            }
+
+            @Override
+            public NotificationDto toNotification(InputStream body) {
+                return NotificationDto.builder().source("Code").title("from code").build();
+            }
+        };
+        WebhookAdapterRegistry registry = new WebhookAdapterRegistry(List.of(custom), new ObjectMapper(), "");
+        registry.load();
+
+        assertThat(registry.find("custom")).isSameAs(custom);
+    }
+
+    private static WebhookAdapterRegistry registry(String mappingsFile) throws IOException {
+        WebhookAdapterRegistry registry = new WebhookAdapterRegistry(List.of(), new ObjectMapper(), mappingsFile);
+        registry.load();
+        return registry;
+    }
+
+    private static NotificationDto convert(WebhookAdapterRegistry registry, String id, String json) throws IOException {
+        return registry.find(id).toNotification(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void write(Path file, String content, long modifiedMillis) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+    }
+}
@@ -0,0 +1,256 @@
+package com.hoooon22.conflux_backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hoooon22.conflux_backend.controller.WebhookController;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 웹훅 재전송(같은 전송 ID)이 알림을 다시 만들지 않는지, 필터 오탐과 만료가 정확히 처리되는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:webhook-deliveries;DB_CLOSE_DELAY=-1",
+        "conflux.tiering.directory=build/test-segments/webhook-deliveries"
+})
+class WebhookDeliveryGuardTest {
+
+    private static final String PAYLOAD = """
+            {"workflow": "Deploy hoooon22/conflux", "status": "completed", "conclusion": "success",
+             "repository": "hoooon22/conflux", "branch": "main", "actor": "ci"}
+            """;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private IngestMetrics ingestMetrics;
+
+    @Autowired
+    private WebhookAdapterRegistry adapters;
+
+    @Autowired
+    private WebhookDeliveryGuard deliveryGuard;
+
+    @Test
+    void acceptsEachDeliveryOnce() throws Exception {
+        assertThat(post("GitHub", "X-GitHub-Delivery", "72d3162e-cc78-11e3-81ab-4c9367dc0958").statusCode()).isEqualTo(202);
+        for (int i = 0; i < 5; i++) {
+            HttpResponse<String> retry = post("GitHub", "X-GitHub-Delivery", "72d3162e-cc78-11e3-81ab-4c9367dc0958");
+            assertThat(retry.statusCode()).isEqualTo(200);
+            assertThat(retry.body()).isEqualTo("Duplicate delivery ignored");
+        }
+        assertThat(post("CI", "Idempotency-Key", "run-42").statusCode()).isEqualTo(202);
+        assertThat(post("CI", "Idempotency-Key", "run-42").statusCode()).isEqualTo(200);
+
+        await(() -> count("GitHub") == 1 && count("CI") == 1);
+        sleep(500);
+        assertThat(count("GitHub")).isEqualTo(1);
+        assertThat(count("CI")).isEqualTo(1);
+        assertThat(meterRegistry.get("conflux.webhook.deliveries").tag("result", "duplicate-memory").counter().count())
+                .isEqualTo(6);
+    }
+
+    @Test
+    void invalidPayloadDoesNotConsumeDeliveryId() throws Exception {
+        assertThat(send("not json", "X-GitHub-Delivery", "retry-after-bad-body").statusCode()).isEqualTo(400);
+        assertThat(post("Fixed", "X-GitHub-Delivery", "retry-after-bad-body").statusCode()).isEqualTo(202);
+    }
+
+    @Test
+    void exceptionWhileIngestingReleasesDeliveryId() throws Exception {
+        NotificationIngestQueue broken = mock(NotificationIngestQueue.class);
+        when(broken.submit(any())).thenThrow(new IllegalStateException("queue broken"));
+        WebhookController controller = new WebhookController(broken, ingestMetrics, adapters, deliveryGuard, 0, 2048);
+
+        assertThatThrownBy(() -> controller.receiveWebhook("github-actions", "retry-after-crash", null,
+                new ByteArrayInputStream(PAYLOAD.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalStateException.class);
+        // 실패한 요청이 전송 ID를 잡고 있지 않으므로 재전송은 정상 처리
+        assertThat(post("Recovered", "X-GitHub-Delivery", "retry-after-crash").statusCode()).isEqualTo(202);
+        assertThat(post("Recovered", "X-GitHub-Delivery", "retry-after-crash").statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void unconfirmedClaimExpiresAfterPendingLease() {
+        WebhookDeliveryGuard guard = new WebhookDeliveryGuard(jdbcTemplate, new SimpleMeterRegistry(),
+                true, 60_000, 1000, 0.01, 1000, 200);
+        // 처리 도중 프로세스가 죽은 경우: confirm/release 모두 불리지 않음
+        assertThat(guard.register("lease", "lost")).isTrue();
+        assertThat(guard.register("lease", "lost")).isFalse();
+        sleep(300);
+        assertThat(guard.register("lease", "lost")).isTrue();
+        // 확정한 ID는 임시 기간이 지나도 ttl 동안 재전송을 거름
+        guard.confirm("lease", "lost");
+        sleep(300);
+        assertThat(guard.register("lease", "lost")).isFalse();
+    }
+
+    @Test
+    void fallsBackToExactLookupOnFilterFalsePositive() {
+        // 키 1개 기준의 아주 작은 필터: 금방 포화되어 거의 모든 조회가 "있을 수도 있음", 최근 키 캐시도 1개뿐
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WebhookDeliveryGuard guard = new WebhookDeliveryGuard(jdbcTemplate, registry,
+                true, 60_000, 1, 0.5, 1, 60_000);
+        List<Boolean> first = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            first.add(guard.register("fpp", "delivery-" + i));
+            guard.confirm("fpp", "delivery-" + i);
+        }
+        assertThat(first).containsOnly(true);
+        guard.flushConfirmed();
+        for (int i = 0; i < 200; i++) {
+            assertThat(guard.register("fpp", "delivery-" + i)).isFalse();
+        }
+        assertThat(registry.get("conflux.webhook.deliveries").tag("result", "duplicate-db").counter().count())
+                .isGreaterThanOrEqualTo(199);
+        // 필터 오탐이어도 테이블에 없으면 새 전송으로 받음
+        assertThat(guard.register("fpp", "unseen")).isTrue();
+    }
+
+    @Test
+    void recordsConfirmedDeliveriesInBatchesOffTheRequestPath() {
+        WebhookDeliveryGuard guard = new WebhookDeliveryGuard(jdbcTemplate, new SimpleMeterRegistry(),
+                true, 60_000, 1000, 0.01, 1000, 60_000);
+        for (int i = 0; i < 50; i++) {
+            assertThat(guard.register("batch", "delivery-" + i)).isTrue();
+            guard.confirm("batch", "delivery-" + i);
+        }
+        // 요청 경로(register/confirm)에서는 테이블에 쓰지 않고, 이 인스턴스의 메모리로 거름
+        assertThat(deliveries("batch:%")).isZero();
+        assertThat(guard.register("batch", "delivery-7")).isFalse();
+
+        guard.flushConfirmed();
+        assertThat(deliveries("batch:%")).isEqualTo(50);
+
+        // 다른 인스턴스: 다음 flush에서 최근 ID를 읽어 와 재전송을 거름
+        WebhookDeliveryGuard other = new WebhookDeliveryGuard(jdbcTemplate, new SimpleMeterRegistry(),
+                true, 60_000, 1000, 0.01, 1000, 60_000);
+        other.flushConfirmed();
+        assertThat(other.register("batch", "delivery-7")).isFalse();
+        assertThat(other.register("batch", "delivery-50")).isTrue();
+    }
+
+    @Test
+    void keepsConfirmedDeliveriesWhenWriteFails() {
+        JdbcTemplate failing = mock(JdbcTemplate.class);
+        when(failing.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Connection is not available"))
+                .thenReturn(new int[]{0})
+                .thenReturn(new int[]{1});
+        WebhookDeliveryGuard guard = new WebhookDeliveryGuard(failing, new SimpleMeterRegistry(),
+                true, 60_000, 1000, 0.01, 1000, 60_000);
+        assertThat(guard.register("down", "kept")).isTrue();
+        guard.confirm("down", "kept");
+
+        guard.flushConfirmed();
+        guard.flushConfirmed();
+        verify(failing, times(2)).batchUpdate(startsWith("UPDATE"), anyList());
+        verify(failing).batchUpdate(startsWith("INSERT"), anyList());
+        // 쓰지 못한 동안에도 메모리에서 거름, 임시 점유를 푸는 release는 DB를 건드리지 않음
+        assertThat(guard.register("down", "kept")).isFalse();
+        guard.release("down", "other");
+        verify(failing, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void forgetsDeliveriesAfterTtl() {
+        WebhookDeliveryGuard guard = new WebhookDeliveryGuard(jdbcTemplate, new SimpleMeterRegistry(),
+                true, 200, 1000, 0.01, 1000, 200);
+        assertThat(guard.register("ttl", "once")).isTrue();
+        guard.confirm("ttl", "once");
+        assertThat(guard.register("ttl", "gone")).isTrue();
+        guard.confirm("ttl", "gone");
+        guard.flushConfirmed();
+        assertThat(guard.register("ttl", "once")).isFalse();
+        sleep(300);
+        assertThat(guard.register("ttl", "once")).isTrue();
+        guard.confirm("ttl", "once");
+        guard.flushConfirmed();
+        guard.purgeExpired();
+        // ttl이 지난 행은 다시 받으면 시각만 갱신되어 남고, 다시 받지 않은 행은 지워짐
+        assertThat(deliveries("ttl:once")).isEqualTo(1);
+        assertThat(deliveries("ttl:gone")).isZero();
+    }
+
+    private HttpResponse<String> post(String repository, String header, String deliveryId)
+            throws IOException, InterruptedException {
+        return send(PAYLOAD.replace("hoooon22/conflux", repository), header, deliveryId);
+    }
+
+    private HttpResponse<String> send(String body, String header, String deliveryId)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/webhook/github-actions"))
+                .header("Content-Type", "application/json")
+                .header(header, deliveryId)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private int deliveries(String keyPattern) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM webhook_deliveries WHERE delivery_key LIKE ?",
+                Integer.class, keyPattern);
+    }
+
+    private int count(String repository) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(count), 0) FROM notifications WHERE repository = ?", Integer.class, repository);
+        return count == null ? 0 : count;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import Sidebar from './components/Sidebar';
 import NotificationList from './components/NotificationList';
 import Settings from './components/Settings';
@@ -8,25 +8,100 @@ function App() {
   const [notifications, setNotifications] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  // 다음 페이지 커서 (더 이상 오래된 알림이 없으면 null)
+  const [nextCursor, setNextCursor] = useState(null);
   const [currentView, setCurrentView] = useState('inbox');
   // 다중 선택 가능한 카테고리 필터 (기본값: 모든 카테고리 선택)
   const [selectedCategories, setSelectedCategories] = useState(['GitHub', 'HealthCheck', 'Custom']);
+  // 전체/카테고리별 알림 수 (서버 카운터 요약, 불러온 목록 크기와 무관)
+  const [summary, setSummary] = useState({ total: 0, unread: 0, sources: {} });
+  const summaryTimer = useRef(null);
+  // 검색어와 검색 결과 (검색 중이 아니면 null)
+  const [searchQuery, setSearchQuery] = useState('');
+  const [searchResults, setSearchResults] = useState(null);
 
-  // 백엔드 API에서 알림 가져오기
-  const fetchNotifications = async () => {
+  // 스트림 이벤트가 몰려도 요약은 잠시 모았다가 한 번만 다시 조회
+  const refreshSummary = () => {
+    if (summaryTimer.current) return;
+    summaryTimer.current = setTimeout(async () => {
+      summaryTimer.current = null;
+      try {
+        const response = await fetch('http://localhost:8080/api/notifications/summary');
+        if (response.ok) {
+          setSummary(await response.json());
+        }
+      } catch (err) {
+        console.error('❌ Error fetching notification summary:', err);
+      }
+    }, 300);
+  };
+
+  const sourceCount = (source) => summary.sources[source]?.total ?? 0;
+
+  // 알림 스트림 이벤트 적용 (id 기준 upsert 후 최신순 정렬)
+  const upsertNotification = (notification) => {
+    setNotifications(prev => {
+      const next = prev.filter(n => n.id !== notification.id);
+      next.push(notification);
+      next.sort((a, b) => new Date(b.timestamp) - new Date(a.timestamp));
+      return next;
+    });
+    // 검색 결과는 관련도 순서를 유지한 채 내용만 갱신
+    setSearchResults(prev => prev && prev.map(n => n.id === notification.id ? notification : n));
+  };
+
+  const removeNotification = (id) => {
+    setNotifications(prev => prev.filter(n => n.id !== id));
+    setSearchResults(prev => prev && prev.filter(n => n.id !== id));
+  };
+
+  // 일괄 처리 이벤트의 조건(ids, sources, status, repository, from, to)에 맞는 알림인지
+  const matchesCriteria = (n, c) =>
+    (!c.ids || c.ids.includes(n.id)) &&
+    (!c.sources || c.sources.includes(n.source)) &&
+    (!c.status || n.status === c.status.toUpperCase()) &&
+    (!c.repository || n.repository === c.repository) &&
+    (!c.from || new Date(n.timestamp) >= new Date(c.from)) &&
+    (!c.to || new Date(n.timestamp) < new Date(c.to));
+
+  // 선택된 카테고리 (서버에서 source 조건으로 필터링)
+  const sourceParams = selectedCategories.map(c => `source=${encodeURIComponent(c)}`).join('&');
+
+  // 이전 알림 더 불러오기 (keyset 커서 페이지네이션, 스냅샷과 같은 카테고리 조건)
+  const loadMore = async () => {
+    if (!nextCursor) return;
     try {
-      const response = await fetch('http://localhost:8080/api/notifications');
+      const response = await fetch(`http://localhost:8080/api/notifications?cursor=${encodeURIComponent(nextCursor)}&${sourceParams}`);
       if (!response.ok) {
         throw new Error('Failed to fetch notifications');
       }
-      const data = await response.json();
-      setNotifications(data);
-      setError(null);
+      const page = await response.json();
+      setNotifications(prev => {
+        const loadedIds = new Set(prev.map(n => n.id));
+        return [...prev, ...page.items.filter(n => !loadedIds.has(n.id))];
+      });
+      setNextCursor(page.nextCursor);
     } catch (err) {
-      setError(err.message);
       console.error('❌ Error fetching notifications:', err);
-    } finally {
-      setLoading(false);
+    }
+  };
+
+  // 전문 검색 (관련도 순, 검색어를 비우면 스트림 목록으로 돌아감)
+  const handleSearch = async (e) => {
+    e.preventDefault();
+    if (!searchQuery.trim()) {
+      setSearchResults(null);
+      return;
+    }
+    try {
+      const response = await fetch(`http://localhost:8080/api/notifications/search?q=${encodeURIComponent(searchQuery)}`);
+      if (!response.ok) {
+        throw new Error('Failed to search notifications');
+      }
+      const result = await response.json();
+      setSearchResults(result.items);
+    } catch (err) {
+      console.error('❌ Error searching notifications:', err);
     }
   };
 
@@ -37,10 +112,8 @@ function App() {
         method: 'PATCH',
       });
 
-      if (response.ok) {
-        // 목록 새로고침
-        fetchNotifications();
-      } else {
+      if (!response.ok) {
+        // 변경 사항은 스트림의 read 이벤트로 반영됨
         console.error('Failed to mark notification as read');
       }
     } catch (err) {
@@ -55,10 +128,8 @@ function App() {
         method: 'DELETE',
       });
 
-      if (response.ok) {
-        // 목록 새로고침
-        fetchNotifications();
-      } else {
+      if (!response.ok) {
+        // 변경 사항은 스트림의 deleted 이벤트로 반영됨
         console.error('Failed to delete notification');
       }
     } catch (err) {
@@ -66,19 +137,79 @@ function App() {
     }
   };
 
-  // 컴포넌트 마운트 시 및 2초마다 폴링
+  // 선택된 카테고리의 알림을 모두 읽음 처리 (서버에서 UPDATE 한 번)
+  const handleMarkAllAsRead = async () => {
+    try {
+      const response = await fetch(`http://localhost:8080/api/notifications/read?${sourceParams}`, {
+        method: 'PATCH',
+      });
+      if (!response.ok) {
+        // 변경 사항은 스트림의 bulk_read 이벤트로 반영됨
+        console.error('Failed to mark notifications as read');
+      }
+    } catch (err) {
+      console.error('❌ Error marking notifications as read:', err);
+    }
+  };
+
+  // 선택된 카테고리의 읽은 알림 비우기 (서버에서 DELETE 한 번)
+  const handleClearRead = async () => {
+    try {
+      const response = await fetch(`http://localhost:8080/api/notifications?status=READ&${sourceParams}`, {
+        method: 'DELETE',
+      });
+      if (!response.ok) {
+        // 변경 사항은 스트림의 bulk_deleted 이벤트로 반영됨
+        console.error('Failed to clear read notifications');
+      }
+    } catch (err) {
+      console.error('❌ Error clearing read notifications:', err);
+    }
+  };
+
+  // SSE 스트림 구독 (초기 snapshot 이후 변경분만 수신)
+  // 카테고리가 바뀌면 다시 구독해서 새 snapshot(첫 페이지)으로 목록과 커서를 교체함
   useEffect(() => {
-    // 초기 로드
-    fetchNotifications();
+    const source = new EventSource(`http://localhost:8080/api/notifications/stream?${sourceParams}`);
+
+    source.addEventListener('snapshot', (e) => {
+      const page = JSON.parse(e.data);
+      setNotifications(page.items);
+      setNextCursor(page.nextCursor);
+      setError(null);
+      setLoading(false);
+      refreshSummary();
+    });
+    ['created', 'updated', 'read', 'deleted', 'cleared', 'bulk_read', 'bulk_deleted'].forEach(type => {
+      source.addEventListener(type, refreshSummary);
+    });
+    ['created', 'updated', 'read'].forEach(type => {
+      source.addEventListener(type, (e) => upsertNotification(JSON.parse(e.data)));
+    });
+    source.addEventListener('deleted', (e) => removeNotification(JSON.parse(e.data).id));
+    source.addEventListener('cleared', () => setNotifications([]));
+    source.addEventListener('bulk_read', (e) => {
+      const criteria = JSON.parse(e.data);
+      setNotifications(prev => prev.map(n => matchesCriteria(n, criteria) ? { ...n, status: 'READ' } : n));
+    });
+    source.addEventListener('bulk_deleted', (e) => {
+      const criteria = JSON.parse(e.data);
+      setNotifications(prev => prev.filter(n => !matchesCriteria(n, criteria)));
+    });
 
-    // 2초마다 폴링
-    const interval = setInterval(() => {
-      fetchNotifications();
-    }, 2000);
+    source.onopen = () => setError(null);
+    // 연결이 끊기면 EventSource가 Last-Event-ID와 함께 자동 재접속함
+    source.onerror = () => {
+      setError('Failed to fetch notifications');
+      setLoading(false);
+    };
 
-    // 클린업: 컴포넌트 언마운트 시 인터벌 제거
-    return () => clearInterval(interval);
-  }, []);
+    // 클린업: 언마운트 또는 카테고리 변경 시 스트림 종료
+    return () => {
+      source.close();
+      clearTimeout(summaryTimer.current);
+    };
+  }, [sourceParams]);
 
   // 카테고리 토글 함수
   const toggleCategory = (category) => {
@@ -106,16 +237,17 @@ function App() {
     }
   };
 
-  // 카테고리 필터링된 알림
-  const filteredNotifications = notifications.filter(notification => {
-    return selectedCategories.includes(notification.source);
-  });
+  // 스트림 목록은 서버에서 이미 카테고리로 필터링됨
+  // 검색 결과는 소스 조건 없이 관련도 순으로 오므로 여기서 카테고리를 적용함
+  const filteredNotifications = searchResults
+    ? searchResults.filter(notification => selectedCategories.includes(notification.source))
+    : notifications;
 
   return (
     <div className="app">
       {/* 왼쪽 사이드바 */}
       <Sidebar
-        notificationCount={notifications.length}
+        notificationCount={summary.total}
         currentView={currentView}
         onViewChange={setCurrentView}
       />
@@ -132,6 +264,17 @@ function App() {
               </div>
             </header>
 
+            {/* 알림 검색 */}
+            <form className="search-bar" onSubmit={handleSearch}>
+              <input
+                className="search-input"
+                type="search"
+                placeholder="알림 검색 (예: deploy fail)"
+                value={searchQuery}
+                onChange={(e) => setSearchQuery(e.target.value)}
+              />
+            </form>
+
             {/* 카테고리 필터 - 체크박스 방식 */}
             <div className="category-filter">
               <button
@@ -141,7 +284,7 @@ function App() {
                 <span className="checkbox-icon">
                   {selectedCategories.length === 3 ? '☑' : '☐'}
                 </span>
-                전체 ({notifications.length})
+                전체 ({summary.total})
               </button>
               <button
                 className={`filter-btn ${selectedCategories.includes('GitHub') ? 'active' : ''}`}
@@ -150,7 +293,7 @@ function App() {
                 <span className="checkbox-icon">
                   {selectedCategories.includes('GitHub') ? '☑' : '☐'}
                 </span>
-                GitHub ({notifications.filter(n => n.source === 'GitHub').length})
+                GitHub ({sourceCount('GitHub')})
               </button>
               <button
                 className={`filter-btn ${selectedCategories.includes('HealthCheck') ? 'active' : ''}`}
@@ -159,7 +302,7 @@ function App() {
                 <span className="checkbox-icon">
                   {selectedCategories.includes('HealthCheck') ? '☑' : '☐'}
                 </span>
-                Health Check ({notifications.filter(n => n.source === 'HealthCheck').length})
+                Health Check ({sourceCount('HealthCheck')})
               </button>
               <button
                 className={`filter-btn ${selectedCategories.includes('Custom') ? 'active' : ''}`}
@@ -168,7 +311,13 @@ function App() {
                 <span className="checkbox-icon">
                   {selectedCategories.includes('Custom') ? '☑' : '☐'}
                 </span>
-                Custom ({notifications.filter(n => n.source === 'Custom').length})
+                Custom ({sourceCount('Custom')})
+              </button>
+              <button className="filter-btn" onClick={handleMarkAllAsRead}>
+                모두 읽음
+              </button>
+              <button className="filter-btn" onClick={handleClearRead}>
+                읽은 알림 비우기
               </button>
             </div>
 
@@ -180,6 +329,11 @@ function App() {
               onMarkAsRead={handleMarkAsRead}
               onDelete={handleDelete}
             />
+            {nextCursor && !searchResults && (
+              <button className="filter-btn load-more" onClick={loadMore}>
+                이전 알림 더 보기
+              </button>
+            )}
           </>
         )}
 